@@ -4,7 +4,9 @@ import static com.planitsquare.holiday_keeper.constants.ErrorMessage.VALIDATION_
 import static com.planitsquare.holiday_keeper.constants.ErrorMessage.VALIDATION_FIELD_SEPARATOR;
 import static com.planitsquare.holiday_keeper.constants.LogMessage.COUNTRY_NOT_FOUND_EXCEPTION;
 import static com.planitsquare.holiday_keeper.constants.LogMessage.EXTERNAL_API_EXCEPTION;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.EXTERNAL_API_UNAVAILABLE_EXCEPTION;
 import static com.planitsquare.holiday_keeper.constants.LogMessage.ILLEGAL_ARGUMENT_EXCEPTION;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_JOB_NOT_FOUND_EXCEPTION;
 import static com.planitsquare.holiday_keeper.constants.LogMessage.RUNTIME_EXCEPTION;
 import static com.planitsquare.holiday_keeper.constants.LogMessage.UNEXPECTED_EXCEPTION;
 import static com.planitsquare.holiday_keeper.constants.LogMessage.VALIDATION_EXCEPTION;
@@ -19,6 +21,8 @@ import com.planitsquare.holiday_keeper.constants.ErrorCode;
 import com.planitsquare.holiday_keeper.constants.ErrorMessage;
 import com.planitsquare.holiday_keeper.exception.CountryNotFoundException;
 import com.planitsquare.holiday_keeper.exception.ExternalApiException;
+import com.planitsquare.holiday_keeper.exception.ExternalApiUnavailableException;
+import com.planitsquare.holiday_keeper.exception.HolidayLoadJobNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -33,6 +37,23 @@ public class GlobalExceptionHandler {
                 ErrorCode.COUNTRY_NOT_FOUND.getCode(), e.getMessage(), extractPath(request)));
     }
 
+    @ExceptionHandler(HolidayLoadJobNotFoundException.class)
+    public ResponseEntity<ApiResponse<?>> handleHolidayLoadJobNotFoundException(
+            final HolidayLoadJobNotFoundException e, final WebRequest request) {
+        log.warn(LOAD_JOB_NOT_FOUND_EXCEPTION.getMessage(), e.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponse.error(
+                ErrorCode.LOAD_JOB_NOT_FOUND.getCode(), e.getMessage(), extractPath(request)));
+    }
+
+    @ExceptionHandler(ExternalApiUnavailableException.class)
+    public ResponseEntity<ApiResponse<?>> handleExternalApiUnavailableException(
+            final ExternalApiUnavailableException e, final WebRequest request) {
+        log.warn(EXTERNAL_API_UNAVAILABLE_EXCEPTION.getMessage(), e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error(ErrorCode.EXTERNAL_API_UNAVAILABLE.getCode(),
+                        e.getMessage(), extractPath(request)));
+    }
+
     @ExceptionHandler(ExternalApiException.class)
     public ResponseEntity<ApiResponse<?>> handleExternalApiException(final ExternalApiException e,
             final WebRequest request) {
@@ -1,6 +1,6 @@
 package com.planitsquare.holiday_keeper.api.controller;
 
-import org.springframework.http.HttpStatus;
+import java.net.URI;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,15 +9,22 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import com.planitsquare.holiday_keeper.api.dto.request.HolidaySearchRequest;
 import com.planitsquare.holiday_keeper.api.dto.response.ApiResponse;
+import com.planitsquare.holiday_keeper.api.dto.response.HolidayLoadJobResponse;
+import com.planitsquare.holiday_keeper.api.dto.response.HolidayLoadProgressResponse;
 import com.planitsquare.holiday_keeper.api.dto.response.HolidayResponse;
 import com.planitsquare.holiday_keeper.api.dto.response.PageResponse;
+import com.planitsquare.holiday_keeper.constants.HolidayLoadMode;
 import com.planitsquare.holiday_keeper.constants.LogMessage;
 import com.planitsquare.holiday_keeper.constants.SuccessMessage;
 import com.planitsquare.holiday_keeper.constants.SwaggerMessage;
 import com.planitsquare.holiday_keeper.service.HolidayService;
+import com.planitsquare.holiday_keeper.service.dto.HolidayLoadLaunch;
+import com.planitsquare.holiday_keeper.service.dto.HolidayUpsertResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -37,11 +44,36 @@ public class HolidayController {
     @PostMapping("/load")
     @Operation(summary = SwaggerMessage.LOAD_ALL_SUMMARY,
             description = SwaggerMessage.LOAD_ALL_DESCRIPTION)
-    public ResponseEntity<ApiResponse<String>> loadAllHolidays() {
-        log.info(LogMessage.LOAD_ALL_REQUEST.getMessage());
-        holidayService.loadAllHolidays();
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponse.success(SuccessMessage.LOAD_ALL_COMPLETED.getMessage(), null));
+    public ResponseEntity<ApiResponse<HolidayLoadJobResponse>> loadAllHolidays(
+            @Parameter(description = SwaggerMessage.PARAM_LOAD_MODE,
+                    example = SwaggerMessage.PARAM_LOAD_MODE_EXAMPLE) @RequestParam(
+                            defaultValue = "FULL") final HolidayLoadMode mode) {
+        log.info(LogMessage.LOAD_ALL_REQUEST.getMessage(), mode);
+        final HolidayLoadLaunch launch = holidayService.startLoad(mode);
+        final SuccessMessage message = launch.coalesced() ? SuccessMessage.LOAD_ALL_COALESCED
+                : SuccessMessage.LOAD_ALL_ACCEPTED;
+        final URI location = ServletUriComponentsBuilder.fromCurrentRequest().path("/{jobId}")
+                .buildAndExpand(launch.jobId()).toUri();
+        return ResponseEntity.accepted().location(location)
+                .body(ApiResponse.success(message.getMessage().formatted(launch.jobId()),
+                        holidayService.getLoadJob(launch.jobId())));
+    }
+
+    @GetMapping("/load/{jobId}")
+    @Operation(summary = SwaggerMessage.LOAD_JOB_SUMMARY,
+            description = SwaggerMessage.LOAD_JOB_DESCRIPTION)
+    public ResponseEntity<ApiResponse<HolidayLoadJobResponse>> getLoadJob(
+            @Parameter(description = SwaggerMessage.PARAM_JOB_ID,
+                    example = SwaggerMessage.PARAM_JOB_ID_EXAMPLE,
+                    required = true) @PathVariable final Long jobId) {
+        return ResponseEntity.ok(ApiResponse.success(holidayService.getLoadJob(jobId)));
+    }
+
+    @GetMapping("/load/progress")
+    @Operation(summary = SwaggerMessage.LOAD_PROGRESS_SUMMARY,
+            description = SwaggerMessage.LOAD_PROGRESS_DESCRIPTION)
+    public ResponseEntity<ApiResponse<HolidayLoadProgressResponse>> getLoadProgress() {
+        return ResponseEntity.ok(ApiResponse.success(holidayService.getLoadProgress()));
     }
 
     @GetMapping("/search")
@@ -65,9 +97,10 @@ public class HolidayController {
                     example = SwaggerMessage.PARAM_COUNTRY_CODE_EXAMPLE,
                     required = true) @PathVariable final String countryCode) {
         log.info(LogMessage.REFRESH_REQUEST.getMessage(), year, countryCode);
-        final Integer count = holidayService.refreshHolidays(year, countryCode);
-        return ResponseEntity.ok(ApiResponse.success(
-                SuccessMessage.REFRESH_COMPLETED.getMessage().formatted(year, countryCode, count),
+        final HolidayUpsertResult result = holidayService.refreshHolidays(year, countryCode);
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessage.REFRESH_COMPLETED.getMessage()
+                .formatted(year, countryCode, result.totalCount(), result.inserted(),
+                        result.updated(), result.deleted(), result.unchanged()),
                 null));
     }
 
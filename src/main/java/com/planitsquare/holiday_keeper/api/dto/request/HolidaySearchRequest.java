@@ -1,6 +1,8 @@
 package com.planitsquare.holiday_keeper.api.dto.request;
 
 import java.time.LocalDate;
+import com.planitsquare.holiday_keeper.constants.HolidayType;
+import com.planitsquare.holiday_keeper.constants.HolidayTypeMatch;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Min;
 
@@ -11,15 +13,34 @@ public record HolidaySearchRequest(
                 message = "연도는 2000년 이후여야 합니다") Integer year,
         @Schema(description = "시작 날짜 (from)", example = "2024-01-01") LocalDate from,
         @Schema(description = "종료 날짜 (to)", example = "2024-12-31") LocalDate to,
-        @Schema(description = "공휴일 타입", example = "Public") String types,
+        @Schema(description = "공휴일 타입 (쉼표로 여러 개 지정)", example = "Public,Bank")
+        String types,
+        @Schema(description = "여러 타입 조건 방식 (ANY: 하나라도 포함, ALL: 모두 포함)",
+                example = "ANY") HolidayTypeMatch typeMatch,
         @Schema(description = "페이지 번호 (0부터 시작)", example = "0") Integer page,
-        @Schema(description = "페이지 크기", example = "20") Integer size) {
+        @Schema(description = "페이지 크기", example = "20") Integer size,
+        @Schema(description = "이어서 조회할 커서 (이전 응답의 nextCursor, 지정 시 page 무시)")
+        String cursor,
+        @Schema(description = "전체 개수 포함 여부 (false면 COUNT 생략)", example = "true")
+        Boolean withTotal) {
 
     private static final Integer DEFAULT_PAGE = 0;
     private static final Integer DEFAULT_SIZE = 20;
+    private static final Boolean DEFAULT_WITH_TOTAL = true;
+    private static final HolidayTypeMatch DEFAULT_TYPE_MATCH = HolidayTypeMatch.ANY;
 
     public HolidaySearchRequest withDefaults() {
         return new HolidaySearchRequest(countryCode, year, from, to, types,
-                page != null ? page : DEFAULT_PAGE, size != null ? size : DEFAULT_SIZE);
+                typeMatch != null ? typeMatch : DEFAULT_TYPE_MATCH,
+                page != null ? page : DEFAULT_PAGE, size != null ? size : DEFAULT_SIZE, cursor,
+                withTotal != null ? withTotal : DEFAULT_WITH_TOTAL);
+    }
+
+    public int typeMask() {
+        return HolidayType.toFilterBitmask(types);
+    }
+
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isEmpty();
     }
 }
@@ -0,0 +1,47 @@
+package com.planitsquare.holiday_keeper.api.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import com.planitsquare.holiday_keeper.service.HolidayLoadExecution;
+import com.planitsquare.holiday_keeper.service.dto.HolidayLoadProgress;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "공휴일 적재 작업 상태")
+public record HolidayLoadJobResponse(@Schema(description = "적재 작업 ID") Long jobId,
+        @Schema(description = "적재 모드", example = "FULL") String mode,
+        @Schema(description = "상태", example = "RUNNING") String status,
+        @Schema(description = "작업 시작 시각") LocalDateTime startedAt,
+        @Schema(description = "작업 종료 시각") LocalDateTime finishedAt,
+        @Schema(description = "전체 (국가, 연도) 쌍 수", example = "660") Integer totalPairs,
+        @Schema(description = "완료된 쌍 수 (이전 실행분 포함)", example = "540") Integer completedPairs,
+        @Schema(description = "이번 실행에서 실패한 쌍 수", example = "2") Integer failedPairs,
+        @Schema(description = "실패 중 외부 API 사용 불가 쌍 수", example = "1") Integer unavailablePairs,
+        @Schema(description = "이번 실행에서 적재한 공휴일 수", example = "7800") Long loadedHolidays,
+        @Schema(description = "경과 시간 (ms)", example = "42000") Long elapsedMillis,
+        @Schema(description = "초당 처리한 쌍 수", example = "12.9") Double pairsPerSecond,
+        @Schema(description = "초당 적재한 공휴일 수", example = "185.7") Double holidaysPerSecond,
+        @Schema(description = "실패 내역 (최대 50건)") List<String> errors) {
+
+    public static HolidayLoadJobResponse from(final HolidayLoadExecution execution,
+            final LocalDateTime now) {
+        final long elapsedMillis = execution.getElapsedMillis(now);
+        final int processedPairs = execution.getSucceededPairs() + execution.getFailedPairs();
+        return new HolidayLoadJobResponse(execution.getJobId(), execution.getMode().name(),
+                execution.getStatus().name(), execution.getStartedAt(), execution.getFinishedAt(),
+                execution.getTotalPairs(), execution.getCompletedPairs(),
+                execution.getFailedPairs(), execution.getUnavailablePairs(),
+                execution.getLoadedHolidays(), elapsedMillis,
+                perSecond(processedPairs, elapsedMillis),
+                perSecond(execution.getLoadedHolidays(), elapsedMillis), execution.getErrors());
+    }
+
+    public static HolidayLoadJobResponse from(final HolidayLoadProgress progress) {
+        return new HolidayLoadJobResponse(progress.jobId(), null, progress.status().name(),
+                progress.startedAt(), progress.finishedAt(), progress.totalPairs(),
+                progress.completedPairs(), null, null, null, null, null, null, List.of());
+    }
+
+    private static Double perSecond(final long count, final long elapsedMillis) {
+        return elapsedMillis > 0 ? count * 1000.0 / elapsedMillis : 0.0;
+    }
+}
@@ -0,0 +1,30 @@
+package com.planitsquare.holiday_keeper.api.dto.response;
+
+import java.time.LocalDateTime;
+import com.planitsquare.holiday_keeper.service.dto.HolidayLoadProgress;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "공휴일 적재 진행 상황")
+public record HolidayLoadProgressResponse(@Schema(description = "적재 작업 ID") Long jobId,
+        @Schema(description = "상태 (IN_PROGRESS/COMPLETED/INCOMPLETE)",
+                example = "IN_PROGRESS") String status,
+        @Schema(description = "시작 연도", example = "2020") Integer startYear,
+        @Schema(description = "종료 연도", example = "2025") Integer endYear,
+        @Schema(description = "전체 (국가, 연도) 쌍 수", example = "660") Integer totalPairs,
+        @Schema(description = "완료된 쌍 수", example = "540") Integer completedPairs,
+        @Schema(description = "남은 쌍 수", example = "120") Integer remainingPairs,
+        @Schema(description = "진행률 (%)", example = "81.8") Double progressPercent,
+        @Schema(description = "작업 시작 시각") LocalDateTime startedAt,
+        @Schema(description = "작업 완료 시각") LocalDateTime finishedAt,
+        @Schema(description = "예상 남은 시간 (초)", example = "42") Long estimatedRemainingSeconds,
+        @Schema(description = "예상 완료 시각") LocalDateTime estimatedCompletionAt) {
+
+    public static HolidayLoadProgressResponse from(final HolidayLoadProgress progress,
+            final LocalDateTime now) {
+        return new HolidayLoadProgressResponse(progress.jobId(), progress.status().name(),
+                progress.startYear(), progress.endYear(), progress.totalPairs(),
+                progress.completedPairs(), progress.remainingPairs(), progress.progressPercent(),
+                progress.startedAt(), progress.finishedAt(), progress.estimatedRemainingSeconds(),
+                progress.estimatedCompletionAt(now));
+    }
+}
@@ -1,6 +1,7 @@
 package com.planitsquare.holiday_keeper.api.dto.response;
 
 import java.time.LocalDate;
+import com.planitsquare.holiday_keeper.constants.HolidayType;
 import com.planitsquare.holiday_keeper.domain.entity.PublicHoliday;
 import io.swagger.v3.oas.annotations.media.Schema;
 
@@ -16,6 +17,14 @@ public record HolidayResponse(@Schema(description = "공휴일 ID") Long id,
         @Schema(description = "고정 공휴일 여부", example = "true") Boolean fixed,
         @Schema(description = "전 세계 공휴일 여부", example = "false") Boolean global,
         @Schema(description = "공휴일 시작 연도", example = "1949") String launchYear) {
+    public HolidayResponse(final Long id, final String countryCode, final String countryName,
+            final Integer year, final LocalDate date, final String name, final String localName,
+            final Integer typeMask, final Boolean fixed, final Boolean global,
+            final String launchYear) {
+        this(id, countryCode, countryName, year, date, name, localName,
+                HolidayType.fromBitmask(typeMask), fixed, global, launchYear);
+    }
+
     public static HolidayResponse from(final PublicHoliday holiday) {
         return new HolidayResponse(holiday.getId(), holiday.getCountryCode(),
                 holiday.getCountryName(), holiday.getYear(), holiday.getDate(), holiday.getName(),
@@ -10,9 +10,22 @@ public record PageResponse<T>(@Schema(description = "데이터 목록") List<T>
         @Schema(description = "전체 요소 개수") Long totalElements,
         @Schema(description = "전체 페이지 수") Integer totalPages,
         @Schema(description = "첫 페이지 여부") Boolean first,
-        @Schema(description = "마지막 페이지 여부") Boolean last) {
+        @Schema(description = "마지막 페이지 여부") Boolean last,
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)") String nextCursor) {
     public static <T> PageResponse<T> of(List<T> content, Integer page, Integer size,
             Long totalElements, Integer totalPages, Boolean first, Boolean last) {
-        return new PageResponse<>(content, page, size, totalElements, totalPages, first, last);
+        return of(content, page, size, totalElements, totalPages, first, last, null);
+    }
+
+    public static <T> PageResponse<T> of(List<T> content, Integer page, Integer size,
+            Long totalElements, Integer totalPages, Boolean first, Boolean last,
+            String nextCursor) {
+        return new PageResponse<>(content, page, size, totalElements, totalPages, first, last,
+                nextCursor);
+    }
+
+    public static <T> PageResponse<T> ofCursor(List<T> content, Integer size, Boolean last,
+            String nextCursor) {
+        return new PageResponse<>(content, null, size, null, null, false, last, nextCursor);
     }
 }
@@ -0,0 +1,30 @@
+package com.planitsquare.holiday_keeper.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.planitsquare.holiday_keeper.external.client.CircuitBreaker;
+
+@Configuration
+public class NagerCircuitBreakerConfig {
+
+    private static final String CIRCUIT_BREAKER_NAME = "Nager.Date API";
+
+    @Value("${external.api.circuit-breaker.failure-threshold}")
+    private Integer failureThreshold;
+
+    @Value("${external.api.circuit-breaker.open-duration-ms}")
+    private Long openDurationMs;
+
+    @Value("${external.api.circuit-breaker.half-open-calls}")
+    private Integer halfOpenCalls;
+
+    @Bean
+    public CircuitBreaker nagerCircuitBreaker() {
+        return new CircuitBreaker(CIRCUIT_BREAKER_NAME, new CircuitBreaker.Settings(
+                failureThreshold, Duration.ofMillis(openDurationMs), halfOpenCalls),
+                Clock.systemUTC());
+    }
+}
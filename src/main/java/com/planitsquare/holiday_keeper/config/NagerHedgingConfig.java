@@ -0,0 +1,31 @@
+package com.planitsquare.holiday_keeper.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.planitsquare.holiday_keeper.external.client.HedgedRequestExecutor;
+
+@Configuration
+public class NagerHedgingConfig {
+
+    @Value("${external.api.hedging.enabled}")
+    private boolean enabled;
+
+    @Value("${external.api.hedging.latency-percentile}")
+    private Double latencyPercentile;
+
+    @Value("${external.api.hedging.window-size}")
+    private Integer windowSize;
+
+    @Value("${external.api.hedging.min-samples}")
+    private Integer minSamples;
+
+    @Value("${external.api.hedging.budget-percent}")
+    private Double budgetPercent;
+
+    @Bean
+    public HedgedRequestExecutor nagerHedgedRequestExecutor() {
+        return new HedgedRequestExecutor(new HedgedRequestExecutor.Settings(enabled,
+                latencyPercentile, windowSize, minSamples, budgetPercent));
+    }
+}
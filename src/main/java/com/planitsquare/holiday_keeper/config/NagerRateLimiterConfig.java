@@ -0,0 +1,36 @@
+package com.planitsquare.holiday_keeper.config;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.planitsquare.holiday_keeper.external.client.AdaptiveRateLimiter;
+
+@Configuration
+public class NagerRateLimiterConfig {
+
+    @Value("${external.api.rate-limit.requests-per-second}")
+    private Double requestsPerSecond;
+
+    @Value("${external.api.rate-limit.initial-concurrency}")
+    private Integer initialConcurrency;
+
+    @Value("${external.api.rate-limit.min-concurrency}")
+    private Integer minConcurrency;
+
+    @Value("${external.api.rate-limit.max-concurrency}")
+    private Integer maxConcurrency;
+
+    @Value("${external.api.rate-limit.latency-threshold-ms}")
+    private Long latencyThresholdMs;
+
+    @Value("${external.api.rate-limit.decrease-factor}")
+    private Double decreaseFactor;
+
+    @Bean
+    public AdaptiveRateLimiter nagerRateLimiter() {
+        return new AdaptiveRateLimiter(new AdaptiveRateLimiter.Settings(requestsPerSecond,
+                initialConcurrency, minConcurrency, maxConcurrency,
+                Duration.ofMillis(latencyThresholdMs), decreaseFactor));
+    }
+}
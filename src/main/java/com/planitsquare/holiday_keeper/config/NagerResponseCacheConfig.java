@@ -0,0 +1,35 @@
+package com.planitsquare.holiday_keeper.config;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.planitsquare.holiday_keeper.external.client.NagerResponseCache;
+
+@Configuration
+public class NagerResponseCacheConfig {
+
+    @Value("${external.api.cache.enabled}")
+    private boolean enabled;
+
+    @Value("${external.api.cache.directory}")
+    private String directory;
+
+    @Value("${external.api.cache.max-size-mb}")
+    private Long maxSizeMb;
+
+    @Value("${external.api.cache.past-year-ttl-hours}")
+    private Long pastYearTtlHours;
+
+    @Value("${external.api.cache.recent-year-ttl-hours}")
+    private Long recentYearTtlHours;
+
+    @Bean
+    public NagerResponseCache nagerResponseCache() {
+        return new NagerResponseCache(new NagerResponseCache.Settings(enabled, Path.of(directory),
+                maxSizeMb * 1024 * 1024, Duration.ofHours(pastYearTtlHours),
+                Duration.ofHours(recentYearTtlHours)), Clock.systemDefaultZone());
+    }
+}
@@ -1,21 +1,103 @@
 package com.planitsquare.holiday_keeper.config;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
 
 @Configuration
 public class RestTemplateConfig {
 
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(30);
+    private static final String POOL_METRICS_NAME = "nager-date";
+
+    @Value("${external.api.http-client.max-connections-total}")
+    private Integer maxConnectionsTotal;
+
+    @Value("${external.api.http-client.max-connections-per-route}")
+    private Integer maxConnectionsPerRoute;
+
+    @Value("${external.api.http-client.keep-alive-seconds}")
+    private Long keepAliveSeconds;
+
+    @Value("${external.api.http-client.http2-enabled}")
+    private boolean http2Enabled;
+
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout((int) Duration.ofSeconds(10).toMillis());
-        factory.setReadTimeout((int) Duration.ofSeconds(30).toMillis());
+    @ConditionalOnProperty(name = "external.api.http-client.http2-enabled", havingValue = "false")
+    public PoolingHttpClientConnectionManager nagerConnectionManager() {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(CONNECT_TIMEOUT))
+                .setSocketTimeout(Timeout.of(READ_TIMEOUT))
+                .setTimeToLive(TimeValue.ofSeconds(keepAliveSeconds))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(1)).build();
+
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnectionsTotal).setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(connectionConfig).build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "external.api.http-client.http2-enabled", havingValue = "false")
+    public MeterBinder nagerConnectionPoolMetrics(
+            PoolingHttpClientConnectionManager nagerConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(nagerConnectionManager,
+                POOL_METRICS_NAME);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "external.api.http-client.http2-enabled", havingValue = "false")
+    public CloseableHttpClient nagerHttpClient(
+            PoolingHttpClientConnectionManager nagerConnectionManager) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setResponseTimeout(Timeout.of(READ_TIMEOUT)).build();
+
+        // gzip/deflate 응답 해제는 HttpClient 기본 동작 (Accept-Encoding 자동 추가)
+        return HttpClients.custom().setConnectionManager(nagerConnectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofSeconds(keepAliveSeconds))
+                .evictIdleConnections(TimeValue.ofSeconds(keepAliveSeconds))
+                .evictExpiredConnections().build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder builder,
+            ObjectProvider<CloseableHttpClient> nagerHttpClient) {
+        ClientHttpRequestFactory factory = http2Enabled ? createHttp2RequestFactory()
+                : new HttpComponentsClientHttpRequestFactory(nagerHttpClient.getObject());
+
+        RestTemplateBuilder configured = builder.requestFactory(() -> factory);
+        if (http2Enabled) {
+            configured = configured.additionalInterceptors(new GzipDecompressingInterceptor());
+        }
+        return configured.build();
+    }
+
+    private ClientHttpRequestFactory createHttp2RequestFactory() {
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2)
+                .connectTimeout(CONNECT_TIMEOUT).build();
 
-        return builder.requestFactory(() -> factory).build();
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(READ_TIMEOUT);
+        return factory;
     }
 }
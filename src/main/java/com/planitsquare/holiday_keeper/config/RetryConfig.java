@@ -1,9 +0,0 @@
-package com.planitsquare.holiday_keeper.config;
-
-import org.springframework.context.annotation.Configuration;
-import org.springframework.retry.annotation.EnableRetry;
-
-@Configuration
-@EnableRetry
-public class RetryConfig {
-}
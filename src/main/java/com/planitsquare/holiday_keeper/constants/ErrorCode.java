@@ -13,6 +13,10 @@ public enum ErrorCode {
 
     EXTERNAL_API_HOLIDAYS_FAILED("EXTERNAL_003", "공휴일 정보 조회에 실패했습니다"),
 
+    EXTERNAL_API_UNAVAILABLE("EXTERNAL_004", "외부 API를 일시적으로 사용할 수 없습니다"),
+
+    LOAD_JOB_NOT_FOUND("LOAD_001", "적재 작업을 찾을 수 없습니다"),
+
     INTERNAL_SERVER_ERROR("SERVER_001", "서버 내부 오류가 발생했습니다"),
 
     UNEXPECTED_ERROR("SERVER_002", "예상치 못한 오류가 발생했습니다");
@@ -17,6 +17,26 @@ public enum ErrorMessage {
 
     EXTERNAL_API_CALL_FAILED("외부 API 호출 실패: %s - %s"),
 
+    EXTERNAL_API_CIRCUIT_OPEN("외부 API 장애로 호출이 차단되었습니다 (%s 이후 재시도)"),
+
+    LOAD_JOB_NOT_FOUND("실행된 공휴일 적재 작업이 없습니다"),
+
+    LOAD_JOB_ID_NOT_FOUND("공휴일 적재 작업 %s을(를) 찾을 수 없습니다"),
+
+    LOAD_PAIR_FAILED("%d년 %s 적재 실패: %s"),
+
+    LOAD_WRITER_STOPPED("배치 저장 작업이 중단되어 저장하지 못했습니다"),
+
+    EXTERNAL_API_UNEXPECTED_RESPONSE("외부 API 응답이 JSON 배열이 아닙니다: %s"),
+
+    EXTERNAL_API_UNEXPECTED_ELEMENT("외부 API 응답 배열에 객체가 아닌 원소가 있습니다: %s"),
+
+    EXTERNAL_API_INVALID_DATE("외부 API 응답의 날짜 형식이 올바르지 않습니다: %s"),
+
+    INVALID_SEARCH_CURSOR("유효하지 않은 검색 커서입니다: %s"),
+
+    UNKNOWN_HOLIDAY_TYPE("알 수 없는 공휴일 타입입니다: %s"),
+
     VALIDATION_FIELD_SEPARATOR(": "),
 
     VALIDATION_FIELDS_SEPARATOR(", ");
@@ -0,0 +1,7 @@
+package com.planitsquare.holiday_keeper.constants;
+
+public enum HolidayLoadMode {
+    FULL,
+
+    FILL_GAPS
+}
@@ -1,32 +1,49 @@
 package com.planitsquare.holiday_keeper.constants;
 
+import static com.planitsquare.holiday_keeper.constants.LogMessage.UNKNOWN_HOLIDAY_TYPE_IGNORED;
 import java.util.Arrays;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 public enum HolidayType {
-    PUBLIC("Public"),
+    PUBLIC("Public", 1),
 
-    BANK("Bank"),
+    BANK("Bank", 1 << 1),
 
-    SCHOOL("School"),
+    SCHOOL("School", 1 << 2),
 
-    AUTHORITIES("Authorities"),
+    AUTHORITIES("Authorities", 1 << 3),
 
-    OPTIONAL("Optional"),
+    OPTIONAL("Optional", 1 << 4),
 
-    OBSERVANCE("Observance");
+    OBSERVANCE("Observance", 1 << 5);
+
+    public static final int ALL_TYPES_MASK =
+            Arrays.stream(values()).mapToInt(HolidayType::bit).reduce(0, (a, b) -> a | b);
+
+    private static final String[] VALUES_BY_MASK = IntStream.rangeClosed(0, ALL_TYPES_MASK)
+            .mapToObj(HolidayType::joinValues).toArray(String[]::new);
 
     private final String value;
+    private final int bit;
 
-    HolidayType(String value) {
+    HolidayType(final String value, final int bit) {
         this.value = value;
+        this.bit = bit;
     }
 
     public String getValue() {
         return value;
     }
 
+    public int bit() {
+        return bit;
+    }
+
     public static HolidayType fromValue(String value) {
         if (value == null || value.isEmpty()) {
             return PUBLIC;
@@ -35,6 +52,49 @@ public enum HolidayType {
                 .findFirst().orElse(PUBLIC);
     }
 
+    public static Optional<HolidayType> fromExactValue(final String value) {
+        return Arrays.stream(values()).filter(type -> type.value.equals(value)).findFirst();
+    }
+
+    public static int toBitmask(final String typesString) {
+        if (typesString == null || typesString.isEmpty()) {
+            return 0;
+        }
+        int typeMask = 0;
+        for (final String token : typesString.split(",")) {
+            final String value = token.trim();
+            final Optional<HolidayType> type = fromExactValue(value);
+            if (type.isPresent()) {
+                typeMask |= type.get().bit;
+            } else if (!value.isEmpty()) {
+                log.warn(UNKNOWN_HOLIDAY_TYPE_IGNORED.getMessage(), value, typesString);
+            }
+        }
+        return typeMask;
+    }
+
+    public static int toFilterBitmask(final String typesString) {
+        if (typesString == null || typesString.isEmpty()) {
+            return 0;
+        }
+        return Arrays.stream(typesString.split(",")).map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .map(value -> Arrays.stream(values())
+                        .filter(type -> type.value.equalsIgnoreCase(value)).findFirst()
+                        .orElseThrow(() -> new IllegalArgumentException(
+                                ErrorMessage.UNKNOWN_HOLIDAY_TYPE.getMessage().formatted(value))))
+                .mapToInt(HolidayType::bit).reduce(0, (a, b) -> a | b);
+    }
+
+    public static String fromBitmask(final int typeMask) {
+        return VALUES_BY_MASK[typeMask & ALL_TYPES_MASK];
+    }
+
+    private static String joinValues(final int typeMask) {
+        return Arrays.stream(values()).filter(type -> (typeMask & type.bit()) != 0)
+                .map(HolidayType::getValue).collect(Collectors.joining(","));
+    }
+
     public static Set<HolidayType> fromCommaSeparatedString(String typesString) {
         if (typesString == null || typesString.isEmpty()) {
             return Set.of(PUBLIC);
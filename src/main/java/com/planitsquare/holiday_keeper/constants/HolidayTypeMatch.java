@@ -0,0 +1,23 @@
+package com.planitsquare.holiday_keeper.constants;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+public enum HolidayTypeMatch {
+    ANY,
+
+    ALL;
+
+    public boolean matches(final int typeMask, final int filterMask) {
+        if (this == ALL) {
+            return (typeMask & filterMask) == filterMask;
+        }
+        return (typeMask & filterMask) != 0;
+    }
+
+    public List<Integer> matchingMasks(final int filterMask) {
+        return IntStream.range(1, HolidayType.ALL_TYPES_MASK + 1)
+                .filter(typeMask -> (typeMask & ~HolidayType.ALL_TYPES_MASK) == 0)
+                .filter(typeMask -> matches(typeMask, filterMask)).boxed().toList();
+    }
+}
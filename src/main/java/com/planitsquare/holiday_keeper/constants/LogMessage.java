@@ -3,18 +3,70 @@ package com.planitsquare.holiday_keeper.constants;
 public enum LogMessage {
     LOAD_ALL_START("전체 공휴일 데이터 적재를 시작합니다 ({}년 ~ {}년)"),
 
-    LOAD_ALL_REQUEST("전체 공휴일 데이터 적재 요청"),
+    LOAD_ALL_REQUEST("전체 공휴일 데이터 적재 요청 (모드 {})"),
 
-    LOAD_ALL_COMPLETED("전체 공휴일 데이터 적재 완료: 총 {}개"),
+    LOAD_ALL_COMPLETED("전체 공휴일 데이터 적재 완료: 총 {}개 (추가 {}, 수정 {}, 삭제 {}, 변경 없음 {})"),
+
+    LOAD_JOB_STARTED("적재 작업 {} 시작: (국가, 연도) {}쌍"),
+
+    LOAD_JOB_RESUMED("적재 작업 {} 이어서 실행: {}/{}쌍 완료, 남은 {}쌍만 적재"),
+
+    LOAD_JOB_COMPLETED("적재 작업 {} 완료: {}쌍"),
+
+    LOAD_JOB_INCOMPLETE("적재 작업 {} 미완료로 종료: {}/{}쌍 완료, 다음 적재 요청은 새 작업으로 전체 쌍을 다시 실행"),
+
+    LOAD_JOB_RESUMING_ON_STARTUP("기동 시 중단된 적재 작업 {} 재개 (모드 {})"),
+
+    LOAD_JOB_ACCEPTED("적재 작업 {} 접수 (모드 {}), 백그라운드에서 실행"),
+
+    LOAD_JOB_COALESCED("적재 요청을 실행 중인 작업 {}에 합류"),
+
+    LOAD_JOB_FAILED("적재 작업 {} 실패: {}"),
+
+    LOAD_GAPS_PLANNED("빈 구간 적재: 전체 {}쌍 중 적재되지 않았거나 오래된 {}쌍만 적재"),
+
+    COVERAGE_LOADED("적재 현황 비트맵 초기화: {}개 국가, {}쌍"),
+
+    LOAD_CHECKPOINT_FAILED("{}년 {} 적재 체크포인트 기록 실패: {}"),
 
     COUNTRIES_FOUND("총 {}개 국가를 발견했습니다"),
 
-    LOAD_HOLIDAYS_COMPLETED("{}년 {} 공휴일 {}개 적재 완료"),
+    COUNTRY_REGISTRY_RELOADED("국가 레지스트리 스냅샷을 갱신했습니다: {}개 국가"),
+
+    LOAD_HOLIDAYS_DUPLICATED("{}년 {} 응답에 날짜와 이름이 같은 공휴일이 중복되어 {}개를 제외했습니다"),
+
+    LOAD_HOLIDAYS_COMPLETED("{}년 {} 공휴일 {}개 적재 완료 (추가 {}, 수정 {}, 삭제 {}, 변경 없음 {})"),
 
     LOAD_HOLIDAYS_FAILED("{}년 {} 공휴일 적재 실패: {}"),
 
+    LOAD_HOLIDAYS_UNAVAILABLE("{}년 {} 공휴일 적재 건너뜀, 외부 API 사용 불가: {}"),
+
     LOAD_HOLIDAYS_EMPTY("{}년 {} 공휴일 데이터가 없습니다"),
 
+    UNKNOWN_HOLIDAY_TYPE_IGNORED("알 수 없는 공휴일 타입 '{}'은(는) 타입 비트마스크에서 제외합니다 (원본: {})"),
+
+    LOAD_HOLIDAYS_NOT_MODIFIED("{}년 {} 공휴일 데이터 변경 없음, 저장 생략 ({}개)"),
+
+    CONCURRENT_LOAD_START("동시 적재 모드로 전체 공휴일 데이터 적재를 시작합니다 ({}년 ~ {}년, 최대 동시 실행 {}개)"),
+
+    CONCURRENT_LOAD_COMPLETED("동시 적재 완료: 총 {}개 (추가 {}, 수정 {}, 삭제 {}, 변경 없음 {}, 성공 {}건, 실패 {}건 중 외부 API 사용 불가 {}건, 소요 시간 {}ms)"),
+
+    FETCH_RETRY_SCHEDULED("{}년 {} 공휴일 조회 실패, {}ms 후 재시도 예약 ({}/{}회): {}"),
+
+    FETCH_RETRY_EXHAUSTED("{}년 {} 공휴일 조회 재시도 모두 실패 ({}회): {}"),
+
+    FETCH_OPERATION_RETRY_SCHEDULED("{} 실패, {}ms 후 재시도 ({}/{}회): {}"),
+
+    FETCH_OPERATION_RETRY_EXHAUSTED("{} 재시도 모두 실패 ({}회): {}"),
+
+    WRITER_FLUSHED("배치 저장 완료: {}개 (국가, 연도) 쌍, {}개 공휴일"),
+
+    WRITER_FLUSH_FAILED("배치 저장 실패: {}개 (국가, 연도) 쌍, {}개 공휴일: {}"),
+
+    WRITER_COMPLETED("배치 저장 단계 종료: 총 {}회 저장"),
+
+    WRITER_STOPPED("배치 저장 작업이 중단되어 저장하지 못한 {}개 (국가, 연도) 쌍을 실패 처리합니다"),
+
     REFRESH_START("{}년 {} 공휴일 데이터 재동기화를 시작합니다"),
 
     REFRESH_REQUEST("{}년 {} 공휴일 데이터 재동기화 요청"),
@@ -25,18 +77,54 @@ public enum LogMessage {
 
     SEARCH_REQUEST("공휴일 검색 요청: {}"),
 
+    SEARCH_INDEX_LOADED("공휴일 검색 인덱스 생성: {}개 국가, {}건"),
+
+    SEARCH_INDEX_REFRESHED("공휴일 검색 인덱스 갱신: {} ({}건)"),
+
+    SEARCH_INDEX_REFRESH_FAILED("공휴일 검색 인덱스 갱신 실패, 다음 검색 때 다시 생성합니다: {}"),
+
+    SEARCH_INDEX_STALE("다른 인스턴스에서 바뀐 국가의 공휴일 검색 인덱스 갱신: {}"),
+
+    SEARCH_COUNT_CACHE_INVALIDATED("공휴일 검색 COUNT 캐시 무효화: {}건 (변경된 국가·연도 쌍 {}개)"),
+
     SYNC_START("공휴일 데이터 자동 동기화 작업을 시작합니다"),
 
     SYNC_YEARS("{}년과 {}년 데이터를 동기화합니다"),
 
-    SYNC_COMPLETED("{}년 {} 동기화 완료: {}개"),
+    SYNC_COMPLETED("{}년 {} 동기화 완료: {}개 (추가 {}, 수정 {}, 삭제 {}, 변경 없음 {})"),
+
+    SYNC_FAILED("{}년 {} 동기화 실패: {}"),
 
-    SYNC_FAILED("{}년/{}년 {} 동기화 실패: {}"),
+    SYNC_SKIPPED_UNAVAILABLE("{}년 {} 동기화 건너뜀, 외부 API 사용 불가: {}"),
 
-    SYNC_ALL_COMPLETED("공휴일 데이터 자동 동기화 작업 완료: 총 {}개 동기화"),
+    SYNC_ALL_COMPLETED("공휴일 데이터 자동 동기화 작업 완료: 총 {}개 동기화 (추가 {}, 수정 {}, 삭제 {}, 변경 없음 {})"),
 
     SYNC_ERROR("공휴일 데이터 자동 동기화 작업 중 오류 발생"),
 
+    SYNC_COUNTRY_TIMED_OUT("{} 동기화가 시간 예산 {}ms를 초과하여 취소했습니다"),
+
+    SYNC_COUNTRY_TIMED_OUT_STILL_RUNNING("{} 동기화가 시간 예산 {}ms를 초과하여 취소를 요청했지만 작업이 아직 끝나지 않아 변경이 커밋될 수 있습니다"),
+
+    SYNC_COUNTRY_FAILED("{} 동기화 작업 실패: {}"),
+
+    SYNC_RUN_PREPARED("동기화 실행 {}의 샤드 {}개를 생성했습니다"),
+
+    SYNC_LEASE_CONFLICT("동기화 실행 {}의 임대를 다른 인스턴스가 먼저 처리했습니다: {}"),
+
+    SYNC_SHARD_CLAIMED("동기화 샤드 {}/{} 임대 획득 (실행 {}, 소유자 {}, 국가 {}개)"),
+
+    SYNC_SHARD_TAKEN_OVER("동기화 샤드 {}/{}의 만료된 임대를 {}에게서 인수했습니다"),
+
+    SYNC_SHARD_COMPLETED("동기화 샤드 {}/{} 완료"),
+
+    SYNC_SHARD_RENEWAL_FAILED("동기화 샤드 {}/{}의 임대를 연장하지 못했습니다 (만료되어 다른 인스턴스가 인수했을 수 있음)"),
+
+    SYNC_RUN_TIMED_OUT("동기화 실행 {}이(가) 제한 시간 {}ms 안에 끝나지 않아 남은 샤드를 기다리지 않고 종료합니다"),
+
+    SYNC_SHARD_LOST("동기화 샤드 {}/{}의 임대가 만료되어 다른 인스턴스가 인수했습니다"),
+
+    SYNC_SUMMARY("공휴일 데이터 자동 동기화 요약: 국가 {}개 (성공 {}, 실패 {}, 시간 초과 {} (취소 후 실행 중 {})), 병렬도 {}, 소요 {}ms, 최장 {} {}ms"),
+
     EXTERNAL_API_COUNTRIES_REQUEST("Requesting countries from: {}"),
 
     EXTERNAL_API_COUNTRIES_SUCCESS("Successfully fetched {} countries"),
@@ -47,9 +135,19 @@ public enum LogMessage {
 
     EXTERNAL_API_HOLIDAYS_SUCCESS("Successfully fetched {} holidays for {}/{}"),
 
+    EXTERNAL_API_HOLIDAYS_NOT_MODIFIED("Holidays not modified since last fetch for {}/{}"),
+
     EXTERNAL_API_HOLIDAYS_FAILED("Failed to fetch holidays from Nager.Date API for {}/{}"),
 
-    EXTERNAL_API_RETRY("외부 API 재시도: {} - {}"),
+    EXTERNAL_API_CIRCUIT_STATE_CHANGED("외부 API 회로 차단기 상태 변경: {} {} -> {} ({})"),
+
+    NAGER_CACHE_HIT("Nager.Date 응답 캐시 사용: {}"),
+
+    NAGER_CACHE_READ_FAILED("Nager.Date 응답 캐시 읽기 실패, 외부 API로 조회: {} - {}"),
+
+    NAGER_CACHE_WRITE_FAILED("Nager.Date 응답 캐시 저장 실패: {} - {}"),
+
+    NAGER_CACHE_EVICTED("Nager.Date 응답 캐시 용량 초과로 {}개 항목 삭제 ({} bytes)"),
 
     EXTERNAL_API_RETRY_SKIPPED("외부 API 재시도 모두 실패, 요청 건너뜀: {}"),
 
@@ -57,8 +155,6 @@ public enum LogMessage {
 
     EXTERNAL_API_OPERATION_HOLIDAYS("Nager.Date API 공휴일 조회"),
 
-    EXTERNAL_API_RETRY_STATUS("재시도 중"),
-
     ILLEGAL_ARGUMENT_EXCEPTION("잘못된 파라미터: {}"),
 
     VALIDATION_EXCEPTION("유효성 검증 실패: {}"),
@@ -69,6 +165,10 @@ public enum LogMessage {
 
     EXTERNAL_API_EXCEPTION("ExternalApiException: {}"),
 
+    EXTERNAL_API_UNAVAILABLE_EXCEPTION("ExternalApiUnavailableException: {}"),
+
+    LOAD_JOB_NOT_FOUND_EXCEPTION("HolidayLoadJobNotFoundException: {}"),
+
     COUNTRY_NOT_FOUND_EXCEPTION("국가를 찾을 수 없습니다: {}");
 
     private final String message;
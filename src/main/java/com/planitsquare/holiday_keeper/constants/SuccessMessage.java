@@ -1,9 +1,11 @@
 package com.planitsquare.holiday_keeper.constants;
 
 public enum SuccessMessage {
-    LOAD_ALL_COMPLETED("전체 공휴일 데이터 적재가 완료되었습니다"),
+    LOAD_ALL_ACCEPTED("전체 공휴일 데이터 적재 작업 %d을(를) 시작했습니다"),
 
-    REFRESH_COMPLETED("%d년 %s 공휴일 %d개가 재동기화되었습니다"),
+    LOAD_ALL_COALESCED("이미 실행 중인 전체 공휴일 데이터 적재 작업 %d에 합류했습니다"),
+
+    REFRESH_COMPLETED("%d년 %s 공휴일 %d개가 재동기화되었습니다 (추가 %d, 수정 %d, 삭제 %d, 변경 없음 %d)"),
 
     DELETE_COMPLETED("%d년 %s 공휴일 데이터가 삭제되었습니다"),
 
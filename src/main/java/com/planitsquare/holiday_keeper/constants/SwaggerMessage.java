@@ -6,12 +6,19 @@ public interface SwaggerMessage {
     String HOLIDAY_API_DESCRIPTION = "공휴일 관리 API";
 
     String LOAD_ALL_SUMMARY = "전체 공휴일 데이터 적재";
+    String LOAD_PROGRESS_SUMMARY = "전체 공휴일 적재 진행 상황 조회";
+    String LOAD_JOB_SUMMARY = "전체 공휴일 적재 작업 상태 조회";
     String SEARCH_SUMMARY = "공휴일 검색";
     String REFRESH_SUMMARY = "공휴일 데이터 재동기화";
     String DELETE_SUMMARY = "공휴일 데이터 삭제";
 
-    String LOAD_ALL_DESCRIPTION = "2020-2025년 모든 국가의 공휴일 데이터를 일괄 적재합니다";
-    String SEARCH_DESCRIPTION = "다양한 필터 조건으로 공휴일을 검색합니다 (페이징 지원)";
+    String LOAD_ALL_DESCRIPTION = "2020-2025년 모든 국가의 공휴일 데이터 적재 작업을 백그라운드에서 "
+            + "시작하고 작업 ID를 즉시 반환합니다 (이미 실행 중인 작업이 있으면 그 작업에 합류, "
+            + "중단된 적재가 있으면 완료되지 않은 (국가, 연도)만 이어서 적재, FILL_GAPS 모드는 "
+            + "아직 적재되지 않았거나 오래된 올해 이후 (국가, 연도)만 적재)";
+    String LOAD_PROGRESS_DESCRIPTION = "가장 최근 적재 작업의 완료 쌍 수, 진행률, 예상 남은 시간을 조회합니다";
+    String LOAD_JOB_DESCRIPTION = "적재 작업의 상태, 처리 건수, 처리량, 실패 내역을 조회합니다";
+    String SEARCH_DESCRIPTION = "다양한 필터 조건으로 공휴일을 검색합니다 (페이지 번호 또는 nextCursor 커서 페이징 지원)";
     String REFRESH_DESCRIPTION = "특정 연도와 국가의 공휴일 데이터를 외부 API에서 재조회하여 " + "업데이트합니다";
     String DELETE_DESCRIPTION = "특정 연도와 국가의 공휴일 데이터를 삭제합니다";
 
@@ -19,4 +26,8 @@ public interface SwaggerMessage {
     String PARAM_COUNTRY_CODE = "국가 코드";
     String PARAM_YEAR_EXAMPLE = "2024";
     String PARAM_COUNTRY_CODE_EXAMPLE = "KR";
+    String PARAM_JOB_ID = "적재 작업 ID";
+    String PARAM_JOB_ID_EXAMPLE = "1";
+    String PARAM_LOAD_MODE = "적재 모드 (FULL: 전체 재적재, FILL_GAPS: 빈 구간만 적재)";
+    String PARAM_LOAD_MODE_EXAMPLE = "FILL_GAPS";
 }
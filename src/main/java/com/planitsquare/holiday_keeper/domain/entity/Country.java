@@ -10,6 +10,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -24,7 +25,9 @@ import lombok.NoArgsConstructor;
 public class Country {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "country_seq_generator")
+    @SequenceGenerator(name = "country_seq_generator", sequenceName = "countries_seq",
+            allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 2)
@@ -0,0 +1,80 @@
+package com.planitsquare.holiday_keeper.domain.entity;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "holiday_fetch_fingerprints",
+        uniqueConstraints = {@UniqueConstraint(name = "uk_fingerprint_country_code_year",
+                columnNames = {"country_code", "holiday_year"})})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HolidayFetchFingerprint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE,
+            generator = "holiday_fetch_fingerprint_seq_generator")
+    @SequenceGenerator(name = "holiday_fetch_fingerprint_seq_generator",
+            sequenceName = "holiday_fetch_fingerprints_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "country_code", nullable = false, length = 20)
+    private String countryCode;
+
+    @Column(name = "holiday_year", nullable = false)
+    private Integer year;
+
+    @Column(length = 200)
+    private String etag;
+
+    @Column(length = 50)
+    private String lastModified;
+
+    @Column(nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private Integer holidayCount;
+
+    @Column(nullable = false)
+    private LocalDateTime fetchedAt;
+
+    @Builder
+    public HolidayFetchFingerprint(final String countryCode, final Integer year,
+            final String etag, final String lastModified, final String contentHash,
+            final Integer holidayCount, final LocalDateTime fetchedAt) {
+        this.countryCode = countryCode;
+        this.year = year;
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.contentHash = contentHash;
+        this.holidayCount = holidayCount;
+        this.fetchedAt = fetchedAt;
+    }
+
+    public void updateFrom(final HolidayFetchFingerprint other) {
+        this.etag = other.etag;
+        this.lastModified = other.lastModified;
+        this.contentHash = other.contentHash;
+        this.holidayCount = other.holidayCount;
+        this.fetchedAt = other.fetchedAt;
+    }
+
+    public void confirm(final String etag, final String lastModified,
+            final LocalDateTime fetchedAt) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.fetchedAt = fetchedAt;
+    }
+}
@@ -0,0 +1,52 @@
+package com.planitsquare.holiday_keeper.domain.entity;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "holiday_load_checkpoints",
+        uniqueConstraints = {@UniqueConstraint(name = "uk_checkpoint_job_country_code_year",
+                columnNames = {"job_id", "country_code", "holiday_year"})})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HolidayLoadCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE,
+            generator = "holiday_load_checkpoint_seq_generator")
+    @SequenceGenerator(name = "holiday_load_checkpoint_seq_generator",
+            sequenceName = "holiday_load_checkpoints_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "country_code", nullable = false, length = 20)
+    private String countryCode;
+
+    @Column(name = "holiday_year", nullable = false)
+    private Integer year;
+
+    @Column(nullable = false)
+    private LocalDateTime completedAt;
+
+    @Builder
+    public HolidayLoadCheckpoint(final Long jobId, final String countryCode, final Integer year,
+            final LocalDateTime completedAt) {
+        this.jobId = jobId;
+        this.countryCode = countryCode;
+        this.year = year;
+        this.completedAt = completedAt;
+    }
+}
@@ -0,0 +1,94 @@
+package com.planitsquare.holiday_keeper.domain.entity;
+
+import java.time.LocalDateTime;
+import com.planitsquare.holiday_keeper.constants.HolidayLoadMode;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "holiday_load_jobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HolidayLoadJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE,
+            generator = "holiday_load_job_seq_generator")
+    @SequenceGenerator(name = "holiday_load_job_seq_generator",
+            sequenceName = "holiday_load_jobs_seq", allocationSize = 1)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private HolidayLoadMode mode;
+
+    @Column(nullable = false)
+    private Integer startYear;
+
+    @Column(nullable = false)
+    private Integer endYear;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(nullable = false)
+    private Integer totalPairs;
+
+    @Column(nullable = false)
+    private Integer completedPairs;
+
+    @Column(nullable = false)
+    private Integer completedPairsAtResume;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime resumedAt;
+
+    private LocalDateTime finishedAt;
+
+    @Builder
+    public HolidayLoadJob(final HolidayLoadMode mode, final Integer startYear,
+            final Integer endYear, final Integer totalPairs, final LocalDateTime startedAt) {
+        this.mode = mode;
+        this.startYear = startYear;
+        this.endYear = endYear;
+        this.status = Status.IN_PROGRESS;
+        this.totalPairs = totalPairs;
+        this.completedPairs = 0;
+        this.completedPairsAtResume = 0;
+        this.startedAt = startedAt;
+        this.resumedAt = startedAt;
+    }
+
+    public void resume(final Integer totalPairs, final Integer completedPairs,
+            final LocalDateTime resumedAt) {
+        this.totalPairs = totalPairs;
+        this.completedPairs = completedPairs;
+        this.completedPairsAtResume = completedPairs;
+        this.resumedAt = resumedAt;
+    }
+
+    public void finish(final Integer completedPairs, final LocalDateTime finishedAt) {
+        this.completedPairs = completedPairs;
+        this.status = completedPairs >= totalPairs ? Status.COMPLETED : Status.INCOMPLETE;
+        this.finishedAt = finishedAt;
+    }
+
+    public enum Status {
+        IN_PROGRESS, COMPLETED, INCOMPLETE
+    }
+}
@@ -0,0 +1,30 @@
+package com.planitsquare.holiday_keeper.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "holiday_search_generations")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HolidaySearchGeneration {
+
+    @Id
+    @Column(name = "country_code", length = 20)
+    private String countryCode;
+
+    @Column(nullable = false)
+    private Long generation;
+
+    @Builder
+    public HolidaySearchGeneration(final String countryCode, final Long generation) {
+        this.countryCode = countryCode;
+        this.generation = generation;
+    }
+}
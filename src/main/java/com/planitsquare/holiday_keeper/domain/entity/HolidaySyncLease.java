@@ -0,0 +1,59 @@
+package com.planitsquare.holiday_keeper.domain.entity;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "holiday_sync_leases",
+        uniqueConstraints = {@UniqueConstraint(name = "uk_sync_lease_run_key_shard_index",
+                columnNames = {"run_key", "shard_index"})})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HolidaySyncLease {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE,
+            generator = "holiday_sync_lease_seq_generator")
+    @SequenceGenerator(name = "holiday_sync_lease_seq_generator",
+            sequenceName = "holiday_sync_leases_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "run_key", nullable = false, length = 50)
+    private String runKey;
+
+    @Column(name = "shard_index", nullable = false)
+    private Integer shardIndex;
+
+    @Column(nullable = false)
+    private Integer shardCount;
+
+    @Column(length = 100)
+    private String owner;
+
+    private LocalDateTime leaseExpiresAt;
+
+    private LocalDateTime completedAt;
+
+    @Builder
+    public HolidaySyncLease(final String runKey, final Integer shardIndex,
+            final Integer shardCount) {
+        this.runKey = runKey;
+        this.shardIndex = shardIndex;
+        this.shardCount = shardCount;
+    }
+
+    public boolean isCompleted() {
+        return completedAt != null;
+    }
+}
@@ -1,6 +1,7 @@
 package com.planitsquare.holiday_keeper.domain.entity;
 
 import java.time.LocalDate;
+import com.planitsquare.holiday_keeper.constants.HolidayType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -10,7 +11,9 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,14 +23,19 @@ import lombok.NoArgsConstructor;
 @Table(name = "public_holidays",
         indexes = {@Index(name = "idx_country_year", columnList = "country_id,holiday_year"),
                 @Index(name = "idx_country_code_year", columnList = "country_code,holiday_year"),
-                @Index(name = "idx_date", columnList = "date"),
-                @Index(name = "idx_type", columnList = "types")})
+                @Index(name = "idx_date_id", columnList = "date,id"),
+                @Index(name = "idx_type_mask", columnList = "type_mask")},
+        uniqueConstraints = {@UniqueConstraint(name = "uk_country_code_date_name",
+                columnNames = {"country_code", "date", "name"})})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PublicHoliday {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE,
+            generator = "public_holiday_seq_generator")
+    @SequenceGenerator(name = "public_holiday_seq_generator", sequenceName = "public_holidays_seq",
+            allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -49,8 +57,8 @@ public class PublicHoliday {
     @Column(nullable = false, length = 20)
     private String countryCode;
 
-    @Column(nullable = false, length = 50)
-    private String types;
+    @Column(name = "type_mask", nullable = false)
+    private Integer typeMask;
 
     @Column(nullable = false)
     private Boolean fixed;
@@ -71,19 +79,14 @@ public class PublicHoliday {
         this.name = name;
         this.localName = localName;
         this.countryCode = countryCode;
-        this.types = types;
+        this.typeMask = HolidayType.toBitmask(types);
         this.fixed = fixed;
         this.global = global;
         this.launchYear = launchYear;
     }
 
-    public void updateFrom(final PublicHoliday other) {
-        this.name = other.name;
-        this.localName = other.localName;
-        this.types = other.types;
-        this.fixed = other.fixed;
-        this.global = other.global;
-        this.launchYear = other.launchYear;
+    public String getTypes() {
+        return HolidayType.fromBitmask(typeMask);
     }
 
     public String getCountryName() {
@@ -0,0 +1,16 @@
+package com.planitsquare.holiday_keeper.domain.repository;
+
+import java.util.List;
+import java.util.Optional;
+import com.planitsquare.holiday_keeper.domain.entity.HolidayFetchFingerprint;
+
+public interface HolidayFetchFingerprintRepository {
+
+    HolidayFetchFingerprint save(HolidayFetchFingerprint fingerprint);
+
+    List<HolidayFetchFingerprint> findAll();
+
+    Optional<HolidayFetchFingerprint> findByCountryCodeAndYear(String countryCode, Integer year);
+
+    void deleteByCountryCodeAndYear(String countryCode, Integer year);
+}
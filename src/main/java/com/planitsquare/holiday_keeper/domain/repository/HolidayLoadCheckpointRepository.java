@@ -0,0 +1,14 @@
+package com.planitsquare.holiday_keeper.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import com.planitsquare.holiday_keeper.domain.entity.HolidayLoadCheckpoint;
+
+public interface HolidayLoadCheckpointRepository {
+
+    HolidayLoadCheckpoint save(HolidayLoadCheckpoint checkpoint);
+
+    List<HolidayLoadCheckpoint> findByJobId(Long jobId);
+
+    long countCompletedSince(Long jobId, LocalDateTime since);
+}
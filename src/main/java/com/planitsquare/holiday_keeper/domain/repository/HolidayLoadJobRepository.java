@@ -0,0 +1,19 @@
+package com.planitsquare.holiday_keeper.domain.repository;
+
+import java.util.Optional;
+import com.planitsquare.holiday_keeper.constants.HolidayLoadMode;
+import com.planitsquare.holiday_keeper.domain.entity.HolidayLoadJob;
+
+public interface HolidayLoadJobRepository {
+
+    HolidayLoadJob save(HolidayLoadJob job);
+
+    Optional<HolidayLoadJob> findById(Long id);
+
+    Optional<HolidayLoadJob> findLatest();
+
+    Optional<HolidayLoadJob> findLatestInProgress(Integer startYear, Integer endYear);
+
+    Optional<HolidayLoadJob> findLatestInProgress(HolidayLoadMode mode, Integer startYear,
+            Integer endYear);
+}
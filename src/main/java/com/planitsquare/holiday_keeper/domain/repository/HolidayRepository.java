@@ -1,10 +1,16 @@
 package com.planitsquare.holiday_keeper.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import com.planitsquare.holiday_keeper.api.dto.request.HolidaySearchRequest;
+import com.planitsquare.holiday_keeper.api.dto.response.HolidayResponse;
 import com.planitsquare.holiday_keeper.domain.entity.PublicHoliday;
+import com.planitsquare.holiday_keeper.service.dto.CountryYear;
+import com.planitsquare.holiday_keeper.service.dto.HolidaySearchCursor;
+import com.planitsquare.holiday_keeper.service.dto.StoredHoliday;
 
 public interface HolidayRepository {
 
@@ -14,11 +20,25 @@ public interface HolidayRepository {
 
     void deleteAll(List<PublicHoliday> holidays);
 
+    void upsertAll(List<PublicHoliday> holidays);
+
     Boolean existsByCountryCodeAndYear(String countryCode, Integer year);
 
-    List<PublicHoliday> findByCountryCodeAndYear(String countryCode, Integer year);
+    List<StoredHoliday> findStoredHolidays(String countryCode, Integer year);
+
+    List<CountryYear> findLoadedPairs();
 
     void deleteByCountryCodeAndYear(String countryCode, Integer year);
 
-    Page<PublicHoliday> search(HolidaySearchRequest request, Pageable pageable);
+    void deleteByCountryCodeAndYearAndIdIn(String countryCode, Integer year,
+            Collection<Long> ids);
+
+    void flushAndClear();
+
+    Page<HolidayResponse> search(HolidaySearchRequest request, Pageable pageable);
+
+    Slice<HolidayResponse> searchWithoutTotal(HolidaySearchRequest request, Pageable pageable);
+
+    Slice<HolidayResponse> searchAfter(HolidaySearchRequest request, HolidaySearchCursor cursor,
+            Integer size);
 }
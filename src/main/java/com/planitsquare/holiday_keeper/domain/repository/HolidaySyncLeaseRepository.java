@@ -0,0 +1,17 @@
+package com.planitsquare.holiday_keeper.domain.repository;
+
+import java.util.List;
+import com.planitsquare.holiday_keeper.domain.entity.HolidaySyncLease;
+
+public interface HolidaySyncLeaseRepository {
+
+    List<HolidaySyncLease> saveAllAndFlush(List<HolidaySyncLease> leases);
+
+    List<HolidaySyncLease> findByRunKey(String runKey);
+
+    boolean claim(Long id, String owner, Long leaseDurationMs);
+
+    boolean renew(Long id, String owner, Long leaseDurationMs);
+
+    boolean complete(Long id, String owner);
+}
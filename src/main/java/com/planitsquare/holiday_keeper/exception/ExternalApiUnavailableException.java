@@ -0,0 +1,13 @@
+package com.planitsquare.holiday_keeper.exception;
+
+public class ExternalApiUnavailableException extends ExternalApiException {
+
+    public ExternalApiUnavailableException(final String operation, final String details) {
+        super(operation, details);
+    }
+
+    public ExternalApiUnavailableException(final String operation, final String details,
+            final Throwable cause) {
+        super(operation, details, cause);
+    }
+}
@@ -0,0 +1,15 @@
+package com.planitsquare.holiday_keeper.exception;
+
+import static com.planitsquare.holiday_keeper.constants.ErrorMessage.LOAD_JOB_ID_NOT_FOUND;
+import static com.planitsquare.holiday_keeper.constants.ErrorMessage.LOAD_JOB_NOT_FOUND;
+
+public class HolidayLoadJobNotFoundException extends RuntimeException {
+
+    public HolidayLoadJobNotFoundException() {
+        super(LOAD_JOB_NOT_FOUND.getMessage());
+    }
+
+    public HolidayLoadJobNotFoundException(final Long jobId) {
+        super(LOAD_JOB_ID_NOT_FOUND.getMessage().formatted(jobId));
+    }
+}
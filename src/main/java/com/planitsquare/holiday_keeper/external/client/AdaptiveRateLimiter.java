@@ -0,0 +1,176 @@
+package com.planitsquare.holiday_keeper.external.client;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+public class AdaptiveRateLimiter implements MeterBinder {
+
+    static final String LIMIT_METRIC_NAME = "nager.limiter.limit";
+    static final String IN_FLIGHT_METRIC_NAME = "nager.limiter.in-flight";
+    static final String QUEUE_DEPTH_METRIC_NAME = "nager.limiter.queue-depth";
+    static final String THROTTLED_METRIC_NAME = "nager.limiter.throttled";
+
+    private final Settings settings;
+    private final long permitIntervalNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotReleased = lock.newCondition();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private double limit;
+    private int inFlight;
+    private long nextPermitNanos;
+    private Counter throttledCounter;
+
+    public AdaptiveRateLimiter(final Settings settings) {
+        this.settings = settings;
+        this.permitIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1)
+                / settings.requestsPerSecond());
+        this.limit = settings.initialLimit();
+    }
+
+    public <T> T call(final Supplier<T> request) {
+        acquire();
+        final long startedAt = System.nanoTime();
+        try {
+            final T result = request.get();
+            onSuccess(Duration.ofNanos(System.nanoTime() - startedAt));
+            return result;
+        } catch (final RuntimeException e) {
+            if (UpstreamFailures.isUpstreamFailure(e) && !Thread.currentThread().isInterrupted()) {
+                onThrottled();
+            } else {
+                release();
+            }
+            throw e;
+        }
+    }
+
+    public double getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueueDepth() {
+        return waiting.get();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder(LIMIT_METRIC_NAME, this, AdaptiveRateLimiter::getLimit).register(registry);
+        Gauge.builder(IN_FLIGHT_METRIC_NAME, this, AdaptiveRateLimiter::getInFlight)
+                .register(registry);
+        Gauge.builder(QUEUE_DEPTH_METRIC_NAME, this, AdaptiveRateLimiter::getQueueDepth)
+                .register(registry);
+        throttledCounter = Counter.builder(THROTTLED_METRIC_NAME).register(registry);
+    }
+
+    private void acquire() {
+        waiting.incrementAndGet();
+        try {
+            awaitPacing(reserveSlot());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private void awaitPacing(final long permitAt) throws InterruptedException {
+        final long pacingNanos = permitAt - System.nanoTime();
+        if (pacingNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(pacingNanos);
+        } catch (final InterruptedException e) {
+            release();
+            throw e;
+        }
+    }
+
+    private long reserveSlot() throws InterruptedException {
+        lock.lock();
+        try {
+            while (inFlight >= (int) limit) {
+                slotReleased.await();
+            }
+            inFlight++;
+            final long permitAt = Math.max(System.nanoTime(), nextPermitNanos);
+            nextPermitNanos = permitAt + permitIntervalNanos;
+            return permitAt;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onSuccess(final Duration latency) {
+        if (latency.compareTo(settings.latencyThreshold()) > 0) {
+            decreaseAndRelease();
+            return;
+        }
+        lock.lock();
+        try {
+            limit = Math.min(settings.maxLimit(), limit + 1.0 / limit);
+            releaseLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onThrottled() {
+        if (throttledCounter != null) {
+            throttledCounter.increment();
+        }
+        decreaseAndRelease();
+    }
+
+    private void decreaseAndRelease() {
+        lock.lock();
+        try {
+            limit = Math.max(settings.minLimit(), limit * settings.decreaseFactor());
+            releaseLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            releaseLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releaseLocked() {
+        inFlight--;
+        slotReleased.signalAll();
+    }
+
+    public record Settings(Double requestsPerSecond, Integer initialLimit, Integer minLimit,
+            Integer maxLimit, Duration latencyThreshold, Double decreaseFactor) {
+    }
+}
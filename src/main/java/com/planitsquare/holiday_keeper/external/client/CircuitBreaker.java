@@ -0,0 +1,167 @@
+package com.planitsquare.holiday_keeper.external.client;
+
+import static com.planitsquare.holiday_keeper.constants.ErrorMessage.EXTERNAL_API_CIRCUIT_OPEN;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.EXTERNAL_API_CIRCUIT_STATE_CHANGED;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import com.planitsquare.holiday_keeper.exception.ExternalApiUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class CircuitBreaker implements MeterBinder {
+
+    static final String STATE_METRIC_NAME = "nager.circuit.state";
+    static final String REJECTED_METRIC_NAME = "nager.circuit.rejected";
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final String name;
+    private final Settings settings;
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private int halfOpenCalls;
+    private Instant openedAt;
+    private Counter rejectedCounter;
+
+    public CircuitBreaker(final String name, final Settings settings, final Clock clock) {
+        this.name = name;
+        this.settings = settings;
+        this.clock = clock;
+    }
+
+    public <T> T call(final Supplier<T> request) {
+        acquirePermission();
+        try {
+            final T result = request.get();
+            onSuccess();
+            return result;
+        } catch (final RuntimeException e) {
+            if (UpstreamFailures.isUpstreamFailure(e)) {
+                onFailure(e);
+            } else {
+                onSuccess();
+            }
+            throw e;
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return currentState();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getConsecutiveFailures() {
+        lock.lock();
+        try {
+            return consecutiveFailures;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Optional<Instant> getRetryAt() {
+        lock.lock();
+        try {
+            return state == State.OPEN ? Optional.of(retryAt()) : Optional.empty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder(STATE_METRIC_NAME, this, breaker -> breaker.getState().ordinal())
+                .register(registry);
+        rejectedCounter = Counter.builder(REJECTED_METRIC_NAME).register(registry);
+    }
+
+    private void acquirePermission() {
+        lock.lock();
+        try {
+            final State current = currentState();
+            if (current == State.OPEN
+                    || (current == State.HALF_OPEN && halfOpenCalls >= settings.halfOpenCalls())) {
+                reject();
+            }
+            if (current == State.HALF_OPEN) {
+                halfOpenCalls++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private State currentState() {
+        if (state == State.OPEN && !clock.instant().isBefore(retryAt())) {
+            transitionTo(State.HALF_OPEN, null);
+        }
+        return state;
+    }
+
+    private void reject() {
+        if (rejectedCounter != null) {
+            rejectedCounter.increment();
+        }
+        final Instant retryAt = state == State.OPEN ? retryAt() : clock.instant();
+        throw new ExternalApiUnavailableException(name,
+                EXTERNAL_API_CIRCUIT_OPEN.getMessage().formatted(retryAt));
+    }
+
+    private void onSuccess() {
+        lock.lock();
+        try {
+            consecutiveFailures = 0;
+            if (state == State.HALF_OPEN) {
+                transitionTo(State.CLOSED, null);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onFailure(final RuntimeException failure) {
+        lock.lock();
+        try {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN
+                    || (state == State.CLOSED
+                            && consecutiveFailures >= settings.failureThreshold())) {
+                openedAt = clock.instant();
+                transitionTo(State.OPEN, failure.getMessage());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void transitionTo(final State next, final String reason) {
+        log.warn(EXTERNAL_API_CIRCUIT_STATE_CHANGED.getMessage(), name, state, next, reason);
+        state = next;
+        halfOpenCalls = 0;
+    }
+
+    private Instant retryAt() {
+        return openedAt.plus(settings.openDuration());
+    }
+
+    public record Settings(Integer failureThreshold, Duration openDuration,
+            Integer halfOpenCalls) {
+    }
+}
@@ -0,0 +1,173 @@
+package com.planitsquare.holiday_keeper.external.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+public class HedgedRequestExecutor implements MeterBinder, AutoCloseable {
+
+    static final String REQUESTS_METRIC_NAME = "nager.hedge.requests";
+    static final String HEDGES_METRIC_NAME = "nager.hedge.sent";
+    static final String WINS_METRIC_NAME = "nager.hedge.wins";
+    static final String DELAY_METRIC_NAME = "nager.hedge.delay";
+
+    private final Settings settings;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final ReentrantLock latencyLock = new ReentrantLock();
+    private final long[] latencyWindow;
+    private int latencyCount;
+    private int latencyCursor;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong hedges = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+
+    public HedgedRequestExecutor(final Settings settings) {
+        this.settings = settings;
+        this.latencyWindow = new long[settings.windowSize()];
+    }
+
+    public <T> T call(final Supplier<T> request) {
+        if (!settings.enabled()) {
+            return request.get();
+        }
+        requests.incrementAndGet();
+
+        final ExecutorCompletionService<T> completion = new ExecutorCompletionService<>(executor);
+        final List<Future<T>> attempts = new ArrayList<>(2);
+        attempts.add(completion.submit(() -> timed(request)));
+        try {
+            final Optional<Duration> hedgeDelay = getHedgeDelay();
+            Future<T> completed = hedgeDelay.isPresent()
+                    ? completion.poll(hedgeDelay.get().toNanos(), TimeUnit.NANOSECONDS)
+                    : null;
+            if (completed == null && hedgeDelay.isPresent() && tryAcquireHedge()) {
+                attempts.add(completion.submit(() -> timed(request)));
+            }
+            return awaitFirstSuccess(completion, attempts, completed);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            attempts.forEach(attempt -> attempt.cancel(true));
+        }
+    }
+
+    public Optional<Duration> getHedgeDelay() {
+        latencyLock.lock();
+        try {
+            if (latencyCount < settings.minSamples()) {
+                return Optional.empty();
+            }
+            final long[] sorted = Arrays.copyOf(latencyWindow, latencyCount);
+            Arrays.sort(sorted);
+            final int index = (int) Math.ceil(settings.percentile() / 100.0 * latencyCount) - 1;
+            return Optional.of(Duration.ofNanos(sorted[Math.max(index, 0)]));
+        } finally {
+            latencyLock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder(REQUESTS_METRIC_NAME, requests, AtomicLong::get)
+                .register(registry);
+        FunctionCounter.builder(HEDGES_METRIC_NAME, hedges, AtomicLong::get).register(registry);
+        FunctionCounter.builder(WINS_METRIC_NAME, hedgeWins, AtomicLong::get).register(registry);
+        Gauge.builder(DELAY_METRIC_NAME, this, HedgedRequestExecutor::currentDelayMillis)
+                .register(registry);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T awaitFirstSuccess(final ExecutorCompletionService<T> completion,
+            final List<Future<T>> attempts, final Future<T> alreadyCompleted)
+            throws InterruptedException {
+        Future<T> next = alreadyCompleted;
+        RuntimeException firstFailure = null;
+
+        for (int pending = attempts.size(); pending > 0; pending--) {
+            final Future<T> done = next != null ? next : completion.take();
+            next = null;
+            try {
+                final T result = done.get();
+                if (attempts.size() > 1 && done == attempts.get(1)) {
+                    hedgeWins.incrementAndGet();
+                }
+                return result;
+            } catch (final ExecutionException e) {
+                final RuntimeException failure = unwrap(e);
+                firstFailure = firstFailure != null ? firstFailure : failure;
+            }
+        }
+        throw firstFailure;
+    }
+
+    private <T> T timed(final Supplier<T> request) {
+        final long startedAt = System.nanoTime();
+        final T result = request.get();
+        recordLatency(System.nanoTime() - startedAt);
+        return result;
+    }
+
+    private void recordLatency(final long latencyNanos) {
+        latencyLock.lock();
+        try {
+            latencyWindow[latencyCursor] = latencyNanos;
+            latencyCursor = (latencyCursor + 1) % latencyWindow.length;
+            latencyCount = Math.min(latencyCount + 1, latencyWindow.length);
+        } finally {
+            latencyLock.unlock();
+        }
+    }
+
+    private boolean tryAcquireHedge() {
+        final long allowed = (long) (requests.get() * settings.budgetPercent() / 100.0);
+        while (true) {
+            final long sent = hedges.get();
+            if (sent >= allowed) {
+                return false;
+            }
+            if (hedges.compareAndSet(sent, sent + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private double currentDelayMillis() {
+        return getHedgeDelay().map(delay -> (double) delay.toMillis()).orElse(Double.NaN);
+    }
+
+    private RuntimeException unwrap(final ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        if (e.getCause() instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(e.getCause());
+    }
+
+    public record Settings(boolean enabled, Double percentile, Integer windowSize,
+            Integer minSamples, Double budgetPercent) {
+    }
+}
@@ -2,27 +2,33 @@ package com.planitsquare.holiday_keeper.external.client;
 
 import static com.planitsquare.holiday_keeper.constants.LogMessage.EXTERNAL_API_COUNTRIES_REQUEST;
 import static com.planitsquare.holiday_keeper.constants.LogMessage.EXTERNAL_API_COUNTRIES_SUCCESS;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.EXTERNAL_API_HOLIDAYS_FAILED;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.EXTERNAL_API_HOLIDAYS_NOT_MODIFIED;
 import static com.planitsquare.holiday_keeper.constants.LogMessage.EXTERNAL_API_HOLIDAYS_REQUEST;
 import static com.planitsquare.holiday_keeper.constants.LogMessage.EXTERNAL_API_HOLIDAYS_SUCCESS;
-import static com.planitsquare.holiday_keeper.constants.LogMessage.EXTERNAL_API_OPERATION_COUNTRIES;
-import static com.planitsquare.holiday_keeper.constants.LogMessage.EXTERNAL_API_OPERATION_HOLIDAYS;
-import static com.planitsquare.holiday_keeper.constants.LogMessage.EXTERNAL_API_RETRY;
-import static com.planitsquare.holiday_keeper.constants.LogMessage.EXTERNAL_API_RETRY_SKIPPED;
-import static com.planitsquare.holiday_keeper.constants.LogMessage.EXTERNAL_API_RETRY_STATUS;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.NAGER_CACHE_READ_FAILED;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Collections;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import com.planitsquare.holiday_keeper.external.dto.HolidayFetchResult;
 import com.planitsquare.holiday_keeper.external.dto.NagerCountryResponse;
 import com.planitsquare.holiday_keeper.external.dto.NagerHolidayResponse;
+import com.planitsquare.holiday_keeper.external.dto.ResponseValidators;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -31,33 +37,25 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class NagerDateClient {
 
+    private static final String CONTENT_HASH_ALGORITHM = "SHA-256";
+
     private final RestTemplate restTemplate;
+    private final NagerResponseDecoder responseDecoder;
+    private final AdaptiveRateLimiter rateLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final HedgedRequestExecutor hedgedRequestExecutor;
+    private final NagerResponseCache responseCache;
 
     @Value("${external.api.nager-date.base-url}")
     private String baseUrl;
 
-    @Retryable(retryFor = {RestClientException.class}, maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2))
     public List<NagerCountryResponse> getAvailableCountries() {
         final String url = buildCountriesUrl();
         log.debug(EXTERNAL_API_COUNTRIES_REQUEST.getMessage(), url);
 
-        try {
-            final List<NagerCountryResponse> countries = fetchCountries(url);
-            log.info(EXTERNAL_API_COUNTRIES_SUCCESS.getMessage(), countries.size());
-            return countries;
-        } catch (final RestClientException e) {
-            log.warn(EXTERNAL_API_RETRY.getMessage(), EXTERNAL_API_OPERATION_COUNTRIES.getMessage(),
-                    EXTERNAL_API_RETRY_STATUS.getMessage());
-            throw e;
-        }
-    }
-
-    @Recover
-    public List<NagerCountryResponse> recoverCountries(final RestClientException e) {
-        log.error(EXTERNAL_API_RETRY_SKIPPED.getMessage(),
-                EXTERNAL_API_OPERATION_COUNTRIES.getMessage());
-        return Collections.emptyList();
+        final List<NagerCountryResponse> countries = fetchCountries(url);
+        log.info(EXTERNAL_API_COUNTRIES_SUCCESS.getMessage(), countries.size());
+        return countries;
     }
 
     private String buildCountriesUrl() {
@@ -65,59 +63,155 @@ public class NagerDateClient {
     }
 
     private List<NagerCountryResponse> fetchCountries(final String url) {
-        final ResponseEntity<List<NagerCountryResponse>> response =
-                restTemplate.exchange(url, HttpMethod.GET, null,
-                        new ParameterizedTypeReference<List<NagerCountryResponse>>() {});
-        return extractResponseBody(response);
+        final NagerResponseCache.Key key = NagerResponseCache.Key.countries();
+        final Optional<List<NagerCountryResponse>> cached =
+                readCached(key, responseDecoder::decodeCountries);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        final List<NagerCountryResponse> countries =
+                circuitBreaker.call(() -> rateLimiter.call(() -> restTemplate.execute(url,
+                        HttpMethod.GET, null, response -> decodeCountries(key, response))));
+        return countries != null ? countries : Collections.emptyList();
+    }
+
+    private List<NagerCountryResponse> decodeCountries(final NagerResponseCache.Key key,
+            final ClientHttpResponse response) throws IOException {
+        try (NagerResponseCache.WriteThroughStream body =
+                responseCache.writeThrough(key, response.getBody())) {
+            final List<NagerCountryResponse> countries = responseDecoder.decodeCountries(body);
+            body.markDecoded();
+            return countries;
+        }
     }
 
-    @Retryable(retryFor = {RestClientException.class}, maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2))
-    public List<NagerHolidayResponse> getPublicHolidays(final Integer year,
-            final String countryCode) {
+    public HolidayFetchResult getPublicHolidaysIfChanged(final Integer year,
+            final String countryCode, final ResponseValidators previous) {
+        return requestHolidays(year, countryCode, previous, true);
+    }
+
+    public HolidayFetchResult getLatestPublicHolidaysIfChanged(final Integer year,
+            final String countryCode, final ResponseValidators previous) {
+        return requestHolidays(year, countryCode, previous, false);
+    }
+
+    private HolidayFetchResult requestHolidays(final Integer year, final String countryCode,
+            final ResponseValidators previous, final boolean readFromCache) {
         final String url = buildHolidaysUrl(year, countryCode);
         log.debug(EXTERNAL_API_HOLIDAYS_REQUEST.getMessage(), url);
 
         try {
-            final List<NagerHolidayResponse> holidays = fetchHolidays(url);
-            log.info(EXTERNAL_API_HOLIDAYS_SUCCESS.getMessage(), holidays.size(), countryCode,
-                    year);
-            return holidays;
+            final HolidayFetchResult result = fetchHolidaysIfChanged(url,
+                    NagerResponseCache.Key.holidays(year, countryCode), previous, readFromCache);
+            if (result.modified()) {
+                log.info(EXTERNAL_API_HOLIDAYS_SUCCESS.getMessage(), result.holidays().size(),
+                        countryCode, year);
+            } else {
+                log.debug(EXTERNAL_API_HOLIDAYS_NOT_MODIFIED.getMessage(), countryCode, year);
+            }
+            return result;
         } catch (final RestClientException e) {
-            final String operation = buildHolidaysOperation(countryCode, year);
-            log.warn(EXTERNAL_API_RETRY.getMessage(), operation,
-                    EXTERNAL_API_RETRY_STATUS.getMessage());
+            log.warn(EXTERNAL_API_HOLIDAYS_FAILED.getMessage(), countryCode, year);
             throw e;
         }
     }
 
-    @Recover
-    public List<NagerHolidayResponse> recoverHolidays(final RestClientException e,
-            final Integer year, final String countryCode) {
-        final String operation = buildHolidaysOperation(countryCode, year);
-        log.error(EXTERNAL_API_RETRY_SKIPPED.getMessage(), operation);
-        return Collections.emptyList();
+    private String buildHolidaysUrl(final Integer year, final String countryCode) {
+        return "%s/PublicHolidays/%d/%s".formatted(baseUrl, year, countryCode);
     }
 
-    private String buildHolidaysOperation(final String countryCode, final Integer year) {
-        return "%s (%s/%d)".formatted(EXTERNAL_API_OPERATION_HOLIDAYS.getMessage(), countryCode,
-                year);
+    private HolidayFetchResult fetchHolidaysIfChanged(final String url,
+            final NagerResponseCache.Key key, final ResponseValidators previous,
+            final boolean readFromCache) {
+        if (readFromCache) {
+            final Optional<HolidayFetchResult> cached =
+                    readCached(key, body -> decodeCachedHolidays(body, previous));
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
+        return circuitBreaker.call(() -> hedgedRequestExecutor
+                .call(() -> rateLimiter.call(() -> restTemplate.execute(url, HttpMethod.GET,
+                        request -> request.getHeaders().addAll(buildConditionalHeaders(previous)),
+                        response -> extractHolidays(response, key, previous)))));
     }
 
-    private String buildHolidaysUrl(final Integer year, final String countryCode) {
-        return "%s/PublicHolidays/%d/%s".formatted(baseUrl, year, countryCode);
+    private <T> Optional<T> readCached(final NagerResponseCache.Key key,
+            final CachedBodyDecoder<T> decoder) {
+        final Optional<InputStream> cached = responseCache.open(key);
+        if (cached.isEmpty()) {
+            return Optional.empty();
+        }
+        try (InputStream body = cached.get()) {
+            return Optional.of(decoder.decode(body));
+        } catch (final IOException | RuntimeException e) {
+            log.warn(NAGER_CACHE_READ_FAILED.getMessage(), key.fileName(), e.getMessage());
+            responseCache.evict(key);
+            return Optional.empty();
+        }
     }
 
-    private List<NagerHolidayResponse> fetchHolidays(final String url) {
-        final ResponseEntity<List<NagerHolidayResponse>> response =
-                restTemplate.exchange(url, HttpMethod.GET, null,
-                        new ParameterizedTypeReference<List<NagerHolidayResponse>>() {});
-        return extractResponseBody(response);
+    private HolidayFetchResult decodeCachedHolidays(final InputStream body,
+            final ResponseValidators previous) throws IOException {
+        final HolidayFetchResult result = decodeHolidays(body, null, null, previous);
+        return result.modified() ? result : HolidayFetchResult.notModified(previous);
     }
 
-    private <T> List<T> extractResponseBody(final ResponseEntity<List<T>> response) {
-        final List<T> body = response.getBody();
-        return body != null ? body : Collections.emptyList();
+    private HttpHeaders buildConditionalHeaders(final ResponseValidators previous) {
+        final HttpHeaders headers = new HttpHeaders();
+        if (previous.etag() != null) {
+            headers.setIfNoneMatch(previous.etag());
+        }
+        if (previous.lastModified() != null) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, previous.lastModified());
+        }
+        return headers;
+    }
+
+    private HolidayFetchResult extractHolidays(final ClientHttpResponse response,
+            final NagerResponseCache.Key key, final ResponseValidators previous)
+            throws IOException {
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            return HolidayFetchResult.notModified(previous);
+        }
+
+        final HttpHeaders headers = response.getHeaders();
+        try (NagerResponseCache.WriteThroughStream body =
+                responseCache.writeThrough(key, response.getBody())) {
+            final HolidayFetchResult result = decodeHolidays(body, headers.getETag(),
+                    headers.getFirst(HttpHeaders.LAST_MODIFIED), previous);
+            body.markDecoded();
+            return result;
+        }
     }
 
+    private HolidayFetchResult decodeHolidays(final InputStream source, final String etag,
+            final String lastModified, final ResponseValidators previous) throws IOException {
+        final MessageDigest digest = createDigest();
+        final InputStream body = new DigestInputStream(source, digest);
+        final List<NagerHolidayResponse> holidays = responseDecoder.decodeHolidays(body);
+        body.transferTo(OutputStream.nullOutputStream());
+
+        final ResponseValidators validators = new ResponseValidators(etag, lastModified,
+                HexFormat.of().formatHex(digest.digest()));
+
+        if (validators.contentHash().equals(previous.contentHash())) {
+            return HolidayFetchResult.notModified(validators);
+        }
+        return HolidayFetchResult.modified(holidays, validators);
+    }
+
+    private MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(CONTENT_HASH_ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private interface CachedBodyDecoder<T> {
+        T decode(InputStream body) throws IOException;
+    }
 }
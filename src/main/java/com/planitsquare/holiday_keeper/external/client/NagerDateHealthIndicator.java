@@ -0,0 +1,27 @@
+package com.planitsquare.holiday_keeper.external.client;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class NagerDateHealthIndicator implements HealthIndicator {
+
+    private static final String STATE_DETAIL = "circuitState";
+    private static final String FAILURES_DETAIL = "consecutiveFailures";
+    private static final String RETRY_AT_DETAIL = "retryAt";
+
+    private final CircuitBreaker nagerCircuitBreaker;
+
+    @Override
+    public Health health() {
+        final Health.Builder builder = Health.up()
+                .withDetail(STATE_DETAIL, nagerCircuitBreaker.getState())
+                .withDetail(FAILURES_DETAIL, nagerCircuitBreaker.getConsecutiveFailures());
+        nagerCircuitBreaker.getRetryAt()
+                .ifPresent(retryAt -> builder.withDetail(RETRY_AT_DETAIL, retryAt));
+        return builder.build();
+    }
+}
@@ -0,0 +1,401 @@
+package com.planitsquare.holiday_keeper.external.client;
+
+import static com.planitsquare.holiday_keeper.constants.LogMessage.NAGER_CACHE_EVICTED;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.NAGER_CACHE_HIT;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.NAGER_CACHE_READ_FAILED;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.NAGER_CACHE_WRITE_FAILED;
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Year;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class NagerResponseCache implements MeterBinder {
+
+    static final String HITS_METRIC_NAME = "nager.cache.hits";
+    static final String MISSES_METRIC_NAME = "nager.cache.misses";
+    static final String SIZE_METRIC_NAME = "nager.cache.size";
+
+    private static final String ENTRY_SUFFIX = ".json";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final Pattern KEY_SEGMENT = Pattern.compile("[A-Za-z0-9]+");
+
+    private final Settings settings;
+    private final Clock clock;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final AtomicLong sizeBytes = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public NagerResponseCache(final Settings settings, final Clock clock) {
+        this.settings = settings;
+        this.clock = clock;
+        if (settings.enabled()) {
+            initializeDirectory();
+        }
+    }
+
+    public Optional<InputStream> open(final Key key) {
+        if (!settings.enabled() || !key.isCacheable()) {
+            return Optional.empty();
+        }
+
+        final Path path = resolve(key);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size == 0 || isExpired(key, Files.getLastModifiedTime(path))) {
+                misses.incrementAndGet();
+                return Optional.empty();
+            }
+            final ByteBuffer body = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            hits.incrementAndGet();
+            log.debug(NAGER_CACHE_HIT.getMessage(), key.fileName());
+            return Optional.of(new ByteBufferInputStream(body));
+        } catch (final NoSuchFileException e) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        } catch (final IOException e) {
+            log.warn(NAGER_CACHE_READ_FAILED.getMessage(), key.fileName(), e.getMessage());
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+    }
+
+    public WriteThroughStream writeThrough(final Key key, final InputStream body) {
+        if (!settings.enabled() || !key.isCacheable()) {
+            return new WriteThroughStream(body);
+        }
+
+        try {
+            final Path temp = Files.createTempFile(settings.directory(), key.fileName(),
+                    TEMP_SUFFIX);
+            return new CachingInputStream(body, key, temp);
+        } catch (final IOException e) {
+            log.warn(NAGER_CACHE_WRITE_FAILED.getMessage(), key.fileName(), e.getMessage());
+            return new WriteThroughStream(body);
+        }
+    }
+
+    public void evict(final Key key) {
+        if (!settings.enabled() || !key.isCacheable()) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            final Path target = resolve(key);
+            final long size = Files.exists(target) ? Files.size(target) : 0;
+            if (Files.deleteIfExists(target)) {
+                sizeBytes.addAndGet(-size);
+            }
+        } catch (final IOException e) {
+            log.warn(NAGER_CACHE_WRITE_FAILED.getMessage(), key.fileName(), e.getMessage());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes.get();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder(HITS_METRIC_NAME, hits, AtomicLong::get).register(registry);
+        FunctionCounter.builder(MISSES_METRIC_NAME, misses, AtomicLong::get).register(registry);
+        Gauge.builder(SIZE_METRIC_NAME, sizeBytes, AtomicLong::get).baseUnit("bytes")
+                .register(registry);
+    }
+
+    private void initializeDirectory() {
+        try {
+            Files.createDirectories(settings.directory());
+            try (Stream<Path> files = Files.list(settings.directory())) {
+                for (final Path file : files.toList()) {
+                    if (file.getFileName().toString().endsWith(TEMP_SUFFIX)) {
+                        Files.deleteIfExists(file);
+                    } else if (isEntry(file)) {
+                        sizeBytes.addAndGet(Files.size(file));
+                    }
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isExpired(final Key key, final FileTime writtenAt) {
+        final Duration ttl = key.year() != null && key.year() < Year.now(clock).getValue()
+                ? settings.pastYearTtl()
+                : settings.recentYearTtl();
+        return writtenAt.toInstant().plus(ttl).isBefore(clock.instant());
+    }
+
+    private void commit(final Key key, final Path temp) throws IOException {
+        final Path target = resolve(key);
+        writeLock.lock();
+        try {
+            final long previousSize = Files.exists(target) ? Files.size(target) : 0;
+            final long size = Files.size(temp);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            if (sizeBytes.addAndGet(size - previousSize) > settings.maxSizeBytes()) {
+                evictOldest(target);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void evictOldest(final Path justWritten) throws IOException {
+        final List<Path> entries;
+        try (Stream<Path> files = Files.list(settings.directory())) {
+            entries = files.filter(this::isEntry).filter(file -> !file.equals(justWritten))
+                    .sorted(Comparator.comparing(this::lastModified)).toList();
+        }
+
+        int evicted = 0;
+        long freed = 0;
+        for (final Path entry : entries) {
+            if (sizeBytes.get() <= settings.maxSizeBytes()) {
+                break;
+            }
+            final long size = Files.size(entry);
+            if (Files.deleteIfExists(entry)) {
+                sizeBytes.addAndGet(-size);
+                freed += size;
+                evicted++;
+            }
+        }
+        log.info(NAGER_CACHE_EVICTED.getMessage(), evicted, freed);
+    }
+
+    private FileTime lastModified(final Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (final IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private boolean isEntry(final Path file) {
+        return Files.isRegularFile(file) && file.getFileName().toString().endsWith(ENTRY_SUFFIX);
+    }
+
+    private Path resolve(final Key key) {
+        return settings.directory().resolve(key.fileName() + ENTRY_SUFFIX);
+    }
+
+    public record Key(String endpoint, Integer year, String countryCode) {
+
+        public static Key countries() {
+            return new Key("AvailableCountries", null, null);
+        }
+
+        public static Key holidays(final Integer year, final String countryCode) {
+            return new Key("PublicHolidays", year, countryCode);
+        }
+
+        boolean isCacheable() {
+            return KEY_SEGMENT.matcher(endpoint).matches()
+                    && (countryCode == null || KEY_SEGMENT.matcher(countryCode).matches());
+        }
+
+        String fileName() {
+            final StringBuilder name = new StringBuilder(endpoint);
+            if (year != null) {
+                name.append('-').append(year);
+            }
+            if (countryCode != null) {
+                name.append('-').append(countryCode);
+            }
+            return name.toString();
+        }
+    }
+
+    public record Settings(boolean enabled, Path directory, Long maxSizeBytes,
+            Duration pastYearTtl, Duration recentYearTtl) {
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] target, final int offset, final int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int count = Math.min(length, buffer.remaining());
+            buffer.get(target, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+    public static class WriteThroughStream extends FilterInputStream {
+
+        private WriteThroughStream(final InputStream body) {
+            super(body);
+        }
+
+        public void markDecoded() {
+        }
+    }
+
+    private final class CachingInputStream extends WriteThroughStream {
+
+        private final Key key;
+        private final Path temp;
+        private final OutputStream copy;
+        private boolean decoded;
+        private boolean complete;
+        private boolean failed;
+        private boolean closed;
+
+        private CachingInputStream(final InputStream body, final Key key, final Path temp)
+                throws IOException {
+            super(body);
+            this.key = key;
+            this.temp = temp;
+            this.copy = new BufferedOutputStream(Files.newOutputStream(temp));
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (closed) {
+                return -1;
+            }
+            final int value = super.read();
+            if (value < 0) {
+                complete = true;
+            } else {
+                copy(new byte[] {(byte) value}, 0, 1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(final byte[] target, final int offset, final int length)
+                throws IOException {
+            if (closed) {
+                return -1;
+            }
+            final int count = super.read(target, offset, length);
+            if (count < 0) {
+                complete = true;
+            } else {
+                copy(target, offset, count);
+            }
+            return count;
+        }
+
+        @Override
+        public void markDecoded() {
+            decoded = true;
+        }
+
+        @Override
+        public long skip(final long count) throws IOException {
+            failed = true;
+            return super.skip(count);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            try {
+                drain();
+                super.close();
+            } finally {
+                closed = true;
+                finish();
+            }
+        }
+
+        private void drain() {
+            if (!decoded || complete || failed) {
+                return;
+            }
+            try {
+                transferTo(OutputStream.nullOutputStream());
+            } catch (final IOException e) {
+                failed = true;
+            }
+        }
+
+        private void copy(final byte[] source, final int offset, final int length) {
+            if (failed) {
+                return;
+            }
+            try {
+                copy.write(source, offset, length);
+            } catch (final IOException e) {
+                failed = true;
+                log.warn(NAGER_CACHE_WRITE_FAILED.getMessage(), key.fileName(), e.getMessage());
+            }
+        }
+
+        private void finish() {
+            try {
+                copy.close();
+                if (decoded && complete && !failed) {
+                    commit(key, temp);
+                }
+            } catch (final IOException e) {
+                log.warn(NAGER_CACHE_WRITE_FAILED.getMessage(), key.fileName(), e.getMessage());
+            } finally {
+                deleteTemp();
+            }
+        }
+
+        private void deleteTemp() {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (final IOException e) {
+                log.warn(NAGER_CACHE_WRITE_FAILED.getMessage(), key.fileName(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.planitsquare.holiday_keeper.external.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planitsquare.holiday_keeper.constants.ErrorMessage;
+import com.planitsquare.holiday_keeper.external.dto.NagerCountryResponse;
+import com.planitsquare.holiday_keeper.external.dto.NagerHolidayResponse;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class NagerResponseDecoder {
+
+    private final ObjectMapper objectMapper;
+
+    public List<NagerHolidayResponse> decodeHolidays(final InputStream body) throws IOException {
+        try (JsonParser parser = createParser(body)) {
+            return readArray(parser, this::readHoliday);
+        }
+    }
+
+    public List<NagerCountryResponse> decodeCountries(final InputStream body) throws IOException {
+        try (JsonParser parser = createParser(body)) {
+            return readArray(parser, this::readCountry);
+        }
+    }
+
+    private JsonParser createParser(final InputStream body) throws IOException {
+        return objectMapper.getFactory().createParser(body)
+                .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    }
+
+    private <T> List<T> readArray(final JsonParser parser, final ElementReader<T> reader)
+            throws IOException {
+        final JsonToken first = parser.nextToken();
+        if (first == null) {
+            return Collections.emptyList();
+        }
+        if (first != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser,
+                    ErrorMessage.EXTERNAL_API_UNEXPECTED_RESPONSE.getMessage().formatted(first));
+        }
+
+        final List<T> elements = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser,
+                        ErrorMessage.EXTERNAL_API_UNEXPECTED_ELEMENT.getMessage().formatted(token));
+            }
+            elements.add(reader.read(parser));
+        }
+        return elements;
+    }
+
+    private NagerHolidayResponse readHoliday(final JsonParser parser) throws IOException {
+        LocalDate date = null;
+        String localName = null;
+        String name = null;
+        Boolean fixed = null;
+        Boolean global = null;
+        Integer launchYear = null;
+        List<String> types = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.currentName();
+            final JsonToken value = parser.nextToken();
+
+            switch (field) {
+                case "date" -> date = readDate(parser, value);
+                case "localName" -> localName = readText(parser, value);
+                case "name" -> name = readText(parser, value);
+                case "fixed" -> fixed = readBoolean(value);
+                case "global" -> global = readBoolean(value);
+                case "launchYear" -> launchYear = value.isNumeric() ? parser.getIntValue() : null;
+                case "types" -> types = readTexts(parser, value);
+                default -> parser.skipChildren();
+            }
+        }
+        return new NagerHolidayResponse(date, localName, name, null, fixed, global, null,
+                launchYear, types);
+    }
+
+    private NagerCountryResponse readCountry(final JsonParser parser) throws IOException {
+        String countryCode = null;
+        String name = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.currentName();
+            final JsonToken value = parser.nextToken();
+
+            switch (field) {
+                case "countryCode" -> countryCode = readText(parser, value);
+                case "name" -> name = readText(parser, value);
+                default -> parser.skipChildren();
+            }
+        }
+        return new NagerCountryResponse(countryCode, name);
+    }
+
+    private String readText(final JsonParser parser, final JsonToken value) throws IOException {
+        return value == JsonToken.VALUE_NULL ? null : parser.getText();
+    }
+
+    private LocalDate readDate(final JsonParser parser, final JsonToken value)
+            throws IOException {
+        final String text = readText(parser, value);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(text);
+        } catch (final DateTimeParseException e) {
+            throw new JsonParseException(parser,
+                    ErrorMessage.EXTERNAL_API_INVALID_DATE.getMessage().formatted(text), e);
+        }
+    }
+
+    private Boolean readBoolean(final JsonToken value) {
+        return value == JsonToken.VALUE_NULL ? null : value == JsonToken.VALUE_TRUE;
+    }
+
+    private List<String> readTexts(final JsonParser parser, final JsonToken value)
+            throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            return null;
+        }
+        final List<String> texts = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            texts.add(parser.getText());
+        }
+        return texts;
+    }
+
+    @FunctionalInterface
+    private interface ElementReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+}
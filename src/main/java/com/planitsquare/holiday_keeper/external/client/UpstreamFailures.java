@@ -0,0 +1,19 @@
+package com.planitsquare.holiday_keeper.external.client;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+final class UpstreamFailures {
+
+    private UpstreamFailures() {
+    }
+
+    static boolean isUpstreamFailure(final RuntimeException e) {
+        if (e instanceof HttpStatusCodeException statusException) {
+            return statusException.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)
+                    || statusException.getStatusCode().is5xxServerError();
+        }
+        return e instanceof ResourceAccessException;
+    }
+}
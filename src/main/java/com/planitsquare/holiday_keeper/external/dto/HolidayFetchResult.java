@@ -0,0 +1,17 @@
+package com.planitsquare.holiday_keeper.external.dto;
+
+import java.util.Collections;
+import java.util.List;
+
+public record HolidayFetchResult(List<NagerHolidayResponse> holidays,
+        ResponseValidators validators, Boolean modified) {
+
+    public static HolidayFetchResult modified(final List<NagerHolidayResponse> holidays,
+            final ResponseValidators validators) {
+        return new HolidayFetchResult(holidays, validators, true);
+    }
+
+    public static HolidayFetchResult notModified(final ResponseValidators validators) {
+        return new HolidayFetchResult(Collections.emptyList(), validators, false);
+    }
+}
@@ -0,0 +1,10 @@
+package com.planitsquare.holiday_keeper.external.dto;
+
+public record ResponseValidators(String etag, String lastModified, String contentHash) {
+
+    private static final ResponseValidators NONE = new ResponseValidators(null, null, null);
+
+    public static ResponseValidators none() {
+        return NONE;
+    }
+}
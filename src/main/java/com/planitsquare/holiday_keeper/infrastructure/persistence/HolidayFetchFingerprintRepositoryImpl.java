@@ -0,0 +1,36 @@
+package com.planitsquare.holiday_keeper.infrastructure.persistence;
+
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+import com.planitsquare.holiday_keeper.domain.entity.HolidayFetchFingerprint;
+import com.planitsquare.holiday_keeper.domain.repository.HolidayFetchFingerprintRepository;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class HolidayFetchFingerprintRepositoryImpl implements HolidayFetchFingerprintRepository {
+
+    private final JpaHolidayFetchFingerprintRepository jpaRepository;
+
+    @Override
+    public HolidayFetchFingerprint save(final HolidayFetchFingerprint fingerprint) {
+        return jpaRepository.save(fingerprint);
+    }
+
+    @Override
+    public List<HolidayFetchFingerprint> findAll() {
+        return jpaRepository.findAll();
+    }
+
+    @Override
+    public Optional<HolidayFetchFingerprint> findByCountryCodeAndYear(final String countryCode,
+            final Integer year) {
+        return jpaRepository.findByCountryCodeAndYear(countryCode, year);
+    }
+
+    @Override
+    public void deleteByCountryCodeAndYear(final String countryCode, final Integer year) {
+        jpaRepository.deleteByCountryCodeAndYear(countryCode, year);
+    }
+}
@@ -0,0 +1,30 @@
+package com.planitsquare.holiday_keeper.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+import com.planitsquare.holiday_keeper.domain.entity.HolidayLoadCheckpoint;
+import com.planitsquare.holiday_keeper.domain.repository.HolidayLoadCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class HolidayLoadCheckpointRepositoryImpl implements HolidayLoadCheckpointRepository {
+
+    private final JpaHolidayLoadCheckpointRepository jpaRepository;
+
+    @Override
+    public HolidayLoadCheckpoint save(final HolidayLoadCheckpoint checkpoint) {
+        return jpaRepository.save(checkpoint);
+    }
+
+    @Override
+    public List<HolidayLoadCheckpoint> findByJobId(final Long jobId) {
+        return jpaRepository.findByJobId(jobId);
+    }
+
+    @Override
+    public long countCompletedSince(final Long jobId, final LocalDateTime since) {
+        return jpaRepository.countByJobIdAndCompletedAtGreaterThanEqual(jobId, since);
+    }
+}
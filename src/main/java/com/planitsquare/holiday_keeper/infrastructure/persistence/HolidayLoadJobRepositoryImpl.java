@@ -0,0 +1,44 @@
+package com.planitsquare.holiday_keeper.infrastructure.persistence;
+
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+import com.planitsquare.holiday_keeper.constants.HolidayLoadMode;
+import com.planitsquare.holiday_keeper.domain.entity.HolidayLoadJob;
+import com.planitsquare.holiday_keeper.domain.repository.HolidayLoadJobRepository;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class HolidayLoadJobRepositoryImpl implements HolidayLoadJobRepository {
+
+    private final JpaHolidayLoadJobRepository jpaRepository;
+
+    @Override
+    public HolidayLoadJob save(final HolidayLoadJob job) {
+        return jpaRepository.save(job);
+    }
+
+    @Override
+    public Optional<HolidayLoadJob> findById(final Long id) {
+        return jpaRepository.findById(id);
+    }
+
+    @Override
+    public Optional<HolidayLoadJob> findLatest() {
+        return jpaRepository.findFirstByOrderByIdDesc();
+    }
+
+    @Override
+    public Optional<HolidayLoadJob> findLatestInProgress(final Integer startYear,
+            final Integer endYear) {
+        return jpaRepository.findFirstByStartYearAndEndYearAndStatusOrderByIdDesc(startYear,
+                endYear, HolidayLoadJob.Status.IN_PROGRESS);
+    }
+
+    @Override
+    public Optional<HolidayLoadJob> findLatestInProgress(final HolidayLoadMode mode,
+            final Integer startYear, final Integer endYear) {
+        return jpaRepository.findFirstByModeAndStartYearAndEndYearAndStatusOrderByIdDesc(mode,
+                startYear, endYear, HolidayLoadJob.Status.IN_PROGRESS);
+    }
+}
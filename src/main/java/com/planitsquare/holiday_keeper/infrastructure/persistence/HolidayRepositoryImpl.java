@@ -1,40 +1,100 @@
 package com.planitsquare.holiday_keeper.infrastructure.persistence;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import com.planitsquare.holiday_keeper.api.dto.request.HolidaySearchRequest;
+import com.planitsquare.holiday_keeper.api.dto.response.HolidayResponse;
+import com.planitsquare.holiday_keeper.constants.HolidayTypeMatch;
 import com.planitsquare.holiday_keeper.domain.entity.PublicHoliday;
+import com.planitsquare.holiday_keeper.domain.entity.QCountry;
 import com.planitsquare.holiday_keeper.domain.entity.QPublicHoliday;
 import com.planitsquare.holiday_keeper.domain.repository.HolidayRepository;
+import com.planitsquare.holiday_keeper.service.dto.CountryYear;
+import com.planitsquare.holiday_keeper.service.dto.HolidaySearchCursor;
+import com.planitsquare.holiday_keeper.service.dto.StoredHoliday;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 @Repository
 @RequiredArgsConstructor
 public class HolidayRepositoryImpl implements HolidayRepository {
 
+    private static final String UPSERT_HOLIDAY_SQL = """
+            MERGE INTO public_holidays t
+            USING (SELECT CAST(? AS BIGINT) AS country_id, CAST(? AS INTEGER) AS holiday_year,
+                    CAST(? AS DATE) AS date, CAST(? AS VARCHAR) AS name,
+                    CAST(? AS VARCHAR) AS local_name, CAST(? AS VARCHAR) AS country_code,
+                    CAST(? AS INTEGER) AS type_mask, CAST(? AS BOOLEAN) AS fixed,
+                    CAST(? AS BOOLEAN) AS global, CAST(? AS VARCHAR) AS launch_year) s
+            ON t.country_code = s.country_code AND t.date = s.date AND t.name = s.name
+            WHEN MATCHED THEN UPDATE SET holiday_year = s.holiday_year, local_name = s.local_name,
+                    type_mask = s.type_mask, fixed = s.fixed, global = s.global,
+                    launch_year = s.launch_year
+            WHEN NOT MATCHED THEN INSERT (id, country_id, holiday_year, date, name, local_name,
+                    country_code, type_mask, fixed, global, launch_year)
+                VALUES (NEXT VALUE FOR public_holidays_seq, s.country_id, s.holiday_year,
+                    s.date, s.name, s.local_name, s.country_code, s.type_mask, s.fixed, s.global,
+                    s.launch_year)
+            """;
+
     private final JpaHolidayRepository jpaRepository;
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final HolidaySearchIndex searchIndex;
+    private final HolidaySearchCountCache countCache;
+    private final HolidaySearchGenerations searchGenerations;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private Integer batchSize;
 
     @Override
     public PublicHoliday save(final PublicHoliday holiday) {
-        return jpaRepository.save(holiday);
+        final PublicHoliday saved = jpaRepository.save(holiday);
+        recordChanges(List.of(holiday));
+        return saved;
     }
 
     @Override
     public List<PublicHoliday> saveAll(final List<PublicHoliday> holidays) {
-        return jpaRepository.saveAll(holidays);
+        final List<PublicHoliday> saved = jpaRepository.saveAll(holidays);
+        recordChanges(holidays);
+        return saved;
     }
 
     @Override
     public void deleteAll(final List<PublicHoliday> holidays) {
         jpaRepository.deleteAll(holidays);
+        recordChanges(holidays);
+    }
+
+    @Override
+    public void upsertAll(final List<PublicHoliday> holidays) {
+        if (holidays.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_HOLIDAY_SQL, holidays, batchSize,
+                this::bindUpsertParameters);
+        recordChanges(holidays);
     }
 
     @Override
@@ -43,27 +103,131 @@ public class HolidayRepositoryImpl implements HolidayRepository {
     }
 
     @Override
-    public List<PublicHoliday> findByCountryCodeAndYear(final String countryCode,
-            final Integer year) {
-        return jpaRepository.findByCountryCodeAndYear(countryCode, year);
+    public List<StoredHoliday> findStoredHolidays(final String countryCode, final Integer year) {
+        return jpaRepository.findStoredHolidays(countryCode, year);
+    }
+
+    @Override
+    public List<CountryYear> findLoadedPairs() {
+        return jpaRepository.findLoadedPairs();
     }
 
     @Override
     public void deleteByCountryCodeAndYear(final String countryCode, final Integer year) {
         jpaRepository.deleteByCountryCodeAndYear(countryCode, year);
+        recordChanges(countryCode, year);
+    }
+
+    @Override
+    public void deleteByCountryCodeAndYearAndIdIn(final String countryCode,
+            final Integer year, final Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jpaRepository.deleteByCountryCodeAndYearAndIdIn(countryCode, year, ids);
+        recordChanges(countryCode, year);
+    }
+
+    @Override
+    public void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Override
+    public Page<HolidayResponse> search(final HolidaySearchRequest request,
+            final Pageable pageable) {
+        return searchIndex.search(request, pageable)
+                .orElseGet(() -> searchDatabase(request, pageable));
+    }
+
+    @Override
+    public Slice<HolidayResponse> searchWithoutTotal(final HolidaySearchRequest request,
+            final Pageable pageable) {
+        return searchIndex.search(request, pageable).<Slice<HolidayResponse>>map(page -> page)
+                .orElseGet(() -> searchDatabaseWithoutTotal(request, pageable));
     }
 
     @Override
-    public Page<PublicHoliday> search(final HolidaySearchRequest request, final Pageable pageable) {
+    public Slice<HolidayResponse> searchAfter(final HolidaySearchRequest request,
+            final HolidaySearchCursor cursor, final Integer size) {
+        return searchIndex.searchAfter(request, cursor, size)
+                .orElseGet(() -> searchDatabaseAfter(request, cursor, size));
+    }
+
+    private Page<HolidayResponse> searchDatabase(final HolidaySearchRequest request,
+            final Pageable pageable) {
         final QPublicHoliday holiday = QPublicHoliday.publicHoliday;
         final BooleanBuilder builder = buildSearchConditions(request, holiday);
 
-        final Long total = countTotalHolidays(holiday, builder);
-        final List<PublicHoliday> content = fetchHolidaysWithPaging(holiday, builder, pageable);
+        final Long total = countCache.count(request, () -> countTotalHolidays(holiday, builder));
+        final List<HolidayResponse> content = selectResponses(holiday, builder)
+                .offset(pageable.getOffset()).limit(pageable.getPageSize()).fetch();
 
         return new PageImpl<>(content, pageable, total);
     }
 
+    private Slice<HolidayResponse> searchDatabaseWithoutTotal(final HolidaySearchRequest request,
+            final Pageable pageable) {
+        final QPublicHoliday holiday = QPublicHoliday.publicHoliday;
+        final BooleanBuilder builder = buildSearchConditions(request, holiday);
+
+        final List<HolidayResponse> rows = selectResponses(holiday, builder)
+                .offset(pageable.getOffset()).limit(pageable.getPageSize() + 1L).fetch();
+
+        return toSlice(rows, pageable);
+    }
+
+    private Slice<HolidayResponse> searchDatabaseAfter(final HolidaySearchRequest request,
+            final HolidaySearchCursor cursor, final Integer size) {
+        final QPublicHoliday holiday = QPublicHoliday.publicHoliday;
+        final BooleanBuilder builder = buildSearchConditions(request, holiday);
+        builder.and(holiday.date.gt(cursor.date())
+                .or(holiday.date.eq(cursor.date()).and(holiday.id.gt(cursor.id()))));
+
+        final List<HolidayResponse> rows =
+                selectResponses(holiday, builder).limit(size + 1L).fetch();
+
+        return toSlice(rows, PageRequest.ofSize(size));
+    }
+
+    private Slice<HolidayResponse> toSlice(final List<HolidayResponse> rows,
+            final Pageable pageable) {
+        final boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows,
+                pageable, hasNext);
+    }
+
+    private void recordChanges(final List<PublicHoliday> holidays) {
+        final Set<String> countryCodes = holidays.stream().map(PublicHoliday::getCountryCode)
+                .collect(Collectors.toSet());
+        searchGenerations.bump(countryCodes);
+        searchIndex.refreshAfterCommit(countryCodes);
+        countCache.invalidateAfterCommit(holidays.stream()
+                .map(holiday -> new CountryYear(holiday.getCountryCode(), holiday.getYear()))
+                .collect(Collectors.toSet()));
+    }
+
+    private void recordChanges(final String countryCode, final Integer year) {
+        searchGenerations.bump(List.of(countryCode));
+        searchIndex.refreshAfterCommit(List.of(countryCode));
+        countCache.invalidateAfterCommit(List.of(new CountryYear(countryCode, year)));
+    }
+
+    private void bindUpsertParameters(final PreparedStatement ps, final PublicHoliday holiday)
+            throws SQLException {
+        ps.setLong(1, holiday.getCountry().getId());
+        ps.setInt(2, holiday.getYear());
+        ps.setObject(3, holiday.getDate());
+        ps.setString(4, holiday.getName());
+        ps.setString(5, holiday.getLocalName());
+        ps.setString(6, holiday.getCountryCode());
+        ps.setInt(7, holiday.getTypeMask());
+        ps.setBoolean(8, holiday.getFixed());
+        ps.setBoolean(9, holiday.getGlobal());
+        ps.setString(10, holiday.getLaunchYear());
+    }
+
     private BooleanBuilder buildSearchConditions(final HolidaySearchRequest request,
             final QPublicHoliday holiday) {
         final BooleanBuilder builder = new BooleanBuilder();
@@ -71,7 +235,7 @@ public class HolidayRepositoryImpl implements HolidayRepository {
         addCountryCodeCondition(builder, holiday, request.countryCode());
         addYearCondition(builder, holiday, request.year());
         addDateRangeCondition(builder, holiday, request.from(), request.to());
-        addTypesCondition(builder, holiday, request.types());
+        addTypesCondition(builder, holiday, request.typeMask(), request.typeMatch());
 
         return builder;
     }
@@ -101,9 +265,9 @@ public class HolidayRepositoryImpl implements HolidayRepository {
     }
 
     private void addTypesCondition(final BooleanBuilder builder, final QPublicHoliday holiday,
-            final String types) {
-        if (types != null && !types.isEmpty()) {
-            builder.and(holiday.types.contains(types));
+            final int typeMask, final HolidayTypeMatch typeMatch) {
+        if (typeMask != 0) {
+            builder.and(holiday.typeMask.in(typeMatch.matchingMasks(typeMask)));
         }
     }
 
@@ -111,10 +275,15 @@ public class HolidayRepositoryImpl implements HolidayRepository {
         return queryFactory.select(Expressions.ONE.count()).from(holiday).where(builder).fetchOne();
     }
 
-    private List<PublicHoliday> fetchHolidaysWithPaging(final QPublicHoliday holiday,
-            final BooleanBuilder builder, final Pageable pageable) {
-        return queryFactory.selectFrom(holiday).innerJoin(holiday.country).fetchJoin()
-                .where(builder).orderBy(holiday.date.asc()).offset(pageable.getOffset())
-                .limit(pageable.getPageSize()).fetch();
+    private JPAQuery<HolidayResponse> selectResponses(final QPublicHoliday holiday,
+            final BooleanBuilder builder) {
+        final QCountry country = QCountry.country;
+        return queryFactory
+                .select(Projections.constructor(HolidayResponse.class, holiday.id,
+                        holiday.countryCode, country.name, holiday.year, holiday.date,
+                        holiday.name, holiday.localName, holiday.typeMask, holiday.fixed,
+                        holiday.global, holiday.launchYear))
+                .from(holiday).innerJoin(holiday.country, country).where(builder)
+                .orderBy(holiday.date.asc(), holiday.id.asc());
     }
 }
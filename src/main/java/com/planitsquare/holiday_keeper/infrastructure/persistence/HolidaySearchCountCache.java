@@ -0,0 +1,123 @@
+package com.planitsquare.holiday_keeper.infrastructure.persistence;
+
+import static com.planitsquare.holiday_keeper.constants.LogMessage.SEARCH_COUNT_CACHE_INVALIDATED;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.planitsquare.holiday_keeper.api.dto.request.HolidaySearchRequest;
+import com.planitsquare.holiday_keeper.constants.HolidayTypeMatch;
+import com.planitsquare.holiday_keeper.service.dto.CountryYear;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class HolidaySearchCountCache {
+
+    private final HolidaySearchGenerations generations;
+
+    private final Map<CountKey, CachedCount> counts = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private long generation;
+
+    @Value("${holiday.search.count-cache.max-entries}")
+    private Integer maxEntries;
+
+    Long count(final HolidaySearchRequest request, final Supplier<Long> counter) {
+        if (maxEntries <= 0) {
+            return counter.get();
+        }
+        final CountKey key = CountKey.of(request);
+        final long dataGeneration = key.dataGeneration(generations.latest());
+        final CachedCount cached = counts.get(key);
+        if (cached != null && cached.dataGeneration() == dataGeneration) {
+            return cached.total();
+        }
+
+        final long observedGeneration = currentGeneration();
+        final Long total = counter.get();
+        synchronized (writeLock) {
+            if (generation == observedGeneration) {
+                if (counts.size() >= maxEntries) {
+                    counts.clear();
+                }
+                counts.put(key, new CachedCount(total, dataGeneration));
+            }
+        }
+        return total;
+    }
+
+    void invalidateAfterCommit(final Collection<CountryYear> pairs) {
+        if (pairs.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(pairs);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(pairs);
+            }
+        });
+    }
+
+    private void invalidate(final Collection<CountryYear> pairs) {
+        synchronized (writeLock) {
+            generation++;
+            final int before = counts.size();
+            counts.keySet().removeIf(key -> pairs.stream().anyMatch(key::covers));
+            log.debug(SEARCH_COUNT_CACHE_INVALIDATED.getMessage(), before - counts.size(),
+                    pairs.size());
+        }
+    }
+
+    private long currentGeneration() {
+        synchronized (writeLock) {
+            return generation;
+        }
+    }
+
+    private record CountKey(String countryCode, Integer year, LocalDate from, LocalDate to,
+            int typeMask, HolidayTypeMatch typeMatch) {
+
+        private static CountKey of(final HolidaySearchRequest request) {
+            final int typeMask = request.typeMask();
+            return new CountKey(emptyToNull(request.countryCode()), request.year(),
+                    request.from(), request.to(), typeMask,
+                    typeMask == 0 ? null : request.typeMatch());
+        }
+
+        private static String emptyToNull(final String value) {
+            if (value == null || value.isEmpty()) {
+                return null;
+            }
+            return value;
+        }
+
+        private long dataGeneration(final Map<String, Long> latest) {
+            if (countryCode == null) {
+                return latest.values().stream().mapToLong(Long::longValue).sum();
+            }
+            return latest.getOrDefault(countryCode, 0L);
+        }
+
+        private boolean covers(final CountryYear pair) {
+            return (countryCode == null || countryCode.equals(pair.countryCode()))
+                    && (year == null || year.equals(pair.year()))
+                    && (from == null || from.getYear() <= pair.year())
+                    && (to == null || to.getYear() >= pair.year());
+        }
+    }
+
+    private record CachedCount(Long total, long dataGeneration) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.planitsquare.holiday_keeper.infrastructure.persistence;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import com.planitsquare.holiday_keeper.domain.entity.HolidaySearchGeneration;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+class HolidaySearchGenerations {
+
+    private static final String BUMP_GENERATION_SQL = """
+            MERGE INTO holiday_search_generations t
+            USING (SELECT CAST(? AS VARCHAR) AS country_code) s
+            ON t.country_code = s.country_code
+            WHEN MATCHED THEN UPDATE SET generation = t.generation + 1
+            WHEN NOT MATCHED THEN INSERT (country_code, generation) VALUES (s.country_code, 1)
+            """;
+
+    private final JpaHolidaySearchGenerationRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Observed observed;
+
+    @Value("${holiday.search.generation-check-interval-ms}")
+    private Long checkIntervalMs;
+
+    void bump(final Collection<String> countryCodes) {
+        final List<String> sorted = countryCodes.stream().distinct().sorted().toList();
+        if (sorted.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(BUMP_GENERATION_SQL, sorted, sorted.size(),
+                (ps, countryCode) -> ps.setString(1, countryCode));
+    }
+
+    Map<String, Long> latest() {
+        final Observed last = observed;
+        if (last != null && System.nanoTime() - last.readAtNanos()
+                < TimeUnit.MILLISECONDS.toNanos(checkIntervalMs)) {
+            return last.generations();
+        }
+        return reload();
+    }
+
+    Map<String, Long> reload() {
+        final long readAtNanos = System.nanoTime();
+        final Map<String, Long> generations = jpaRepository.findAllGenerations().stream()
+                .collect(Collectors.toUnmodifiableMap(HolidaySearchGeneration::getCountryCode,
+                        HolidaySearchGeneration::getGeneration));
+        observed = new Observed(generations, readAtNanos);
+        return generations;
+    }
+
+    private record Observed(Map<String, Long> generations, long readAtNanos) {
+    }
+}
@@ -0,0 +1,339 @@
+package com.planitsquare.holiday_keeper.infrastructure.persistence;
+
+import static com.planitsquare.holiday_keeper.constants.LogMessage.SEARCH_INDEX_LOADED;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.SEARCH_INDEX_REFRESHED;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.SEARCH_INDEX_REFRESH_FAILED;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.SEARCH_INDEX_STALE;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.planitsquare.holiday_keeper.api.dto.request.HolidaySearchRequest;
+import com.planitsquare.holiday_keeper.api.dto.response.HolidayResponse;
+import com.planitsquare.holiday_keeper.constants.HolidayType;
+import com.planitsquare.holiday_keeper.constants.HolidayTypeMatch;
+import com.planitsquare.holiday_keeper.service.dto.HolidaySearchCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class HolidaySearchIndex {
+
+    private static final Comparator<HolidayResponse> SEARCH_ORDER = Comparator
+            .comparing(HolidayResponse::date).thenComparing(HolidayResponse::id);
+
+    private final JpaHolidayRepository jpaRepository;
+    private final HolidaySearchGenerations generations;
+
+    private final Object writeLock = new Object();
+    private volatile Snapshot snapshot;
+    private volatile Map<String, Long> verifiedGenerations;
+
+    @Value("${holiday.search.index.enabled}")
+    private boolean enabled;
+
+    Optional<Page<HolidayResponse>> search(final HolidaySearchRequest request,
+            final Pageable pageable) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        final Rows rows = current().rowsFor(request.countryCode());
+        final int from = rows.lowerBound(lowerEpochDay(request));
+        final int to = rows.lowerBound(upperEpochDay(request) + 1);
+        final int typeMask = request.typeMask();
+        if (typeMask == 0) {
+            return Optional.of(rows.slice(from, to, pageable));
+        }
+        return Optional.of(rows.scan(from, to, typeMask, request.typeMatch(), pageable));
+    }
+
+    Optional<Slice<HolidayResponse>> searchAfter(final HolidaySearchRequest request,
+            final HolidaySearchCursor cursor, final Integer size) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        final Rows rows = current().rowsFor(request.countryCode());
+        final int from =
+                Math.max(rows.lowerBound(lowerEpochDay(request)), rows.upperBound(cursor));
+        final int to = rows.lowerBound(upperEpochDay(request) + 1);
+        return Optional.of(
+                rows.seek(from, to, request.typeMask(), request.typeMatch(), size));
+    }
+
+    void refreshAfterCommit(final Collection<String> countryCodes) {
+        if (!enabled || countryCodes.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(countryCodes);
+            return;
+        }
+        pendingRefresh().countryCodes.addAll(countryCodes);
+    }
+
+    private PendingRefresh pendingRefresh() {
+        return TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(PendingRefresh.class::isInstance).map(PendingRefresh.class::cast)
+                .findFirst().orElseGet(() -> {
+                    final PendingRefresh pending = new PendingRefresh();
+                    TransactionSynchronizationManager.registerSynchronization(pending);
+                    return pending;
+                });
+    }
+
+    private void refresh(final Collection<String> countryCodes) {
+        synchronized (writeLock) {
+            if (snapshot == null) {
+                return;
+            }
+            try {
+                final Map<String, Long> observed = generations.reload();
+                final List<HolidayResponse> reloaded =
+                        jpaRepository.findResponsesByCountryCodeIn(countryCodes);
+                snapshot = snapshot.replace(Set.copyOf(countryCodes), reloaded, observed);
+                log.debug(SEARCH_INDEX_REFRESHED.getMessage(), countryCodes, reloaded.size());
+            } catch (final RuntimeException e) {
+                log.warn(SEARCH_INDEX_REFRESH_FAILED.getMessage(), e.getMessage());
+                snapshot = null;
+            }
+        }
+    }
+
+    private Snapshot current() {
+        final Snapshot loaded = snapshot;
+        final Map<String, Long> latest = generations.latest();
+        if (loaded != null && (latest == verifiedGenerations
+                || loaded.staleCountries(latest).isEmpty())) {
+            verifiedGenerations = latest;
+            return loaded;
+        }
+        synchronized (writeLock) {
+            if (snapshot != null) {
+                final Set<String> stale = snapshot.staleCountries(latest);
+                if (!stale.isEmpty()) {
+                    log.debug(SEARCH_INDEX_STALE.getMessage(), stale);
+                    refresh(stale);
+                }
+            }
+            if (snapshot == null) {
+                final Map<String, Long> observed = generations.reload();
+                snapshot = Snapshot.of(jpaRepository.findAllResponses(), observed);
+                log.info(SEARCH_INDEX_LOADED.getMessage(), snapshot.byCountry().size(),
+                        snapshot.all().size());
+            }
+            return snapshot;
+        }
+    }
+
+    private int lowerEpochDay(final HolidaySearchRequest request) {
+        long lower = Long.MIN_VALUE;
+        if (request.year() != null) {
+            lower = LocalDate.of(request.year(), 1, 1).toEpochDay();
+        }
+        if (request.from() != null) {
+            lower = Math.max(lower, request.from().toEpochDay());
+        }
+        return (int) Math.max(lower, Integer.MIN_VALUE);
+    }
+
+    private int upperEpochDay(final HolidaySearchRequest request) {
+        long upper = Integer.MAX_VALUE - 1;
+        if (request.year() != null) {
+            upper = LocalDate.of(request.year(), 12, 31).toEpochDay();
+        }
+        if (request.to() != null) {
+            upper = Math.min(upper, request.to().toEpochDay());
+        }
+        return (int) upper;
+    }
+
+    private final class PendingRefresh implements TransactionSynchronization {
+
+        private final Set<String> countryCodes = new HashSet<>();
+
+        @Override
+        public void afterCommit() {
+            refresh(countryCodes);
+        }
+    }
+
+    private record Snapshot(Map<String, Rows> byCountry, Rows all,
+            Map<String, Long> generations) {
+
+        private static Snapshot of(final List<HolidayResponse> holidays,
+                final Map<String, Long> generations) {
+            final Map<String, Rows> byCountry = holidays.stream().collect(Collectors.groupingBy(
+                    HolidayResponse::countryCode,
+                    Collectors.collectingAndThen(Collectors.toList(), Rows::of)));
+            return new Snapshot(Map.copyOf(byCountry), Rows.of(holidays),
+                    Map.copyOf(generations));
+        }
+
+        private Snapshot replace(final Set<String> countryCodes,
+                final List<HolidayResponse> reloaded, final Map<String, Long> observed) {
+            final Map<String, Rows> byCountry = new HashMap<>(this.byCountry);
+            byCountry.keySet().removeAll(countryCodes);
+            byCountry.putAll(reloaded.stream().collect(Collectors.groupingBy(
+                    HolidayResponse::countryCode,
+                    Collectors.collectingAndThen(Collectors.toList(), Rows::of))));
+            final Map<String, Long> generations = new HashMap<>(this.generations);
+            countryCodes.stream().filter(observed::containsKey)
+                    .forEach(code -> generations.put(code, observed.get(code)));
+            return new Snapshot(Map.copyOf(byCountry), all.merge(countryCodes, Rows.of(reloaded)),
+                    Map.copyOf(generations));
+        }
+
+        private Set<String> staleCountries(final Map<String, Long> latest) {
+            return latest.entrySet().stream()
+                    .filter(entry -> entry.getValue()
+                            > generations.getOrDefault(entry.getKey(), 0L))
+                    .map(Map.Entry::getKey).collect(Collectors.toSet());
+        }
+
+        private Rows rowsFor(final String countryCode) {
+            if (countryCode == null || countryCode.isEmpty()) {
+                return all;
+            }
+            return byCountry.getOrDefault(countryCode, Rows.EMPTY);
+        }
+    }
+
+    private record Rows(int[] epochDays, int[] typeMasks, HolidayResponse[] holidays) {
+
+        private static final Rows EMPTY = new Rows(new int[0], new int[0], new HolidayResponse[0]);
+
+        private static Rows of(final List<HolidayResponse> holidays) {
+            final HolidayResponse[] sorted =
+                    holidays.stream().sorted(SEARCH_ORDER).toArray(HolidayResponse[]::new);
+            final int[] epochDays = new int[sorted.length];
+            final int[] typeMasks = new int[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                epochDays[i] = (int) sorted[i].date().toEpochDay();
+                typeMasks[i] = HolidayType.toBitmask(sorted[i].types());
+            }
+            return new Rows(epochDays, typeMasks, sorted);
+        }
+
+        private int size() {
+            return holidays.length;
+        }
+
+        private int lowerBound(final int epochDay) {
+            int low = 0;
+            int high = epochDays.length;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (epochDays[mid] < epochDay) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private int upperBound(final HolidaySearchCursor cursor) {
+            final long epochDay = cursor.date().toEpochDay();
+            int low = 0;
+            int high = epochDays.length;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (epochDays[mid] < epochDay || epochDays[mid] == epochDay
+                        && holidays[mid].id() <= cursor.id()) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private Page<HolidayResponse> slice(final int from, final int to, final Pageable pageable) {
+            final long start = Math.min(from + pageable.getOffset(), to);
+            final long end = Math.min(start + pageable.getPageSize(), to);
+            final List<HolidayResponse> content =
+                    Arrays.asList(holidays).subList((int) start, (int) end);
+            return new PageImpl<>(List.copyOf(content), pageable, Math.max(to - from, 0));
+        }
+
+        private Page<HolidayResponse> scan(final int from, final int to, final int typeMask,
+                final HolidayTypeMatch typeMatch, final Pageable pageable) {
+            final List<HolidayResponse> content = new ArrayList<>(pageable.getPageSize());
+            long matched = 0;
+            for (int i = from; i < to; i++) {
+                if (!typeMatch.matches(typeMasks[i], typeMask)) {
+                    continue;
+                }
+                if (matched >= pageable.getOffset() && content.size() < pageable.getPageSize()) {
+                    content.add(holidays[i]);
+                }
+                matched++;
+            }
+            return new PageImpl<>(content, pageable, matched);
+        }
+
+        private Slice<HolidayResponse> seek(final int from, final int to, final int typeMask,
+                final HolidayTypeMatch typeMatch, final int size) {
+            final List<HolidayResponse> content = new ArrayList<>(size);
+            for (int i = from; i < to; i++) {
+                if (typeMask != 0 && !typeMatch.matches(typeMasks[i], typeMask)) {
+                    continue;
+                }
+                if (content.size() == size) {
+                    return new SliceImpl<>(content, PageRequest.ofSize(size), true);
+                }
+                content.add(holidays[i]);
+            }
+            return new SliceImpl<>(content, PageRequest.ofSize(size), false);
+        }
+
+        private Rows merge(final Set<String> replacedCountryCodes, final Rows replacement) {
+            final Rows merged = new Rows(new int[size() + replacement.size()],
+                    new int[size() + replacement.size()],
+                    new HolidayResponse[size() + replacement.size()]);
+            int count = 0;
+            int next = 0;
+            for (int i = 0; i < size(); i++) {
+                if (replacedCountryCodes.contains(holidays[i].countryCode())) {
+                    continue;
+                }
+                while (next < replacement.size()
+                        && SEARCH_ORDER.compare(replacement.holidays[next], holidays[i]) < 0) {
+                    merged.copyFrom(count++, replacement, next++);
+                }
+                merged.copyFrom(count++, this, i);
+            }
+            while (next < replacement.size()) {
+                merged.copyFrom(count++, replacement, next++);
+            }
+            return new Rows(Arrays.copyOf(merged.epochDays, count),
+                    Arrays.copyOf(merged.typeMasks, count), Arrays.copyOf(merged.holidays, count));
+        }
+
+        private void copyFrom(final int index, final Rows source, final int sourceIndex) {
+            epochDays[index] = source.epochDays[sourceIndex];
+            typeMasks[index] = source.typeMasks[sourceIndex];
+            holidays[index] = source.holidays[sourceIndex];
+        }
+    }
+}
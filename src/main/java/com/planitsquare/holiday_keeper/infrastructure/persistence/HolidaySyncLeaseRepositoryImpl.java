@@ -0,0 +1,39 @@
+package com.planitsquare.holiday_keeper.infrastructure.persistence;
+
+import java.util.List;
+import org.springframework.stereotype.Repository;
+import com.planitsquare.holiday_keeper.domain.entity.HolidaySyncLease;
+import com.planitsquare.holiday_keeper.domain.repository.HolidaySyncLeaseRepository;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class HolidaySyncLeaseRepositoryImpl implements HolidaySyncLeaseRepository {
+
+    private final JpaHolidaySyncLeaseRepository jpaRepository;
+
+    @Override
+    public List<HolidaySyncLease> saveAllAndFlush(final List<HolidaySyncLease> leases) {
+        return jpaRepository.saveAllAndFlush(leases);
+    }
+
+    @Override
+    public List<HolidaySyncLease> findByRunKey(final String runKey) {
+        return jpaRepository.findByRunKeyOrderByShardIndex(runKey);
+    }
+
+    @Override
+    public boolean claim(final Long id, final String owner, final Long leaseDurationMs) {
+        return jpaRepository.claim(id, owner, leaseDurationMs) == 1;
+    }
+
+    @Override
+    public boolean renew(final Long id, final String owner, final Long leaseDurationMs) {
+        return jpaRepository.renew(id, owner, leaseDurationMs) == 1;
+    }
+
+    @Override
+    public boolean complete(final Long id, final String owner) {
+        return jpaRepository.complete(id, owner) == 1;
+    }
+}
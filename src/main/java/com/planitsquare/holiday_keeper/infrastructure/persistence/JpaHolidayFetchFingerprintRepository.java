@@ -0,0 +1,20 @@
+package com.planitsquare.holiday_keeper.infrastructure.persistence;
+
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import com.planitsquare.holiday_keeper.domain.entity.HolidayFetchFingerprint;
+
+interface JpaHolidayFetchFingerprintRepository
+        extends JpaRepository<HolidayFetchFingerprint, Long> {
+
+    Optional<HolidayFetchFingerprint> findByCountryCodeAndYear(String countryCode, Integer year);
+
+    @Modifying
+    @Query("DELETE FROM HolidayFetchFingerprint f "
+            + "WHERE f.countryCode = :countryCode AND f.year = :year")
+    void deleteByCountryCodeAndYear(@Param("countryCode") String countryCode,
+            @Param("year") Integer year);
+}
@@ -0,0 +1,13 @@
+package com.planitsquare.holiday_keeper.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import com.planitsquare.holiday_keeper.domain.entity.HolidayLoadCheckpoint;
+
+interface JpaHolidayLoadCheckpointRepository extends JpaRepository<HolidayLoadCheckpoint, Long> {
+
+    List<HolidayLoadCheckpoint> findByJobId(Long jobId);
+
+    long countByJobIdAndCompletedAtGreaterThanEqual(Long jobId, LocalDateTime completedAt);
+}
@@ -0,0 +1,18 @@
+package com.planitsquare.holiday_keeper.infrastructure.persistence;
+
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import com.planitsquare.holiday_keeper.constants.HolidayLoadMode;
+import com.planitsquare.holiday_keeper.domain.entity.HolidayLoadJob;
+
+interface JpaHolidayLoadJobRepository extends JpaRepository<HolidayLoadJob, Long> {
+
+    Optional<HolidayLoadJob> findFirstByOrderByIdDesc();
+
+    Optional<HolidayLoadJob> findFirstByStartYearAndEndYearAndStatusOrderByIdDesc(
+            Integer startYear, Integer endYear, HolidayLoadJob.Status status);
+
+    Optional<HolidayLoadJob> findFirstByModeAndStartYearAndEndYearAndStatusOrderByIdDesc(
+            HolidayLoadMode mode, Integer startYear, Integer endYear,
+            HolidayLoadJob.Status status);
+}
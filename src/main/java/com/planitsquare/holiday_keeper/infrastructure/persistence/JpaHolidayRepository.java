@@ -1,20 +1,54 @@
 package com.planitsquare.holiday_keeper.infrastructure.persistence;
 
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import com.planitsquare.holiday_keeper.api.dto.response.HolidayResponse;
 import com.planitsquare.holiday_keeper.domain.entity.PublicHoliday;
+import com.planitsquare.holiday_keeper.service.dto.CountryYear;
+import com.planitsquare.holiday_keeper.service.dto.StoredHoliday;
 
 interface JpaHolidayRepository extends JpaRepository<PublicHoliday, Long> {
 
-    List<PublicHoliday> findByCountryCodeAndYear(String countryCode, Integer year);
+    String SELECT_RESPONSES = "SELECT new com.planitsquare.holiday_keeper.api.dto.response."
+            + "HolidayResponse(ph.id, ph.countryCode, c.name, ph.year, ph.date, ph.name, "
+            + "ph.localName, ph.typeMask, ph.fixed, ph.global, ph.launchYear) "
+            + "FROM PublicHoliday ph JOIN ph.country c";
+
+    @Query("SELECT new com.planitsquare.holiday_keeper.service.dto.StoredHoliday(ph.id, "
+            + "ph.date, ph.name, ph.localName, ph.typeMask, ph.fixed, ph.global, ph.launchYear) "
+            + "FROM PublicHoliday ph WHERE ph.countryCode = :countryCode AND ph.year = :year")
+    List<StoredHoliday> findStoredHolidays(@Param("countryCode") String countryCode,
+            @Param("year") Integer year);
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @Query(SELECT_RESPONSES)
+    List<HolidayResponse> findAllResponses();
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @Query(SELECT_RESPONSES + " WHERE ph.countryCode IN :countryCodes")
+    List<HolidayResponse> findResponsesByCountryCodeIn(
+            @Param("countryCodes") Collection<String> countryCodes);
 
     Boolean existsByCountryCodeAndYear(String countryCode, Integer year);
 
+    @Query("SELECT DISTINCT new com.planitsquare.holiday_keeper.service.dto.CountryYear("
+            + "ph.countryCode, ph.year) FROM PublicHoliday ph")
+    List<CountryYear> findLoadedPairs();
+
     @Modifying
     @Query("DELETE FROM PublicHoliday ph WHERE ph.countryCode = :countryCode AND ph.year = :year")
     void deleteByCountryCodeAndYear(@Param("countryCode") String countryCode,
             @Param("year") Integer year);
+
+    @Modifying
+    @Query("DELETE FROM PublicHoliday ph WHERE ph.countryCode = :countryCode AND ph.year = :year "
+            + "AND ph.id IN :ids")
+    void deleteByCountryCodeAndYearAndIdIn(@Param("countryCode") String countryCode,
+            @Param("year") Integer year, @Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,16 @@
+package com.planitsquare.holiday_keeper.infrastructure.persistence;
+
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import com.planitsquare.holiday_keeper.domain.entity.HolidaySearchGeneration;
+
+interface JpaHolidaySearchGenerationRepository
+        extends JpaRepository<HolidaySearchGeneration, String> {
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @Query("SELECT g FROM HolidaySearchGeneration g")
+    List<HolidaySearchGeneration> findAllGenerations();
+}
@@ -0,0 +1,37 @@
+package com.planitsquare.holiday_keeper.infrastructure.persistence;
+
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import com.planitsquare.holiday_keeper.domain.entity.HolidaySyncLease;
+
+interface JpaHolidaySyncLeaseRepository extends JpaRepository<HolidaySyncLease, Long> {
+
+    List<HolidaySyncLease> findByRunKeyOrderByShardIndex(String runKey);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE holiday_sync_leases SET owner = :owner, "
+            + "lease_expires_at = DATEADD(MILLISECOND, :durationMs, LOCALTIMESTAMP) "
+            + "WHERE id = :id AND completed_at IS NULL "
+            + "AND (owner IS NULL OR lease_expires_at < LOCALTIMESTAMP)", nativeQuery = true)
+    int claim(@Param("id") Long id, @Param("owner") String owner,
+            @Param("durationMs") Long durationMs);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE holiday_sync_leases "
+            + "SET lease_expires_at = DATEADD(MILLISECOND, :durationMs, LOCALTIMESTAMP) "
+            + "WHERE id = :id AND owner = :owner AND completed_at IS NULL", nativeQuery = true)
+    int renew(@Param("id") Long id, @Param("owner") String owner,
+            @Param("durationMs") Long durationMs);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE holiday_sync_leases SET completed_at = LOCALTIMESTAMP "
+            + "WHERE id = :id AND owner = :owner AND completed_at IS NULL", nativeQuery = true)
+    int complete(@Param("id") Long id, @Param("owner") String owner);
+}
@@ -1,12 +1,33 @@
 package com.planitsquare.holiday_keeper.scheduler;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import com.planitsquare.holiday_keeper.constants.LogMessage;
+import com.planitsquare.holiday_keeper.exception.ExternalApiUnavailableException;
 import com.planitsquare.holiday_keeper.service.CountryService;
+import com.planitsquare.holiday_keeper.service.HolidayFetchRetryScheduler;
 import com.planitsquare.holiday_keeper.service.HolidayService;
+import com.planitsquare.holiday_keeper.service.HolidaySyncLeaseService;
+import com.planitsquare.holiday_keeper.service.dto.CountrySyncResult;
+import com.planitsquare.holiday_keeper.service.dto.CountryYear;
+import com.planitsquare.holiday_keeper.service.dto.HolidaySyncReport;
+import com.planitsquare.holiday_keeper.service.dto.HolidayUpsertResult;
+import com.planitsquare.holiday_keeper.service.dto.PairLoadResult;
+import com.planitsquare.holiday_keeper.service.dto.SyncShard;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -17,6 +38,20 @@ public class HolidaySyncScheduler {
 
     private final HolidayService holidayService;
     private final CountryService countryService;
+    private final HolidayFetchRetryScheduler retryScheduler;
+    private final HolidaySyncLeaseService leaseService;
+
+    @Value("${batch.sync.max-parallelism}")
+    private Integer maxParallelism;
+
+    @Value("${batch.sync.country-timeout-ms}")
+    private Long countryTimeoutMs;
+
+    @Value("${batch.sync.lease-poll-interval-ms}")
+    private Long leasePollIntervalMs;
+
+    @Value("${batch.sync.run-timeout-ms}")
+    private Long runTimeoutMs;
 
     @Scheduled(cron = "${batch.sync.cron}")
     public void syncHolidays() {
@@ -27,42 +62,209 @@ public class HolidaySyncScheduler {
             final Integer previousYear = currentYear - 1;
             log.info(LogMessage.SYNC_YEARS.getMessage(), previousYear, currentYear);
 
+            final String runKey =
+                    HolidaySyncLeaseService.runKey(previousYear, currentYear, LocalDate.now());
+            leaseService.prepare(runKey);
             final List<String> countryCodes = getAllCountryCodes();
-            final Integer totalSynced = syncAllCountries(countryCodes, previousYear, currentYear);
+            final HolidaySyncReport report =
+                    syncClaimedShards(runKey, countryCodes, previousYear, currentYear);
 
-            log.info(LogMessage.SYNC_ALL_COMPLETED.getMessage(), totalSynced);
+            logReport(report);
         } catch (final RuntimeException e) {
             log.error(LogMessage.SYNC_ERROR.getMessage(), e);
         }
     }
 
+    HolidaySyncReport syncClaimedShards(final String runKey, final List<String> countryCodes,
+            final Integer previousYear, final Integer currentYear) {
+        final long startedAt = System.nanoTime();
+        final long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(runTimeoutMs);
+        final List<CountrySyncResult> results = new ArrayList<>();
+
+        while (!leaseService.isFinished(runKey)) {
+            if (System.nanoTime() - deadline >= 0) {
+                log.warn(LogMessage.SYNC_RUN_TIMED_OUT.getMessage(), runKey, runTimeoutMs);
+                break;
+            }
+            final Optional<SyncShard> shard = leaseService.claimNext(runKey);
+            if (shard.isEmpty()) {
+                awaitLeaseExpiry();
+                continue;
+            }
+            results.addAll(syncShard(shard.get(), countryCodes, previousYear, currentYear));
+        }
+        return HolidaySyncReport.of(results, elapsedMillisSince(startedAt));
+    }
+
+    HolidaySyncReport syncAllCountries(final List<String> countryCodes,
+            final Integer previousYear, final Integer currentYear) {
+        return syncCountries(countryCodes, previousYear, currentYear, () -> {
+        });
+    }
+
+    private HolidaySyncReport syncCountries(final List<String> countryCodes,
+            final Integer previousYear, final Integer currentYear, final Runnable afterCountry) {
+        final long startedAt = System.nanoTime();
+        final Semaphore permits = new Semaphore(maxParallelism);
+        final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        try {
+            final List<Future<CountrySyncResult>> futures = countryCodes.stream()
+                    .map(countryCode -> executor.submit(() -> syncCountryWithinBudget(executor,
+                            permits, countryCode, previousYear, currentYear, afterCountry)))
+                    .toList();
+            final List<CountrySyncResult> results = futures.stream().map(this::await).toList();
+            return HolidaySyncReport.of(results, elapsedMillisSince(startedAt));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<CountrySyncResult> syncShard(final SyncShard shard,
+            final List<String> countryCodes, final Integer previousYear,
+            final Integer currentYear) {
+        final List<String> shardCountryCodes = shard.select(countryCodes);
+        if (shard.isTakeover()) {
+            log.warn(LogMessage.SYNC_SHARD_TAKEN_OVER.getMessage(), shard.shardIndex(),
+                    shard.shardCount(), shard.previousOwner());
+        }
+        log.info(LogMessage.SYNC_SHARD_CLAIMED.getMessage(), shard.shardIndex(),
+                shard.shardCount(), shard.runKey(), leaseService.getOwner(),
+                shardCountryCodes.size());
+
+        final AtomicBoolean renewalFailed = new AtomicBoolean();
+        final HolidaySyncReport shardReport = syncCountries(shardCountryCodes, previousYear,
+                currentYear, () -> renewLease(shard, renewalFailed));
+        if (leaseService.complete(shard)) {
+            log.info(LogMessage.SYNC_SHARD_COMPLETED.getMessage(), shard.shardIndex(),
+                    shard.shardCount());
+        } else {
+            log.warn(LogMessage.SYNC_SHARD_LOST.getMessage(), shard.shardIndex(),
+                    shard.shardCount());
+        }
+        return shardReport.results();
+    }
+
+    private void renewLease(final SyncShard shard, final AtomicBoolean renewalFailed) {
+        if (!leaseService.renew(shard) && renewalFailed.compareAndSet(false, true)) {
+            log.warn(LogMessage.SYNC_SHARD_RENEWAL_FAILED.getMessage(), shard.shardIndex(),
+                    shard.shardCount());
+        }
+    }
+
+    private void awaitLeaseExpiry() {
+        try {
+            Thread.sleep(leasePollIntervalMs);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
     private List<String> getAllCountryCodes() {
         return countryService.findAllCountryCodes();
     }
 
-    private Integer syncAllCountries(final List<String> countryCodes, final Integer previousYear,
-            final Integer currentYear) {
-        return countryCodes.stream()
-                .mapToInt(countryCode -> syncSingleCountry(countryCode, previousYear, currentYear))
-                .sum();
+    private CountrySyncResult syncCountryWithinBudget(final ExecutorService executor,
+            final Semaphore permits, final String countryCode, final Integer previousYear,
+            final Integer currentYear, final Runnable afterCountry) throws InterruptedException {
+        final List<CountryYear> pairs = List.of(new CountryYear(countryCode, previousYear),
+                new CountryYear(countryCode, currentYear));
+
+        permits.acquire();
+        final long startedAt = System.nanoTime();
+        final CountDownLatch workerExited = new CountDownLatch(1);
+        final Future<CountrySyncResult> work = executor.submit(() -> {
+            try {
+                return syncCountry(countryCode, pairs, startedAt);
+            } finally {
+                permits.release();
+                workerExited.countDown();
+            }
+        });
+        try {
+            return work.get(countryTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            work.cancel(true);
+            final boolean stillRunning = workerExited.getCount() > 0;
+            if (stillRunning) {
+                log.warn(LogMessage.SYNC_COUNTRY_TIMED_OUT_STILL_RUNNING.getMessage(), countryCode,
+                        countryTimeoutMs);
+            } else {
+                log.warn(LogMessage.SYNC_COUNTRY_TIMED_OUT.getMessage(), countryCode,
+                        countryTimeoutMs);
+            }
+            return CountrySyncResult.timedOut(countryCode, pairs.size(), stillRunning,
+                    elapsedMillisSince(startedAt));
+        } catch (final ExecutionException e) {
+            log.error(LogMessage.SYNC_COUNTRY_FAILED.getMessage(), countryCode,
+                    e.getCause().getMessage());
+            return CountrySyncResult.failed(countryCode, pairs.size(),
+                    elapsedMillisSince(startedAt));
+        } finally {
+            afterCountry.run();
+        }
     }
 
-    private Integer syncSingleCountry(final String countryCode, final Integer previousYear,
-            final Integer currentYear) {
+    private CountrySyncResult syncCountry(final String countryCode, final List<CountryYear> pairs,
+            final long startedAt) {
+        final List<PairLoadResult> results = retryScheduler.runAll(pairs,
+                pair -> PairLoadResult.success(countryCode, pair.year(),
+                        syncCountryForYear(pair.year(), countryCode),
+                        elapsedMillisSince(startedAt)),
+                (pair, e) -> handleSyncFailure(pair, e, startedAt));
+        return CountrySyncResult.completed(countryCode, results, elapsedMillisSince(startedAt));
+    }
+
+    private PairLoadResult handleSyncFailure(final CountryYear pair, final RuntimeException e,
+            final long startedAt) {
+        if (e instanceof ExternalApiUnavailableException) {
+            log.warn(LogMessage.SYNC_SKIPPED_UNAVAILABLE.getMessage(), pair.year(),
+                    pair.countryCode(), e.getMessage());
+            return PairLoadResult.unavailable(pair.countryCode(), pair.year(), e.getMessage(),
+                    elapsedMillisSince(startedAt));
+        }
+        log.error(LogMessage.SYNC_FAILED.getMessage(), pair.year(), pair.countryCode(),
+                e.getMessage());
+        return PairLoadResult.failure(pair.countryCode(), pair.year(), e.getMessage(),
+                elapsedMillisSince(startedAt));
+    }
+
+    private HolidayUpsertResult syncCountryForYear(final Integer year, final String countryCode) {
+        final HolidayUpsertResult result = holidayService.refreshHolidaysOnce(year, countryCode);
+        log.debug(LogMessage.SYNC_COMPLETED.getMessage(), year, countryCode, result.totalCount(),
+                result.inserted(), result.updated(), result.deleted(), result.unchanged());
+        return result;
+    }
+
+    private CountrySyncResult await(final Future<CountrySyncResult> future) {
         try {
-            final Integer count1 = syncCountryForYear(previousYear, countryCode);
-            final Integer count2 = syncCountryForYear(currentYear, countryCode);
-            return count1 + count2;
-        } catch (final RuntimeException e) {
-            log.error(LogMessage.SYNC_FAILED.getMessage(), previousYear, currentYear, countryCode,
-                    e.getMessage());
-            return 0;
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
         }
     }
 
-    private Integer syncCountryForYear(final Integer year, final String countryCode) {
-        final Integer count = holidayService.refreshHolidays(year, countryCode);
-        log.debug(LogMessage.SYNC_COMPLETED.getMessage(), year, countryCode, count);
-        return count;
+    private void logReport(final HolidaySyncReport report) {
+        final HolidayUpsertResult totalSynced = report.changes();
+        log.info(LogMessage.SYNC_ALL_COMPLETED.getMessage(), totalSynced.totalCount(),
+                totalSynced.inserted(), totalSynced.updated(), totalSynced.deleted(),
+                totalSynced.unchanged());
+
+        final String slowestCountry =
+                report.slowest().map(CountrySyncResult::countryCode).orElse("-");
+        final Long slowestMillis =
+                report.slowest().map(CountrySyncResult::elapsedMillis).orElse(0L);
+        log.info(LogMessage.SYNC_SUMMARY.getMessage(), report.results().size(),
+                report.succeededCountries(), report.failedCountries(), report.timedOutCountries(),
+                report.stillRunningCountries(), maxParallelism, report.elapsedMillis(),
+                slowestCountry, slowestMillis);
+    }
+
+    private long elapsedMillisSince(final long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
     }
 }
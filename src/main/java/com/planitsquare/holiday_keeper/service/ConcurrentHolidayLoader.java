@@ -0,0 +1,281 @@
+package com.planitsquare.holiday_keeper.service;
+
+import static com.planitsquare.holiday_keeper.constants.LogMessage.CONCURRENT_LOAD_COMPLETED;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.CONCURRENT_LOAD_START;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_CHECKPOINT_FAILED;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_HOLIDAYS_EMPTY;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_HOLIDAYS_FAILED;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_HOLIDAYS_NOT_MODIFIED;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_HOLIDAYS_UNAVAILABLE;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.WRITER_COMPLETED;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import com.planitsquare.holiday_keeper.constants.ErrorMessage;
+import com.planitsquare.holiday_keeper.domain.entity.Country;
+import com.planitsquare.holiday_keeper.domain.entity.HolidayFetchFingerprint;
+import com.planitsquare.holiday_keeper.exception.ExternalApiUnavailableException;
+import com.planitsquare.holiday_keeper.external.client.NagerDateClient;
+import com.planitsquare.holiday_keeper.external.dto.HolidayFetchResult;
+import com.planitsquare.holiday_keeper.external.dto.NagerHolidayResponse;
+import com.planitsquare.holiday_keeper.service.dto.CountryYear;
+import com.planitsquare.holiday_keeper.service.dto.FetchedHolidays;
+import com.planitsquare.holiday_keeper.service.dto.HolidayLoadPlan;
+import com.planitsquare.holiday_keeper.service.dto.HolidayLoadReport;
+import com.planitsquare.holiday_keeper.service.dto.HolidayUpsertResult;
+import com.planitsquare.holiday_keeper.service.dto.PairLoadResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConcurrentHolidayLoader {
+
+    private static final String WRITER_THREAD_NAME = "holiday-batch-writer";
+    private static final String RETRY_TIMER_THREAD_NAME = "holiday-fetch-retry-timer";
+
+    private final NagerDateClient nagerDateClient;
+    private final HolidayDataService holidayDataService;
+    private final CountryService countryService;
+    private final HolidayFetchFingerprintService fingerprintService;
+    private final HolidayFetchRetryScheduler retryScheduler;
+    private final HolidayLoadCheckpointService checkpointService;
+    private final HolidayCoverage coverage;
+
+    @Value("${holiday.data.start-year}")
+    private Integer startYear;
+
+    @Value("${holiday.data.end-year}")
+    private Integer endYear;
+
+    @Value("${holiday.load.concurrent.max-parallelism}")
+    private Integer maxParallelism;
+
+    @Value("${holiday.load.writer.queue-capacity}")
+    private Integer writerQueueCapacity;
+
+    @Value("${holiday.load.writer.batch-rows}")
+    private Integer writerBatchRows;
+
+    @Value("${holiday.load.writer.flush-interval-ms}")
+    private Long writerFlushIntervalMs;
+
+    public HolidayLoadReport loadAllHolidays(final HolidayLoadExecution execution) {
+        log.info(CONCURRENT_LOAD_START.getMessage(), startYear, endYear, maxParallelism);
+        final long startedAt = System.nanoTime();
+
+        final List<Country> countries = countryService.fetchAndSaveAllCountries();
+        final List<CountryYear> pairs =
+                coverage.pairsToLoad(buildPairs(countries), execution.getMode());
+        final HolidayLoadPlan plan = checkpointService.plan(execution.getJobId(), pairs);
+        execution.planned(plan);
+        final List<PairLoadResult> results = loadAllPairs(plan, countries, execution);
+        checkpointService.finish(plan.jobId());
+        final HolidayLoadReport report =
+                HolidayLoadReport.of(results, elapsedMillisSince(startedAt));
+
+        final HolidayUpsertResult changes = report.changes();
+        log.info(CONCURRENT_LOAD_COMPLETED.getMessage(), report.totalLoaded(), changes.inserted(),
+                changes.updated(), changes.deleted(), changes.unchanged(), report.succeededPairs(),
+                report.failedPairs(), report.unavailablePairs(), report.elapsedMillis());
+        return report;
+    }
+
+    private List<CountryYear> buildPairs(final List<Country> countries) {
+        return countries.stream()
+                .flatMap(country -> IntStream.rangeClosed(startYear, endYear)
+                        .mapToObj(year -> new CountryYear(country.getCountryCode(), year)))
+                .toList();
+    }
+
+    private List<PairLoadResult> loadAllPairs(final HolidayLoadPlan plan,
+            final List<Country> countries, final HolidayLoadExecution execution) {
+        final Map<String, HolidayFetchFingerprint> fingerprints =
+                fingerprintService.findAllByPairKey();
+        final Consumer<PairLoadResult> onResult =
+                result -> onPairCompleted(plan.jobId(), execution, result);
+        final BlockingQueue<FetchedHolidays> queue = new ArrayBlockingQueue<>(writerQueueCapacity);
+        final HolidayBatchWriter writer = new HolidayBatchWriter(queue, holidayDataService,
+                writerBatchRows, Duration.ofMillis(writerFlushIntervalMs), onResult);
+        final Thread writerThread = Thread.ofPlatform().name(WRITER_THREAD_NAME).start(writer);
+
+        final Map<String, Country> countriesByCode = countries.stream().collect(
+                Collectors.toMap(Country::getCountryCode, Function.identity(), (a, b) -> a));
+        final List<PairLoadResult> results = new ArrayList<>(fetchAllPairs(plan.pendingPairs(),
+                countriesByCode, fingerprints, writer, onResult));
+        awaitWriter(writer, writerThread);
+        results.addAll(writer.getResults());
+
+        log.info(WRITER_COMPLETED.getMessage(), writer.getFlushCount());
+        return results;
+    }
+
+    private List<PairLoadResult> fetchAllPairs(final List<CountryYear> pairs,
+            final Map<String, Country> countriesByCode,
+            final Map<String, HolidayFetchFingerprint> fingerprints,
+            final HolidayBatchWriter writer, final Consumer<PairLoadResult> onResult) {
+        final Queue<PairLoadResult> results = new ConcurrentLinkedQueue<>();
+        final CountDownLatch pending = new CountDownLatch(pairs.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+                ScheduledExecutorService retryTimer = Executors.newSingleThreadScheduledExecutor(
+                        Thread.ofPlatform().name(RETRY_TIMER_THREAD_NAME).daemon().factory())) {
+            final FetchRun run = new FetchRun(fingerprints, writer, new Semaphore(maxParallelism),
+                    executor, retryTimer, results, pending, onResult);
+            pairs.forEach(pair -> submitFetch(run, countriesByCode.get(pair.countryCode()),
+                    pair.year(), 1));
+            awaitPending(pending);
+        }
+        return List.copyOf(results);
+    }
+
+    private void submitFetch(final FetchRun run, final Country country, final Integer year,
+            final int attempt) {
+        run.executor().execute(() -> fetchAttempt(run, country, year, attempt));
+    }
+
+    private void fetchAttempt(final FetchRun run, final Country country, final Integer year,
+            final int attempt) {
+        final String countryCode = country.getCountryCode();
+        final long startedAt = System.nanoTime();
+
+        try {
+            final Optional<PairLoadResult> result = fetchPairWithPermit(run, year, country);
+            retryScheduler.recordSuccess(attempt);
+            run.complete(result);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            run.complete(Optional.of(PairLoadResult.failure(countryCode, year, e.toString(),
+                    elapsedMillisSince(startedAt))));
+        } catch (final ExternalApiUnavailableException e) {
+            log.warn(LOAD_HOLIDAYS_UNAVAILABLE.getMessage(), year, countryCode, e.getMessage());
+            run.complete(Optional.of(PairLoadResult.unavailable(countryCode, year, e.getMessage(),
+                    elapsedMillisSince(startedAt))));
+        } catch (final RuntimeException e) {
+            final Optional<Duration> delay =
+                    retryScheduler.nextRetryDelay(new CountryYear(countryCode, year), attempt, e);
+            if (delay.isPresent()) {
+                run.retryTimer().schedule(() -> submitFetch(run, country, year, attempt + 1),
+                        delay.get().toMillis(), TimeUnit.MILLISECONDS);
+                return;
+            }
+            log.error(LOAD_HOLIDAYS_FAILED.getMessage(), year, countryCode, e.getMessage());
+            run.complete(Optional.of(PairLoadResult.failure(countryCode, year, e.getMessage(),
+                    elapsedMillisSince(startedAt))));
+        }
+    }
+
+    private Optional<PairLoadResult> fetchPairWithPermit(final FetchRun run, final Integer year,
+            final Country country) throws InterruptedException {
+        run.permits().acquire();
+        try {
+            final HolidayFetchFingerprint fingerprint = run.fingerprints().get(
+                    HolidayFetchFingerprintService.pairKey(country.getCountryCode(), year));
+            return fetchPair(fingerprint, run.writer(), year, country);
+        } finally {
+            run.permits().release();
+        }
+    }
+
+    private Optional<PairLoadResult> fetchPair(final HolidayFetchFingerprint fingerprint,
+            final HolidayBatchWriter writer, final Integer year, final Country country)
+            throws InterruptedException {
+        final String countryCode = country.getCountryCode();
+        final long startedAt = System.nanoTime();
+
+        final HolidayFetchResult fetchResult = nagerDateClient.getPublicHolidaysIfChanged(year,
+                countryCode, HolidayFetchFingerprintService.toValidators(fingerprint));
+
+        if (!fetchResult.modified()) {
+            final Integer storedCount = fingerprint != null ? fingerprint.getHolidayCount() : 0;
+            fingerprintService.confirm(countryCode, year, fetchResult.validators());
+            log.debug(LOAD_HOLIDAYS_NOT_MODIFIED.getMessage(), year, countryCode, storedCount);
+            return Optional.of(PairLoadResult.success(countryCode, year,
+                    HolidayUpsertResult.unchanged(storedCount), elapsedMillisSince(startedAt)));
+        }
+
+        final List<NagerHolidayResponse> holidays = fetchResult.holidays();
+        if (holidays.isEmpty()) {
+            log.warn(LOAD_HOLIDAYS_EMPTY.getMessage(), year, countryCode);
+            return Optional.of(PairLoadResult.success(countryCode, year,
+                    HolidayUpsertResult.empty(), elapsedMillisSince(startedAt)));
+        }
+
+        if (!writer.offer(new FetchedHolidays(country, year, holidays, fetchResult.validators(),
+                startedAt))) {
+            return Optional.of(PairLoadResult.failure(countryCode, year,
+                    ErrorMessage.LOAD_WRITER_STOPPED.getMessage(), elapsedMillisSince(startedAt)));
+        }
+        return Optional.empty();
+    }
+
+    private void onPairCompleted(final Long jobId, final HolidayLoadExecution execution,
+            final PairLoadResult result) {
+        execution.record(result);
+        if (!result.success()) {
+            return;
+        }
+        try {
+            checkpointService.markCompleted(jobId,
+                    new CountryYear(result.countryCode(), result.year()));
+        } catch (final RuntimeException e) {
+            log.warn(LOAD_CHECKPOINT_FAILED.getMessage(), result.year(), result.countryCode(),
+                    e.getMessage());
+        }
+    }
+
+    private void awaitWriter(final HolidayBatchWriter writer, final Thread writerThread) {
+        try {
+            writer.finish();
+            writerThread.join();
+        } catch (final InterruptedException e) {
+            writerThread.interrupt();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void awaitPending(final CountDownLatch pending) {
+        try {
+            pending.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long elapsedMillisSince(final long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    private record FetchRun(Map<String, HolidayFetchFingerprint> fingerprints,
+            HolidayBatchWriter writer, Semaphore permits, ExecutorService executor,
+            ScheduledExecutorService retryTimer, Queue<PairLoadResult> results,
+            CountDownLatch pending, Consumer<PairLoadResult> onResult) {
+
+        void complete(final Optional<PairLoadResult> result) {
+            result.ifPresent(results::add);
+            result.ifPresent(onResult);
+            pending.countDown();
+        }
+    }
+}
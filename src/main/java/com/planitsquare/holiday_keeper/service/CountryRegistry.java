@@ -0,0 +1,81 @@
+package com.planitsquare.holiday_keeper.service;
+
+import static com.planitsquare.holiday_keeper.constants.LogMessage.COUNTRY_REGISTRY_RELOADED;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+import com.planitsquare.holiday_keeper.domain.entity.Country;
+import com.planitsquare.holiday_keeper.domain.repository.CountryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CountryRegistry {
+
+    private final CountryRepository countryRepository;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    public Optional<Country> find(final String countryCode) {
+        final Country country = current().byCode().get(countryCode);
+        if (country != null) {
+            return Optional.of(country);
+        }
+        return countryRepository.findByCountryCode(countryCode).map(found -> {
+            reload();
+            return found;
+        });
+    }
+
+    public boolean contains(final String countryCode) {
+        return find(countryCode).isPresent();
+    }
+
+    public List<Country> findAll() {
+        return current().countries();
+    }
+
+    public List<String> findAllCountryCodes() {
+        return current().countries().stream().map(Country::getCountryCode).toList();
+    }
+
+    public void reloadAfterCommit() {
+        AfterCommit.run(this::reload);
+    }
+
+    public void reload() {
+        final Snapshot loaded = Snapshot.of(countryRepository.findAll());
+        snapshot.set(loaded);
+        log.info(COUNTRY_REGISTRY_RELOADED.getMessage(), loaded.countries().size());
+    }
+
+    private Snapshot current() {
+        final Snapshot loaded = snapshot.get();
+        if (loaded != null) {
+            return loaded;
+        }
+        synchronized (snapshot) {
+            if (snapshot.get() == null) {
+                reload();
+            }
+            return snapshot.get();
+        }
+    }
+
+    private record Snapshot(Map<String, Country> byCode, List<Country> countries) {
+
+        private static Snapshot of(final List<Country> countries) {
+            final List<Country> sorted = countries.stream()
+                    .sorted(Comparator.comparing(Country::getCountryCode)).toList();
+            return new Snapshot(Map.copyOf(sorted.stream().collect(
+                    Collectors.toMap(Country::getCountryCode, Function.identity()))), sorted);
+        }
+    }
+}
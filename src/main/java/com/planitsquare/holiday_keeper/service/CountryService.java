@@ -1,15 +1,19 @@
 package com.planitsquare.holiday_keeper.service;
 
 import static com.planitsquare.holiday_keeper.constants.LogMessage.COUNTRIES_FOUND;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.EXTERNAL_API_OPERATION_COUNTRIES;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.EXTERNAL_API_RETRY_SKIPPED;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestClientException;
 import com.planitsquare.holiday_keeper.domain.entity.Country;
 import com.planitsquare.holiday_keeper.domain.repository.CountryRepository;
 import com.planitsquare.holiday_keeper.exception.CountryNotFoundException;
+import com.planitsquare.holiday_keeper.exception.ExternalApiUnavailableException;
 import com.planitsquare.holiday_keeper.external.client.NagerDateClient;
 import com.planitsquare.holiday_keeper.external.dto.NagerCountryResponse;
 import lombok.RequiredArgsConstructor;
@@ -23,32 +27,48 @@ public class CountryService {
 
     private final NagerDateClient nagerDateClient;
     private final CountryRepository countryRepository;
+    private final CountryRegistry countryRegistry;
+    private final HolidayFetchRetryScheduler retryScheduler;
 
     @Transactional
     public List<Country> fetchAndSaveAllCountries() {
-        final List<NagerCountryResponse> countryResponses = nagerDateClient.getAvailableCountries();
+        final List<NagerCountryResponse> countryResponses = fetchAvailableCountries();
         log.info(COUNTRIES_FOUND.getMessage(), countryResponses.size());
 
-        return saveCountries(countryResponses);
+        final List<Country> countries = saveCountries(countryResponses);
+        countryRegistry.reloadAfterCommit();
+        return countries;
+    }
+
+    private List<NagerCountryResponse> fetchAvailableCountries() {
+        try {
+            return retryScheduler.run(EXTERNAL_API_OPERATION_COUNTRIES.getMessage(),
+                    nagerDateClient::getAvailableCountries);
+        } catch (final RestClientException e) {
+            log.error(EXTERNAL_API_RETRY_SKIPPED.getMessage(),
+                    EXTERNAL_API_OPERATION_COUNTRIES.getMessage());
+            throw new ExternalApiUnavailableException(
+                    EXTERNAL_API_OPERATION_COUNTRIES.getMessage(), e.getMessage(), e);
+        }
     }
 
     public Country findByCountryCode(final String countryCode) {
-        return countryRepository.findByCountryCode(countryCode)
+        return countryRegistry.find(countryCode)
                 .orElseThrow(() -> new CountryNotFoundException(countryCode));
     }
 
     public void validateCountryExists(final String countryCode) {
-        if (!countryRepository.existsByCountryCode(countryCode)) {
+        if (!countryRegistry.contains(countryCode)) {
             throw new CountryNotFoundException(countryCode);
         }
     }
 
     public List<Country> findAll() {
-        return countryRepository.findAll();
+        return countryRegistry.findAll();
     }
 
     public List<String> findAllCountryCodes() {
-        return countryRepository.findAllCountryCodes();
+        return countryRegistry.findAllCountryCodes();
     }
 
     @Transactional
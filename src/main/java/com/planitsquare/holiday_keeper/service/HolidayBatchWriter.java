@@ -0,0 +1,160 @@
+package com.planitsquare.holiday_keeper.service;
+
+import static com.planitsquare.holiday_keeper.constants.LogMessage.WRITER_FLUSHED;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.WRITER_FLUSH_FAILED;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.WRITER_STOPPED;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import com.planitsquare.holiday_keeper.constants.ErrorMessage;
+import com.planitsquare.holiday_keeper.service.dto.FetchedHolidays;
+import com.planitsquare.holiday_keeper.service.dto.HolidayUpsertResult;
+import com.planitsquare.holiday_keeper.service.dto.PairLoadResult;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+class HolidayBatchWriter implements Runnable {
+
+    private static final FetchedHolidays END_OF_STREAM =
+            new FetchedHolidays(null, null, List.of(), null, 0L);
+    private static final long OFFER_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final BlockingQueue<FetchedHolidays> queue;
+    private final HolidayDataService holidayDataService;
+    private final Integer batchRows;
+    private final long flushIntervalNanos;
+    private final Consumer<PairLoadResult> onResult;
+
+    private final List<FetchedHolidays> buffer = new ArrayList<>();
+    private final List<PairLoadResult> results = new ArrayList<>();
+    private int bufferedRows;
+    private int flushCount;
+    private volatile boolean stopped;
+
+    HolidayBatchWriter(final BlockingQueue<FetchedHolidays> queue,
+            final HolidayDataService holidayDataService, final Integer batchRows,
+            final Duration flushInterval, final Consumer<PairLoadResult> onResult) {
+        this.queue = queue;
+        this.holidayDataService = holidayDataService;
+        this.batchRows = batchRows;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.onResult = onResult;
+    }
+
+    boolean offer(final FetchedHolidays fetched) throws InterruptedException {
+        while (!stopped) {
+            if (queue.offer(fetched, OFFER_TIMEOUT_NANOS, TimeUnit.NANOSECONDS)) {
+                return !stopped || !queue.remove(fetched);
+            }
+        }
+        return false;
+    }
+
+    void finish() throws InterruptedException {
+        offer(END_OF_STREAM);
+    }
+
+    List<PairLoadResult> getResults() {
+        return results;
+    }
+
+    int getFlushCount() {
+        return flushCount;
+    }
+
+    @Override
+    public void run() {
+        try {
+            consume();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            stop();
+        }
+    }
+
+    private void consume() throws InterruptedException {
+        long flushDeadline = 0L;
+
+        while (true) {
+            final FetchedHolidays next = buffer.isEmpty() ? queue.take()
+                    : queue.poll(flushDeadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+
+            if (next == END_OF_STREAM) {
+                flush();
+                return;
+            }
+            if (next != null) {
+                if (buffer.isEmpty()) {
+                    flushDeadline = System.nanoTime() + flushIntervalNanos;
+                }
+                buffer.add(next);
+                bufferedRows += next.rowCount();
+            }
+            if (next == null || bufferedRows >= batchRows
+                    || System.nanoTime() >= flushDeadline) {
+                flush();
+            }
+        }
+    }
+
+    private void stop() {
+        stopped = true;
+        queue.drainTo(buffer);
+        buffer.remove(END_OF_STREAM);
+        if (!buffer.isEmpty()) {
+            log.warn(WRITER_STOPPED.getMessage(), buffer.size());
+            failBuffered(ErrorMessage.LOAD_WRITER_STOPPED.getMessage());
+        }
+    }
+
+    private void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+
+        final List<FetchedHolidays> batch = List.copyOf(buffer);
+        final int rows = bufferedRows;
+        final List<HolidayUpsertResult> upsertResults;
+        try {
+            upsertResults = holidayDataService.upsertHolidaysInBatch(batch);
+        } catch (final RuntimeException e) {
+            log.error(WRITER_FLUSH_FAILED.getMessage(), batch.size(), rows, e.getMessage());
+            failBuffered(e.getMessage());
+            return;
+        }
+
+        buffer.clear();
+        bufferedRows = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            final FetchedHolidays fetched = batch.get(i);
+            addResult(PairLoadResult.success(fetched.countryCode(), fetched.year(),
+                    upsertResults.get(i), elapsedMillisSince(fetched.startedAtNanos())));
+        }
+        flushCount++;
+        log.debug(WRITER_FLUSHED.getMessage(), batch.size(), rows);
+    }
+
+    private void failBuffered(final String errorMessage) {
+        buffer.forEach(fetched -> addResult(failure(fetched, errorMessage)));
+        buffer.clear();
+        bufferedRows = 0;
+    }
+
+    private void addResult(final PairLoadResult result) {
+        results.add(result);
+        onResult.accept(result);
+    }
+
+    private PairLoadResult failure(final FetchedHolidays fetched, final String errorMessage) {
+        return PairLoadResult.failure(fetched.countryCode(), fetched.year(), errorMessage,
+                elapsedMillisSince(fetched.startedAtNanos()));
+    }
+
+    private long elapsedMillisSince(final long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+}
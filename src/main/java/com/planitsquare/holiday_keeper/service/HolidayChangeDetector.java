@@ -0,0 +1,71 @@
+package com.planitsquare.holiday_keeper.service;
+
+import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_HOLIDAYS_DUPLICATED;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import com.planitsquare.holiday_keeper.domain.entity.PublicHoliday;
+import com.planitsquare.holiday_keeper.service.dto.HolidayChanges;
+import com.planitsquare.holiday_keeper.service.dto.HolidayUpsertResult;
+import com.planitsquare.holiday_keeper.service.dto.StoredHoliday;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+final class HolidayChangeDetector {
+
+    private HolidayChangeDetector() {}
+
+    static HolidayChanges detect(final List<StoredHoliday> storedHolidays,
+            final List<PublicHoliday> incomingHolidays) {
+        final Map<HolidayKey, StoredHoliday> storedByKey = storedHolidays.stream().collect(
+                Collectors.toMap(stored -> new HolidayKey(stored.date(), stored.name()),
+                        stored -> stored));
+        final Map<HolidayKey, PublicHoliday> incomingByKey = indexByKey(incomingHolidays);
+
+        final List<PublicHoliday> holidaysToUpsert = new ArrayList<>();
+        int inserted = 0;
+        int updated = 0;
+        int unchanged = 0;
+
+        for (final Map.Entry<HolidayKey, PublicHoliday> entry : incomingByKey.entrySet()) {
+            final PublicHoliday incoming = entry.getValue();
+            final StoredHoliday stored = storedByKey.get(entry.getKey());
+
+            if (stored == null) {
+                inserted++;
+                holidaysToUpsert.add(incoming);
+            } else if (stored.hasSameContentAs(incoming)) {
+                unchanged++;
+            } else {
+                updated++;
+                holidaysToUpsert.add(incoming);
+            }
+        }
+
+        final List<Long> removedIds = storedByKey.entrySet().stream()
+                .filter(entry -> !incomingByKey.containsKey(entry.getKey()))
+                .map(entry -> entry.getValue().id()).toList();
+
+        return new HolidayChanges(holidaysToUpsert, removedIds,
+                new HolidayUpsertResult(inserted, updated, removedIds.size(), unchanged));
+    }
+
+    private static Map<HolidayKey, PublicHoliday> indexByKey(final List<PublicHoliday> holidays) {
+        final Map<HolidayKey, PublicHoliday> indexed = holidays.stream().collect(
+                Collectors.toMap(holiday -> new HolidayKey(holiday.getDate(), holiday.getName()),
+                        holiday -> holiday, (first, second) -> second, LinkedHashMap::new));
+        final int duplicated = holidays.size() - indexed.size();
+        if (duplicated > 0) {
+            final PublicHoliday first = holidays.getFirst();
+            log.warn(LOAD_HOLIDAYS_DUPLICATED.getMessage(), first.getYear(),
+                    first.getCountryCode(), duplicated);
+        }
+        return indexed;
+    }
+
+    private record HolidayKey(LocalDate date, String name) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.planitsquare.holiday_keeper.service;
+
+import static com.planitsquare.holiday_keeper.constants.LogMessage.COVERAGE_LOADED;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_GAPS_PLANNED;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import com.planitsquare.holiday_keeper.constants.HolidayLoadMode;
+import com.planitsquare.holiday_keeper.domain.entity.HolidayFetchFingerprint;
+import com.planitsquare.holiday_keeper.domain.repository.HolidayRepository;
+import com.planitsquare.holiday_keeper.service.dto.CountryYear;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidayCoverage {
+
+    static final int BASE_YEAR = 1900;
+
+    private final HolidayRepository holidayRepository;
+    private final HolidayFetchFingerprintService fingerprintService;
+
+    private final Map<String, BitSet> yearsByCountry = new ConcurrentHashMap<>();
+    private final Object loadLock = new Object();
+    private volatile boolean loaded;
+    private long mutationsBeforeLoad;
+
+    @Value("${holiday.load.fill-gaps.stale-after-hours}")
+    private Long staleAfterHours;
+
+    public List<CountryYear> pairsToLoad(final List<CountryYear> pairs,
+            final HolidayLoadMode mode) {
+        if (mode != HolidayLoadMode.FILL_GAPS) {
+            return pairs;
+        }
+        final List<CountryYear> gaps = findGaps(pairs);
+        log.info(LOAD_GAPS_PLANNED.getMessage(), pairs.size(), gaps.size());
+        return gaps;
+    }
+
+    public List<CountryYear> findGaps(final List<CountryYear> pairs) {
+        ensureLoaded();
+        final int currentYear = LocalDate.now().getYear();
+        final LocalDateTime staleBefore = LocalDateTime.now().minusHours(staleAfterHours);
+        final boolean anyRecent = pairs.stream().anyMatch(pair -> pair.year() >= currentYear);
+        final Map<String, HolidayFetchFingerprint> fingerprints =
+                anyRecent ? fingerprintService.findAllByPairKey() : Map.of();
+
+        return pairs.stream()
+                .filter(pair -> !isCovered(pair) || pair.year() >= currentYear
+                        && isStale(fingerprints.get(HolidayFetchFingerprintService
+                                .pairKey(pair.countryCode(), pair.year())), staleBefore))
+                .toList();
+    }
+
+    public boolean isCovered(final CountryYear pair) {
+        ensureLoaded();
+        final BitSet years = yearsByCountry.get(pair.countryCode());
+        return years != null && pair.year() >= BASE_YEAR && years.get(pair.year() - BASE_YEAR);
+    }
+
+    public int countCoveredPairs() {
+        ensureLoaded();
+        return yearsByCountry.values().stream().mapToInt(BitSet::cardinality).sum();
+    }
+
+    public void markLoadedAfterCommit(final String countryCode, final Integer year) {
+        AfterCommit.run(() -> update(countryCode, year, true));
+    }
+
+    public void markRemovedAfterCommit(final String countryCode, final Integer year) {
+        AfterCommit.run(() -> update(countryCode, year, false));
+    }
+
+    private void update(final String countryCode, final Integer year, final boolean covered) {
+        if (year < BASE_YEAR || !loadedOrRecordMutation()) {
+            return;
+        }
+        yearsByCountry.compute(countryCode, (code, years) -> {
+            final BitSet updated = years != null ? (BitSet) years.clone() : new BitSet();
+            updated.set(year - BASE_YEAR, covered);
+            return updated.isEmpty() ? null : updated;
+        });
+    }
+
+    private boolean loadedOrRecordMutation() {
+        if (loaded) {
+            return true;
+        }
+        synchronized (loadLock) {
+            if (!loaded) {
+                mutationsBeforeLoad++;
+            }
+            return loaded;
+        }
+    }
+
+    private void ensureLoaded() {
+        while (!loaded) {
+            final long seenMutations;
+            synchronized (loadLock) {
+                seenMutations = mutationsBeforeLoad;
+            }
+            final List<CountryYear> pairs = holidayRepository.findLoadedPairs();
+            synchronized (loadLock) {
+                if (!loaded && mutationsBeforeLoad == seenMutations) {
+                    publish(pairs);
+                }
+            }
+        }
+    }
+
+    private void publish(final List<CountryYear> pairs) {
+        yearsByCountry.putAll(pairs.stream().filter(pair -> pair.year() >= BASE_YEAR)
+                .collect(Collectors.groupingBy(CountryYear::countryCode,
+                        Collectors.collectingAndThen(Collectors.toList(), this::toBitSet))));
+        loaded = true;
+        log.info(COVERAGE_LOADED.getMessage(), yearsByCountry.size(), pairs.size());
+    }
+
+    private BitSet toBitSet(final List<CountryYear> pairs) {
+        final BitSet years = new BitSet();
+        pairs.forEach(pair -> years.set(pair.year() - BASE_YEAR));
+        return years;
+    }
+
+    private boolean isStale(final HolidayFetchFingerprint fingerprint,
+            final LocalDateTime staleBefore) {
+        return fingerprint == null || fingerprint.getFetchedAt().isBefore(staleBefore);
+    }
+}
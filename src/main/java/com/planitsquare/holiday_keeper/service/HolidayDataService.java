@@ -1,26 +1,27 @@
 package com.planitsquare.holiday_keeper.service;
 
-import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_ALL_COMPLETED;
-import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_ALL_START;
 import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_HOLIDAYS_COMPLETED;
 import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_HOLIDAYS_EMPTY;
-import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_HOLIDAYS_FAILED;
-import java.time.LocalDate;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_HOLIDAYS_NOT_MODIFIED;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.Optional;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.planitsquare.holiday_keeper.constants.HolidayType;
 import com.planitsquare.holiday_keeper.domain.entity.Country;
+import com.planitsquare.holiday_keeper.domain.entity.HolidayFetchFingerprint;
 import com.planitsquare.holiday_keeper.domain.entity.PublicHoliday;
 import com.planitsquare.holiday_keeper.domain.repository.HolidayRepository;
 import com.planitsquare.holiday_keeper.external.client.NagerDateClient;
+import com.planitsquare.holiday_keeper.external.dto.HolidayFetchResult;
 import com.planitsquare.holiday_keeper.external.dto.NagerHolidayResponse;
+import com.planitsquare.holiday_keeper.external.dto.ResponseValidators;
+import com.planitsquare.holiday_keeper.service.dto.FetchedHolidays;
+import com.planitsquare.holiday_keeper.service.dto.HolidayChanges;
+import com.planitsquare.holiday_keeper.service.dto.HolidayUpsertResult;
+import com.planitsquare.holiday_keeper.service.dto.StoredHoliday;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -33,131 +34,131 @@ public class HolidayDataService {
     private final NagerDateClient nagerDateClient;
     private final HolidayRepository holidayRepository;
     private final CountryService countryService;
+    private final HolidayFetchFingerprintService fingerprintService;
+    private final HolidayCoverage coverage;
 
-    @Value("${holiday.data.start-year}")
-    private Integer startYear;
-
-    @Value("${holiday.data.end-year}")
-    private Integer endYear;
+    @Value("${holiday.load.clear-every-pairs}")
+    private Integer clearEveryPairs;
 
     @Transactional
-    public Integer loadAllHolidays() {
-        log.info(LOAD_ALL_START.getMessage(), startYear, endYear);
-
-        final List<Country> countries = countryService.fetchAndSaveAllCountries();
-        final Integer totalLoaded = loadHolidaysForAllCountriesAndYears(countries);
-
-        log.info(LOAD_ALL_COMPLETED.getMessage(), totalLoaded);
-        return totalLoaded;
+    public HolidayUpsertResult loadHolidaysForYearAndCountry(final Integer year,
+            final String countryCode, final Country country) {
+        return loadHolidays(year, countryCode, country,
+                nagerDateClient::getPublicHolidaysIfChanged);
     }
 
     @Transactional
-    public Integer loadHolidaysForYearAndCountry(final Integer year, final String countryCode,
-            final Country country) {
-        final List<NagerHolidayResponse> holidays =
-                nagerDateClient.getPublicHolidays(year, countryCode);
+    public HolidayUpsertResult refreshHolidaysForYearAndCountry(final Integer year,
+            final String countryCode, final Country country) {
+        return loadHolidays(year, countryCode, country,
+                nagerDateClient::getLatestPublicHolidaysIfChanged);
+    }
+
+    private HolidayUpsertResult loadHolidays(final Integer year, final String countryCode,
+            final Country country, final HolidayFetcher fetcher) {
+        final Optional<HolidayFetchFingerprint> fingerprint =
+                fingerprintService.find(countryCode, year);
+        final HolidayFetchResult fetchResult = fetcher.fetch(year, countryCode,
+                HolidayFetchFingerprintService.toValidators(fingerprint.orElse(null)));
+
+        if (!fetchResult.modified()) {
+            final Integer storedCount =
+                    fingerprint.map(HolidayFetchFingerprint::getHolidayCount).orElse(0);
+            fingerprintService.confirm(countryCode, year, fetchResult.validators());
+            log.info(LOAD_HOLIDAYS_NOT_MODIFIED.getMessage(), year, countryCode, storedCount);
+            return HolidayUpsertResult.unchanged(storedCount);
+        }
 
+        final List<NagerHolidayResponse> holidays = fetchResult.holidays();
         if (holidays.isEmpty()) {
             log.warn(LOAD_HOLIDAYS_EMPTY.getMessage(), year, countryCode);
-            return 0;
+            return HolidayUpsertResult.empty();
         }
 
-        final Integer savedCount = upsertHolidays(holidays, year, countryCode, country);
+        final HolidayChanges changes = detectChanges(holidays, year, countryCode, country);
+        applyChanges(changes, countryCode, year);
+        fingerprintService.record(countryCode, year, fetchResult.validators(), holidays.size());
+        coverage.markLoadedAfterCommit(countryCode, year);
+
+        final HolidayUpsertResult result = changes.result();
+        log.info(LOAD_HOLIDAYS_COMPLETED.getMessage(), year, countryCode, result.totalCount(),
+                result.inserted(), result.updated(), result.deleted(), result.unchanged());
+        return result;
+    }
 
-        log.info(LOAD_HOLIDAYS_COMPLETED.getMessage(), year, countryCode, savedCount);
-        return savedCount;
+    @Transactional
+    public List<HolidayUpsertResult> upsertHolidaysInBatch(final List<FetchedHolidays> batch) {
+        final List<HolidayUpsertResult> results = new ArrayList<>(batch.size());
+        for (int from = 0; from < batch.size(); from += clearEveryPairs) {
+            final List<FetchedHolidays> chunk =
+                    batch.subList(from, Math.min(from + clearEveryPairs, batch.size()));
+            results.addAll(upsertChunk(chunk));
+            holidayRepository.flushAndClear();
+        }
+        return results;
     }
 
     @Transactional
     public void deleteHolidays(final Integer year, final String countryCode) {
         countryService.validateCountryExists(countryCode);
         deleteExistingHolidays(countryCode, year);
-    }
-
-    private Integer loadHolidaysForAllCountriesAndYears(final List<Country> countries) {
-        return countries.stream().mapToInt(this::loadHolidaysForCountry).sum();
-    }
-
-    private Integer loadHolidaysForCountry(final Country country) {
-        final String countryCode = country.getCountryCode();
-        return IntStream.rangeClosed(startYear, endYear)
-                .map(year -> loadHolidaysForSingleYear(year, countryCode, country)).sum();
-    }
-
-    private Integer loadHolidaysForSingleYear(final Integer year, final String countryCode,
-            final Country country) {
-        try {
-            final Integer loaded = loadHolidaysForYearAndCountry(year, countryCode, country);
-            log.debug(LOAD_HOLIDAYS_COMPLETED.getMessage(), year, countryCode, loaded);
-            return loaded;
-        } catch (final RuntimeException e) {
-            log.error(LOAD_HOLIDAYS_FAILED.getMessage(), year, countryCode, e.getMessage());
-            return 0;
+        fingerprintService.delete(countryCode, year);
+        coverage.markRemovedAfterCommit(countryCode, year);
+    }
+
+    private List<HolidayUpsertResult> upsertChunk(final List<FetchedHolidays> chunk) {
+        final List<HolidayChanges> chunkChanges = chunk.stream()
+                .map(fetched -> detectChanges(fetched.holidays(), fetched.year(),
+                        fetched.countryCode(), fetched.country()))
+                .toList();
+
+        holidayRepository.upsertAll(chunkChanges.stream()
+                .flatMap(changes -> changes.holidaysToUpsert().stream()).toList());
+        for (int i = 0; i < chunk.size(); i++) {
+            final FetchedHolidays fetched = chunk.get(i);
+            deleteRemovedHolidays(chunkChanges.get(i), fetched.countryCode(), fetched.year());
+            fingerprintService.record(fetched.countryCode(), fetched.year(), fetched.validators(),
+                    fetched.rowCount());
+            coverage.markLoadedAfterCommit(fetched.countryCode(), fetched.year());
         }
+
+        return chunkChanges.stream().map(HolidayChanges::result).toList();
     }
 
     private void deleteExistingHolidays(final String countryCode, final Integer year) {
         holidayRepository.deleteByCountryCodeAndYear(countryCode, year);
     }
 
-    private Integer upsertHolidays(final List<NagerHolidayResponse> holidays, final Integer year,
-            final String countryCode, final Country country) {
-        final Map<LocalDate, PublicHoliday> existingHolidaysMap =
-                buildExistingHolidaysMap(countryCode, year);
-        final Set<LocalDate> newHolidayDates = extractHolidayDates(holidays);
-        final List<PublicHoliday> holidaysToSave =
-                processHolidays(holidays, year, countryCode, country, existingHolidaysMap);
-
-        deleteRemovedHolidays(existingHolidaysMap, newHolidayDates);
-
-        if (!holidaysToSave.isEmpty()) {
-            holidayRepository.saveAll(holidaysToSave);
-        }
-
-        return holidaysToSave.size();
+    private HolidayChanges detectChanges(final List<NagerHolidayResponse> holidays,
+            final Integer year, final String countryCode, final Country country) {
+        final List<StoredHoliday> storedHolidays =
+                holidayRepository.findStoredHolidays(countryCode, year);
+        final List<PublicHoliday> incomingHolidays =
+                convertToEntities(holidays, year, countryCode, country);
+        return HolidayChangeDetector.detect(storedHolidays, incomingHolidays);
     }
 
-    private Map<LocalDate, PublicHoliday> buildExistingHolidaysMap(final String countryCode,
+    private void applyChanges(final HolidayChanges changes, final String countryCode,
             final Integer year) {
-        return holidayRepository.findByCountryCodeAndYear(countryCode, year).stream()
-                .collect(Collectors.toMap(PublicHoliday::getDate, holiday -> holiday));
-    }
-
-    private Set<LocalDate> extractHolidayDates(final List<NagerHolidayResponse> holidays) {
-        return holidays.stream().map(NagerHolidayResponse::date).collect(Collectors.toSet());
-    }
-
-    private void deleteRemovedHolidays(final Map<LocalDate, PublicHoliday> existingHolidaysMap,
-            final Set<LocalDate> newHolidayDates) {
-        final List<PublicHoliday> holidaysToDelete = existingHolidaysMap.values().stream()
-                .filter(holiday -> !newHolidayDates.contains(holiday.getDate())).toList();
-
-        if (!holidaysToDelete.isEmpty()) {
-            holidayRepository.deleteAll(holidaysToDelete);
+        if (!changes.holidaysToUpsert().isEmpty()) {
+            holidayRepository.upsertAll(changes.holidaysToUpsert());
         }
+        deleteRemovedHolidays(changes, countryCode, year);
     }
 
-    private List<PublicHoliday> processHolidays(final List<NagerHolidayResponse> holidays,
-            final Integer year, final String countryCode, final Country country,
-            final Map<LocalDate, PublicHoliday> existingHolidaysMap) {
-        final List<PublicHoliday> holidaysToSave = new ArrayList<>();
-
-        for (final NagerHolidayResponse response : holidays) {
-            final PublicHoliday existingHoliday = existingHolidaysMap.get(response.date());
-
-            if (existingHoliday != null) {
-                final PublicHoliday updatedHoliday =
-                        convertToEntity(response, year, countryCode, country);
-                existingHoliday.updateFrom(updatedHoliday);
-                holidaysToSave.add(existingHoliday);
-            } else {
-                final PublicHoliday newHoliday =
-                        convertToEntity(response, year, countryCode, country);
-                holidaysToSave.add(newHoliday);
-            }
+    private void deleteRemovedHolidays(final HolidayChanges changes, final String countryCode,
+            final Integer year) {
+        if (changes.removedIds().isEmpty()) {
+            return;
         }
+        holidayRepository.deleteByCountryCodeAndYearAndIdIn(countryCode, year,
+                changes.removedIds());
+    }
 
-        return holidaysToSave;
+    private List<PublicHoliday> convertToEntities(final List<NagerHolidayResponse> holidays,
+            final Integer year, final String countryCode, final Country country) {
+        return holidays.stream()
+                .map(response -> convertToEntity(response, year, countryCode, country)).toList();
     }
 
     private PublicHoliday convertToEntity(final NagerHolidayResponse response, final Integer year,
@@ -188,4 +189,8 @@ public class HolidayDataService {
     private String extractLaunchYear(final NagerHolidayResponse response) {
         return response.launchYear() != null ? String.valueOf(response.launchYear()) : null;
     }
+
+    private interface HolidayFetcher {
+        HolidayFetchResult fetch(Integer year, String countryCode, ResponseValidators previous);
+    }
 }
@@ -0,0 +1,68 @@
+package com.planitsquare.holiday_keeper.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.planitsquare.holiday_keeper.domain.entity.HolidayFetchFingerprint;
+import com.planitsquare.holiday_keeper.domain.repository.HolidayFetchFingerprintRepository;
+import com.planitsquare.holiday_keeper.external.dto.ResponseValidators;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class HolidayFetchFingerprintService {
+
+    private final HolidayFetchFingerprintRepository fingerprintRepository;
+
+    public Optional<HolidayFetchFingerprint> find(final String countryCode, final Integer year) {
+        return fingerprintRepository.findByCountryCodeAndYear(countryCode, year);
+    }
+
+    public Map<String, HolidayFetchFingerprint> findAllByPairKey() {
+        return fingerprintRepository.findAll().stream().collect(Collectors.toMap(
+                fingerprint -> pairKey(fingerprint.getCountryCode(), fingerprint.getYear()),
+                Function.identity()));
+    }
+
+    @Transactional
+    public void record(final String countryCode, final Integer year,
+            final ResponseValidators validators, final Integer holidayCount) {
+        final HolidayFetchFingerprint latest = HolidayFetchFingerprint.builder()
+                .countryCode(countryCode).year(year).etag(validators.etag())
+                .lastModified(validators.lastModified()).contentHash(validators.contentHash())
+                .holidayCount(holidayCount).fetchedAt(LocalDateTime.now()).build();
+
+        fingerprintRepository.findByCountryCodeAndYear(countryCode, year).ifPresentOrElse(
+                stored -> stored.updateFrom(latest), () -> fingerprintRepository.save(latest));
+    }
+
+    @Transactional
+    public void confirm(final String countryCode, final Integer year,
+            final ResponseValidators validators) {
+        fingerprintRepository.findByCountryCodeAndYear(countryCode, year)
+                .ifPresent(stored -> stored.confirm(validators.etag(), validators.lastModified(),
+                        LocalDateTime.now()));
+    }
+
+    @Transactional
+    public void delete(final String countryCode, final Integer year) {
+        fingerprintRepository.deleteByCountryCodeAndYear(countryCode, year);
+    }
+
+    public static String pairKey(final String countryCode, final Integer year) {
+        return countryCode + ":" + year;
+    }
+
+    public static ResponseValidators toValidators(final HolidayFetchFingerprint fingerprint) {
+        if (fingerprint == null) {
+            return ResponseValidators.none();
+        }
+        return new ResponseValidators(fingerprint.getEtag(), fingerprint.getLastModified(),
+                fingerprint.getContentHash());
+    }
+}
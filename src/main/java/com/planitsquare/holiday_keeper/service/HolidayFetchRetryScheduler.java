@@ -0,0 +1,167 @@
+package com.planitsquare.holiday_keeper.service;
+
+import static com.planitsquare.holiday_keeper.constants.LogMessage.FETCH_OPERATION_RETRY_EXHAUSTED;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.FETCH_OPERATION_RETRY_SCHEDULED;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.FETCH_RETRY_EXHAUSTED;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.FETCH_RETRY_SCHEDULED;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import com.planitsquare.holiday_keeper.service.dto.CountryYear;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidayFetchRetryScheduler {
+
+    static final String RETRY_METRIC_NAME = "holiday.fetch.retries";
+    static final String OUTCOME_TAG = "outcome";
+    static final String OUTCOME_SCHEDULED = "scheduled";
+    static final String OUTCOME_RECOVERED = "recovered";
+    static final String OUTCOME_EXHAUSTED = "exhausted";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${holiday.fetch.retry.max-attempts}")
+    private Integer maxAttempts;
+
+    @Value("${holiday.fetch.retry.initial-delay-ms}")
+    private Long initialDelayMs;
+
+    @Value("${holiday.fetch.retry.multiplier}")
+    private Double multiplier;
+
+    @Value("${holiday.fetch.retry.max-delay-ms}")
+    private Long maxDelayMs;
+
+    public <R> List<R> runAll(final List<CountryYear> pairs, final Function<CountryYear, R> action,
+            final BiFunction<CountryYear, RuntimeException, R> onFailure) {
+        final Deque<CountryYear> ready = new ArrayDeque<>(pairs);
+        final DelayQueue<PendingRetry> retries = new DelayQueue<>();
+        final List<R> results = new ArrayList<>(pairs.size());
+
+        while (!ready.isEmpty() || !retries.isEmpty()) {
+            final PendingRetry due = ready.isEmpty() ? takeRetry(retries) : retries.poll();
+            final CountryYear pair = due != null ? due.pair() : ready.poll();
+            final int attempt = due != null ? due.attempt() : 1;
+
+            try {
+                results.add(action.apply(pair));
+                recordSuccess(attempt);
+            } catch (final RuntimeException e) {
+                final Optional<Duration> delay = nextRetryDelay(pair, attempt, e);
+                if (delay.isPresent()) {
+                    retries.add(new PendingRetry(pair, attempt + 1,
+                            System.nanoTime() + delay.get().toNanos()));
+                } else {
+                    results.add(onFailure.apply(pair, e));
+                }
+            }
+        }
+        return results;
+    }
+
+    public <R> R run(final String operation, final Supplier<R> action) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                final R result = action.get();
+                recordSuccess(attempt);
+                return result;
+            } catch (final RestClientException e) {
+                if (attempt >= maxAttempts) {
+                    log.error(FETCH_OPERATION_RETRY_EXHAUSTED.getMessage(), operation, attempt,
+                            e.getMessage());
+                    incrementRetries(OUTCOME_EXHAUSTED);
+                    throw e;
+                }
+                final Duration delay = delayBefore(attempt + 1);
+                log.warn(FETCH_OPERATION_RETRY_SCHEDULED.getMessage(), operation,
+                        delay.toMillis(), attempt + 1, maxAttempts, e.getMessage());
+                incrementRetries(OUTCOME_SCHEDULED);
+                sleep(delay);
+            }
+        }
+    }
+
+    public Optional<Duration> nextRetryDelay(final CountryYear pair, final int failedAttempt,
+            final RuntimeException failure) {
+        if (!(failure instanceof RestClientException)) {
+            return Optional.empty();
+        }
+        if (failedAttempt >= maxAttempts) {
+            log.error(FETCH_RETRY_EXHAUSTED.getMessage(), pair.year(), pair.countryCode(),
+                    failedAttempt, failure.getMessage());
+            incrementRetries(OUTCOME_EXHAUSTED);
+            return Optional.empty();
+        }
+
+        final Duration delay = delayBefore(failedAttempt + 1);
+        log.warn(FETCH_RETRY_SCHEDULED.getMessage(), pair.year(), pair.countryCode(),
+                delay.toMillis(), failedAttempt + 1, maxAttempts, failure.getMessage());
+        incrementRetries(OUTCOME_SCHEDULED);
+        return Optional.of(delay);
+    }
+
+    public void recordSuccess(final int attempt) {
+        if (attempt > 1) {
+            incrementRetries(OUTCOME_RECOVERED);
+        }
+    }
+
+    private Duration delayBefore(final int attempt) {
+        final double delayMs = initialDelayMs * Math.pow(multiplier, attempt - 2);
+        return Duration.ofMillis((long) Math.min(delayMs, maxDelayMs));
+    }
+
+    private void incrementRetries(final String outcome) {
+        meterRegistry.counter(RETRY_METRIC_NAME, OUTCOME_TAG, outcome).increment();
+    }
+
+    private void sleep(final Duration delay) {
+        try {
+            Thread.sleep(delay);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private PendingRetry takeRetry(final DelayQueue<PendingRetry> retries) {
+        try {
+            return retries.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record PendingRetry(CountryYear pair, int attempt, long readyAtNanos)
+            implements Delayed {
+
+        @Override
+        public long getDelay(final TimeUnit unit) {
+            return unit.convert(readyAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(final Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS),
+                    other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.planitsquare.holiday_keeper.service;
+
+import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_JOB_COMPLETED;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_JOB_INCOMPLETE;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_JOB_RESUMED;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_JOB_STARTED;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.planitsquare.holiday_keeper.constants.HolidayLoadMode;
+import com.planitsquare.holiday_keeper.domain.entity.HolidayLoadCheckpoint;
+import com.planitsquare.holiday_keeper.domain.entity.HolidayLoadJob;
+import com.planitsquare.holiday_keeper.domain.repository.HolidayLoadCheckpointRepository;
+import com.planitsquare.holiday_keeper.domain.repository.HolidayLoadJobRepository;
+import com.planitsquare.holiday_keeper.exception.HolidayLoadJobNotFoundException;
+import com.planitsquare.holiday_keeper.service.dto.CountryYear;
+import com.planitsquare.holiday_keeper.service.dto.HolidayLoadPlan;
+import com.planitsquare.holiday_keeper.service.dto.HolidayLoadProgress;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class HolidayLoadCheckpointService {
+
+    private final HolidayLoadJobRepository jobRepository;
+    private final HolidayLoadCheckpointRepository checkpointRepository;
+
+    @Transactional
+    public Long open(final HolidayLoadMode mode, final Integer startYear, final Integer endYear) {
+        return jobRepository.findLatestInProgress(mode, startYear, endYear)
+                .orElseGet(() -> jobRepository.save(HolidayLoadJob.builder().mode(mode)
+                        .startYear(startYear).endYear(endYear).totalPairs(0)
+                        .startedAt(LocalDateTime.now()).build()))
+                .getId();
+    }
+
+    public Optional<HolidayLoadMode> findInterruptedMode(final Integer startYear,
+            final Integer endYear) {
+        return jobRepository.findLatestInProgress(startYear, endYear)
+                .map(HolidayLoadJob::getMode);
+    }
+
+    @Transactional
+    public HolidayLoadPlan plan(final Long jobId, final List<CountryYear> pairs) {
+        final HolidayLoadJob job = findJob(jobId);
+        final Set<CountryYear> completed = checkpointRepository.findByJobId(jobId).stream()
+                .map(checkpoint -> new CountryYear(checkpoint.getCountryCode(),
+                        checkpoint.getYear()))
+                .collect(Collectors.toSet());
+        final List<CountryYear> pending =
+                pairs.stream().filter(pair -> !completed.contains(pair)).toList();
+        final HolidayLoadPlan plan = new HolidayLoadPlan(jobId, pending, pairs.size());
+
+        job.resume(plan.totalPairs(), plan.completedPairs(), LocalDateTime.now());
+        if (plan.completedPairs() == 0) {
+            log.info(LOAD_JOB_STARTED.getMessage(), jobId, plan.totalPairs());
+            return plan;
+        }
+        log.info(LOAD_JOB_RESUMED.getMessage(), jobId, plan.completedPairs(), plan.totalPairs(),
+                pending.size());
+        return plan;
+    }
+
+    @Transactional
+    public void markCompleted(final Long jobId, final CountryYear pair) {
+        checkpointRepository.save(HolidayLoadCheckpoint.builder().jobId(jobId)
+                .countryCode(pair.countryCode()).year(pair.year())
+                .completedAt(LocalDateTime.now()).build());
+    }
+
+    @Transactional
+    public void finish(final Long jobId) {
+        jobRepository.findById(jobId).ifPresent(job -> {
+            final int completedPairs = countCompletedPairs(job);
+            job.finish(completedPairs, LocalDateTime.now());
+            if (job.getStatus() == HolidayLoadJob.Status.COMPLETED) {
+                log.info(LOAD_JOB_COMPLETED.getMessage(), jobId, completedPairs);
+                return;
+            }
+            log.warn(LOAD_JOB_INCOMPLETE.getMessage(), jobId, completedPairs,
+                    job.getTotalPairs());
+        });
+    }
+
+    public HolidayLoadProgress getProgress() {
+        final HolidayLoadJob job =
+                jobRepository.findLatest().orElseThrow(HolidayLoadJobNotFoundException::new);
+        return HolidayLoadProgress.of(job, countCompletedPairs(job), LocalDateTime.now());
+    }
+
+    public HolidayLoadProgress getProgress(final Long jobId) {
+        final HolidayLoadJob job = findJob(jobId);
+        return HolidayLoadProgress.of(job, countCompletedPairs(job), LocalDateTime.now());
+    }
+
+    public HolidayLoadJob.Status getStatus(final Long jobId) {
+        return findJob(jobId).getStatus();
+    }
+
+    private HolidayLoadJob findJob(final Long jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new HolidayLoadJobNotFoundException(jobId));
+    }
+
+    private int countCompletedPairs(final HolidayLoadJob job) {
+        final long completedSinceResume =
+                checkpointRepository.countCompletedSince(job.getId(), job.getResumedAt());
+        return (int) Math.min(job.getCompletedPairsAtResume() + completedSinceResume,
+                job.getTotalPairs());
+    }
+}
@@ -0,0 +1,144 @@
+package com.planitsquare.holiday_keeper.service;
+
+import static com.planitsquare.holiday_keeper.constants.ErrorMessage.LOAD_PAIR_FAILED;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import com.planitsquare.holiday_keeper.constants.HolidayLoadMode;
+import com.planitsquare.holiday_keeper.domain.entity.HolidayLoadJob;
+import com.planitsquare.holiday_keeper.service.dto.HolidayLoadPlan;
+import com.planitsquare.holiday_keeper.service.dto.PairLoadResult;
+
+public class HolidayLoadExecution {
+
+    static final int MAX_RECORDED_ERRORS = 50;
+
+    private final Long jobId;
+    private final HolidayLoadMode mode;
+    private final LocalDateTime startedAt;
+
+    private volatile Status status = Status.RUNNING;
+    private volatile LocalDateTime finishedAt;
+    private volatile Integer totalPairs;
+    private volatile Integer resumedPairs = 0;
+
+    private final AtomicInteger succeededPairs = new AtomicInteger();
+    private final AtomicInteger failedPairs = new AtomicInteger();
+    private final AtomicInteger unavailablePairs = new AtomicInteger();
+    private final AtomicLong loadedHolidays = new AtomicLong();
+    private final AtomicInteger recordedErrors = new AtomicInteger();
+    private final Queue<String> errors = new ConcurrentLinkedQueue<>();
+
+    public HolidayLoadExecution(final Long jobId, final LocalDateTime startedAt) {
+        this(jobId, HolidayLoadMode.FULL, startedAt);
+    }
+
+    public HolidayLoadExecution(final Long jobId, final HolidayLoadMode mode,
+            final LocalDateTime startedAt) {
+        this.jobId = jobId;
+        this.mode = mode;
+        this.startedAt = startedAt;
+    }
+
+    public void planned(final HolidayLoadPlan plan) {
+        totalPairs = plan.totalPairs();
+        resumedPairs = plan.completedPairs();
+    }
+
+    public void record(final PairLoadResult result) {
+        if (result.success()) {
+            succeededPairs.incrementAndGet();
+            loadedHolidays.addAndGet(result.loadedCount());
+            return;
+        }
+        failedPairs.incrementAndGet();
+        if (result.upstreamUnavailable()) {
+            unavailablePairs.incrementAndGet();
+        }
+        addError(LOAD_PAIR_FAILED.getMessage().formatted(result.year(), result.countryCode(),
+                result.errorMessage()));
+    }
+
+    public void complete(final HolidayLoadJob.Status jobStatus,
+            final LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+        this.status = jobStatus == HolidayLoadJob.Status.COMPLETED ? Status.COMPLETED
+                : Status.INCOMPLETE;
+    }
+
+    public void fail(final String errorMessage, final LocalDateTime finishedAt) {
+        addError(errorMessage);
+        this.finishedAt = finishedAt;
+        this.status = Status.FAILED;
+    }
+
+    public boolean isRunning() {
+        return status == Status.RUNNING;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public HolidayLoadMode getMode() {
+        return mode;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public Integer getTotalPairs() {
+        return totalPairs;
+    }
+
+    public Integer getCompletedPairs() {
+        return resumedPairs + succeededPairs.get();
+    }
+
+    public Integer getSucceededPairs() {
+        return succeededPairs.get();
+    }
+
+    public Integer getFailedPairs() {
+        return failedPairs.get();
+    }
+
+    public Integer getUnavailablePairs() {
+        return unavailablePairs.get();
+    }
+
+    public Long getLoadedHolidays() {
+        return loadedHolidays.get();
+    }
+
+    public List<String> getErrors() {
+        return List.copyOf(errors);
+    }
+
+    public Long getElapsedMillis(final LocalDateTime now) {
+        return Duration.between(startedAt, finishedAt != null ? finishedAt : now).toMillis();
+    }
+
+    private void addError(final String message) {
+        if (recordedErrors.getAndIncrement() < MAX_RECORDED_ERRORS) {
+            errors.add(message);
+        }
+    }
+
+    public enum Status {
+        RUNNING, COMPLETED, INCOMPLETE, FAILED
+    }
+}
@@ -0,0 +1,104 @@
+package com.planitsquare.holiday_keeper.service;
+
+import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_JOB_ACCEPTED;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_JOB_COALESCED;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_JOB_FAILED;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_JOB_RESUMING_ON_STARTUP;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import com.planitsquare.holiday_keeper.constants.HolidayLoadMode;
+import com.planitsquare.holiday_keeper.service.dto.HolidayLoadLaunch;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HolidayLoadLauncher {
+
+    static final int MAX_TRACKED_EXECUTIONS = 20;
+
+    private static final String LOAD_THREAD_NAME = "holiday-load";
+
+    private final ConcurrentHolidayLoader concurrentHolidayLoader;
+    private final SequentialHolidayLoader sequentialHolidayLoader;
+    private final HolidayLoadCheckpointService checkpointService;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name(LOAD_THREAD_NAME).daemon().factory());
+    private final Map<Long, HolidayLoadExecution> executions = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Long, HolidayLoadExecution> eldest) {
+            return size() > MAX_TRACKED_EXECUTIONS;
+        }
+    };
+    private HolidayLoadExecution current;
+
+    @Value("${holiday.load.concurrent.enabled}")
+    private boolean concurrentLoadEnabled;
+
+    @Value("${holiday.load.resume-on-startup}")
+    private boolean resumeOnStartup;
+
+    @Value("${holiday.data.start-year}")
+    private Integer startYear;
+
+    @Value("${holiday.data.end-year}")
+    private Integer endYear;
+
+    public synchronized HolidayLoadLaunch launch(final HolidayLoadMode mode) {
+        if (current != null && current.isRunning()) {
+            log.info(LOAD_JOB_COALESCED.getMessage(), current.getJobId());
+            return new HolidayLoadLaunch(current.getJobId(), true);
+        }
+
+        final Long jobId = checkpointService.open(mode, startYear, endYear);
+        final HolidayLoadExecution execution =
+                new HolidayLoadExecution(jobId, mode, LocalDateTime.now());
+        executions.remove(jobId);
+        executions.put(jobId, execution);
+        current = execution;
+        executor.execute(() -> run(execution));
+
+        log.info(LOAD_JOB_ACCEPTED.getMessage(), jobId, mode);
+        return new HolidayLoadLaunch(jobId, false);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedLoad() {
+        if (!resumeOnStartup) {
+            return;
+        }
+        checkpointService.findInterruptedMode(startYear, endYear).ifPresent(mode -> {
+            final HolidayLoadLaunch launch = launch(mode);
+            log.info(LOAD_JOB_RESUMING_ON_STARTUP.getMessage(), launch.jobId(), mode);
+        });
+    }
+
+    public synchronized Optional<HolidayLoadExecution> find(final Long jobId) {
+        return Optional.ofNullable(executions.get(jobId));
+    }
+
+    private void run(final HolidayLoadExecution execution) {
+        try {
+            if (concurrentLoadEnabled) {
+                concurrentHolidayLoader.loadAllHolidays(execution);
+            } else {
+                sequentialHolidayLoader.loadAllHolidays(execution);
+            }
+            execution.complete(checkpointService.getStatus(execution.getJobId()),
+                    LocalDateTime.now());
+        } catch (final RuntimeException e) {
+            log.error(LOAD_JOB_FAILED.getMessage(), execution.getJobId(), e.getMessage());
+            execution.fail(e.getMessage(), LocalDateTime.now());
+        }
+    }
+}
@@ -1,18 +1,28 @@
 package com.planitsquare.holiday_keeper.service;
 
 import static com.planitsquare.holiday_keeper.constants.LogMessage.REFRESH_START;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import com.planitsquare.holiday_keeper.api.dto.request.HolidaySearchRequest;
+import com.planitsquare.holiday_keeper.api.dto.response.HolidayLoadJobResponse;
+import com.planitsquare.holiday_keeper.api.dto.response.HolidayLoadProgressResponse;
 import com.planitsquare.holiday_keeper.api.dto.response.HolidayResponse;
 import com.planitsquare.holiday_keeper.api.dto.response.PageResponse;
+import com.planitsquare.holiday_keeper.constants.HolidayLoadMode;
+import com.planitsquare.holiday_keeper.constants.HolidayType;
 import com.planitsquare.holiday_keeper.domain.entity.Country;
-import com.planitsquare.holiday_keeper.domain.entity.PublicHoliday;
 import com.planitsquare.holiday_keeper.domain.repository.HolidayRepository;
+import com.planitsquare.holiday_keeper.service.dto.CountryYear;
+import com.planitsquare.holiday_keeper.service.dto.HolidayLoadLaunch;
+import com.planitsquare.holiday_keeper.service.dto.HolidaySearchCursor;
+import com.planitsquare.holiday_keeper.service.dto.HolidayUpsertResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -25,17 +35,43 @@ public class HolidayService {
     private final HolidayRepository holidayRepository;
     private final HolidayDataService holidayDataService;
     private final CountryService countryService;
+    private final HolidayLoadLauncher loadLauncher;
+    private final HolidayLoadCheckpointService checkpointService;
+    private final HolidayFetchRetryScheduler retryScheduler;
 
-    @Transactional
-    public void loadAllHolidays() {
-        holidayDataService.loadAllHolidays();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public HolidayLoadLaunch startLoad(final HolidayLoadMode mode) {
+        return loadLauncher.launch(mode);
+    }
+
+    public HolidayLoadJobResponse getLoadJob(final Long jobId) {
+        return loadLauncher.find(jobId)
+                .map(execution -> HolidayLoadJobResponse.from(execution, LocalDateTime.now()))
+                .orElseGet(() -> HolidayLoadJobResponse.from(checkpointService.getProgress(jobId)));
+    }
+
+    public HolidayLoadProgressResponse getLoadProgress() {
+        return HolidayLoadProgressResponse.from(checkpointService.getProgress(),
+                LocalDateTime.now());
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public HolidayUpsertResult refreshHolidays(final Integer year, final String countryCode) {
+        log.info(REFRESH_START.getMessage(), year, countryCode);
+        final Country country = countryService.findByCountryCode(countryCode);
+        return retryScheduler.runAll(List.of(new CountryYear(countryCode, year)),
+                pair -> holidayDataService.refreshHolidaysForYearAndCountry(year, countryCode,
+                        country),
+                (pair, e) -> {
+                    throw e;
+                }).getFirst();
     }
 
     @Transactional
-    public Integer refreshHolidays(final Integer year, final String countryCode) {
+    public HolidayUpsertResult refreshHolidaysOnce(final Integer year, final String countryCode) {
         log.info(REFRESH_START.getMessage(), year, countryCode);
         final Country country = countryService.findByCountryCode(countryCode);
-        return holidayDataService.loadHolidaysForYearAndCountry(year, countryCode, country);
+        return holidayDataService.refreshHolidaysForYearAndCountry(year, countryCode, country);
     }
 
     @Transactional
@@ -45,10 +81,33 @@ public class HolidayService {
 
     public PageResponse<HolidayResponse> searchHolidays(final HolidaySearchRequest request) {
         final HolidaySearchRequest requestWithDefaults = request.withDefaults();
+        validateTypeFilter(requestWithDefaults);
+        if (requestWithDefaults.hasCursor()) {
+            return searchHolidaysAfter(requestWithDefaults);
+        }
         final Pageable pageable = createPageable(requestWithDefaults);
-        final Page<PublicHoliday> holidayPage =
+        if (!requestWithDefaults.withTotal()) {
+            final Slice<HolidayResponse> holidaySlice =
+                    holidayRepository.searchWithoutTotal(requestWithDefaults, pageable);
+            return convertToPageResponse(holidaySlice, null, null);
+        }
+        final Page<HolidayResponse> holidayPage =
                 holidayRepository.search(requestWithDefaults, pageable);
-        return convertToPageResponse(holidayPage);
+        return convertToPageResponse(holidayPage, holidayPage.getTotalElements(),
+                holidayPage.getTotalPages());
+    }
+
+    private PageResponse<HolidayResponse> searchHolidaysAfter(
+            final HolidaySearchRequest request) {
+        final HolidaySearchCursor cursor = HolidaySearchCursor.decode(request.cursor());
+        final Slice<HolidayResponse> holidaySlice =
+                holidayRepository.searchAfter(request, cursor, request.size());
+        return PageResponse.ofCursor(holidaySlice.getContent(), request.size(),
+                holidaySlice.isLast(), nextCursorOf(holidaySlice));
+    }
+
+    private void validateTypeFilter(final HolidaySearchRequest request) {
+        HolidayType.toFilterBitmask(request.types());
     }
 
     private Pageable createPageable(final HolidaySearchRequest request) {
@@ -56,14 +115,17 @@ public class HolidayService {
     }
 
     private PageResponse<HolidayResponse> convertToPageResponse(
-            final Page<PublicHoliday> holidayPage) {
-        final List<HolidayResponse> content = convertToHolidayResponses(holidayPage.getContent());
-        return PageResponse.of(content, holidayPage.getNumber(), holidayPage.getSize(),
-                holidayPage.getTotalElements(), holidayPage.getTotalPages(), holidayPage.isFirst(),
-                holidayPage.isLast());
+            final Slice<HolidayResponse> holidays, final Long totalElements,
+            final Integer totalPages) {
+        return PageResponse.of(holidays.getContent(), holidays.getNumber(), holidays.getSize(),
+                totalElements, totalPages, holidays.isFirst(), holidays.isLast(),
+                nextCursorOf(holidays));
     }
 
-    private List<HolidayResponse> convertToHolidayResponses(final List<PublicHoliday> holidays) {
-        return holidays.stream().map(HolidayResponse::from).toList();
+    private String nextCursorOf(final Slice<HolidayResponse> holidays) {
+        if (!holidays.hasNext() || holidays.getContent().isEmpty()) {
+            return null;
+        }
+        return HolidaySearchCursor.after(holidays.getContent().getLast()).encode();
     }
 }
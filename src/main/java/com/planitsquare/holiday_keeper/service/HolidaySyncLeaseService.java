@@ -0,0 +1,105 @@
+package com.planitsquare.holiday_keeper.service;
+
+import static com.planitsquare.holiday_keeper.constants.LogMessage.SYNC_LEASE_CONFLICT;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.SYNC_RUN_PREPARED;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import com.planitsquare.holiday_keeper.domain.entity.HolidaySyncLease;
+import com.planitsquare.holiday_keeper.domain.repository.HolidaySyncLeaseRepository;
+import com.planitsquare.holiday_keeper.service.dto.SyncShard;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class HolidaySyncLeaseService {
+
+    private final HolidaySyncLeaseRepository leaseRepository;
+
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + "/"
+            + UUID.randomUUID().toString().substring(0, 8);
+
+    @Value("${batch.sync.shard-count}")
+    private Integer shardCount;
+
+    @Value("${batch.sync.lease-duration-ms}")
+    private Long leaseDurationMs;
+
+    public static String runKey(final Integer previousYear, final Integer currentYear,
+            final LocalDate runDate) {
+        return "%d-%d@%s".formatted(previousYear, currentYear, runDate);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void prepare(final String runKey) {
+        if (!leaseRepository.findByRunKey(runKey).isEmpty()) {
+            return;
+        }
+        final List<HolidaySyncLease> shards = IntStream.range(0, shardCount)
+                .mapToObj(shardIndex -> HolidaySyncLease.builder().runKey(runKey)
+                        .shardIndex(shardIndex).shardCount(shardCount).build())
+                .toList();
+        try {
+            leaseRepository.saveAllAndFlush(shards);
+            log.info(SYNC_RUN_PREPARED.getMessage(), runKey, shardCount);
+        } catch (final DataIntegrityViolationException e) {
+            log.debug(SYNC_LEASE_CONFLICT.getMessage(), runKey, e.getMessage());
+        }
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<SyncShard> claimNext(final String runKey) {
+        for (final HolidaySyncLease lease : leaseRepository.findByRunKey(runKey)) {
+            if (!lease.isCompleted() && tryClaim(lease)) {
+                return Optional.of(new SyncShard(lease.getId(), runKey, lease.getShardIndex(),
+                        lease.getShardCount(), lease.getOwner()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean renew(final SyncShard shard) {
+        try {
+            return leaseRepository.renew(shard.leaseId(), owner, leaseDurationMs);
+        } catch (final ConcurrencyFailureException e) {
+            log.debug(SYNC_LEASE_CONFLICT.getMessage(), shard.runKey(), e.getMessage());
+            return false;
+        }
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean complete(final SyncShard shard) {
+        return leaseRepository.complete(shard.leaseId(), owner);
+    }
+
+    public boolean isFinished(final String runKey) {
+        final List<HolidaySyncLease> leases = leaseRepository.findByRunKey(runKey);
+        return !leases.isEmpty() && leases.stream().allMatch(HolidaySyncLease::isCompleted);
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    private boolean tryClaim(final HolidaySyncLease lease) {
+        try {
+            return leaseRepository.claim(lease.getId(), owner, leaseDurationMs);
+        } catch (final ConcurrencyFailureException e) {
+            log.debug(SYNC_LEASE_CONFLICT.getMessage(), lease.getRunKey(), e.getMessage());
+            return false;
+        }
+    }
+}
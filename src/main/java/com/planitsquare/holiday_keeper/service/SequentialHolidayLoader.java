@@ -0,0 +1,118 @@
+package com.planitsquare.holiday_keeper.service;
+
+import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_ALL_COMPLETED;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_ALL_START;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_CHECKPOINT_FAILED;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_HOLIDAYS_FAILED;
+import static com.planitsquare.holiday_keeper.constants.LogMessage.LOAD_HOLIDAYS_UNAVAILABLE;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import com.planitsquare.holiday_keeper.domain.entity.Country;
+import com.planitsquare.holiday_keeper.exception.ExternalApiUnavailableException;
+import com.planitsquare.holiday_keeper.service.dto.CountryYear;
+import com.planitsquare.holiday_keeper.service.dto.HolidayLoadPlan;
+import com.planitsquare.holiday_keeper.service.dto.HolidayUpsertResult;
+import com.planitsquare.holiday_keeper.service.dto.PairLoadResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SequentialHolidayLoader {
+
+    private final HolidayDataService holidayDataService;
+    private final CountryService countryService;
+    private final HolidayLoadCheckpointService checkpointService;
+    private final HolidayCoverage coverage;
+    private final HolidayFetchRetryScheduler retryScheduler;
+
+    @Value("${holiday.data.start-year}")
+    private Integer startYear;
+
+    @Value("${holiday.data.end-year}")
+    private Integer endYear;
+
+    public HolidayUpsertResult loadAllHolidays(final HolidayLoadExecution execution) {
+        log.info(LOAD_ALL_START.getMessage(), startYear, endYear);
+
+        final List<Country> countries = countryService.fetchAndSaveAllCountries();
+        final List<CountryYear> pairs =
+                coverage.pairsToLoad(buildPairs(countries), execution.getMode());
+        final HolidayLoadPlan plan = checkpointService.plan(execution.getJobId(), pairs);
+        execution.planned(plan);
+        final HolidayUpsertResult totalResult = loadPendingPairs(plan, countries, execution);
+        checkpointService.finish(plan.jobId());
+
+        log.info(LOAD_ALL_COMPLETED.getMessage(), totalResult.totalCount(),
+                totalResult.inserted(), totalResult.updated(), totalResult.deleted(),
+                totalResult.unchanged());
+        return totalResult;
+    }
+
+    private List<CountryYear> buildPairs(final List<Country> countries) {
+        return countries.stream()
+                .flatMap(country -> IntStream.rangeClosed(startYear, endYear)
+                        .mapToObj(year -> new CountryYear(country.getCountryCode(), year)))
+                .toList();
+    }
+
+    private HolidayUpsertResult loadPendingPairs(final HolidayLoadPlan plan,
+            final List<Country> countries, final HolidayLoadExecution execution) {
+        final Map<String, Country> countriesByCode = countries.stream().collect(
+                Collectors.toMap(Country::getCountryCode, Function.identity(), (a, b) -> a));
+
+        return retryScheduler
+                .runAll(plan.pendingPairs(),
+                        pair -> loadPair(plan.jobId(), pair,
+                                countriesByCode.get(pair.countryCode()), execution),
+                        (pair, e) -> handleLoadFailure(pair, e, execution))
+                .stream().reduce(HolidayUpsertResult.empty(), HolidayUpsertResult::plus);
+    }
+
+    private HolidayUpsertResult loadPair(final Long jobId, final CountryYear pair,
+            final Country country, final HolidayLoadExecution execution) {
+        final long startedAt = System.nanoTime();
+        final HolidayUpsertResult result = holidayDataService
+                .loadHolidaysForYearAndCountry(pair.year(), pair.countryCode(), country);
+        checkpoint(jobId, pair);
+        execution.record(PairLoadResult.success(pair.countryCode(), pair.year(), result,
+                elapsedMillisSince(startedAt)));
+        return result;
+    }
+
+    private void checkpoint(final Long jobId, final CountryYear pair) {
+        try {
+            checkpointService.markCompleted(jobId, pair);
+        } catch (final RuntimeException e) {
+            log.warn(LOAD_CHECKPOINT_FAILED.getMessage(), pair.year(), pair.countryCode(),
+                    e.getMessage());
+        }
+    }
+
+    private HolidayUpsertResult handleLoadFailure(final CountryYear pair,
+            final RuntimeException e, final HolidayLoadExecution execution) {
+        if (e instanceof ExternalApiUnavailableException) {
+            log.warn(LOAD_HOLIDAYS_UNAVAILABLE.getMessage(), pair.year(), pair.countryCode(),
+                    e.getMessage());
+            execution.record(PairLoadResult.unavailable(pair.countryCode(), pair.year(),
+                    e.getMessage(), 0L));
+            return HolidayUpsertResult.empty();
+        }
+        log.error(LOAD_HOLIDAYS_FAILED.getMessage(), pair.year(), pair.countryCode(),
+                e.getMessage());
+        execution.record(PairLoadResult.failure(pair.countryCode(), pair.year(), e.getMessage(),
+                0L));
+        return HolidayUpsertResult.empty();
+    }
+
+    private long elapsedMillisSince(final long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+}
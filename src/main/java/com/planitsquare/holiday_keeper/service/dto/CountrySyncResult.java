@@ -0,0 +1,32 @@
+package com.planitsquare.holiday_keeper.service.dto;
+
+import java.util.List;
+
+public record CountrySyncResult(String countryCode, HolidayUpsertResult changes,
+        Integer failedPairs, Boolean timedOut, Boolean stillRunning, Long elapsedMillis) {
+
+    public static CountrySyncResult completed(final String countryCode,
+            final List<PairLoadResult> results, final Long elapsedMillis) {
+        final HolidayUpsertResult changes = results.stream().map(PairLoadResult::upsertResult)
+                .reduce(HolidayUpsertResult.empty(), HolidayUpsertResult::plus);
+        final int failedPairs = (int) results.stream().filter(result -> !result.success()).count();
+        return new CountrySyncResult(countryCode, changes, failedPairs, false, false,
+                elapsedMillis);
+    }
+
+    public static CountrySyncResult failed(final String countryCode, final Integer failedPairs,
+            final Long elapsedMillis) {
+        return new CountrySyncResult(countryCode, HolidayUpsertResult.empty(), failedPairs, false,
+                false, elapsedMillis);
+    }
+
+    public static CountrySyncResult timedOut(final String countryCode, final Integer failedPairs,
+            final Boolean stillRunning, final Long elapsedMillis) {
+        return new CountrySyncResult(countryCode, HolidayUpsertResult.empty(), failedPairs, true,
+                stillRunning, elapsedMillis);
+    }
+
+    public Boolean succeeded() {
+        return !timedOut && failedPairs == 0;
+    }
+}
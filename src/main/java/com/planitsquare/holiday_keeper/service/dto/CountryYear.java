@@ -0,0 +1,4 @@
+package com.planitsquare.holiday_keeper.service.dto;
+
+public record CountryYear(String countryCode, Integer year) {
+}
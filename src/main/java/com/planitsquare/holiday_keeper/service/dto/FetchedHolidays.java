@@ -0,0 +1,18 @@
+package com.planitsquare.holiday_keeper.service.dto;
+
+import java.util.List;
+import com.planitsquare.holiday_keeper.domain.entity.Country;
+import com.planitsquare.holiday_keeper.external.dto.NagerHolidayResponse;
+import com.planitsquare.holiday_keeper.external.dto.ResponseValidators;
+
+public record FetchedHolidays(Country country, Integer year, List<NagerHolidayResponse> holidays,
+        ResponseValidators validators, Long startedAtNanos) {
+
+    public String countryCode() {
+        return country.getCountryCode();
+    }
+
+    public Integer rowCount() {
+        return holidays.size();
+    }
+}
@@ -0,0 +1,8 @@
+package com.planitsquare.holiday_keeper.service.dto;
+
+import java.util.List;
+import com.planitsquare.holiday_keeper.domain.entity.PublicHoliday;
+
+public record HolidayChanges(List<PublicHoliday> holidaysToUpsert, List<Long> removedIds,
+        HolidayUpsertResult result) {
+}
@@ -0,0 +1,4 @@
+package com.planitsquare.holiday_keeper.service.dto;
+
+public record HolidayLoadLaunch(Long jobId, Boolean coalesced) {
+}
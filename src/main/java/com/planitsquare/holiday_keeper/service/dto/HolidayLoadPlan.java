@@ -0,0 +1,10 @@
+package com.planitsquare.holiday_keeper.service.dto;
+
+import java.util.List;
+
+public record HolidayLoadPlan(Long jobId, List<CountryYear> pendingPairs, Integer totalPairs) {
+
+    public Integer completedPairs() {
+        return totalPairs - pendingPairs.size();
+    }
+}
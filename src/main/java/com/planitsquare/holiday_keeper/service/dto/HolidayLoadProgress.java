@@ -0,0 +1,45 @@
+package com.planitsquare.holiday_keeper.service.dto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import com.planitsquare.holiday_keeper.domain.entity.HolidayLoadJob;
+
+public record HolidayLoadProgress(Long jobId, HolidayLoadJob.Status status, Integer startYear,
+        Integer endYear, Integer totalPairs, Integer completedPairs, LocalDateTime startedAt,
+        LocalDateTime finishedAt, Long estimatedRemainingSeconds) {
+
+    public static HolidayLoadProgress of(final HolidayLoadJob job, final Integer completedPairs,
+            final LocalDateTime now) {
+        return new HolidayLoadProgress(job.getId(), job.getStatus(), job.getStartYear(),
+                job.getEndYear(), job.getTotalPairs(), completedPairs, job.getStartedAt(),
+                job.getFinishedAt(), estimateRemainingSeconds(job, completedPairs, now));
+    }
+
+    public Integer remainingPairs() {
+        return totalPairs - completedPairs;
+    }
+
+    public Double progressPercent() {
+        return totalPairs == 0 ? 100.0 : completedPairs * 100.0 / totalPairs;
+    }
+
+    public LocalDateTime estimatedCompletionAt(final LocalDateTime now) {
+        return estimatedRemainingSeconds != null ? now.plusSeconds(estimatedRemainingSeconds)
+                : null;
+    }
+
+    private static Long estimateRemainingSeconds(final HolidayLoadJob job,
+            final Integer completedPairs, final LocalDateTime now) {
+        final int remainingPairs = job.getTotalPairs() - completedPairs;
+        if (remainingPairs <= 0) {
+            return 0L;
+        }
+
+        final int completedSinceResume = completedPairs - job.getCompletedPairsAtResume();
+        if (completedSinceResume <= 0) {
+            return null;
+        }
+        final long elapsedMillis = Duration.between(job.getResumedAt(), now).toMillis();
+        return elapsedMillis * remainingPairs / completedSinceResume / 1000;
+    }
+}
@@ -0,0 +1,23 @@
+package com.planitsquare.holiday_keeper.service.dto;
+
+import java.util.List;
+
+public record HolidayLoadReport(List<PairLoadResult> results, HolidayUpsertResult changes,
+        Integer succeededPairs, Integer failedPairs, Integer unavailablePairs,
+        Long elapsedMillis) {
+
+    public static HolidayLoadReport of(final List<PairLoadResult> results,
+            final Long elapsedMillis) {
+        final HolidayUpsertResult changes = results.stream().map(PairLoadResult::upsertResult)
+                .reduce(HolidayUpsertResult.empty(), HolidayUpsertResult::plus);
+        final int failedPairs = (int) results.stream().filter(result -> !result.success()).count();
+        final int unavailablePairs =
+                (int) results.stream().filter(PairLoadResult::upstreamUnavailable).count();
+        return new HolidayLoadReport(List.copyOf(results), changes, results.size() - failedPairs,
+                failedPairs, unavailablePairs, elapsedMillis);
+    }
+
+    public Integer totalLoaded() {
+        return changes.totalCount();
+    }
+}
@@ -0,0 +1,38 @@
+package com.planitsquare.holiday_keeper.service.dto;
+
+import static com.planitsquare.holiday_keeper.constants.ErrorMessage.INVALID_SEARCH_CURSOR;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Base64;
+import com.planitsquare.holiday_keeper.api.dto.response.HolidayResponse;
+
+public record HolidaySearchCursor(LocalDate date, Long id) {
+
+    private static final String SEPARATOR = ":";
+
+    public static HolidaySearchCursor after(final HolidayResponse holiday) {
+        return new HolidaySearchCursor(holiday.date(), holiday.id());
+    }
+
+    public static HolidaySearchCursor decode(final String token) {
+        try {
+            final String[] parts = new String(Base64.getUrlDecoder().decode(token),
+                    StandardCharsets.UTF_8).split(SEPARATOR, -1);
+            if (parts.length == 2) {
+                return new HolidaySearchCursor(LocalDate.ofEpochDay(Long.parseLong(parts[0])),
+                        Long.parseLong(parts[1]));
+            }
+        } catch (final IllegalArgumentException | DateTimeException e) {
+            throw new IllegalArgumentException(INVALID_SEARCH_CURSOR.getMessage().formatted(token),
+                    e);
+        }
+        throw new IllegalArgumentException(INVALID_SEARCH_CURSOR.getMessage().formatted(token));
+    }
+
+    public String encode() {
+        final String raw = date.toEpochDay() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,26 @@
+package com.planitsquare.holiday_keeper.service.dto;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+public record HolidaySyncReport(List<CountrySyncResult> results, HolidayUpsertResult changes,
+        Integer succeededCountries, Integer failedCountries, Integer timedOutCountries,
+        Integer stillRunningCountries, Long elapsedMillis) {
+
+    public static HolidaySyncReport of(final List<CountrySyncResult> results,
+            final Long elapsedMillis) {
+        final HolidayUpsertResult changes = results.stream().map(CountrySyncResult::changes)
+                .reduce(HolidayUpsertResult.empty(), HolidayUpsertResult::plus);
+        final int succeeded = (int) results.stream().filter(CountrySyncResult::succeeded).count();
+        final int timedOut = (int) results.stream().filter(CountrySyncResult::timedOut).count();
+        final int stillRunning =
+                (int) results.stream().filter(CountrySyncResult::stillRunning).count();
+        return new HolidaySyncReport(List.copyOf(results), changes, succeeded,
+                results.size() - succeeded - timedOut, timedOut, stillRunning, elapsedMillis);
+    }
+
+    public Optional<CountrySyncResult> slowest() {
+        return results.stream().max(Comparator.comparing(CountrySyncResult::elapsedMillis));
+    }
+}
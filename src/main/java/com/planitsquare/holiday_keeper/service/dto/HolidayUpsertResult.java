@@ -0,0 +1,32 @@
+package com.planitsquare.holiday_keeper.service.dto;
+
+public record HolidayUpsertResult(Integer inserted, Integer updated, Integer deleted,
+        Integer unchanged) {
+
+    private static final HolidayUpsertResult EMPTY = new HolidayUpsertResult(0, 0, 0, 0);
+
+    public static HolidayUpsertResult empty() {
+        return EMPTY;
+    }
+
+    public static HolidayUpsertResult unchanged(final Integer unchanged) {
+        return new HolidayUpsertResult(0, 0, 0, unchanged);
+    }
+
+    public HolidayUpsertResult plus(final HolidayUpsertResult other) {
+        return new HolidayUpsertResult(inserted + other.inserted, updated + other.updated,
+                deleted + other.deleted, unchanged + other.unchanged);
+    }
+
+    public Integer totalCount() {
+        return inserted + updated + unchanged;
+    }
+
+    public Integer changedCount() {
+        return inserted + updated + deleted;
+    }
+
+    public Boolean hasChanges() {
+        return changedCount() > 0;
+    }
+}
@@ -0,0 +1,27 @@
+package com.planitsquare.holiday_keeper.service.dto;
+
+public record PairLoadResult(String countryCode, Integer year, HolidayUpsertResult upsertResult,
+        Boolean success, Boolean upstreamUnavailable, String errorMessage, Long elapsedMillis) {
+
+    public static PairLoadResult success(final String countryCode, final Integer year,
+            final HolidayUpsertResult upsertResult, final Long elapsedMillis) {
+        return new PairLoadResult(countryCode, year, upsertResult, true, false, null,
+                elapsedMillis);
+    }
+
+    public static PairLoadResult failure(final String countryCode, final Integer year,
+            final String errorMessage, final Long elapsedMillis) {
+        return new PairLoadResult(countryCode, year, HolidayUpsertResult.empty(), false, false,
+                errorMessage, elapsedMillis);
+    }
+
+    public static PairLoadResult unavailable(final String countryCode, final Integer year,
+            final String errorMessage, final Long elapsedMillis) {
+        return new PairLoadResult(countryCode, year, HolidayUpsertResult.empty(), false, true,
+                errorMessage, elapsedMillis);
+    }
+
+    public Integer loadedCount() {
+        return upsertResult.totalCount();
+    }
+}
@@ -0,0 +1,18 @@
+package com.planitsquare.holiday_keeper.service.dto;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import com.planitsquare.holiday_keeper.domain.entity.PublicHoliday;
+
+public record StoredHoliday(Long id, LocalDate date, String name, String localName,
+        Integer typeMask, Boolean fixed, Boolean global, String launchYear) {
+
+    public boolean hasSameContentAs(final PublicHoliday holiday) {
+        return Objects.equals(name, holiday.getName())
+                && Objects.equals(localName, holiday.getLocalName())
+                && Objects.equals(typeMask, holiday.getTypeMask())
+                && Objects.equals(fixed, holiday.getFixed())
+                && Objects.equals(global, holiday.getGlobal())
+                && Objects.equals(launchYear, holiday.getLaunchYear());
+    }
+}
@@ -0,0 +1,18 @@
+package com.planitsquare.holiday_keeper.service.dto;
+
+import java.util.List;
+
+public record SyncShard(Long leaseId, String runKey, Integer shardIndex, Integer shardCount,
+        String previousOwner) {
+
+    public List<String> select(final List<String> countryCodes) {
+        return countryCodes.stream()
+                .filter(countryCode -> Math.floorMod(countryCode.hashCode(), shardCount)
+                        == shardIndex)
+                .toList();
+    }
+
+    public boolean isTakeover() {
+        return previousOwner != null;
+    }
+}
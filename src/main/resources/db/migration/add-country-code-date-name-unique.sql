@@ -0,0 +1,29 @@
+-- ============================================
+-- (country_code, date, name) 유니크 제약 추가 (H2)
+-- ============================================
+-- 공휴일 Upsert는 (country_code, date, name)을 키로 하는 MERGE 문으로 처리되므로
+-- 기존 DB에도 동일한 유니크 제약이 필요합니다.
+-- 같은 날짜에 이름이 다른 공휴일(예: 지역별로 다른 기념일)은 서로 다른 행으로 유지됩니다.
+--
+-- 실행 예시 (H2 Console): RUNSCRIPT FROM 'classpath:db/migration/add-country-code-date-name-unique.sql';
+
+-- 주의: 국가·날짜·이름이 모두 같은 중복 행은 가장 작은 ID만 남기고 영구 삭제됩니다.
+-- 삭제 전에 아래 조회로 대상 행을 확인하고 필요하면 백업하세요.
+-- SELECT * FROM public_holidays ph
+-- WHERE EXISTS (SELECT 1 FROM public_holidays dup
+--               WHERE dup.country_code = ph.country_code
+--                 AND dup.date = ph.date
+--                 AND dup.name = ph.name
+--                 AND dup.id < ph.id);
+DELETE FROM public_holidays ph
+WHERE EXISTS (SELECT 1 FROM public_holidays dup
+              WHERE dup.country_code = ph.country_code
+                AND dup.date = ph.date
+                AND dup.name = ph.name
+                AND dup.id < ph.id);
+
+-- 이전 버전의 (country_code, date) 제약은 같은 날짜의 공휴일을 하나만 허용하므로 제거
+ALTER TABLE public_holidays DROP CONSTRAINT IF EXISTS uk_country_code_date;
+
+ALTER TABLE public_holidays
+    ADD CONSTRAINT IF NOT EXISTS uk_country_code_date_name UNIQUE (country_code, date, name);
@@ -0,0 +1,23 @@
+-- ============================================
+-- IDENTITY -> SEQUENCE 마이그레이션 (H2)
+-- ============================================
+-- IDENTITY 전략은 Hibernate의 JDBC 배치 INSERT를 비활성화하므로
+-- Country, PublicHoliday의 ID 생성을 pooled 시퀀스(allocationSize = 50)로 전환합니다.
+--
+-- 기존 데이터가 있는 DB에서는 애플리케이션을 새 버전으로 기동하기 전에 반드시 실행해야 합니다.
+-- (JPA_DDL_AUTO=update 상태로 먼저 기동하면 Hibernate가 1부터 시작하는 시퀀스를 생성하여
+--  기존 ID와 충돌합니다)
+--
+-- 실행 예시 (H2 Console): RUNSCRIPT FROM 'classpath:db/migration/identity-to-sequence.sql';
+--
+-- 시퀀스 시작값은 MAX(id) + allocationSize + 1 입니다.
+-- pooled 옵티마이저는 시퀀스 값 v를 받으면 (v - 49) ~ v 구간의 ID를 사용하므로
+-- 기존 최대 ID 이후부터 ID가 발급됩니다.
+
+ALTER TABLE countries ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE public_holidays ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE IF NOT EXISTS countries_seq
+    START WITH (SELECT COALESCE(MAX(id), 0) + 51 FROM countries) INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS public_holidays_seq
+    START WITH (SELECT COALESCE(MAX(id), 0) + 51 FROM public_holidays) INCREMENT BY 50;
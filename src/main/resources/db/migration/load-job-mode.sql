@@ -0,0 +1,16 @@
+-- ============================================
+-- 적재 작업 모드 컬럼 추가 마이그레이션 (H2)
+-- ============================================
+-- 적재 작업(holiday_load_jobs)에 적재 모드(FULL/FILL_GAPS)를 기록하고, 중단된 작업은 같은 모드의 실행만 이어받습니다.
+-- 이 컬럼이 추가되기 전에 만들어진 작업은 모두 전체 적재(FULL)로 간주합니다.
+--
+-- 기존 데이터가 있는 DB에서는 애플리케이션을 새 버전으로 기동하기 전에 반드시 실행해야 합니다.
+-- (JPA_DDL_AUTO=update 상태로 먼저 기동하면 NOT NULL인 mode 컬럼을 추가하지 못해 기동에 실패합니다)
+--
+-- 실행 예시 (H2 Console): RUNSCRIPT FROM 'classpath:db/migration/load-job-mode.sql';
+
+ALTER TABLE holiday_load_jobs ADD COLUMN IF NOT EXISTS mode VARCHAR(20);
+
+UPDATE holiday_load_jobs SET mode = 'FULL' WHERE mode IS NULL;
+
+ALTER TABLE holiday_load_jobs ALTER COLUMN mode SET NOT NULL;
@@ -0,0 +1,28 @@
+-- ============================================
+-- 공휴일 타입 문자열 -> 비트마스크 마이그레이션 (H2)
+-- ============================================
+-- 쉼표로 이어 붙인 types 문자열 대신 HolidayType 상수마다 고정된 비트를 더한 정수(type_mask)로 저장합니다.
+-- (Public=1, Bank=2, School=4, Authorities=8, Optional=16, Observance=32)
+-- 타입 조건은 LIKE '%Public%' 대신 type_mask IN (...) 으로 처리되어 idx_type_mask를 사용합니다.
+--
+-- 기존 데이터가 있는 DB에서는 애플리케이션을 새 버전으로 기동하기 전에 반드시 실행해야 합니다.
+-- (JPA_DDL_AUTO=update 상태로 먼저 기동하면 NOT NULL인 type_mask 컬럼을 추가하지 못해 기동에 실패합니다)
+--
+-- 실행 예시 (H2 Console): RUNSCRIPT FROM 'classpath:db/migration/types-to-bitmask.sql';
+
+ALTER TABLE public_holidays ADD COLUMN IF NOT EXISTS type_mask INTEGER;
+
+UPDATE public_holidays SET type_mask =
+      CASE WHEN ',' || types || ',' LIKE '%,Public,%' THEN 1 ELSE 0 END
+    + CASE WHEN ',' || types || ',' LIKE '%,Bank,%' THEN 2 ELSE 0 END
+    + CASE WHEN ',' || types || ',' LIKE '%,School,%' THEN 4 ELSE 0 END
+    + CASE WHEN ',' || types || ',' LIKE '%,Authorities,%' THEN 8 ELSE 0 END
+    + CASE WHEN ',' || types || ',' LIKE '%,Optional,%' THEN 16 ELSE 0 END
+    + CASE WHEN ',' || types || ',' LIKE '%,Observance,%' THEN 32 ELSE 0 END;
+
+ALTER TABLE public_holidays ALTER COLUMN type_mask SET NOT NULL;
+
+DROP INDEX IF EXISTS idx_type;
+ALTER TABLE public_holidays DROP COLUMN types;
+
+CREATE INDEX IF NOT EXISTS idx_type_mask ON public_holidays (type_mask);
@@ -15,6 +15,8 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import com.planitsquare.holiday_keeper.exception.CountryNotFoundException;
 import com.planitsquare.holiday_keeper.exception.ExternalApiException;
+import com.planitsquare.holiday_keeper.exception.ExternalApiUnavailableException;
+import com.planitsquare.holiday_keeper.exception.HolidayLoadJobNotFoundException;
 import com.planitsquare.holiday_keeper.service.HolidayService;
 
 @WebMvcTest(controllers = {HolidayController.class, GlobalExceptionHandler.class})
@@ -80,6 +82,38 @@ class GlobalExceptionHandlerTest {
                 .andExpect(jsonPath("$.timestamp").exists()).andExpect(jsonPath("$.path").exists());
     }
 
+    @Test
+    @DisplayName("HolidayLoadJobNotFoundException 처리 테스트")
+    void handleHolidayLoadJobNotFoundException() throws Exception {
+        // given
+        when(holidayService.getLoadProgress()).thenThrow(new HolidayLoadJobNotFoundException());
+        final org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder request =
+                get("/api/v1/holidays/load/progress").contentType(MediaType.APPLICATION_JSON);
+
+        // when & then
+        mockMvc.perform(request).andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.errorCode").value("LOAD_001"))
+                .andExpect(jsonPath("$.message").exists());
+    }
+
+    @Test
+    @DisplayName("ExternalApiUnavailableException 처리 테스트")
+    void handleExternalApiUnavailableException() throws Exception {
+        // given
+        when(holidayService.searchHolidays(any())).thenThrow(
+                new ExternalApiUnavailableException("Nager.Date API", "외부 API 호출 차단"));
+        final org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder request =
+                get("/api/v1/holidays/search").param("countryCode", "KR").param("year", "2024")
+                        .contentType(MediaType.APPLICATION_JSON);
+
+        // when & then
+        mockMvc.perform(request).andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.errorCode").value("EXTERNAL_004"))
+                .andExpect(jsonPath("$.message").exists());
+    }
+
     @Test
     @DisplayName("ExternalApiException 처리 테스트")
     void handleExternalApiException() throws Exception {
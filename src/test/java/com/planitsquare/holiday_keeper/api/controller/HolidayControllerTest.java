@@ -1,14 +1,18 @@
 package com.planitsquare.holiday_keeper.api.controller;
 
+import static org.hamcrest.Matchers.endsWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,9 +21,14 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import com.planitsquare.holiday_keeper.api.dto.response.HolidayLoadJobResponse;
+import com.planitsquare.holiday_keeper.api.dto.response.HolidayLoadProgressResponse;
 import com.planitsquare.holiday_keeper.api.dto.response.HolidayResponse;
 import com.planitsquare.holiday_keeper.api.dto.response.PageResponse;
+import com.planitsquare.holiday_keeper.constants.HolidayLoadMode;
 import com.planitsquare.holiday_keeper.service.HolidayService;
+import com.planitsquare.holiday_keeper.service.dto.HolidayLoadLaunch;
+import com.planitsquare.holiday_keeper.service.dto.HolidayUpsertResult;
 
 @WebMvcTest(HolidayController.class)
 @ActiveProfiles("test")
@@ -34,12 +43,82 @@ class HolidayControllerTest {
     private HolidayService holidayService;
 
     @Test
-    @DisplayName("전체 공휴일 데이터 적재 API 테스트")
+    @DisplayName("전체 공휴일 데이터 적재 API 테스트 - 202와 작업 ID 즉시 반환")
     void loadAllHolidays_Success() throws Exception {
+        // given
+        when(holidayService.startLoad(HolidayLoadMode.FULL))
+                .thenReturn(new HolidayLoadLaunch(1L, false));
+        when(holidayService.getLoadJob(1L)).thenReturn(createJobResponse(1L));
+
         // when & then
         mockMvc.perform(post("/api/v1/holidays/load").contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isCreated()).andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.message").exists());
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", endsWith("/api/v1/holidays/load/1")))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value("전체 공휴일 데이터 적재 작업 1을(를) 시작했습니다"))
+                .andExpect(jsonPath("$.data.jobId").value(1))
+                .andExpect(jsonPath("$.data.mode").value("FULL"))
+                .andExpect(jsonPath("$.data.status").value("RUNNING"));
+    }
+
+    @Test
+    @DisplayName("전체 공휴일 데이터 적재 API 테스트 - 실행 중인 작업에 합류")
+    void loadAllHolidays_Success_Coalesced() throws Exception {
+        // given
+        when(holidayService.startLoad(HolidayLoadMode.FULL))
+                .thenReturn(new HolidayLoadLaunch(1L, true));
+        when(holidayService.getLoadJob(1L)).thenReturn(createJobResponse(1L));
+
+        // when & then
+        mockMvc.perform(post("/api/v1/holidays/load").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.message").value("이미 실행 중인 전체 공휴일 데이터 적재 작업 1에 합류했습니다"))
+                .andExpect(jsonPath("$.data.jobId").value(1));
+    }
+
+    @Test
+    @DisplayName("전체 공휴일 데이터 적재 API 테스트 - 빈 구간 적재 모드 전달")
+    void loadAllHolidays_Success_FillGapsMode() throws Exception {
+        // given
+        when(holidayService.startLoad(HolidayLoadMode.FILL_GAPS))
+                .thenReturn(new HolidayLoadLaunch(2L, false));
+        when(holidayService.getLoadJob(2L)).thenReturn(createJobResponse(2L));
+
+        // when & then
+        mockMvc.perform(post("/api/v1/holidays/load").param("mode", "FILL_GAPS")
+                .contentType(MediaType.APPLICATION_JSON)).andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.jobId").value(2));
+        verify(holidayService).startLoad(HolidayLoadMode.FILL_GAPS);
+    }
+
+    @Test
+    @DisplayName("공휴일 적재 작업 상태 조회 API 테스트")
+    void getLoadJob_Success() throws Exception {
+        // given
+        when(holidayService.getLoadJob(1L)).thenReturn(createJobResponse(1L));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/holidays/load/1").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk()).andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.completedPairs").value(40))
+                .andExpect(jsonPath("$.data.pairsPerSecond").value(4.0))
+                .andExpect(jsonPath("$.data.errors[0]").value("2024년 US 적재 실패: 연결 실패"));
+    }
+
+    @Test
+    @DisplayName("공휴일 적재 진행 상황 조회 API 테스트")
+    void getLoadProgress_Success() throws Exception {
+        // given
+        final HolidayLoadProgressResponse response = new HolidayLoadProgressResponse(1L,
+                "IN_PROGRESS", 2020, 2025, 10, 4, 6, 40.0, null, null, 60L, null);
+        when(holidayService.getLoadProgress()).thenReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/holidays/load/progress")
+                .contentType(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.completedPairs").value(4))
+                .andExpect(jsonPath("$.data.estimatedRemainingSeconds").value(60));
     }
 
     @Test
@@ -63,13 +142,15 @@ class HolidayControllerTest {
     @DisplayName("공휴일 재동기화 API 테스트")
     void refreshHolidays_Success() throws Exception {
         // given
-        when(holidayService.refreshHolidays(2024, "KR")).thenReturn(10);
+        when(holidayService.refreshHolidays(2024, "KR"))
+                .thenReturn(new HolidayUpsertResult(2, 1, 0, 7));
 
         // when & then
         mockMvc.perform(
                 put("/api/v1/holidays/refresh/2024/KR").contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk()).andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.message").exists());
+                .andExpect(jsonPath("$.message")
+                        .value("2024년 KR 공휴일 10개가 재동기화되었습니다 (추가 2, 수정 1, 삭제 0, 변경 없음 7)"));
     }
 
     @Test
@@ -80,4 +161,9 @@ class HolidayControllerTest {
                 .andExpect(status().isOk()).andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").exists());
     }
+
+    private HolidayLoadJobResponse createJobResponse(final Long jobId) {
+        return new HolidayLoadJobResponse(jobId, "FULL", "RUNNING", null, null, 660, 40, 1, 0, 600L,
+                10000L, 4.0, 60.0, List.of("2024년 US 적재 실패: 연결 실패"));
+    }
 }
@@ -0,0 +1,56 @@
+package com.planitsquare.holiday_keeper.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import com.planitsquare.holiday_keeper.domain.entity.Country;
+import com.planitsquare.holiday_keeper.external.dto.NagerCountryResponse;
+import com.planitsquare.holiday_keeper.external.dto.NagerHolidayResponse;
+import com.planitsquare.holiday_keeper.external.dto.ResponseValidators;
+import com.planitsquare.holiday_keeper.service.dto.FetchedHolidays;
+
+final class HolidayBenchmarkFixtures {
+
+    static final int HOLIDAYS_PER_YEAR = 15;
+    static final ResponseValidators VALIDATORS = new ResponseValidators(null, null, "benchmark");
+    static final IntFunction<List<String>> PUBLIC_ONLY = index -> List.of("Public");
+    static final IntFunction<List<String>> PUBLIC_AND_BANK =
+            index -> List.of(index % 3 == 0 ? "Bank" : "Public");
+
+    private HolidayBenchmarkFixtures() {
+    }
+
+    static List<Country> countries(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Country.builder().countryCode(countryCode(i))
+                        .name("Country " + i).build())
+                .toList();
+    }
+
+    static List<NagerCountryResponse> countryResponses(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new NagerCountryResponse(countryCode(i), "Country " + i)).toList();
+    }
+
+    static List<FetchedHolidays> batch(final List<Country> countries, final int startYear,
+            final int endYear, final IntFunction<List<String>> typesOf) {
+        return IntStream.rangeClosed(startYear, endYear).boxed()
+                .flatMap(year -> countries.stream().map(country -> new FetchedHolidays(country,
+                        year, holidays(year, typesOf), VALIDATORS, System.nanoTime())))
+                .toList();
+    }
+
+    static List<NagerHolidayResponse> holidays(final int year,
+            final IntFunction<List<String>> typesOf) {
+        return IntStream.range(0, HOLIDAYS_PER_YEAR)
+                .mapToObj(i -> new NagerHolidayResponse(LocalDate.of(year, 1, 1).plusDays(i * 20L),
+                        "Holiday " + i, "Local Holiday " + i, null, true, true, null, 2000,
+                        typesOf.apply(i)))
+                .toList();
+    }
+
+    private static String countryCode(final int index) {
+        return "%c%c".formatted('A' + index / 26, 'A' + index % 26);
+    }
+}
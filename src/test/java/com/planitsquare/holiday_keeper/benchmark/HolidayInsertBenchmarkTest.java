@@ -0,0 +1,100 @@
+package com.planitsquare.holiday_keeper.benchmark;
+
+import static com.planitsquare.holiday_keeper.benchmark.HolidayBenchmarkFixtures.HOLIDAYS_PER_YEAR;
+import static com.planitsquare.holiday_keeper.benchmark.HolidayBenchmarkFixtures.PUBLIC_ONLY;
+import static com.planitsquare.holiday_keeper.benchmark.HolidayBenchmarkFixtures.VALIDATORS;
+import static com.planitsquare.holiday_keeper.benchmark.HolidayBenchmarkFixtures.countryResponses;
+import static com.planitsquare.holiday_keeper.benchmark.HolidayBenchmarkFixtures.holidays;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import com.planitsquare.holiday_keeper.constants.HolidayLoadMode;
+import com.planitsquare.holiday_keeper.external.client.NagerDateClient;
+import com.planitsquare.holiday_keeper.external.dto.HolidayFetchResult;
+import com.planitsquare.holiday_keeper.external.dto.ResponseValidators;
+import com.planitsquare.holiday_keeper.service.HolidayLoadCheckpointService;
+import com.planitsquare.holiday_keeper.service.HolidayLoadExecution;
+import com.planitsquare.holiday_keeper.service.SequentialHolidayLoader;
+import jakarta.persistence.EntityManagerFactory;
+
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DirtiesContext
+@DisplayName("공휴일 INSERT 처리량 벤치마크")
+class HolidayInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(HolidayInsertBenchmarkTest.class);
+
+    private static final int COUNTRY_COUNT = 110;
+    private static final int START_YEAR = 2020;
+    private static final int END_YEAR = 2025;
+
+    @Autowired
+    private SequentialHolidayLoader sequentialHolidayLoader;
+
+    @Autowired
+    private HolidayLoadCheckpointService checkpointService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    @SuppressWarnings("removal")
+    private NagerDateClient nagerDateClient;
+
+    @Test
+    @DisplayName("전체 적재(loadAllHolidays) INSERT 처리량 측정")
+    void measureLoadAllHolidaysInsertThroughput() {
+        // given
+        when(nagerDateClient.getAvailableCountries()).thenReturn(countryResponses(COUNTRY_COUNT));
+        when(nagerDateClient.getPublicHolidaysIfChanged(any(Integer.class), any(String.class),
+                any(ResponseValidators.class))).thenAnswer(invocation -> {
+                    final Integer year = invocation.getArgument(0);
+                    return HolidayFetchResult.modified(holidays(year, PUBLIC_ONLY), VALIDATORS);
+                });
+        final Statistics statistics =
+                entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        final HolidayLoadExecution execution = new HolidayLoadExecution(
+                checkpointService.open(HolidayLoadMode.FULL, START_YEAR, END_YEAR),
+                LocalDateTime.now());
+        final long startedAt = System.nanoTime();
+        final Integer loaded = sequentialHolidayLoader.loadAllHolidays(execution).totalCount();
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then
+        final int expectedRows = COUNTRY_COUNT * (END_YEAR - START_YEAR + 1) * HOLIDAYS_PER_YEAR;
+        log.info("[benchmark] loadAllHolidays: rows={}, elapsed={}ms, throughput={} rows/s, "
+                + "entityInserts={}, preparedStatements={}", loaded, elapsedMillis,
+                loaded * 1000L / Math.max(elapsedMillis, 1L), statistics.getEntityInsertCount(),
+                statistics.getPrepareStatementCount());
+
+        assertThat(loaded).isEqualTo(expectedRows);
+        assertThat(countStoredHolidays()).isEqualTo(expectedRows);
+    }
+
+    private Integer countStoredHolidays() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM public_holidays", Integer.class);
+    }
+}
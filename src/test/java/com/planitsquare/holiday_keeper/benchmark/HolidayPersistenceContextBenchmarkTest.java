@@ -0,0 +1,104 @@
+package com.planitsquare.holiday_keeper.benchmark;
+
+import static com.planitsquare.holiday_keeper.benchmark.HolidayBenchmarkFixtures.HOLIDAYS_PER_YEAR;
+import static com.planitsquare.holiday_keeper.benchmark.HolidayBenchmarkFixtures.PUBLIC_ONLY;
+import static com.planitsquare.holiday_keeper.benchmark.HolidayBenchmarkFixtures.batch;
+import static com.planitsquare.holiday_keeper.benchmark.HolidayBenchmarkFixtures.countries;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import com.planitsquare.holiday_keeper.domain.entity.Country;
+import com.planitsquare.holiday_keeper.domain.repository.CountryRepository;
+import com.planitsquare.holiday_keeper.domain.repository.HolidayRepository;
+import com.planitsquare.holiday_keeper.service.HolidayDataService;
+import com.planitsquare.holiday_keeper.service.dto.FetchedHolidays;
+import jakarta.persistence.EntityManager;
+
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext
+@DisplayName("대량 적재 영속성 컨텍스트 크기 벤치마크")
+class HolidayPersistenceContextBenchmarkTest {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(HolidayPersistenceContextBenchmarkTest.class);
+
+    private static final int COUNTRY_COUNT = 20;
+
+    @Autowired
+    private HolidayDataService holidayDataService;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @SpyBean
+    @SuppressWarnings("removal")
+    private HolidayRepository holidayRepository;
+
+    @Value("${holiday.load.clear-every-pairs}")
+    private Integer clearEveryPairs;
+
+    @Test
+    @DisplayName("연도 범위를 넓혀도 재적재 트랜잭션의 관리 엔티티 수와 힙 사용량은 일정")
+    void measureManagedEntitiesAcrossYearRanges() {
+        // given
+        final List<Country> countries = countryRepository.saveAll(countries(COUNTRY_COUNT));
+        final AtomicInteger peakManagedEntities = new AtomicInteger();
+        doAnswer(invocation -> {
+            peakManagedEntities.accumulateAndGet(countManagedEntities(), Math::max);
+            return invocation.callRealMethod();
+        }).when(holidayRepository).findStoredHolidays(any(), any());
+
+        // when
+        final int narrowPeak = measureReloadPeak(countries, 2020, 2025, peakManagedEntities);
+        final int widePeak = measureReloadPeak(countries, 1975, 2030, peakManagedEntities);
+
+        // then
+        assertThat(widePeak).isLessThanOrEqualTo(clearEveryPairs * HOLIDAYS_PER_YEAR);
+        assertThat(widePeak).isLessThanOrEqualTo(narrowPeak);
+    }
+
+    private int measureReloadPeak(final List<Country> countries, final int startYear,
+            final int endYear, final AtomicInteger peakManagedEntities) {
+        final List<FetchedHolidays> batch = batch(countries, startYear, endYear, PUBLIC_ONLY);
+        holidayDataService.upsertHolidaysInBatch(batch);
+
+        peakManagedEntities.set(0);
+        final long heapBefore = usedHeap();
+        holidayDataService.upsertHolidaysInBatch(batch);
+        final long heapGrowth = usedHeap() - heapBefore;
+
+        log.info("[benchmark] reload {}-{}: pairs={}, peakManagedEntities={}, "
+                + "heapGrowth={}KB", startYear, endYear, batch.size(),
+                peakManagedEntities.get(), heapGrowth / 1024);
+        return peakManagedEntities.get();
+    }
+
+    private int countManagedEntities() {
+        return entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+    }
+
+    private long usedHeap() {
+        System.gc();
+        final Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,117 @@
+package com.planitsquare.holiday_keeper.benchmark;
+
+import static com.planitsquare.holiday_keeper.benchmark.HolidayBenchmarkFixtures.PUBLIC_ONLY;
+import static com.planitsquare.holiday_keeper.benchmark.HolidayBenchmarkFixtures.batch;
+import static com.planitsquare.holiday_keeper.benchmark.HolidayBenchmarkFixtures.countries;
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import com.planitsquare.holiday_keeper.api.dto.request.HolidaySearchRequest;
+import com.planitsquare.holiday_keeper.api.dto.response.HolidayResponse;
+import com.planitsquare.holiday_keeper.domain.entity.Country;
+import com.planitsquare.holiday_keeper.domain.repository.CountryRepository;
+import com.planitsquare.holiday_keeper.domain.repository.HolidayRepository;
+import com.planitsquare.holiday_keeper.service.HolidayDataService;
+import com.planitsquare.holiday_keeper.service.dto.HolidaySearchCursor;
+
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext
+@DisplayName("공휴일 검색 OFFSET/커서 페이징 깊은 페이지 지연 시간 벤치마크")
+class HolidaySearchCursorBenchmarkTest {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(HolidaySearchCursorBenchmarkTest.class);
+
+    private static final int COUNTRY_COUNT = 50;
+    private static final int START_YEAR = 2020;
+    private static final int END_YEAR = 2039;
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 700;
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MEASURED_ITERATIONS = 200;
+
+    @Autowired
+    private HolidayDataService holidayDataService;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Test
+    @DisplayName("깊은 페이지 p50 지연 시간 - 커서 페이징이 OFFSET 페이징보다 빠르고 첫 페이지와 비슷")
+    void measureDeepPageLatency() {
+        // given
+        final List<Country> countries = countryRepository.saveAll(countries(COUNTRY_COUNT));
+        holidayDataService
+                .upsertHolidaysInBatch(batch(countries, START_YEAR, END_YEAR, PUBLIC_ONLY));
+        final HolidaySearchRequest request = new HolidaySearchRequest(null, null,
+                LocalDate.of(START_YEAR, 1, 1), LocalDate.of(END_YEAR, 12, 31), null, null, 0,
+                PAGE_SIZE, null, null);
+        final Object searchIndex = ReflectionTestUtils
+                .getField(AopTestUtils.getTargetObject(holidayRepository), "searchIndex");
+        ReflectionTestUtils.setField(searchIndex, "enabled", false);
+        final HolidaySearchCursor deepCursor = HolidaySearchCursor.after(holidayRepository
+                .search(request, PageRequest.of(DEEP_PAGE - 1, PAGE_SIZE)).getContent()
+                .getLast());
+
+        try {
+            // when
+            final long firstPage = measureP50Nanos("offset page 0",
+                    () -> holidayRepository.search(request, PageRequest.of(0, PAGE_SIZE)));
+            final long offsetDeepPage = measureP50Nanos("offset page " + DEEP_PAGE,
+                    () -> holidayRepository.search(request,
+                            PageRequest.of(DEEP_PAGE, PAGE_SIZE)));
+            final long cursorDeepPage = measureP50Nanos("cursor page " + DEEP_PAGE,
+                    () -> holidayRepository.searchAfter(request, deepCursor, PAGE_SIZE));
+            final Slice<HolidayResponse> cursorSlice =
+                    holidayRepository.searchAfter(request, deepCursor, PAGE_SIZE);
+
+            // then
+            assertThat(cursorSlice.getContent()).extracting(HolidayResponse::id)
+                    .containsExactlyElementsOf(holidayRepository
+                            .search(request, PageRequest.of(DEEP_PAGE, PAGE_SIZE)).getContent()
+                            .stream().map(HolidayResponse::id).toList());
+            assertThat(cursorDeepPage).isLessThan(offsetDeepPage);
+            assertThat(cursorDeepPage).isLessThan(firstPage * 3);
+        } finally {
+            ReflectionTestUtils.setField(searchIndex, "enabled", true);
+        }
+    }
+
+    private long measureP50Nanos(final String label, final Supplier<?> search) {
+        IntStream.range(0, WARMUP_ITERATIONS).forEach(i -> search.get());
+
+        final long[] latencies = new long[MEASURED_ITERATIONS];
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            final long startedAt = System.nanoTime();
+            search.get();
+            latencies[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(latencies);
+
+        final long p50 = latencies[MEASURED_ITERATIONS / 2];
+        log.info("[benchmark] {}: p50={}us, p99={}us", label, p50 / 1000,
+                latencies[MEASURED_ITERATIONS * 99 / 100] / 1000);
+        return p50;
+    }
+}
@@ -0,0 +1,117 @@
+package com.planitsquare.holiday_keeper.benchmark;
+
+import static com.planitsquare.holiday_keeper.benchmark.HolidayBenchmarkFixtures.PUBLIC_AND_BANK;
+import static com.planitsquare.holiday_keeper.benchmark.HolidayBenchmarkFixtures.batch;
+import static com.planitsquare.holiday_keeper.benchmark.HolidayBenchmarkFixtures.countries;
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import com.planitsquare.holiday_keeper.api.dto.request.HolidaySearchRequest;
+import com.planitsquare.holiday_keeper.constants.HolidayTypeMatch;
+import com.planitsquare.holiday_keeper.domain.entity.Country;
+import com.planitsquare.holiday_keeper.domain.repository.CountryRepository;
+import com.planitsquare.holiday_keeper.domain.repository.HolidayRepository;
+import com.planitsquare.holiday_keeper.service.HolidayDataService;
+
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext
+@DisplayName("공휴일 검색 메모리 인덱스 지연 시간 벤치마크")
+class HolidaySearchIndexBenchmarkTest {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(HolidaySearchIndexBenchmarkTest.class);
+
+    private static final int COUNTRY_COUNT = 20;
+    private static final int START_YEAR = 2020;
+    private static final int END_YEAR = 2025;
+    private static final int WARMUP_ITERATIONS = 500;
+    private static final int MEASURED_ITERATIONS = 2000;
+
+    @Autowired
+    private HolidayDataService holidayDataService;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Test
+    @DisplayName("검색 p99 지연 시간 - 메모리 인덱스가 DB 조회보다 빠르고 1ms 미만")
+    void measureSearchLatencyPercentiles() {
+        // given
+        final List<Country> countries = countryRepository.saveAll(countries(COUNTRY_COUNT));
+        holidayDataService
+                .upsertHolidaysInBatch(batch(countries, START_YEAR, END_YEAR, PUBLIC_AND_BANK));
+        final List<HolidaySearchRequest> requests = createRequests(countries);
+        final Object searchIndex = ReflectionTestUtils
+                .getField(AopTestUtils.getTargetObject(holidayRepository), "searchIndex");
+
+        // when
+        ReflectionTestUtils.setField(searchIndex, "enabled", false);
+        final long databaseP99 = measureP99Nanos(requests, "database");
+        ReflectionTestUtils.setField(searchIndex, "enabled", true);
+        final long indexP99 = measureP99Nanos(requests, "index");
+
+        // then
+        assertThat(indexP99).isLessThan(databaseP99);
+        assertThat(indexP99).isLessThan(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private long measureP99Nanos(final List<HolidaySearchRequest> requests, final String path) {
+        IntStream.range(0, WARMUP_ITERATIONS)
+                .forEach(i -> search(requests.get(i % requests.size())));
+
+        final long[] latencies = new long[MEASURED_ITERATIONS];
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            final long startedAt = System.nanoTime();
+            search(requests.get(i % requests.size()));
+            latencies[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(latencies);
+
+        final long p50 = latencies[MEASURED_ITERATIONS / 2];
+        final long p99 = latencies[MEASURED_ITERATIONS * 99 / 100];
+        log.info("[benchmark] search via {}: p50={}us, p99={}us, max={}us", path, p50 / 1000,
+                p99 / 1000, latencies[MEASURED_ITERATIONS - 1] / 1000);
+        return p99;
+    }
+
+    private void search(final HolidaySearchRequest request) {
+        holidayRepository.search(request, PageRequest.of(request.page(), request.size()));
+    }
+
+    private List<HolidaySearchRequest> createRequests(final List<Country> countries) {
+        return IntStream.range(0, COUNTRY_COUNT).boxed().flatMap(i -> {
+            final String countryCode = countries.get(i).getCountryCode();
+            final int year = START_YEAR + i % (END_YEAR - START_YEAR + 1);
+            return Stream.of(
+                    new HolidaySearchRequest(countryCode, year, null, null, null, null, 0, 20,
+                            null, null),
+                    new HolidaySearchRequest(countryCode, null, null, null, "Public",
+                            HolidayTypeMatch.ANY, 1, 20, null, null),
+                    new HolidaySearchRequest(null, null, LocalDate.of(year, 3, 1),
+                            LocalDate.of(year, 9, 30), null, null, 0, 20, null, null),
+                    new HolidaySearchRequest(null, null, null, null, null, null, i * 5, 20, null,
+                            null));
+        }).toList();
+    }
+}
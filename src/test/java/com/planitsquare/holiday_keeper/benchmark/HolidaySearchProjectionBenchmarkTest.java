@@ -0,0 +1,143 @@
+package com.planitsquare.holiday_keeper.benchmark;
+
+import static com.planitsquare.holiday_keeper.benchmark.HolidayBenchmarkFixtures.PUBLIC_AND_BANK;
+import static com.planitsquare.holiday_keeper.benchmark.HolidayBenchmarkFixtures.batch;
+import static com.planitsquare.holiday_keeper.benchmark.HolidayBenchmarkFixtures.countries;
+import static org.assertj.core.api.Assertions.assertThat;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.planitsquare.holiday_keeper.api.dto.request.HolidaySearchRequest;
+import com.planitsquare.holiday_keeper.api.dto.response.HolidayResponse;
+import com.planitsquare.holiday_keeper.domain.entity.Country;
+import com.planitsquare.holiday_keeper.domain.entity.QPublicHoliday;
+import com.planitsquare.holiday_keeper.domain.repository.CountryRepository;
+import com.planitsquare.holiday_keeper.domain.repository.HolidayRepository;
+import com.planitsquare.holiday_keeper.service.HolidayDataService;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext
+@DisplayName("공휴일 검색 엔티티 조회 vs DTO 프로젝션 할당량·지연 시간 벤치마크")
+class HolidaySearchProjectionBenchmarkTest {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(HolidaySearchProjectionBenchmarkTest.class);
+
+    private static final int COUNTRY_COUNT = 20;
+    private static final int START_YEAR = 2020;
+    private static final int END_YEAR = 2029;
+    private static final int PAGE_SIZE = 100;
+    private static final int PAGE_COUNT = 30;
+    private static final int WARMUP_ITERATIONS = 100;
+    private static final int MEASURED_ITERATIONS = 300;
+    private static final LocalDate FROM = LocalDate.of(START_YEAR, 1, 1);
+    private static final LocalDate TO = LocalDate.of(END_YEAR, 12, 31);
+
+    @Autowired
+    private HolidayDataService holidayDataService;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Autowired
+    private JPAQueryFactory queryFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("페이지당 할당 바이트와 p50 - 프로젝션이 엔티티 조회 후 변환보다 적게 할당")
+    void measureAllocationAndLatencyPerPage() {
+        // given
+        final List<Country> countries = countryRepository.saveAll(countries(COUNTRY_COUNT));
+        holidayDataService
+                .upsertHolidaysInBatch(batch(countries, START_YEAR, END_YEAR, PUBLIC_AND_BANK));
+        final TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        final HolidaySearchRequest request = new HolidaySearchRequest(null, null, FROM, TO, null,
+                null, 0, PAGE_SIZE, null, false).withDefaults();
+        final Object searchIndex = ReflectionTestUtils
+                .getField(AopTestUtils.getTargetObject(holidayRepository), "searchIndex");
+        ReflectionTestUtils.setField(searchIndex, "enabled", false);
+        final IntFunction<List<HolidayResponse>> entityPath =
+                page -> readOnly.execute(status -> fetchEntityPage(page));
+        final IntFunction<List<HolidayResponse>> projectionPath =
+                page -> readOnly.execute(status -> holidayRepository
+                        .searchWithoutTotal(request, PageRequest.of(page, PAGE_SIZE))
+                        .getContent());
+
+        try {
+            // when
+            final Measurement entity = measure("entity + HolidayResponse.from", entityPath);
+            final Measurement projection = measure("constructor projection", projectionPath);
+
+            // then
+            log.info("[benchmark] projection vs entity: allocation reduction={}%, p50 {}us -> {}us",
+                    100 - projection.bytes() * 100 / Math.max(entity.bytes(), 1L),
+                    entity.p50Nanos() / 1000, projection.p50Nanos() / 1000);
+            assertThat(projectionPath.apply(3)).isEqualTo(entityPath.apply(3));
+            assertThat(projection.bytes()).isLessThan(entity.bytes());
+        } finally {
+            ReflectionTestUtils.setField(searchIndex, "enabled", true);
+        }
+    }
+
+    private List<HolidayResponse> fetchEntityPage(final int page) {
+        final QPublicHoliday holiday = QPublicHoliday.publicHoliday;
+        return queryFactory.selectFrom(holiday).innerJoin(holiday.country).fetchJoin()
+                .where(holiday.date.between(FROM, TO))
+                .orderBy(holiday.date.asc(), holiday.id.asc())
+                .offset((long) page * PAGE_SIZE).limit(PAGE_SIZE + 1L).fetch().stream()
+                .limit(PAGE_SIZE).map(HolidayResponse::from).toList();
+    }
+
+    private Measurement measure(final String label,
+            final IntFunction<List<HolidayResponse>> search) {
+        final com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().threadId();
+        IntStream.range(0, WARMUP_ITERATIONS).forEach(i -> search.apply(i % PAGE_COUNT));
+
+        final long[] latencies = new long[MEASURED_ITERATIONS];
+        final long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            final long startedAt = System.nanoTime();
+            search.apply(i % PAGE_COUNT);
+            latencies[i] = System.nanoTime() - startedAt;
+        }
+        final long bytes =
+                (threadMXBean.getThreadAllocatedBytes(threadId) - before) / MEASURED_ITERATIONS;
+        Arrays.sort(latencies);
+
+        log.info("[benchmark] {}: allocated={} bytes/page, p50={}us, p99={}us", label, bytes,
+                latencies[MEASURED_ITERATIONS / 2] / 1000,
+                latencies[MEASURED_ITERATIONS * 99 / 100] / 1000);
+        return new Measurement(bytes, latencies[MEASURED_ITERATIONS / 2]);
+    }
+
+    private record Measurement(long bytes, long p50Nanos) {
+    }
+}
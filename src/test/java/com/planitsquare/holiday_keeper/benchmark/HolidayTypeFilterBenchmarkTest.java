@@ -0,0 +1,148 @@
+package com.planitsquare.holiday_keeper.benchmark;
+
+import static com.planitsquare.holiday_keeper.benchmark.HolidayBenchmarkFixtures.batch;
+import static com.planitsquare.holiday_keeper.benchmark.HolidayBenchmarkFixtures.countries;
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import com.planitsquare.holiday_keeper.constants.HolidayType;
+import com.planitsquare.holiday_keeper.constants.HolidayTypeMatch;
+import com.planitsquare.holiday_keeper.domain.entity.Country;
+import com.planitsquare.holiday_keeper.domain.repository.CountryRepository;
+import com.planitsquare.holiday_keeper.service.HolidayDataService;
+
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext
+@DisplayName("공휴일 타입 조건 검색 (문자열 LIKE vs 비트마스크) 지연 시간 벤치마크")
+class HolidayTypeFilterBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(HolidayTypeFilterBenchmarkTest.class);
+
+    private static final int COUNTRY_COUNT = 50;
+    private static final int START_YEAR = 2020;
+    private static final int END_YEAR = 2039;
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MEASURED_ITERATIONS = 300;
+    private static final String BEFORE_TABLE = "holiday_types_before";
+
+    @Autowired
+    private HolidayDataService holidayDataService;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + BEFORE_TABLE);
+    }
+
+    @Test
+    @DisplayName("타입 조건 COUNT + 첫 페이지 p50 - 드문 타입은 비트마스크 IN 조건이 LIKE보다 빠름")
+    void measureTypeFilteredSearchLatency() {
+        // given
+        final List<Country> countries = countryRepository.saveAll(countries(COUNTRY_COUNT));
+        holidayDataService
+                .upsertHolidaysInBatch(batch(countries, START_YEAR, END_YEAR, this::typesOf));
+        createBeforeTable();
+
+        // when
+        final long schoolBefore = measureP50Nanos("LIKE School", likeWhere("School"));
+        final long schoolAfter = measureP50Nanos("bitmask School",
+                maskWhere("School", HolidayTypeMatch.ANY));
+        measureP50Nanos("LIKE Public OR Bank", likeWhere("Public") + " OR " + likeWhere("Bank"));
+        measureP50Nanos("bitmask Public,Bank ANY", maskWhere("Public,Bank", HolidayTypeMatch.ANY));
+        measureP50Nanos("LIKE Public AND School",
+                likeWhere("Public") + " AND " + likeWhere("School"));
+        measureP50Nanos("bitmask Public,School ALL",
+                maskWhere("Public,School", HolidayTypeMatch.ALL));
+
+        // then
+        assertThat(count(maskWhere("Public,School", HolidayTypeMatch.ALL)))
+                .isEqualTo(count(likeWhere("Public") + " AND " + likeWhere("School")));
+        assertThat(count(maskWhere("Public,Bank", HolidayTypeMatch.ANY)))
+                .isEqualTo(count(likeWhere("Public") + " OR " + likeWhere("Bank")));
+        assertThat(schoolAfter).isLessThan(schoolBefore);
+    }
+
+    private void createBeforeTable() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + BEFORE_TABLE);
+        jdbcTemplate.execute("CREATE TABLE " + BEFORE_TABLE
+                + " (id BIGINT PRIMARY KEY, date DATE NOT NULL, types VARCHAR(50) NOT NULL)");
+        final List<Object[]> rows = jdbcTemplate.query(
+                "SELECT id, date, type_mask FROM public_holidays",
+                (rs, rowNum) -> new Object[] {rs.getLong(1), rs.getObject(2, LocalDate.class),
+                        HolidayType.fromBitmask(rs.getInt(3))});
+        jdbcTemplate.batchUpdate("INSERT INTO " + BEFORE_TABLE + " VALUES (?, ?, ?)", rows);
+        jdbcTemplate.execute("CREATE INDEX idx_before_type ON " + BEFORE_TABLE + " (types)");
+        jdbcTemplate.execute("CREATE INDEX idx_before_date_id ON " + BEFORE_TABLE + " (date, id)");
+    }
+
+    private String likeWhere(final String type) {
+        return BEFORE_TABLE + ".types LIKE '%" + type + "%'";
+    }
+
+    private String maskWhere(final String types, final HolidayTypeMatch typeMatch) {
+        return "public_holidays.type_mask IN (" + typeMatch
+                .matchingMasks(HolidayType.toFilterBitmask(types)).stream()
+                .map(String::valueOf).collect(Collectors.joining(", ")) + ")";
+    }
+
+    private long measureP50Nanos(final String label, final String where) {
+        IntStream.range(0, WARMUP_ITERATIONS).forEach(i -> searchFirstPage(where));
+
+        final long[] latencies = new long[MEASURED_ITERATIONS];
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            final long startedAt = System.nanoTime();
+            searchFirstPage(where);
+            latencies[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(latencies);
+
+        final long p50 = latencies[MEASURED_ITERATIONS / 2];
+        log.info("[benchmark] {}: p50={}us, p99={}us", label, p50 / 1000,
+                latencies[MEASURED_ITERATIONS * 99 / 100] / 1000);
+        return p50;
+    }
+
+    private void searchFirstPage(final String where) {
+        final String table = tableOf(where);
+        count(where);
+        jdbcTemplate.queryForList("SELECT id FROM " + table + " WHERE " + where
+                + " ORDER BY date, id LIMIT 20", Long.class);
+    }
+
+    private Long count(final String where) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + tableOf(where) + " WHERE " + where, Long.class);
+    }
+
+    private String tableOf(final String where) {
+        return where.startsWith(BEFORE_TABLE) ? BEFORE_TABLE : "public_holidays";
+    }
+
+    private List<String> typesOf(final int index) {
+        if (index == 0) {
+            return List.of("Public", "School");
+        }
+        return List.of(index % 3 == 0 ? "Bank" : "Public");
+    }
+}
@@ -0,0 +1,100 @@
+package com.planitsquare.holiday_keeper.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.planitsquare.holiday_keeper.external.client.NagerResponseDecoder;
+import com.planitsquare.holiday_keeper.external.dto.NagerHolidayResponse;
+
+@Tag("benchmark")
+@DisplayName("Nager 응답 디코딩 할당량 벤치마크")
+class NagerResponseDecodeBenchmarkTest {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(NagerResponseDecodeBenchmarkTest.class);
+
+    private static final int HOLIDAYS_PER_RESPONSE = 30;
+    private static final int COUNTIES_PER_HOLIDAY = 10;
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 10_000;
+    private static final TypeReference<List<NagerHolidayResponse>> HOLIDAY_LIST_TYPE =
+            new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final NagerResponseDecoder decoder = new NagerResponseDecoder(objectMapper);
+    private final byte[] payload = createPayload().getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @DisplayName("스트리밍 디코딩과 리스트 바인딩의 응답당 할당 바이트 비교")
+    void measureAllocationPerResponse() throws IOException {
+        // given
+        final ResponseDecoder bufferedBinding =
+                body -> objectMapper.readValue(body.readAllBytes(), HOLIDAY_LIST_TYPE);
+        final ResponseDecoder streamingDecoder = decoder::decodeHolidays;
+
+        // when
+        final long bufferedBytes = measureAllocatedBytesPerResponse(bufferedBinding);
+        final long streamingBytes = measureAllocatedBytesPerResponse(streamingDecoder);
+
+        // then
+        log.info("[benchmark] decode allocation per response: payload={} bytes, buffered={} bytes, "
+                + "streaming={} bytes, reduction={}%", payload.length, bufferedBytes,
+                streamingBytes, 100 - streamingBytes * 100 / Math.max(bufferedBytes, 1L));
+
+        assertThat(decoder.decodeHolidays(new ByteArrayInputStream(payload)))
+                .hasSize(HOLIDAYS_PER_RESPONSE);
+        assertThat(streamingBytes).isLessThan(bufferedBytes);
+    }
+
+    private long measureAllocatedBytesPerResponse(final ResponseDecoder responseDecoder)
+            throws IOException {
+        final com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().threadId();
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            responseDecoder.decode(new ByteArrayInputStream(payload));
+        }
+
+        final long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            responseDecoder.decode(new ByteArrayInputStream(payload));
+        }
+        return (threadMXBean.getThreadAllocatedBytes(threadId) - before) / MEASURED_ITERATIONS;
+    }
+
+    private String createPayload() {
+        return IntStream.range(0, HOLIDAYS_PER_RESPONSE).mapToObj(this::createHolidayJson)
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private String createHolidayJson(final int index) {
+        final String counties = IntStream.range(0, COUNTIES_PER_HOLIDAY)
+                .mapToObj(county -> "\"US-%02d\"".formatted(county))
+                .collect(Collectors.joining(",", "[", "]"));
+        return """
+                {"date":"2024-%02d-%02d","localName":"Local Holiday %d","name":"Holiday %d",\
+                "countryCode":"US","fixed":false,"global":false,"counties":%s,\
+                "launchYear":null,"types":["Public"]}\
+                """.formatted(index % 12 + 1, index % 28 + 1, index, index, counties);
+    }
+
+    @FunctionalInterface
+    private interface ResponseDecoder {
+        List<NagerHolidayResponse> decode(InputStream body) throws IOException;
+    }
+}
@@ -0,0 +1,183 @@
+package com.planitsquare.holiday_keeper.external.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("AdaptiveRateLimiter 테스트")
+class AdaptiveRateLimiterTest {
+
+    private static final String BODY = "[]";
+
+    private final RestTemplate restTemplate = new RestTemplate();
+    private final AtomicInteger activeRequests = new AtomicInteger();
+    private final AtomicInteger maxActiveRequests = new AtomicInteger();
+
+    private HttpServer server;
+    private String baseUrl;
+    private volatile int responseStatus = 200;
+    private volatile long responseDelayMs;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUrl = "http://127.0.0.1:%d/".formatted(server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("동시 호출 제한 - 스텁 서버에 동시에 도달하는 요청 수가 상한을 넘지 않음")
+    void call_RespectsConcurrencyLimit() {
+        // given
+        responseDelayMs = 50;
+        final AdaptiveRateLimiter limiter = createLimiter(1000.0, 3, 1, 3, 5000L);
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 20; i++) {
+                executor.submit(() -> limiter.call(this::get));
+            }
+        }
+
+        // then
+        assertThat(maxActiveRequests.get()).isBetween(1, 3);
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("초당 요청 수 제한 - 요청 간격을 설정한 속도로 벌림")
+    void call_PacesRequestsPerSecond() {
+        // given
+        final AdaptiveRateLimiter limiter = createLimiter(20.0, 4, 1, 4, 5000L);
+        final long startedAt = System.nanoTime();
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            limiter.call(this::get);
+        }
+
+        // then
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+                .isGreaterThanOrEqualTo(190);
+    }
+
+    @Test
+    @DisplayName("AIMD - 정상 응답이 이어지면 동시 호출 상한을 조금씩 늘림")
+    void call_IncreasesLimitOnSuccess() {
+        // given
+        final AdaptiveRateLimiter limiter = createLimiter(1000.0, 2, 1, 4, 5000L);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            limiter.call(this::get);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isGreaterThan(3.0).isLessThanOrEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("AIMD - 429 응답 시 동시 호출 상한을 절반으로 줄이고 스로틀링 횟수 기록")
+    void call_DecreasesLimitOnThrottling() {
+        // given
+        responseStatus = 429;
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        final AdaptiveRateLimiter limiter = createLimiter(1000.0, 8, 1, 16, 5000L);
+        limiter.bindTo(registry);
+
+        // when & then
+        assertThatThrownBy(() -> limiter.call(this::get))
+                .isInstanceOf(HttpClientErrorException.TooManyRequests.class);
+        assertThat(limiter.getLimit()).isEqualTo(4.0);
+        assertThat(registry.get(AdaptiveRateLimiter.THROTTLED_METRIC_NAME).counter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get(AdaptiveRateLimiter.LIMIT_METRIC_NAME).gauge().value())
+                .isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("AIMD - 5xx 응답이 반복되어도 최소 상한 아래로 줄지 않음")
+    void call_DecreasesLimitOnServerErrorDownToMinimum() {
+        // given
+        responseStatus = 503;
+        final AdaptiveRateLimiter limiter = createLimiter(1000.0, 4, 2, 8, 5000L);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> limiter.call(this::get))
+                    .isInstanceOf(HttpServerErrorException.class);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(2.0);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("AIMD - 지연 시간이 임계치를 넘으면 성공 응답이어도 상한을 줄임")
+    void call_DecreasesLimitOnSlowResponse() {
+        // given
+        responseDelayMs = 60;
+        final AdaptiveRateLimiter limiter = createLimiter(1000.0, 8, 1, 16, 20L);
+
+        // when
+        limiter.call(this::get);
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(4.0);
+    }
+
+    private AdaptiveRateLimiter createLimiter(final Double requestsPerSecond,
+            final Integer initialLimit, final Integer minLimit, final Integer maxLimit,
+            final Long latencyThresholdMs) {
+        return new AdaptiveRateLimiter(new AdaptiveRateLimiter.Settings(requestsPerSecond,
+                initialLimit, minLimit, maxLimit, Duration.ofMillis(latencyThresholdMs), 0.5));
+    }
+
+    private String get() {
+        return restTemplate.getForObject(baseUrl, String.class);
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        maxActiveRequests.accumulateAndGet(activeRequests.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(responseDelayMs);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            activeRequests.decrementAndGet();
+        }
+
+        final byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(responseStatus, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.planitsquare.holiday_keeper.external.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import com.planitsquare.holiday_keeper.exception.ExternalApiUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("CircuitBreaker 테스트")
+class CircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new CircuitBreaker("Nager.Date API",
+                new CircuitBreaker.Settings(3, OPEN_DURATION, 1), clock);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 OPEN 상태가 되어 호출 없이 즉시 실패")
+    void call_OpensAfterConsecutiveFailures() {
+        // given
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        circuitBreaker.bindTo(registry);
+        failTimes(3);
+
+        // when & then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> circuitBreaker.call(this::succeed))
+                .isInstanceOf(ExternalApiUnavailableException.class)
+                .hasMessageContaining("Nager.Date API");
+        assertThat(upstreamCalls.get()).isEqualTo(3);
+        assertThat(registry.get(CircuitBreaker.REJECTED_METRIC_NAME).counter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get(CircuitBreaker.STATE_METRIC_NAME).gauge().value())
+                .isEqualTo(CircuitBreaker.State.OPEN.ordinal());
+    }
+
+    @Test
+    @DisplayName("성공 응답이 끼면 연속 실패 횟수를 초기화")
+    void call_SuccessResetsFailures() {
+        // given
+        failTimes(2);
+
+        // when
+        circuitBreaker.call(this::succeed);
+        failTimes(2);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getConsecutiveFailures()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 외부 API 장애로 보지 않음")
+    void call_ClientErrorIsNotFailure() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> circuitBreaker.call(() -> {
+                throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+            })).isInstanceOf(HttpClientErrorException.class);
+        }
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getConsecutiveFailures()).isZero();
+    }
+
+    @Test
+    @DisplayName("차단 시간이 지나면 HALF_OPEN에서 시험 호출 성공 시 CLOSED로 복구")
+    void call_HalfOpenTrialSuccessCloses() {
+        // given
+        failTimes(3);
+        clock.advance(OPEN_DURATION);
+
+        // when
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        circuitBreaker.call(this::succeed);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getRetryAt()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출이 실패하면 다시 OPEN")
+    void call_HalfOpenTrialFailureReopens() {
+        // given
+        failTimes(3);
+        clock.advance(OPEN_DURATION);
+
+        // when
+        assertThatThrownBy(() -> circuitBreaker.call(() -> {
+            throw new ResourceAccessException("timeout");
+        })).isInstanceOf(ResourceAccessException.class);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.getRetryAt()).contains(clock.instant().plus(OPEN_DURATION));
+    }
+
+    @Test
+    @DisplayName("헬스 체크 - OPEN 상태도 UP으로 두고 차단 상태와 재시도 시각만 상세에 표시")
+    void health_UpWithDetailsWhenOpen() {
+        // given
+        final NagerDateHealthIndicator healthIndicator =
+                new NagerDateHealthIndicator(circuitBreaker);
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+        failTimes(3);
+
+        // when
+        final Health health = healthIndicator.health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("circuitState", CircuitBreaker.State.OPEN)
+                .containsKey("retryAt");
+    }
+
+    private void failTimes(final int times) {
+        for (int i = 0; i < times; i++) {
+            assertThatThrownBy(() -> circuitBreaker.call(() -> {
+                upstreamCalls.incrementAndGet();
+                throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+            })).isInstanceOf(HttpServerErrorException.class);
+        }
+    }
+
+    private String succeed() {
+        upstreamCalls.incrementAndGet();
+        return "ok";
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(final Instant now) {
+            this.now = now;
+        }
+
+        private void advance(final Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
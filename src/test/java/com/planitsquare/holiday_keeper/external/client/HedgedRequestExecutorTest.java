@@ -0,0 +1,195 @@
+package com.planitsquare.holiday_keeper.external.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("HedgedRequestExecutor 테스트")
+class HedgedRequestExecutorTest {
+
+    private static final int MIN_SAMPLES = 5;
+    private static final long WARM_UP_LATENCY_MS = 10;
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final CountDownLatch primaryCancelled = new CountDownLatch(1);
+
+    private SimpleMeterRegistry registry;
+    private HedgedRequestExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = createExecutor(true, 100.0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("비활성화 - 호출 스레드에서 요청을 그대로 한 번만 실행")
+    void call_Disabled_PassThrough() {
+        // given
+        final HedgedRequestExecutor disabled = createExecutor(false, 100.0);
+        final Thread caller = Thread.currentThread();
+
+        // when
+        final Thread executedOn = disabled.call(() -> {
+            calls.incrementAndGet();
+            return Thread.currentThread();
+        });
+
+        // then
+        assertThat(executedOn).isSameAs(caller);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(count(HedgedRequestExecutor.REQUESTS_METRIC_NAME)).isZero();
+        disabled.close();
+    }
+
+    @Test
+    @DisplayName("표본 부족 - 최소 표본 수를 채우기 전에는 헤지 요청을 보내지 않음")
+    void call_NotEnoughSamples_NoHedge() {
+        // when
+        final String result = executor.call(() -> {
+            calls.incrementAndGet();
+            sleep(30);
+            return "primary";
+        });
+
+        // then
+        assertThat(result).isEqualTo("primary");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(executor.getHedgeDelay()).isEmpty();
+        assertThat(count(HedgedRequestExecutor.HEDGES_METRIC_NAME)).isZero();
+    }
+
+    @Test
+    @DisplayName("헤지 성공 - 첫 요청이 지연 백분위수를 넘기면 중복 요청을 보내 먼저 온 응답 사용")
+    void call_SlowPrimary_HedgeWins() throws InterruptedException {
+        // given
+        warmUp(executor);
+
+        // when
+        final String result = executor.call(slowFirstCall(() -> "hedge"));
+
+        // then
+        assertThat(result).isEqualTo("hedge");
+        assertThat(primaryCancelled.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(count(HedgedRequestExecutor.HEDGES_METRIC_NAME)).isEqualTo(1.0);
+        assertThat(count(HedgedRequestExecutor.WINS_METRIC_NAME)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("헤지 예산 - 예산을 넘는 헤지 요청은 보내지 않고 첫 요청을 기다림")
+    void call_BudgetExhausted_NoHedge() {
+        // given
+        executor.close();
+        executor = createExecutor(true, 10.0);
+        warmUp(executor);
+
+        // when
+        final String result = executor.call(() -> {
+            calls.incrementAndGet();
+            sleep(30);
+            return "primary";
+        });
+
+        // then
+        assertThat(result).isEqualTo("primary");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(count(HedgedRequestExecutor.HEDGES_METRIC_NAME)).isZero();
+    }
+
+    @Test
+    @DisplayName("첫 요청 실패 - 헤지 요청이 성공하면 그 응답을 사용")
+    void call_PrimaryFails_HedgeSucceeds() {
+        // given
+        warmUp(executor);
+
+        // when
+        final String result = executor.call(() -> {
+            if (calls.incrementAndGet() == 1) {
+                sleep(30);
+                throw new ResourceAccessException("연결 끊김");
+            }
+            return "hedge";
+        });
+
+        // then
+        assertThat(result).isEqualTo("hedge");
+        assertThat(count(HedgedRequestExecutor.WINS_METRIC_NAME)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("모두 실패 - 첫 번째로 실패한 요청의 예외를 그대로 전달")
+    void call_AllFail_ThrowsFirstFailure() {
+        // given
+        warmUp(executor);
+
+        // when & then
+        assertThatThrownBy(() -> executor.call(() -> {
+            if (calls.incrementAndGet() == 1) {
+                sleep(30);
+                throw new ResourceAccessException("첫 요청 실패");
+            }
+            sleep(60);
+            throw new ResourceAccessException("헤지 요청 실패");
+        })).isInstanceOf(ResourceAccessException.class).hasMessage("첫 요청 실패");
+    }
+
+    private HedgedRequestExecutor createExecutor(final boolean enabled,
+            final Double budgetPercent) {
+        final HedgedRequestExecutor created = new HedgedRequestExecutor(
+                new HedgedRequestExecutor.Settings(enabled, 95.0, 20, MIN_SAMPLES,
+                        budgetPercent));
+        registry = new SimpleMeterRegistry();
+        created.bindTo(registry);
+        return created;
+    }
+
+    private void warmUp(final HedgedRequestExecutor target) {
+        for (int i = 0; i < MIN_SAMPLES; i++) {
+            target.call(() -> {
+                sleep(WARM_UP_LATENCY_MS);
+                return "warm-up";
+            });
+        }
+        calls.set(0);
+    }
+
+    private Supplier<String> slowFirstCall(final Supplier<String> hedge) {
+        return () -> {
+            if (calls.incrementAndGet() > 1) {
+                return hedge.get();
+            }
+            try {
+                Thread.sleep(5_000);
+            } catch (final InterruptedException e) {
+                primaryCancelled.countDown();
+                Thread.currentThread().interrupt();
+            }
+            return "primary";
+        };
+    }
+
+    private double count(final String metricName) {
+        return registry.get(metricName).functionCounter().count();
+    }
+
+    private void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
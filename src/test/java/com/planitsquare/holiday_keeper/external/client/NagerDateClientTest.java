@@ -4,27 +4,41 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planitsquare.holiday_keeper.exception.ExternalApiUnavailableException;
+import com.planitsquare.holiday_keeper.external.dto.HolidayFetchResult;
 import com.planitsquare.holiday_keeper.external.dto.NagerCountryResponse;
-import com.planitsquare.holiday_keeper.external.dto.NagerHolidayResponse;
+import com.planitsquare.holiday_keeper.external.dto.ResponseValidators;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("NagerDateClient 테스트")
@@ -33,10 +47,45 @@ class NagerDateClientTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Spy
+    private NagerResponseDecoder responseDecoder = new NagerResponseDecoder(new ObjectMapper());
+
+    @Spy
+    private AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(
+            new AdaptiveRateLimiter.Settings(1000.0, 8, 1, 16, Duration.ofSeconds(5), 0.5));
+
+    @Spy
+    private CircuitBreaker circuitBreaker = new CircuitBreaker("Nager.Date API",
+            new CircuitBreaker.Settings(2, Duration.ofSeconds(30), 1), Clock.systemUTC());
+
+    @Spy
+    private HedgedRequestExecutor hedgedRequestExecutor = new HedgedRequestExecutor(
+            new HedgedRequestExecutor.Settings(false, 95.0, 200, 20, 10.0));
+
+    @Spy
+    private NagerResponseCache responseCache = new NagerResponseCache(
+            new NagerResponseCache.Settings(false, Path.of("build/nager-cache"), 1024L,
+                    Duration.ofDays(30), Duration.ofHours(6)),
+            Clock.systemUTC());
+
+    @TempDir
+    Path cacheDirectory;
+
     @InjectMocks
     private NagerDateClient nagerDateClient;
 
     private static final String BASE_URL = "https://date.nager.at/api/v3";
+    private static final String COUNTRIES_URL = BASE_URL + "/AvailableCountries";
+    private static final String HOLIDAYS_URL = BASE_URL + "/PublicHolidays/2024/KR";
+    private static final String COUNTRIES_JSON = """
+            [{"countryCode":"KR","name":"South Korea"},{"countryCode":"US","name":"United States"}]
+            """;
+    private static final String HOLIDAYS_JSON = """
+            [{"date":"2024-01-01","localName":"신정","name":"New Year's Day","countryCode":"KR",
+            "fixed":true,"global":false,"counties":null,"launchYear":1949,"types":["Public"]}]
+            """;
+
+    private final MockClientHttpRequest request = new MockClientHttpRequest();
 
     @BeforeEach
     void setUp() {
@@ -47,14 +96,7 @@ class NagerDateClientTest {
     @DisplayName("사용 가능한 국가 목록 조회 성공")
     void getAvailableCountries_Success() {
         // given
-        final NagerCountryResponse country1 = new NagerCountryResponse("KR", "South Korea");
-        final NagerCountryResponse country2 = new NagerCountryResponse("US", "United States");
-        final List<NagerCountryResponse> countries = Arrays.asList(country1, country2);
-        final ResponseEntity<List<NagerCountryResponse>> responseEntity =
-                new ResponseEntity<>(countries, HttpStatus.OK);
-
-        when(restTemplate.exchange(eq(BASE_URL + "/AvailableCountries"), eq(HttpMethod.GET), eq(null),
-                any(ParameterizedTypeReference.class))).thenReturn(responseEntity);
+        givenResponse(COUNTRIES_URL, okResponse(COUNTRIES_JSON));
 
         // when
         final List<NagerCountryResponse> result = nagerDateClient.getAvailableCountries();
@@ -69,9 +111,8 @@ class NagerDateClientTest {
     @DisplayName("사용 가능한 국가 목록 조회 실패 - RestClientException")
     void getAvailableCountries_Fail_RestClientException() {
         // given
-        when(restTemplate.exchange(eq(BASE_URL + "/AvailableCountries"), eq(HttpMethod.GET), eq(null),
-                any(ParameterizedTypeReference.class)))
-                        .thenThrow(new RestClientException("연결 실패"));
+        when(restTemplate.execute(eq(COUNTRIES_URL), eq(HttpMethod.GET), any(),
+                any(ResponseExtractor.class))).thenThrow(new RestClientException("연결 실패"));
 
         // when & then
         assertThatThrownBy(() -> nagerDateClient.getAvailableCountries())
@@ -82,11 +123,7 @@ class NagerDateClientTest {
     @DisplayName("사용 가능한 국가 목록 조회 성공 - 빈 리스트")
     void getAvailableCountries_Success_EmptyList() {
         // given
-        final ResponseEntity<List<NagerCountryResponse>> responseEntity =
-                new ResponseEntity<>(Collections.emptyList(), HttpStatus.OK);
-
-        when(restTemplate.exchange(eq(BASE_URL + "/AvailableCountries"), eq(HttpMethod.GET), eq(null),
-                any(ParameterizedTypeReference.class))).thenReturn(responseEntity);
+        givenResponse(COUNTRIES_URL, okResponse("[]"));
 
         // when
         final List<NagerCountryResponse> result = nagerDateClient.getAvailableCountries();
@@ -97,55 +134,218 @@ class NagerDateClientTest {
 
     @Test
     @DisplayName("공휴일 목록 조회 성공")
-    void getPublicHolidays_Success() {
+    void getPublicHolidaysIfChanged_Success() {
         // given
-        final NagerHolidayResponse holiday = new NagerHolidayResponse(LocalDate.of(2024, 1, 1),
-                "신정", "New Year's Day", "KR", true, false, null, 1949,
-                Arrays.asList("Public"));
-        final List<NagerHolidayResponse> holidays = Collections.singletonList(holiday);
-        final ResponseEntity<List<NagerHolidayResponse>> responseEntity =
-                new ResponseEntity<>(holidays, HttpStatus.OK);
+        final MockClientHttpResponse response = okResponse(HOLIDAYS_JSON);
+        response.getHeaders().setETag("\"v1\"");
+        givenResponse(HOLIDAYS_URL, response);
 
-        when(restTemplate.exchange(eq(BASE_URL + "/PublicHolidays/2024/KR"), eq(HttpMethod.GET),
-                eq(null), any(ParameterizedTypeReference.class))).thenReturn(responseEntity);
+        // when
+        final HolidayFetchResult result =
+                nagerDateClient.getPublicHolidaysIfChanged(2024, "KR", ResponseValidators.none());
+
+        // then
+        assertThat(result.modified()).isTrue();
+        assertThat(result.holidays()).hasSize(1);
+        assertThat(result.holidays().get(0).date()).isEqualTo(LocalDate.of(2024, 1, 1));
+        assertThat(result.holidays().get(0).name()).isEqualTo("New Year's Day");
+        assertThat(result.holidays().get(0).localName()).isEqualTo("신정");
+        assertThat(result.validators().etag()).isEqualTo("\"v1\"");
+        assertThat(result.validators().contentHash()).hasSize(64);
+        assertThat(request.getHeaders().getIfNoneMatch()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("공휴일 목록 조회 성공 - 이전 ETag로 조건부 요청, 304 응답 시 파싱 생략")
+    void getPublicHolidaysIfChanged_Success_NotModified() {
+        // given
+        final ResponseValidators previous = new ResponseValidators("\"v1\"", null, "hash");
+        givenResponse(HOLIDAYS_URL,
+                new MockClientHttpResponse(new byte[0], HttpStatus.NOT_MODIFIED));
 
         // when
-        final List<NagerHolidayResponse> result = nagerDateClient.getPublicHolidays(2024, "KR");
+        final HolidayFetchResult result =
+                nagerDateClient.getPublicHolidaysIfChanged(2024, "KR", previous);
 
         // then
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).date()).isEqualTo(LocalDate.of(2024, 1, 1));
-        assertThat(result.get(0).name()).isEqualTo("New Year's Day");
-        assertThat(result.get(0).localName()).isEqualTo("신정");
+        assertThat(result.modified()).isFalse();
+        assertThat(result.holidays()).isEmpty();
+        assertThat(result.validators()).isEqualTo(previous);
+        assertThat(request.getHeaders().getIfNoneMatch()).containsExactly("\"v1\"");
+    }
+
+    @Test
+    @DisplayName("공휴일 목록 조회 성공 - 응답 해시가 같으면 변경 없음으로 처리")
+    void getPublicHolidaysIfChanged_Success_SameContentHash() {
+        // given
+        givenResponse(HOLIDAYS_URL, okResponse(HOLIDAYS_JSON));
+        final ResponseValidators first = nagerDateClient
+                .getPublicHolidaysIfChanged(2024, "KR", ResponseValidators.none()).validators();
+        givenResponse(HOLIDAYS_URL, okResponse(HOLIDAYS_JSON));
+
+        // when
+        final HolidayFetchResult result =
+                nagerDateClient.getPublicHolidaysIfChanged(2024, "KR", first);
+
+        // then
+        assertThat(result.modified()).isFalse();
+        assertThat(result.validators().contentHash()).isEqualTo(first.contentHash());
     }
 
     @Test
     @DisplayName("공휴일 목록 조회 실패 - RestClientException")
-    void getPublicHolidays_Fail_RestClientException() {
+    void getPublicHolidaysIfChanged_Fail_RestClientException() {
         // given
-        when(restTemplate.exchange(eq(BASE_URL + "/PublicHolidays/2024/KR"), eq(HttpMethod.GET),
-                eq(null), any(ParameterizedTypeReference.class)))
-                        .thenThrow(new RestClientException("연결 실패"));
+        when(restTemplate.execute(eq(HOLIDAYS_URL), eq(HttpMethod.GET), any(),
+                any(ResponseExtractor.class))).thenThrow(new RestClientException("연결 실패"));
 
         // when & then
-        assertThatThrownBy(() -> nagerDateClient.getPublicHolidays(2024, "KR"))
-                .isInstanceOf(RuntimeException.class).hasMessageContaining("연결 실패");
+        assertThatThrownBy(() -> nagerDateClient.getPublicHolidaysIfChanged(2024, "KR",
+                ResponseValidators.none())).isInstanceOf(RuntimeException.class)
+                        .hasMessageContaining("연결 실패");
+    }
+
+    @Test
+    @DisplayName("공휴일 목록 조회 성공 - 빈 응답 처리")
+    void getPublicHolidaysIfChanged_Success_EmptyBody() {
+        // given
+        givenResponse(HOLIDAYS_URL, okResponse(""));
+
+        // when
+        final HolidayFetchResult result =
+                nagerDateClient.getPublicHolidaysIfChanged(2024, "KR", ResponseValidators.none());
+
+        // then
+        assertThat(result.modified()).isTrue();
+        assertThat(result.holidays()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("공휴일 목록 조회 실패 - 연속 장애로 회로가 열리면 호출 없이 즉시 실패")
+    void getPublicHolidaysIfChanged_Fail_CircuitOpen() {
+        // given
+        when(restTemplate.execute(eq(HOLIDAYS_URL), eq(HttpMethod.GET), any(),
+                any(ResponseExtractor.class)))
+                        .thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> nagerDateClient.getPublicHolidaysIfChanged(2024, "KR",
+                    ResponseValidators.none())).isInstanceOf(HttpServerErrorException.class);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> nagerDateClient.getPublicHolidaysIfChanged(2024, "KR",
+                ResponseValidators.none())).isInstanceOf(ExternalApiUnavailableException.class);
+        verify(restTemplate, times(2)).execute(eq(HOLIDAYS_URL), eq(HttpMethod.GET), any(),
+                any(ResponseExtractor.class));
     }
 
     @Test
-    @DisplayName("공휴일 목록 조회 성공 - null 응답 처리")
-    void getPublicHolidays_Success_NullResponse() {
+    @DisplayName("공휴일 목록 조회 성공 - 디스크 캐시에 저장된 응답은 외부 API 호출 없이 사용")
+    void getPublicHolidaysIfChanged_Success_FromDiskCache() {
         // given
-        final ResponseEntity<List<NagerHolidayResponse>> responseEntity =
-                new ResponseEntity<>(null, HttpStatus.OK);
+        enableResponseCache();
+        givenResponse(HOLIDAYS_URL, okResponse(HOLIDAYS_JSON));
+        final HolidayFetchResult fetched =
+                nagerDateClient.getPublicHolidaysIfChanged(2024, "KR", ResponseValidators.none());
+
+        // when
+        final HolidayFetchResult cached =
+                nagerDateClient.getPublicHolidaysIfChanged(2024, "KR", ResponseValidators.none());
+        final HolidayFetchResult unchanged =
+                nagerDateClient.getPublicHolidaysIfChanged(2024, "KR", fetched.validators());
+
+        // then
+        assertThat(cached.modified()).isTrue();
+        assertThat(cached.holidays()).isEqualTo(fetched.holidays());
+        assertThat(cached.validators().contentHash())
+                .isEqualTo(fetched.validators().contentHash());
+        assertThat(unchanged.modified()).isFalse();
+        assertThat(unchanged.validators()).isEqualTo(fetched.validators());
+        verify(restTemplate, times(1)).execute(eq(HOLIDAYS_URL), eq(HttpMethod.GET), any(),
+                any(ResponseExtractor.class));
+    }
 
-        when(restTemplate.exchange(eq(BASE_URL + "/PublicHolidays/2024/KR"), eq(HttpMethod.GET),
-                eq(null), any(ParameterizedTypeReference.class))).thenReturn(responseEntity);
+    @Test
+    @DisplayName("공휴일 목록 조회 성공 - 디코딩에 실패한 캐시 항목은 삭제하고 외부 API 응답으로 교체")
+    void getPublicHolidaysIfChanged_Success_EvictsUndecodableCacheEntry() throws IOException {
+        // given
+        enableResponseCache();
+        final Path entry = cacheDirectory.resolve("PublicHolidays-2024-KR.json");
+        Files.writeString(entry, "[{\"date\":\"2024-13-01\"}]");
+        givenResponse(HOLIDAYS_URL, okResponse(HOLIDAYS_JSON));
 
         // when
-        final List<NagerHolidayResponse> result = nagerDateClient.getPublicHolidays(2024, "KR");
+        final HolidayFetchResult result =
+                nagerDateClient.getPublicHolidaysIfChanged(2024, "KR", ResponseValidators.none());
 
         // then
-        assertThat(result).isEmpty();
+        assertThat(result.holidays()).hasSize(1);
+        assertThat(Files.readString(entry)).isEqualTo(HOLIDAYS_JSON);
+        verify(restTemplate, times(1)).execute(eq(HOLIDAYS_URL), eq(HttpMethod.GET), any(),
+                any(ResponseExtractor.class));
+    }
+
+    @Test
+    @DisplayName("사용 가능한 국가 목록 조회 성공 - 디스크 캐시에 저장된 응답은 외부 API 호출 없이 사용")
+    void getAvailableCountries_Success_FromDiskCache() {
+        // given
+        enableResponseCache();
+        givenResponse(COUNTRIES_URL, okResponse(COUNTRIES_JSON));
+        nagerDateClient.getAvailableCountries();
+
+        // when
+        final List<NagerCountryResponse> result = nagerDateClient.getAvailableCountries();
+
+        // then
+        assertThat(result).extracting(NagerCountryResponse::countryCode)
+                .containsExactly("KR", "US");
+        verify(restTemplate, times(1)).execute(eq(COUNTRIES_URL), eq(HttpMethod.GET), any(),
+                any(ResponseExtractor.class));
+    }
+
+    @Test
+    @DisplayName("최신 공휴일 목록 조회 - 디스크 캐시를 읽지 않고 외부 API를 호출한 뒤 캐시를 갱신")
+    void getLatestPublicHolidaysIfChanged_Success_BypassesDiskCache() {
+        // given
+        enableResponseCache();
+        givenResponse(HOLIDAYS_URL, okResponse(HOLIDAYS_JSON));
+        nagerDateClient.getPublicHolidaysIfChanged(2024, "KR", ResponseValidators.none());
+        givenResponse(HOLIDAYS_URL, okResponse(HOLIDAYS_JSON));
+
+        // when
+        final HolidayFetchResult latest = nagerDateClient
+                .getLatestPublicHolidaysIfChanged(2024, "KR", ResponseValidators.none());
+        final HolidayFetchResult cached =
+                nagerDateClient.getPublicHolidaysIfChanged(2024, "KR", ResponseValidators.none());
+
+        // then
+        assertThat(latest.modified()).isTrue();
+        assertThat(cached.validators().contentHash())
+                .isEqualTo(latest.validators().contentHash());
+        verify(restTemplate, times(2)).execute(eq(HOLIDAYS_URL), eq(HttpMethod.GET), any(),
+                any(ResponseExtractor.class));
+    }
+
+    private void enableResponseCache() {
+        ReflectionTestUtils.setField(nagerDateClient, "responseCache",
+                new NagerResponseCache(new NagerResponseCache.Settings(true, cacheDirectory,
+                        1024L * 1024, Duration.ofDays(30), Duration.ofHours(6)),
+                        Clock.systemUTC()));
+    }
+
+    private MockClientHttpResponse okResponse(final String body) {
+        return new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+    }
+
+    private void givenResponse(final String url, final MockClientHttpResponse response) {
+        when(restTemplate.execute(eq(url), eq(HttpMethod.GET), any(),
+                any(ResponseExtractor.class))).thenAnswer(invocation -> {
+                    final RequestCallback callback = invocation.getArgument(2);
+                    if (callback != null) {
+                        callback.doWithRequest(request);
+                    }
+                    final ResponseExtractor<?> extractor = invocation.getArgument(3);
+                    return extractor.extractData(response);
+                });
     }
 }
@@ -0,0 +1,222 @@
+package com.planitsquare.holiday_keeper.external.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("NagerResponseCache 테스트")
+class NagerResponseCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T00:00:00Z");
+    private static final String BODY = "[{\"date\":\"2024-01-01\"}]";
+    private static final NagerResponseCache.Key KR_2024 = NagerResponseCache.Key.holidays(2024,
+            "KR");
+    private static final NagerResponseCache.Key KR_2025 = NagerResponseCache.Key.holidays(2025,
+            "KR");
+
+    @TempDir
+    Path directory;
+
+    private SimpleMeterRegistry registry;
+    private NagerResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = createCache(true, 1024L);
+    }
+
+    @Test
+    @DisplayName("응답 저장 후 조회 - 끝까지 읽은 응답은 파일로 저장되고 다음 조회에서 그대로 반환")
+    void writeThrough_ThenOpen_ReturnsCachedBody() throws IOException {
+        // given
+        write(KR_2024, BODY);
+
+        // when
+        final Optional<InputStream> cached = cache.open(KR_2024);
+
+        // then
+        assertThat(cached).isPresent();
+        assertThat(read(cached.get())).isEqualTo(BODY);
+        assertThat(Files.exists(directory.resolve("PublicHolidays-2024-KR.json"))).isTrue();
+        assertThat(cache.getSizeBytes()).isEqualTo(BODY.length());
+        assertThat(count(NagerResponseCache.HITS_METRIC_NAME)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("응답 저장 - 끝까지 읽지 않고 닫아도 남은 본문까지 저장")
+    void writeThrough_ClosedEarly_DrainsRemainingBody() throws IOException {
+        // given
+        try (NagerResponseCache.WriteThroughStream body =
+                cache.writeThrough(KR_2024, stream(BODY))) {
+            body.read(new byte[4]);
+            body.markDecoded();
+        }
+
+        // when & then
+        assertThat(read(cache.open(KR_2024).orElseThrow())).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("응답 저장 - 디코딩 성공을 알리지 않고 닫으면 저장하지 않고 임시 파일도 삭제")
+    void writeThrough_NotDecoded_NotCommitted() throws IOException {
+        // given
+        try (InputStream body = cache.writeThrough(KR_2024, stream(BODY))) {
+            body.transferTo(OutputStream.nullOutputStream());
+        }
+
+        // when & then
+        assertThat(cache.open(KR_2024)).isEmpty();
+        assertThat(cache.getSizeBytes()).isZero();
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("캐시 미스 - 저장된 응답이 없으면 빈 값 반환")
+    void open_Miss() {
+        // when & then
+        assertThat(cache.open(KR_2024)).isEmpty();
+        assertThat(count(NagerResponseCache.MISSES_METRIC_NAME)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("연도별 TTL - 과거 연도는 긴 TTL, 금년은 짧은 TTL 적용")
+    void open_TtlByYear() throws IOException {
+        // given
+        write(KR_2024, BODY);
+        write(KR_2025, BODY);
+        age(KR_2024, Duration.ofDays(2));
+        age(KR_2025, Duration.ofDays(2));
+
+        // when & then
+        assertThat(cache.open(KR_2024)).isPresent();
+        assertThat(cache.open(KR_2025)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("용량 제한 - 최대 크기를 넘으면 가장 오래된 항목부터 삭제")
+    void writeThrough_EvictsOldestOverMaxSize() throws IOException {
+        // given
+        cache = createCache(true, (long) BODY.length() * 2);
+        write(KR_2024, BODY);
+        age(KR_2024, Duration.ofHours(1));
+        write(KR_2025, BODY);
+
+        // when
+        write(NagerResponseCache.Key.holidays(2024, "US"), BODY);
+
+        // then
+        assertThat(cache.open(KR_2024)).isEmpty();
+        assertThat(cache.open(KR_2025)).isPresent();
+        assertThat(cache.getSizeBytes()).isEqualTo(BODY.length() * 2L);
+    }
+
+    @Test
+    @DisplayName("재시작 - 기존 캐시 파일 크기를 집계하고 남은 임시 파일은 삭제")
+    void initialize_RestoresSizeAndRemovesTempFiles() throws IOException {
+        // given
+        write(KR_2024, BODY);
+        Files.writeString(directory.resolve("PublicHolidays-2025-KR123.tmp"), "partial");
+
+        // when
+        final NagerResponseCache restarted = createCache(true, 1024L);
+
+        // then
+        assertThat(restarted.getSizeBytes()).isEqualTo(BODY.length());
+        assertThat(read(restarted.open(KR_2024).orElseThrow())).isEqualTo(BODY);
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).noneMatch(file -> file.toString().endsWith(".tmp"));
+        }
+    }
+
+    @Test
+    @DisplayName("비활성화 - 원본 스트림을 그대로 쓰고 파일을 만들지 않음")
+    void disabled_PassThrough() throws IOException {
+        // given
+        final NagerResponseCache disabled = createCache(false, 1024L);
+        try (NagerResponseCache.WriteThroughStream body =
+                disabled.writeThrough(KR_2024, stream(BODY))) {
+            assertThat(new String(body.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+            body.markDecoded();
+        }
+
+        // when & then
+        assertThat(disabled.open(KR_2024)).isEmpty();
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("잘못된 키 - 경로 문자가 포함된 국가 코드는 캐시하지 않음")
+    void writeThrough_InvalidKey_NotCached() throws IOException {
+        // given
+        final NagerResponseCache.Key key = NagerResponseCache.Key.holidays(2024, "../KR");
+        try (NagerResponseCache.WriteThroughStream body = cache.writeThrough(key, stream(BODY))) {
+            body.transferTo(OutputStream.nullOutputStream());
+            body.markDecoded();
+        }
+
+        // when & then
+        assertThat(cache.open(key)).isEmpty();
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private NagerResponseCache createCache(final boolean enabled, final Long maxSizeBytes) {
+        final NagerResponseCache created = new NagerResponseCache(
+                new NagerResponseCache.Settings(enabled, directory, maxSizeBytes,
+                        Duration.ofDays(30), Duration.ofHours(6)),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        registry = new SimpleMeterRegistry();
+        created.bindTo(registry);
+        return created;
+    }
+
+    private void write(final NagerResponseCache.Key key, final String body) throws IOException {
+        try (NagerResponseCache.WriteThroughStream stream = cache.writeThrough(key, stream(body))) {
+            stream.transferTo(OutputStream.nullOutputStream());
+            stream.markDecoded();
+        }
+        Files.setLastModifiedTime(directory.resolve(key.fileName() + ".json"),
+                FileTime.from(NOW));
+    }
+
+    private void age(final NagerResponseCache.Key key, final Duration age) throws IOException {
+        Files.setLastModifiedTime(directory.resolve(key.fileName() + ".json"),
+                FileTime.from(NOW.minus(age)));
+    }
+
+    private InputStream stream(final String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String read(final InputStream body) throws IOException {
+        try (body) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private double count(final String metricName) {
+        return registry.get(metricName).functionCounter().count();
+    }
+}
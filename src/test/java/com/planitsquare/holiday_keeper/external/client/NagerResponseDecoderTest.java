@@ -0,0 +1,124 @@
+package com.planitsquare.holiday_keeper.external.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planitsquare.holiday_keeper.external.dto.NagerCountryResponse;
+import com.planitsquare.holiday_keeper.external.dto.NagerHolidayResponse;
+
+@DisplayName("NagerResponseDecoder 테스트")
+class NagerResponseDecoderTest {
+
+    private final NagerResponseDecoder decoder = new NagerResponseDecoder(new ObjectMapper());
+
+    @Test
+    @DisplayName("공휴일 응답 디코딩 성공 - 사용하지 않는 필드는 건너뜀")
+    void decodeHolidays_Success_SkipsUnusedFields() throws IOException {
+        // given
+        final String json = """
+                [{"date":"2024-03-01","localName":"삼일절","name":"Independence Movement Day",
+                "countryCode":"KR","fixed":true,"global":false,"counties":["KR-11","KR-26"],
+                "launchYear":null,"types":["Public","Bank"],"extra":{"nested":[1,2,3]}}]
+                """;
+
+        // when
+        final List<NagerHolidayResponse> holidays = decoder.decodeHolidays(stream(json));
+
+        // then
+        assertThat(holidays).containsExactly(new NagerHolidayResponse(LocalDate.of(2024, 3, 1),
+                "삼일절", "Independence Movement Day", null, true, false, null, null,
+                List.of("Public", "Bank")));
+    }
+
+    @Test
+    @DisplayName("국가 응답 디코딩 성공")
+    void decodeCountries_Success() throws IOException {
+        // given
+        final String json = """
+                [{"countryCode":"KR","name":"South Korea"},{"name":"Japan","countryCode":"JP"}]
+                """;
+
+        // when
+        final List<NagerCountryResponse> countries = decoder.decodeCountries(stream(json));
+
+        // then
+        assertThat(countries).containsExactly(new NagerCountryResponse("KR", "South Korea"),
+                new NagerCountryResponse("JP", "Japan"));
+    }
+
+    @Test
+    @DisplayName("빈 본문 디코딩 성공 - 빈 리스트 반환")
+    void decodeHolidays_Success_EmptyBody() throws IOException {
+        // when
+        final List<NagerHolidayResponse> holidays = decoder.decodeHolidays(stream(""));
+
+        // then
+        assertThat(holidays).isEmpty();
+    }
+
+    @Test
+    @DisplayName("디코딩 실패 - JSON 배열이 아닌 응답")
+    void decodeHolidays_Fail_NotArray() {
+        // when & then
+        assertThatThrownBy(() -> decoder.decodeHolidays(stream("{\"status\":404}")))
+                .isInstanceOf(JsonParseException.class)
+                .hasMessageContaining("외부 API 응답이 JSON 배열이 아닙니다");
+    }
+
+    @Test
+    @DisplayName("공휴일 응답 디코딩 성공 - 날짜가 null이면 null로 매핑")
+    void decodeHolidays_Success_NullDate() throws IOException {
+        // given
+        final String json = """
+                [{"date":null,"localName":"삼일절","name":"Independence Movement Day"}]
+                """;
+
+        // when
+        final List<NagerHolidayResponse> holidays = decoder.decodeHolidays(stream(json));
+
+        // then
+        assertThat(holidays).singleElement()
+                .extracting(NagerHolidayResponse::date).isNull();
+    }
+
+    @Test
+    @DisplayName("디코딩 실패 - 날짜 형식이 올바르지 않은 응답")
+    void decodeHolidays_Fail_InvalidDate() {
+        // given
+        final String json = """
+                [{"date":"2024-13-01","localName":"삼일절"}]
+                """;
+
+        // when & then
+        assertThatThrownBy(() -> decoder.decodeHolidays(stream(json)))
+                .isInstanceOf(JsonParseException.class)
+                .hasMessageContaining("외부 API 응답의 날짜 형식이 올바르지 않습니다: 2024-13-01");
+    }
+
+    @Test
+    @DisplayName("디코딩 실패 - 배열에 객체가 아닌 원소가 섞인 응답은 잘라내지 않고 실패")
+    void decodeCountries_Fail_NonObjectElement() {
+        // given
+        final String json = """
+                [{"countryCode":"KR","name":"South Korea"},"JP",{"countryCode":"US","name":"US"}]
+                """;
+
+        // when & then
+        assertThatThrownBy(() -> decoder.decodeCountries(stream(json)))
+                .isInstanceOf(JsonParseException.class)
+                .hasMessageContaining("외부 API 응답 배열에 객체가 아닌 원소가 있습니다");
+    }
+
+    private InputStream stream(final String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,201 @@
+package com.planitsquare.holiday_keeper.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.planitsquare.holiday_keeper.api.dto.request.HolidaySearchRequest;
+import com.planitsquare.holiday_keeper.constants.HolidayTypeMatch;
+import com.planitsquare.holiday_keeper.service.dto.CountryYear;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HolidaySearchCountCache 테스트")
+class HolidaySearchCountCacheTest {
+
+    private static final CountryYear KOREA_2024 = new CountryYear("KR", 2024);
+
+    @Mock
+    private HolidaySearchGenerations generations;
+
+    private HolidaySearchCountCache countCache;
+    private AtomicInteger countQueries;
+
+    @BeforeEach
+    void setUp() {
+        countCache = new HolidaySearchCountCache(generations);
+        ReflectionTestUtils.setField(countCache, "maxEntries", 100);
+        countQueries = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("COUNT 조회 - 같은 검색 조건은 페이지·크기가 달라도 한 번만 조회")
+    void count_Success_CachedByPredicate() {
+        // given
+        final HolidaySearchRequest firstPage = request("KR", 2024, null, null, 0);
+        final HolidaySearchRequest secondPage = request("KR", 2024, null, null, 3);
+        final HolidaySearchRequest emptyCountry = request("", 2024, null, null, 0);
+        final HolidaySearchRequest allCountries = request(null, 2024, null, null, 0);
+
+        // when
+        countCache.count(firstPage, counter(15L));
+        final Long cached = countCache.count(secondPage, counter(99L));
+        countCache.count(emptyCountry, counter(300L));
+        final Long normalized = countCache.count(allCountries, counter(99L));
+
+        // then
+        assertThat(cached).isEqualTo(15L);
+        assertThat(normalized).isEqualTo(300L);
+        assertThat(countQueries).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("COUNT 조회 - 타입 조건은 순서·대소문자와 관계없이 같은 비트마스크면 같은 조건")
+    void count_Success_TypesNormalizedToBitmask() {
+        // given
+        final HolidaySearchRequest publicBank = new HolidaySearchRequest("KR", null, null, null,
+                "Public,Bank", HolidayTypeMatch.ANY, 0, 20, null, null);
+        final HolidaySearchRequest bankPublic = new HolidaySearchRequest("KR", null, null, null,
+                "bank, Public", HolidayTypeMatch.ANY, 0, 20, null, null);
+        final HolidaySearchRequest allOfThem = new HolidaySearchRequest("KR", null, null, null,
+                "Public,Bank", HolidayTypeMatch.ALL, 0, 20, null, null);
+
+        // when
+        countCache.count(publicBank, counter(10L));
+        final Long reordered = countCache.count(bankPublic, counter(99L));
+        final Long matchAll = countCache.count(allOfThem, counter(2L));
+
+        // then
+        assertThat(reordered).isEqualTo(10L);
+        assertThat(matchAll).isEqualTo(2L);
+        assertThat(countQueries).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("무효화 - 바뀐 국가·연도 쌍을 포함할 수 있는 조건만 삭제")
+    void invalidateAfterCommit_Success_EvictsOnlyAffectedPredicates() {
+        // given
+        final HolidaySearchRequest korea2024 = request("KR", 2024, null, null, 0);
+        final HolidaySearchRequest korea2023 = request("KR", 2023, null, null, 0);
+        final HolidaySearchRequest usa2024 = request("US", 2024, null, null, 0);
+        final HolidaySearchRequest allIn2024Range = request(null, null,
+                LocalDate.of(2024, 5, 1), LocalDate.of(2025, 1, 31), 0);
+        final List<HolidaySearchRequest> requests =
+                List.of(korea2024, korea2023, usa2024, allIn2024Range);
+        requests.forEach(request -> countCache.count(request, counter(1L)));
+
+        // when
+        countCache.invalidateAfterCommit(List.of(KOREA_2024));
+        requests.forEach(request -> countCache.count(request, counter(2L)));
+
+        // then
+        assertThat(countCache.count(korea2024, counter(3L))).isEqualTo(2L);
+        assertThat(countCache.count(korea2023, counter(3L))).isEqualTo(1L);
+        assertThat(countCache.count(usa2024, counter(3L))).isEqualTo(1L);
+        assertThat(countCache.count(allIn2024Range, counter(3L))).isEqualTo(2L);
+        assertThat(countQueries).hasValue(6);
+    }
+
+    @Test
+    @DisplayName("무효화 - 트랜잭션 안에서는 커밋된 뒤에 삭제")
+    void invalidateAfterCommit_Success_AppliedAfterCommit() {
+        // given
+        final HolidaySearchRequest korea2024 = request("KR", 2024, null, null, 0);
+        countCache.count(korea2024, counter(1L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            countCache.invalidateAfterCommit(List.of(KOREA_2024));
+            final Long beforeCommit = countCache.count(korea2024, counter(2L));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+
+            // then
+            assertThat(beforeCommit).isEqualTo(1L);
+            assertThat(countCache.count(korea2024, counter(2L))).isEqualTo(2L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("COUNT 조회 - 조회 도중 무효화가 일어나면 결과를 캐시하지 않음")
+    void count_Success_NotCachedWhenInvalidatedDuringCount() {
+        // given
+        final HolidaySearchRequest korea2024 = request("KR", 2024, null, null, 0);
+
+        // when
+        final Long raced = countCache.count(korea2024, () -> {
+            countQueries.incrementAndGet();
+            countCache.invalidateAfterCommit(List.of(new CountryYear("JP", 1990)));
+            return 1L;
+        });
+        final Long recounted = countCache.count(korea2024, counter(2L));
+
+        // then
+        assertThat(raced).isEqualTo(1L);
+        assertThat(recounted).isEqualTo(2L);
+        assertThat(countQueries).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("COUNT 조회 - 다른 인스턴스가 세대 값을 올린 국가의 조건만 다시 조회")
+    void count_Success_RecountsCountryChangedOnOtherNode() {
+        // given
+        when(generations.latest()).thenReturn(Map.of("KR", 1L, "US", 1L),
+                Map.of("KR", 1L, "US", 1L), Map.of("KR", 2L, "US", 1L));
+        final HolidaySearchRequest korea = request("KR", 2024, null, null, 0);
+        final HolidaySearchRequest usa = request("US", 2024, null, null, 0);
+        countCache.count(korea, counter(15L));
+        countCache.count(usa, counter(11L));
+
+        // when
+        final Long recounted = countCache.count(korea, counter(16L));
+        final Long cached = countCache.count(usa, counter(99L));
+
+        // then
+        assertThat(recounted).isEqualTo(16L);
+        assertThat(cached).isEqualTo(11L);
+        assertThat(countQueries).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("COUNT 조회 - 최대 개수가 0이면 캐시하지 않음")
+    void count_Success_DisabledWhenMaxEntriesZero() {
+        // given
+        ReflectionTestUtils.setField(countCache, "maxEntries", 0);
+        final HolidaySearchRequest korea2024 = request("KR", 2024, null, null, 0);
+
+        // when
+        countCache.count(korea2024, counter(1L));
+        countCache.count(korea2024, counter(1L));
+
+        // then
+        assertThat(countQueries).hasValue(2);
+    }
+
+    private Supplier<Long> counter(final Long total) {
+        return () -> {
+            countQueries.incrementAndGet();
+            return total;
+        };
+    }
+
+    private HolidaySearchRequest request(final String countryCode, final Integer year,
+            final LocalDate from, final LocalDate to, final Integer page) {
+        return new HolidaySearchRequest(countryCode, year, from, to, null, null, page, 20, null,
+                null);
+    }
+}
@@ -0,0 +1,98 @@
+package com.planitsquare.holiday_keeper.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import com.planitsquare.holiday_keeper.domain.entity.HolidaySearchGeneration;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HolidaySearchGenerations 테스트")
+class HolidaySearchGenerationsTest {
+
+    @Mock
+    private JpaHolidaySearchGenerationRepository jpaRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private HolidaySearchGenerations generations;
+
+    @Test
+    @DisplayName("세대 조회 - 확인 간격 안에서는 DB를 다시 읽지 않음")
+    void latest_Success_CachedWithinInterval() {
+        // given
+        ReflectionTestUtils.setField(generations, "checkIntervalMs", 60_000L);
+        when(jpaRepository.findAllGenerations()).thenReturn(List.of(generation("KR", 3L)));
+
+        // when
+        final Map<String, Long> first = generations.latest();
+        final Map<String, Long> second = generations.latest();
+
+        // then
+        assertThat(first).containsExactlyEntriesOf(Map.of("KR", 3L));
+        assertThat(second).isSameAs(first);
+        verify(jpaRepository, times(1)).findAllGenerations();
+    }
+
+    @Test
+    @DisplayName("세대 조회 - 확인 간격이 지나면 DB에서 다시 읽음")
+    void latest_Success_ReloadsAfterInterval() {
+        // given
+        ReflectionTestUtils.setField(generations, "checkIntervalMs", 0L);
+        when(jpaRepository.findAllGenerations()).thenReturn(List.of(generation("KR", 3L)),
+                List.of(generation("KR", 4L)));
+
+        // when
+        generations.latest();
+        final Map<String, Long> latest = generations.latest();
+
+        // then
+        assertThat(latest).containsExactlyEntriesOf(Map.of("KR", 4L));
+    }
+
+    @Test
+    @DisplayName("세대 증가 - 국가 코드를 중복 없이 정렬된 순서로 올림")
+    void bump_Success_SortedDistinctCountries() {
+        // when
+        generations.bump(List.of("US", "KR", "US"));
+
+        // then
+        verify(jdbcTemplate).batchUpdate(anyString(), eq(List.of("KR", "US")), eq(2),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("세대 증가 - 바뀐 국가가 없으면 실행하지 않음")
+    void bump_Skip_Empty() {
+        // when
+        generations.bump(List.of());
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    private HolidaySearchGeneration generation(final String countryCode, final Long value) {
+        return HolidaySearchGeneration.builder().countryCode(countryCode).generation(value)
+                .build();
+    }
+}
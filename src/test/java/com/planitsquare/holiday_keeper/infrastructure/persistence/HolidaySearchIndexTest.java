@@ -0,0 +1,298 @@
+package com.planitsquare.holiday_keeper.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.planitsquare.holiday_keeper.api.dto.request.HolidaySearchRequest;
+import com.planitsquare.holiday_keeper.api.dto.response.HolidayResponse;
+import com.planitsquare.holiday_keeper.constants.HolidayTypeMatch;
+import com.planitsquare.holiday_keeper.domain.entity.Country;
+import com.planitsquare.holiday_keeper.service.dto.HolidaySearchCursor;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HolidaySearchIndex 테스트")
+class HolidaySearchIndexTest {
+
+    @Mock
+    private JpaHolidayRepository jpaRepository;
+
+    @Mock
+    private HolidaySearchGenerations generations;
+
+    @InjectMocks
+    private HolidaySearchIndex searchIndex;
+
+    private Country korea;
+    private Country usa;
+    private long nextId;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(searchIndex, "enabled", true);
+        korea = Country.builder().countryCode("KR").name("South Korea").build();
+        usa = Country.builder().countryCode("US").name("United States").build();
+    }
+
+    @Test
+    @DisplayName("검색 - 국가와 연도 조건을 날짜 구간으로 찾아 페이지와 전체 개수를 반환")
+    void search_Success_CountryAndYear() {
+        // given
+        when(jpaRepository.findAllResponses()).thenReturn(List.of(
+                holiday(korea, "2024-12-25", "Public"), holiday(korea, "2023-01-01", "Public"),
+                holiday(korea, "2024-01-01", "Public"), holiday(usa, "2024-07-04", "Public"),
+                holiday(korea, "2024-03-01", "Public"), holiday(korea, "2025-01-01", "Public")));
+
+        // when
+        final Page<HolidayResponse> page =
+                search(request("KR", 2024, null, null, null), 0, 2).orElseThrow();
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getTotalPages()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(HolidayResponse::date)
+                .containsExactly(LocalDate.parse("2024-01-01"), LocalDate.parse("2024-03-01"));
+    }
+
+    @Test
+    @DisplayName("검색 - 국가 조건이 없으면 모든 국가를 날짜순으로 보고 기간 조건을 함께 적용")
+    void search_Success_AllCountriesDateRange() {
+        // given
+        when(jpaRepository.findAllResponses()).thenReturn(List.of(
+                holiday(usa, "2024-07-04", "Public"), holiday(korea, "2024-05-05", "Public"),
+                holiday(usa, "2024-05-27", "Public"), holiday(korea, "2024-10-03", "Public")));
+
+        // when
+        final Page<HolidayResponse> page = search(request(null, null,
+                LocalDate.parse("2024-05-01"), LocalDate.parse("2024-07-04"), null), 1, 2)
+                .orElseThrow();
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(HolidayResponse::countryCode)
+                .containsExactly("US");
+    }
+
+    @Test
+    @DisplayName("검색 - 단일 타입 조건은 구간 안에서 비트마스크로 거름")
+    void search_Success_TypeFilter() {
+        // given
+        when(jpaRepository.findAllResponses()).thenReturn(List.of(
+                holiday(korea, "2024-01-01", "Public"), holiday(korea, "2024-05-01", "Bank"),
+                holiday(korea, "2024-05-05", "Public,School"),
+                holiday(korea, "2024-12-24", "Observance")));
+
+        // when
+        final Page<HolidayResponse> page =
+                search(request("KR", 2024, null, null, "Public"), 0, 20).orElseThrow();
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(HolidayResponse::date).containsExactly(
+                LocalDate.parse("2024-01-01"), LocalDate.parse("2024-05-05"));
+    }
+
+    @Test
+    @DisplayName("검색 - 여러 타입 조건은 ANY면 하나라도, ALL이면 모두 포함한 공휴일만 반환")
+    void search_Success_MultipleTypes() {
+        // given
+        when(jpaRepository.findAllResponses()).thenReturn(List.of(
+                holiday(korea, "2024-01-01", "Public"), holiday(korea, "2024-05-01", "Bank"),
+                holiday(korea, "2024-05-05", "Public,Bank"),
+                holiday(korea, "2024-12-24", "Observance")));
+
+        // when
+        final Page<HolidayResponse> any = search(request("KR", 2024, null, null, "Public,Bank",
+                HolidayTypeMatch.ANY), 0, 20).orElseThrow();
+        final Page<HolidayResponse> all = search(request("KR", 2024, null, null, "Bank, Public",
+                HolidayTypeMatch.ALL), 0, 20).orElseThrow();
+
+        // then
+        assertThat(any.getContent()).extracting(HolidayResponse::date).containsExactly(
+                LocalDate.parse("2024-01-01"), LocalDate.parse("2024-05-01"),
+                LocalDate.parse("2024-05-05"));
+        assertThat(all.getContent()).extracting(HolidayResponse::date)
+                .containsExactly(LocalDate.parse("2024-05-05"));
+    }
+
+    @Test
+    @DisplayName("검색 - 인덱스가 꺼져 있으면 처리하지 않음")
+    void search_Empty_Disabled() {
+        // given
+        ReflectionTestUtils.setField(searchIndex, "enabled", false);
+
+        // when & then
+        assertThat(search(request("KR", 2024, null, null, null), 0, 20)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 같은 날짜는 ID로 이어 읽고 size+1번째 행으로 다음 페이지 여부 판단")
+    void searchAfter_Success_ContinuesAfterCursor() {
+        // given
+        final HolidayResponse koreaChildrenDay = holiday(korea, "2024-05-05", "Public");
+        final HolidayResponse usaSameDay = holiday(usa, "2024-05-05", "Observance");
+        final HolidayResponse usaMemorialDay = holiday(usa, "2024-05-27", "Public");
+        final HolidayResponse usaIndependenceDay = holiday(usa, "2024-07-04", "Public");
+        when(jpaRepository.findAllResponses()).thenReturn(List.of(usaIndependenceDay,
+                usaMemorialDay, usaSameDay, holiday(korea, "2024-01-01", "Public"),
+                koreaChildrenDay));
+
+        // when
+        final Slice<HolidayResponse> slice = searchIndex.searchAfter(
+                request(null, 2024, null, null, null),
+                HolidaySearchCursor.after(koreaChildrenDay), 2).orElseThrow();
+        final Slice<HolidayResponse> lastSlice = searchIndex.searchAfter(
+                request(null, 2024, null, null, null),
+                HolidaySearchCursor.after(usaMemorialDay), 2).orElseThrow();
+
+        // then
+        assertThat(slice.getContent()).containsExactly(usaSameDay, usaMemorialDay);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(lastSlice.getContent()).containsExactly(usaIndependenceDay);
+        assertThat(lastSlice.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 타입 조건이 있으면 커서 이후 구간에서 일치하는 행만 읽음")
+    void searchAfter_Success_TypeFilter() {
+        // given
+        final HolidayResponse newYear = holiday(korea, "2024-01-01", "Public");
+        final HolidayResponse christmas = holiday(korea, "2024-12-25", "Public");
+        when(jpaRepository.findAllResponses()).thenReturn(List.of(newYear,
+                holiday(korea, "2024-05-01", "Bank"), christmas));
+
+        // when
+        final Slice<HolidayResponse> slice = searchIndex.searchAfter(
+                request("KR", null, null, null, "Public"), HolidaySearchCursor.after(newYear), 20)
+                .orElseThrow();
+
+        // then
+        assertThat(slice.getContent()).containsExactly(christmas);
+        assertThat(slice.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("인덱스 갱신 - 커밋된 뒤에 바뀐 국가만 다시 읽어 교체")
+    void refreshAfterCommit_Success_ReplacesChangedCountryAfterCommit() {
+        // given
+        when(jpaRepository.findAllResponses()).thenReturn(List.of(
+                holiday(korea, "2024-01-01", "Public"), holiday(usa, "2024-07-04", "Public")));
+        when(jpaRepository.findResponsesByCountryCodeIn(Set.of("KR"))).thenReturn(List.of(
+                holiday(korea, "2024-01-01", "Public"), holiday(korea, "2024-03-01", "Public")));
+        assertThat(totalFor(null)).isEqualTo(2);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            searchIndex.refreshAfterCommit(List.of("KR"));
+            searchIndex.refreshAfterCommit(List.of("KR"));
+            final long beforeCommit = totalFor("KR");
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+
+            // then
+            assertThat(beforeCommit).isEqualTo(1);
+            assertThat(totalFor("KR")).isEqualTo(2);
+            assertThat(totalFor("US")).isEqualTo(1);
+            assertThat(totalFor(null)).isEqualTo(3);
+            verify(jpaRepository, times(1)).findResponsesByCountryCodeIn(anyCollection());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("인덱스 갱신 - 다시 읽기에 실패하면 스냅샷을 버리고 다음 검색에서 새로 생성")
+    void refreshAfterCommit_Fail_DiscardsSnapshot() {
+        // given
+        when(jpaRepository.findAllResponses()).thenReturn(
+                List.of(holiday(korea, "2024-01-01", "Public")),
+                List.of(holiday(korea, "2024-01-01", "Public"),
+                        holiday(korea, "2024-03-01", "Public")));
+        when(jpaRepository.findResponsesByCountryCodeIn(anyCollection()))
+                .thenThrow(new IllegalStateException("connection lost"));
+        assertThat(totalFor("KR")).isEqualTo(1);
+
+        // when
+        searchIndex.refreshAfterCommit(List.of("KR"));
+
+        // then
+        assertThat(totalFor("KR")).isEqualTo(2);
+        verify(jpaRepository, times(2)).findAllResponses();
+    }
+
+    @Test
+    @DisplayName("인덱스 갱신 - 다른 인스턴스가 세대 값을 올린 국가만 검색 시 다시 읽음")
+    void search_Success_RefreshesCountryChangedOnOtherNode() {
+        // given
+        when(generations.latest()).thenReturn(Map.of("KR", 1L, "US", 1L),
+                Map.of("KR", 2L, "US", 1L));
+        when(generations.reload()).thenReturn(Map.of("KR", 1L, "US", 1L),
+                Map.of("KR", 2L, "US", 1L));
+        when(jpaRepository.findAllResponses()).thenReturn(List.of(
+                holiday(korea, "2024-01-01", "Public"), holiday(usa, "2024-07-04", "Public")));
+        when(jpaRepository.findResponsesByCountryCodeIn(Set.of("KR"))).thenReturn(List.of(
+                holiday(korea, "2024-01-01", "Public"), holiday(korea, "2024-03-01", "Public")));
+        final long before = totalFor(null);
+
+        // when
+        final long afterRemoteChange = totalFor(null);
+        final long afterCatchUp = totalFor("KR");
+
+        // then
+        assertThat(before).isEqualTo(2);
+        assertThat(afterRemoteChange).isEqualTo(3);
+        assertThat(afterCatchUp).isEqualTo(2);
+        verify(jpaRepository, times(1)).findAllResponses();
+        verify(jpaRepository, times(1)).findResponsesByCountryCodeIn(anyCollection());
+    }
+
+    private Optional<Page<HolidayResponse>> search(final HolidaySearchRequest request,
+            final int page, final int size) {
+        return searchIndex.search(request, PageRequest.of(page, size));
+    }
+
+    private HolidaySearchRequest request(final String countryCode, final Integer year,
+            final LocalDate from, final LocalDate to, final String types) {
+        return request(countryCode, year, from, to, types, null);
+    }
+
+    private HolidaySearchRequest request(final String countryCode, final Integer year,
+            final LocalDate from, final LocalDate to, final String types,
+            final HolidayTypeMatch typeMatch) {
+        return new HolidaySearchRequest(countryCode, year, from, to, types, typeMatch, null, null,
+                null, null).withDefaults();
+    }
+
+    private long totalFor(final String countryCode) {
+        return search(request(countryCode, null, null, null, null), 0, 20).orElseThrow()
+                .getTotalElements();
+    }
+
+    private HolidayResponse holiday(final Country country, final String date,
+            final String types) {
+        final LocalDate holidayDate = LocalDate.parse(date);
+        return new HolidayResponse(++nextId, country.getCountryCode(), country.getName(),
+                holidayDate.getYear(), holidayDate, "Holiday " + date, "공휴일 " + date, types,
+                true, true, null);
+    }
+}
@@ -0,0 +1,152 @@
+package com.planitsquare.holiday_keeper.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import com.planitsquare.holiday_keeper.HolidayKeeperApplication;
+import com.planitsquare.holiday_keeper.service.HolidaySyncLeaseService;
+import com.planitsquare.holiday_keeper.service.dto.SyncShard;
+
+@DisplayName("다중 인스턴스 동기화 임대 테스트")
+class HolidaySyncLeaseClusterTest {
+
+    private static final int REPLICA_COUNT = 3;
+    private static final int SHARD_COUNT = 8;
+    private static final long SHORT_LEASE_MS = 200L;
+
+    private static final List<ConfigurableApplicationContext> replicas = new ArrayList<>();
+
+    @BeforeAll
+    static void startReplicas() {
+        IntStream.range(0, REPLICA_COUNT).forEach(i -> replicas.add(startReplica(i == 0
+                ? SHORT_LEASE_MS : 60_000L)));
+    }
+
+    @AfterAll
+    static void stopReplicas() {
+        replicas.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스가 동시에 임대를 획득해도 모든 샤드를 정확히 한 번씩 나눠 가짐")
+    void claimNext_ShardsClaimedExactlyOnceAcrossReplicas() throws InterruptedException {
+        // given
+        final String runKey = "2024-2025@cluster";
+        final Queue<Integer> claimedShards = new ConcurrentLinkedQueue<>();
+        final CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(REPLICA_COUNT)) {
+            replicas.forEach(replica -> executor.submit(() -> {
+                final HolidaySyncLeaseService leaseService = leaseService(replica);
+                start.await();
+                leaseService.prepare(runKey);
+                Optional<SyncShard> shard;
+                while ((shard = leaseService.claimNext(runKey)).isPresent()) {
+                    claimedShards.add(shard.get().shardIndex());
+                    leaseService.complete(shard.get());
+                }
+                return null;
+            }));
+            start.countDown();
+        }
+
+        // then
+        assertThat(claimedShards).hasSize(SHARD_COUNT)
+                .containsExactlyInAnyOrderElementsOf(IntStream.range(0, SHARD_COUNT).boxed()
+                        .toList());
+        assertThat(leaseService(replicas.get(1)).isFinished(runKey)).isTrue();
+    }
+
+    @Test
+    @DisplayName("임대를 잡은 인스턴스가 완료하지 못하면 만료 후 다른 인스턴스가 인수")
+    void claimNext_ExpiredLeaseTakenOverByAnotherReplica() throws InterruptedException {
+        // given
+        final String runKey = "2024-2025@takeover";
+        final HolidaySyncLeaseService crashed = leaseService(replicas.get(0));
+        final HolidaySyncLeaseService survivor = leaseService(replicas.get(1));
+        crashed.prepare(runKey);
+        final List<SyncShard> abandoned = new ArrayList<>();
+        Optional<SyncShard> shard;
+        while ((shard = crashed.claimNext(runKey)).isPresent()) {
+            abandoned.add(shard.get());
+        }
+
+        // when
+        final boolean claimedBeforeExpiry = survivor.claimNext(runKey).isPresent();
+        TimeUnit.MILLISECONDS.sleep(SHORT_LEASE_MS * 2);
+        final List<SyncShard> takenOver = new ArrayList<>();
+        while ((shard = survivor.claimNext(runKey)).isPresent()) {
+            takenOver.add(shard.get());
+            survivor.complete(shard.get());
+        }
+
+        // then
+        assertThat(abandoned).hasSize(SHARD_COUNT);
+        assertThat(claimedBeforeExpiry).isFalse();
+        assertThat(takenOver).hasSize(SHARD_COUNT).allMatch(SyncShard::isTakeover)
+                .allMatch(taken -> crashed.getOwner().equals(taken.previousOwner()));
+        assertThat(crashed.complete(abandoned.getFirst())).isFalse();
+        assertThat(survivor.isFinished(runKey)).isTrue();
+    }
+
+    @Test
+    @DisplayName("임대를 잡은 인스턴스가 처리 중 임대를 연장하면 임대 기간이 지나도 인수되지 않음")
+    void renew_RenewedLeaseNotTakenOver() throws InterruptedException {
+        // given
+        final String runKey = "2024-2025@renewal";
+        final HolidaySyncLeaseService busy = leaseService(replicas.get(0));
+        final HolidaySyncLeaseService other = leaseService(replicas.get(1));
+        busy.prepare(runKey);
+        final List<SyncShard> claimed = new ArrayList<>();
+        Optional<SyncShard> shard;
+        while ((shard = busy.claimNext(runKey)).isPresent()) {
+            claimed.add(shard.get());
+        }
+
+        // when
+        final List<Boolean> renewed = new ArrayList<>();
+        final List<Boolean> claimedByOther = new ArrayList<>();
+        for (int round = 0; round < 3; round++) {
+            TimeUnit.MILLISECONDS.sleep(SHORT_LEASE_MS / 2);
+            claimed.forEach(lease -> renewed.add(busy.renew(lease)));
+            claimedByOther.add(other.claimNext(runKey).isPresent());
+        }
+
+        // then
+        assertThat(claimed).hasSize(SHARD_COUNT);
+        assertThat(renewed).containsOnly(true);
+        assertThat(claimedByOther).containsOnly(false);
+        assertThat(claimed).allMatch(busy::complete);
+        assertThat(other.isFinished(runKey)).isTrue();
+    }
+
+    private static ConfigurableApplicationContext startReplica(final long leaseDurationMs) {
+        return new SpringApplicationBuilder(HolidayKeeperApplication.class)
+                .web(WebApplicationType.NONE).profiles("test")
+                .run("--spring.datasource.url=jdbc:h2:mem:sync-lease-cluster;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=update",
+                        "--batch.sync.shard-count=" + SHARD_COUNT,
+                        "--batch.sync.lease-duration-ms=" + leaseDurationMs);
+    }
+
+    private static HolidaySyncLeaseService leaseService(
+            final ConfigurableApplicationContext replica) {
+        return replica.getBean(HolidaySyncLeaseService.class);
+    }
+}
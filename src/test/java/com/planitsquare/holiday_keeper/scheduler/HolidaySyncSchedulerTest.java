@@ -1,35 +1,75 @@
 package com.planitsquare.holiday_keeper.scheduler;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClientException;
 import com.planitsquare.holiday_keeper.service.CountryService;
+import com.planitsquare.holiday_keeper.service.HolidayFetchRetryScheduler;
 import com.planitsquare.holiday_keeper.service.HolidayService;
+import com.planitsquare.holiday_keeper.service.HolidaySyncLeaseService;
+import com.planitsquare.holiday_keeper.service.dto.CountrySyncResult;
+import com.planitsquare.holiday_keeper.service.dto.HolidaySyncReport;
+import com.planitsquare.holiday_keeper.service.dto.HolidayUpsertResult;
+import com.planitsquare.holiday_keeper.service.dto.SyncShard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("HolidaySyncScheduler 테스트")
 class HolidaySyncSchedulerTest {
 
+    private static final String RUN_KEY = "2024-2025@2025-01-02";
+
     @Mock
     private HolidayService holidayService;
 
     @Mock
     private CountryService countryService;
 
+    @Mock
+    private HolidaySyncLeaseService leaseService;
+
+    @Spy
+    private HolidayFetchRetryScheduler retryScheduler =
+            new HolidayFetchRetryScheduler(new SimpleMeterRegistry());
+
     @InjectMocks
     private HolidaySyncScheduler holidaySyncScheduler;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(retryScheduler, "maxAttempts", 3);
+        ReflectionTestUtils.setField(retryScheduler, "initialDelayMs", 10L);
+        ReflectionTestUtils.setField(retryScheduler, "multiplier", 2.0);
+        ReflectionTestUtils.setField(retryScheduler, "maxDelayMs", 100L);
+        ReflectionTestUtils.setField(holidaySyncScheduler, "maxParallelism", 4);
+        ReflectionTestUtils.setField(holidaySyncScheduler, "countryTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(holidaySyncScheduler, "leasePollIntervalMs", 10L);
+        ReflectionTestUtils.setField(holidaySyncScheduler, "runTimeoutMs", 60_000L);
+    }
+
     @Test
     @DisplayName("공휴일 동기화 성공 - 여러 국가")
     void syncHolidays_Success_MultipleCountries() {
@@ -38,27 +78,34 @@ class HolidaySyncSchedulerTest {
         final int previousYear = currentYear - 1;
         final java.util.List<String> countryCodes = Arrays.asList("KR", "US");
 
+        givenSingleShard();
         when(countryService.findAllCountryCodes()).thenReturn(countryCodes);
-        when(holidayService.refreshHolidays(eq(previousYear), eq("KR"))).thenReturn(10);
-        when(holidayService.refreshHolidays(eq(currentYear), eq("KR"))).thenReturn(10);
-        when(holidayService.refreshHolidays(eq(previousYear), eq("US"))).thenReturn(15);
-        when(holidayService.refreshHolidays(eq(currentYear), eq("US"))).thenReturn(15);
+        when(holidayService.refreshHolidaysOnce(eq(previousYear), eq("KR")))
+                .thenReturn(new HolidayUpsertResult(10, 0, 0, 0));
+        when(holidayService.refreshHolidaysOnce(eq(currentYear), eq("KR")))
+                .thenReturn(new HolidayUpsertResult(10, 0, 0, 0));
+        when(holidayService.refreshHolidaysOnce(eq(previousYear), eq("US")))
+                .thenReturn(new HolidayUpsertResult(15, 0, 0, 0));
+        when(holidayService.refreshHolidaysOnce(eq(currentYear), eq("US")))
+                .thenReturn(new HolidayUpsertResult(15, 0, 0, 0));
 
         // when
         holidaySyncScheduler.syncHolidays();
 
         // then
+        verify(leaseService).prepare(any(String.class));
         verify(countryService).findAllCountryCodes();
-        verify(holidayService).refreshHolidays(previousYear, "KR");
-        verify(holidayService).refreshHolidays(currentYear, "KR");
-        verify(holidayService).refreshHolidays(previousYear, "US");
-        verify(holidayService).refreshHolidays(currentYear, "US");
+        verify(holidayService).refreshHolidaysOnce(previousYear, "KR");
+        verify(holidayService).refreshHolidaysOnce(currentYear, "KR");
+        verify(holidayService).refreshHolidaysOnce(previousYear, "US");
+        verify(holidayService).refreshHolidaysOnce(currentYear, "US");
     }
 
     @Test
     @DisplayName("공휴일 동기화 성공 - 빈 국가 목록")
     void syncHolidays_Success_EmptyCountries() {
         // given
+        givenSingleShard();
         when(countryService.findAllCountryCodes()).thenReturn(Collections.emptyList());
 
         // when
@@ -66,31 +113,286 @@ class HolidaySyncSchedulerTest {
 
         // then
         verify(countryService).findAllCountryCodes();
-        verify(holidayService, never()).refreshHolidays(any(Integer.class), any(String.class));
+        verify(holidayService, never()).refreshHolidaysOnce(any(Integer.class), any(String.class));
     }
 
     @Test
-    @DisplayName("공휴일 동기화 실패 - 예외 발생 시 해당 국가만 스킵하고 계속 진행")
+    @DisplayName("공휴일 동기화 실패 - 예외 발생 시 해당 (국가, 연도)만 스킵하고 계속 진행")
     void syncHolidays_Fail_ExceptionHandling() {
         // given
         final int currentYear = java.time.LocalDate.now().getYear();
         final int previousYear = currentYear - 1;
         final java.util.List<String> countryCodes = Arrays.asList("KR", "US");
 
+        givenSingleShard();
         when(countryService.findAllCountryCodes()).thenReturn(countryCodes);
-        when(holidayService.refreshHolidays(eq(previousYear), eq("KR")))
+        when(holidayService.refreshHolidaysOnce(eq(previousYear), eq("KR")))
                 .thenThrow(new RuntimeException("동기화 실패"));
-        when(holidayService.refreshHolidays(eq(previousYear), eq("US"))).thenReturn(15);
-        when(holidayService.refreshHolidays(eq(currentYear), eq("US"))).thenReturn(15);
+        when(holidayService.refreshHolidaysOnce(eq(currentYear), eq("KR")))
+                .thenReturn(new HolidayUpsertResult(10, 0, 0, 0));
+        when(holidayService.refreshHolidaysOnce(eq(previousYear), eq("US")))
+                .thenReturn(new HolidayUpsertResult(15, 0, 0, 0));
+        when(holidayService.refreshHolidaysOnce(eq(currentYear), eq("US")))
+                .thenReturn(new HolidayUpsertResult(15, 0, 0, 0));
 
         // when
         holidaySyncScheduler.syncHolidays();
 
         // then
         verify(countryService).findAllCountryCodes();
-        verify(holidayService).refreshHolidays(previousYear, "KR");
-        verify(holidayService, never()).refreshHolidays(currentYear, "KR");
-        verify(holidayService).refreshHolidays(previousYear, "US");
-        verify(holidayService).refreshHolidays(currentYear, "US");
+        verify(holidayService).refreshHolidaysOnce(previousYear, "KR");
+        verify(holidayService).refreshHolidaysOnce(currentYear, "KR");
+        verify(holidayService).refreshHolidaysOnce(previousYear, "US");
+        verify(holidayService).refreshHolidaysOnce(currentYear, "US");
+    }
+
+    @Test
+    @DisplayName("공휴일 동기화 성공 - 일시적 외부 API 실패는 같은 국가의 다른 연도를 처리한 뒤 재시도")
+    void syncHolidays_Success_RetryAfterOtherPairs() {
+        // given
+        final int currentYear = java.time.LocalDate.now().getYear();
+        final int previousYear = currentYear - 1;
+
+        givenSingleShard();
+        when(countryService.findAllCountryCodes()).thenReturn(Arrays.asList("KR", "US"));
+        when(holidayService.refreshHolidaysOnce(any(Integer.class), eq("KR")))
+                .thenReturn(new HolidayUpsertResult(10, 0, 0, 0));
+        when(holidayService.refreshHolidaysOnce(any(Integer.class), eq("US")))
+                .thenReturn(new HolidayUpsertResult(15, 0, 0, 0));
+        when(holidayService.refreshHolidaysOnce(eq(previousYear), eq("KR")))
+                .thenThrow(new RestClientException("일시 장애"))
+                .thenReturn(new HolidayUpsertResult(10, 0, 0, 0));
+
+        // when
+        holidaySyncScheduler.syncHolidays();
+
+        // then
+        final InOrder inOrder = inOrder(holidayService);
+        inOrder.verify(holidayService).refreshHolidaysOnce(previousYear, "KR");
+        inOrder.verify(holidayService).refreshHolidaysOnce(currentYear, "KR");
+        inOrder.verify(holidayService).refreshHolidaysOnce(previousYear, "KR");
+        verify(holidayService).refreshHolidaysOnce(previousYear, "US");
+    }
+
+    @Test
+    @DisplayName("국가별 동기화 - 국가들을 병렬로 처리하고 실행 요약을 반환")
+    void syncAllCountries_Success_RunsCountriesInParallel() {
+        // given
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+        when(holidayService.refreshHolidaysOnce(any(Integer.class), any(String.class)))
+                .thenAnswer(invocation -> {
+                    bothStarted.countDown();
+                    bothStarted.await(1, TimeUnit.SECONDS);
+                    return new HolidayUpsertResult(1, 0, 0, 0);
+                });
+
+        // when
+        final HolidaySyncReport report =
+                holidaySyncScheduler.syncAllCountries(List.of("KR", "US"), 2024, 2025);
+
+        // then
+        assertThat(bothStarted.getCount()).isZero();
+        assertThat(report.succeededCountries()).isEqualTo(2);
+        assertThat(report.changes().inserted()).isEqualTo(4);
+        assertThat(report.elapsedMillis()).isLessThan(1000L);
+    }
+
+    @Test
+    @DisplayName("국가별 동기화 - 시간 예산을 넘긴 국가는 취소하고 나머지 국가는 계속 처리")
+    void syncAllCountries_TimedOut_CancelsSlowCountry() {
+        // given
+        ReflectionTestUtils.setField(holidaySyncScheduler, "countryTimeoutMs", 100L);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        when(holidayService.refreshHolidaysOnce(any(Integer.class), eq("KR")))
+                .thenAnswer(invocation -> {
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (final InterruptedException e) {
+                        interrupted.countDown();
+                        throw new IllegalStateException(e);
+                    }
+                    return HolidayUpsertResult.empty();
+                });
+        when(holidayService.refreshHolidaysOnce(any(Integer.class), eq("US")))
+                .thenReturn(new HolidayUpsertResult(15, 0, 0, 0));
+
+        // when
+        final HolidaySyncReport report =
+                holidaySyncScheduler.syncAllCountries(List.of("KR", "US"), 2024, 2025);
+
+        // then
+        assertThat(report.timedOutCountries()).isEqualTo(1);
+        assertThat(report.succeededCountries()).isEqualTo(1);
+        assertThat(report.changes().inserted()).isEqualTo(30);
+        assertThat(report.results()).filteredOn(CountrySyncResult::timedOut)
+                .extracting(CountrySyncResult::countryCode).containsExactly("KR");
+        assertThat(report.elapsedMillis()).isLessThan(5000L);
+        assertThat(awaitQuietly(interrupted)).isTrue();
+    }
+
+    @Test
+    @DisplayName("국가별 동기화 - 인터럽트를 무시하는 국가는 끝날 때까지 허가를 반납하지 않고 실행 중으로 집계")
+    void syncAllCountries_TimedOut_HoldsPermitUntilWorkerExits() {
+        // given
+        ReflectionTestUtils.setField(holidaySyncScheduler, "maxParallelism", 1);
+        ReflectionTestUtils.setField(holidaySyncScheduler, "countryTimeoutMs", 100L);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        when(holidayService.refreshHolidaysOnce(any(Integer.class), eq("KR")))
+                .thenAnswer(invocation -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleepIgnoringInterrupts(300);
+                    running.decrementAndGet();
+                    return HolidayUpsertResult.empty();
+                });
+        when(holidayService.refreshHolidaysOnce(any(Integer.class), eq("US")))
+                .thenAnswer(invocation -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    running.decrementAndGet();
+                    return new HolidayUpsertResult(15, 0, 0, 0);
+                });
+
+        // when
+        final HolidaySyncReport report =
+                holidaySyncScheduler.syncAllCountries(List.of("KR", "US"), 2024, 2025);
+
+        // then
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(report.results()).filteredOn(CountrySyncResult::timedOut)
+                .extracting(CountrySyncResult::countryCode).containsExactly("KR");
+        assertThat(report.stillRunningCountries()).isEqualTo(1);
+        assertThat(report.succeededCountries()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("국가별 동기화 - 재시도를 모두 실패한 국가는 실패로 집계")
+    void syncAllCountries_Fail_CountsFailedCountry() {
+        // given
+        when(holidayService.refreshHolidaysOnce(any(Integer.class), eq("KR")))
+                .thenThrow(new RuntimeException("동기화 실패"));
+        when(holidayService.refreshHolidaysOnce(any(Integer.class), eq("US")))
+                .thenReturn(new HolidayUpsertResult(15, 0, 0, 0));
+
+        // when
+        final HolidaySyncReport report =
+                holidaySyncScheduler.syncAllCountries(List.of("KR", "US"), 2024, 2025);
+
+        // then
+        assertThat(report.failedCountries()).isEqualTo(1);
+        assertThat(report.succeededCountries()).isEqualTo(1);
+        assertThat(report.results()).filteredOn(result -> !result.succeeded())
+                .extracting(CountrySyncResult::failedPairs).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("샤드 동기화 - 임대를 획득한 샤드에 속한 국가만 동기화하고 샤드를 완료 처리")
+    void syncClaimedShards_Success_OnlyClaimedShardCountries() {
+        // given
+        final List<String> countryCodes = List.of("KR", "US", "JP", "DE", "FR", "GB");
+        final SyncShard shard = new SyncShard(1L, RUN_KEY, 0, 2, null);
+        final List<String> shardCountryCodes = shard.select(countryCodes);
+        when(leaseService.isFinished(RUN_KEY)).thenReturn(false, true);
+        when(leaseService.claimNext(RUN_KEY)).thenReturn(Optional.of(shard));
+        when(leaseService.renew(shard)).thenReturn(true);
+        when(leaseService.complete(shard)).thenReturn(true);
+        when(holidayService.refreshHolidaysOnce(any(Integer.class), any(String.class)))
+                .thenReturn(new HolidayUpsertResult(1, 0, 0, 0));
+
+        // when
+        final HolidaySyncReport report =
+                holidaySyncScheduler.syncClaimedShards(RUN_KEY, countryCodes, 2024, 2025);
+
+        // then
+        assertThat(report.results()).extracting(CountrySyncResult::countryCode)
+                .containsExactlyInAnyOrderElementsOf(shardCountryCodes);
+        countryCodes.stream().filter(code -> !shardCountryCodes.contains(code))
+                .forEach(code -> verify(holidayService, never()).refreshHolidaysOnce(2024, code));
+        verify(leaseService, times(shardCountryCodes.size())).renew(shard);
+        verify(leaseService).complete(shard);
+    }
+
+    @Test
+    @DisplayName("샤드 동기화 - 획득할 샤드가 없으면 대기했다가 만료된 임대를 인수")
+    void syncClaimedShards_Success_WaitsAndTakesOverExpiredLease() {
+        // given
+        final SyncShard shard = new SyncShard(1L, RUN_KEY, 0, 1, "replica-a");
+        when(leaseService.isFinished(RUN_KEY)).thenReturn(false, false, true);
+        when(leaseService.claimNext(RUN_KEY)).thenReturn(Optional.empty(), Optional.of(shard));
+        when(leaseService.renew(shard)).thenReturn(true);
+        when(leaseService.complete(shard)).thenReturn(true);
+        when(holidayService.refreshHolidaysOnce(any(Integer.class), eq("KR")))
+                .thenReturn(new HolidayUpsertResult(1, 0, 0, 0));
+
+        // when
+        final HolidaySyncReport report =
+                holidaySyncScheduler.syncClaimedShards(RUN_KEY, List.of("KR"), 2024, 2025);
+
+        // then
+        assertThat(report.succeededCountries()).isEqualTo(1);
+        verify(leaseService, times(2)).claimNext(RUN_KEY);
+    }
+
+    @Test
+    @DisplayName("샤드 동기화 - 처리 중 임대를 잃어도 동기화 결과는 집계")
+    void syncClaimedShards_Success_LeaseLost() {
+        // given
+        final SyncShard shard = new SyncShard(1L, RUN_KEY, 0, 1, null);
+        when(leaseService.isFinished(RUN_KEY)).thenReturn(false, true);
+        when(leaseService.claimNext(RUN_KEY)).thenReturn(Optional.of(shard));
+        when(leaseService.renew(shard)).thenReturn(false);
+        when(leaseService.complete(shard)).thenReturn(false);
+        when(holidayService.refreshHolidaysOnce(any(Integer.class), eq("KR")))
+                .thenReturn(new HolidayUpsertResult(1, 0, 0, 0));
+
+        // when
+        final HolidaySyncReport report =
+                holidaySyncScheduler.syncClaimedShards(RUN_KEY, List.of("KR"), 2024, 2025);
+
+        // then
+        assertThat(report.changes().inserted()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("샤드 동기화 - 실행 제한 시간이 지나면 남은 샤드를 기다리지 않고 종료")
+    void syncClaimedShards_TimedOut_StopsWaitingAtRunDeadline() {
+        // given
+        ReflectionTestUtils.setField(holidaySyncScheduler, "runTimeoutMs", 50L);
+        when(leaseService.isFinished(RUN_KEY)).thenReturn(false);
+        when(leaseService.claimNext(RUN_KEY)).thenReturn(Optional.empty());
+
+        // when
+        final HolidaySyncReport report =
+                holidaySyncScheduler.syncClaimedShards(RUN_KEY, List.of("KR"), 2024, 2025);
+
+        // then
+        assertThat(report.results()).isEmpty();
+        assertThat(report.elapsedMillis()).isLessThan(1000L);
+        verify(holidayService, never()).refreshHolidaysOnce(any(Integer.class), any(String.class));
+    }
+
+    private void givenSingleShard() {
+        final SyncShard shard = new SyncShard(1L, RUN_KEY, 0, 1, null);
+        when(leaseService.isFinished(any())).thenReturn(false, true);
+        when(leaseService.claimNext(any())).thenReturn(Optional.of(shard));
+        when(leaseService.complete(shard)).thenReturn(true);
+    }
+
+    private void sleepIgnoringInterrupts(final long millis) {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()) + 1);
+            } catch (final InterruptedException ignored) {
+            }
+        }
+    }
+
+    private boolean awaitQuietly(final CountDownLatch latch) {
+        try {
+            return latch.await(1, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
 }
@@ -0,0 +1,426 @@
+package com.planitsquare.holiday_keeper.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClientException;
+import com.planitsquare.holiday_keeper.constants.ErrorMessage;
+import com.planitsquare.holiday_keeper.constants.HolidayLoadMode;
+import com.planitsquare.holiday_keeper.domain.entity.Country;
+import com.planitsquare.holiday_keeper.domain.entity.HolidayFetchFingerprint;
+import com.planitsquare.holiday_keeper.exception.ExternalApiUnavailableException;
+import com.planitsquare.holiday_keeper.external.client.NagerDateClient;
+import com.planitsquare.holiday_keeper.external.dto.HolidayFetchResult;
+import com.planitsquare.holiday_keeper.external.dto.NagerHolidayResponse;
+import com.planitsquare.holiday_keeper.external.dto.ResponseValidators;
+import com.planitsquare.holiday_keeper.service.dto.CountryYear;
+import com.planitsquare.holiday_keeper.service.dto.FetchedHolidays;
+import com.planitsquare.holiday_keeper.service.dto.HolidayLoadPlan;
+import com.planitsquare.holiday_keeper.service.dto.HolidayLoadReport;
+import com.planitsquare.holiday_keeper.service.dto.HolidayUpsertResult;
+import com.planitsquare.holiday_keeper.service.dto.PairLoadResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcurrentHolidayLoader 테스트")
+class ConcurrentHolidayLoaderTest {
+
+    @Mock
+    private NagerDateClient nagerDateClient;
+
+    @Mock
+    private HolidayDataService holidayDataService;
+
+    @Mock
+    private CountryService countryService;
+
+    @Mock
+    private HolidayFetchFingerprintService fingerprintService;
+
+    @Mock
+    private HolidayLoadCheckpointService checkpointService;
+
+    @Mock
+    private HolidayCoverage coverage;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private HolidayFetchRetryScheduler retryScheduler =
+            new HolidayFetchRetryScheduler(meterRegistry);
+
+    private static final ResponseValidators VALIDATORS =
+            new ResponseValidators("\"v1\"", null, "hash");
+
+    @InjectMocks
+    private ConcurrentHolidayLoader concurrentHolidayLoader;
+
+    private Country korea;
+    private Country usa;
+    private NagerHolidayResponse testHolidayResponse;
+    private Set<CountryYear> checkpointedPairs;
+    private HolidayLoadExecution execution;
+
+    @BeforeEach
+    void setUp() {
+        korea = Country.builder().countryCode("KR").name("South Korea").build();
+        usa = Country.builder().countryCode("US").name("United States").build();
+        testHolidayResponse = new NagerHolidayResponse(LocalDate.of(2024, 1, 1), "신정",
+                "New Year's Day", "KR", true, false, null, 1949, Arrays.asList("Public"));
+
+        ReflectionTestUtils.setField(concurrentHolidayLoader, "startYear", 2023);
+        ReflectionTestUtils.setField(concurrentHolidayLoader, "endYear", 2024);
+        ReflectionTestUtils.setField(concurrentHolidayLoader, "maxParallelism", 2);
+        ReflectionTestUtils.setField(concurrentHolidayLoader, "writerQueueCapacity", 2);
+        ReflectionTestUtils.setField(concurrentHolidayLoader, "writerBatchRows", 100);
+        ReflectionTestUtils.setField(concurrentHolidayLoader, "writerFlushIntervalMs", 50L);
+        ReflectionTestUtils.setField(retryScheduler, "maxAttempts", 3);
+        ReflectionTestUtils.setField(retryScheduler, "initialDelayMs", 10L);
+        ReflectionTestUtils.setField(retryScheduler, "multiplier", 2.0);
+        ReflectionTestUtils.setField(retryScheduler, "maxDelayMs", 100L);
+
+        checkpointedPairs = Set.of();
+        execution = new HolidayLoadExecution(1L, LocalDateTime.now());
+        when(coverage.pairsToLoad(anyList(), any(HolidayLoadMode.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(checkpointService.plan(eq(1L), anyList())).thenAnswer(invocation -> {
+            final List<CountryYear> pairs = invocation.getArgument(1);
+            return new HolidayLoadPlan(1L,
+                    pairs.stream().filter(pair -> !checkpointedPairs.contains(pair)).toList(),
+                    pairs.size());
+        });
+    }
+
+    @Test
+    @DisplayName("동시 적재 성공 - 모든 (국가, 연도) 쌍을 Writer가 배치로 저장")
+    void loadAllHolidays_Success_AllPairs() {
+        // given
+        when(countryService.fetchAndSaveAllCountries()).thenReturn(Arrays.asList(korea, usa));
+        when(nagerDateClient.getPublicHolidaysIfChanged(any(Integer.class), any(String.class),
+                any(ResponseValidators.class))).thenReturn(HolidayFetchResult
+                        .modified(Collections.singletonList(testHolidayResponse), VALIDATORS));
+        when(holidayDataService.upsertHolidaysInBatch(anyList())).thenAnswer(invocation -> {
+            final List<FetchedHolidays> batch = invocation.getArgument(0);
+            return batch.stream()
+                    .map(fetched -> new HolidayUpsertResult(fetched.rowCount(), 0, 0, 0))
+                    .toList();
+        });
+
+        // when
+        final HolidayLoadReport report = concurrentHolidayLoader.loadAllHolidays(execution);
+
+        // then
+        assertThat(report.results()).hasSize(4);
+        assertThat(report.totalLoaded()).isEqualTo(4);
+        assertThat(report.changes().inserted()).isEqualTo(4);
+        assertThat(report.succeededPairs()).isEqualTo(4);
+        assertThat(report.failedPairs()).isZero();
+        assertThat(report.elapsedMillis()).isNotNegative();
+        verify(holidayDataService, atLeastOnce()).upsertHolidaysInBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("동시 적재 성공 - Writer가 커밋한 쌍을 체크포인트하고 작업 종료")
+    void loadAllHolidays_Success_CheckpointsCommittedPairs() {
+        // given
+        when(countryService.fetchAndSaveAllCountries()).thenReturn(Arrays.asList(korea, usa));
+        when(nagerDateClient.getPublicHolidaysIfChanged(any(Integer.class), any(String.class),
+                any(ResponseValidators.class))).thenReturn(HolidayFetchResult
+                        .modified(Collections.singletonList(testHolidayResponse), VALIDATORS));
+        when(holidayDataService.upsertHolidaysInBatch(anyList())).thenAnswer(invocation -> {
+            final List<FetchedHolidays> batch = invocation.getArgument(0);
+            return batch.stream()
+                    .map(fetched -> new HolidayUpsertResult(fetched.rowCount(), 0, 0, 0))
+                    .toList();
+        });
+
+        // when
+        concurrentHolidayLoader.loadAllHolidays(execution);
+
+        // then
+        verify(checkpointService, times(4)).markCompleted(eq(1L), any(CountryYear.class));
+        verify(checkpointService).markCompleted(1L, new CountryYear("US", 2024));
+        verify(checkpointService).finish(1L);
+        assertThat(execution.getCompletedPairs()).isEqualTo(4);
+        assertThat(execution.getLoadedHolidays()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("동시 적재 재개 - 체크포인트된 쌍은 조회하지 않고 남은 쌍만 적재")
+    void loadAllHolidays_Success_ResumeSkipsCheckpointedPairs() {
+        // given
+        checkpointedPairs = Set.of(new CountryYear("KR", 2023), new CountryYear("KR", 2024),
+                new CountryYear("US", 2023));
+        when(countryService.fetchAndSaveAllCountries()).thenReturn(Arrays.asList(korea, usa));
+        when(nagerDateClient.getPublicHolidaysIfChanged(eq(2024), eq("US"),
+                any(ResponseValidators.class))).thenReturn(HolidayFetchResult
+                        .modified(Collections.singletonList(testHolidayResponse), VALIDATORS));
+        when(holidayDataService.upsertHolidaysInBatch(anyList())).thenAnswer(invocation -> {
+            final List<FetchedHolidays> batch = invocation.getArgument(0);
+            return batch.stream()
+                    .map(fetched -> new HolidayUpsertResult(fetched.rowCount(), 0, 0, 0))
+                    .toList();
+        });
+
+        // when
+        final HolidayLoadReport report = concurrentHolidayLoader.loadAllHolidays(execution);
+
+        // then
+        assertThat(report.results()).extracting(PairLoadResult::countryCode, PairLoadResult::year)
+                .containsExactly(tuple("US", 2024));
+        verify(nagerDateClient, times(1)).getPublicHolidaysIfChanged(any(Integer.class),
+                any(String.class), any(ResponseValidators.class));
+        verify(checkpointService).markCompleted(1L, new CountryYear("US", 2024));
+        assertThat(execution.getTotalPairs()).isEqualTo(4);
+        assertThat(execution.getCompletedPairs()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("동시 적재 부분 실패 - 실패한 쌍은 체크포인트하지 않음")
+    void loadAllHolidays_PartialFailure_NotCheckpointed() {
+        // given
+        when(countryService.fetchAndSaveAllCountries()).thenReturn(Arrays.asList(korea));
+        when(nagerDateClient.getPublicHolidaysIfChanged(any(Integer.class), any(String.class),
+                any(ResponseValidators.class))).thenReturn(
+                        HolidayFetchResult.modified(Collections.emptyList(), VALIDATORS));
+        when(nagerDateClient.getPublicHolidaysIfChanged(eq(2023), eq("KR"),
+                any(ResponseValidators.class))).thenThrow(new RuntimeException("외부 API 호출 실패"));
+
+        // when
+        concurrentHolidayLoader.loadAllHolidays(execution);
+
+        // then
+        verify(checkpointService).markCompleted(1L, new CountryYear("KR", 2024));
+        verify(checkpointService, never()).markCompleted(1L, new CountryYear("KR", 2023));
+        verify(checkpointService).finish(1L);
+    }
+
+    @Test
+    @DisplayName("동시 적재 부분 실패 - 조회 실패한 쌍만 결과에 기록하고 계속 진행")
+    void loadAllHolidays_PartialFailure_Fetch() {
+        // given
+        when(countryService.fetchAndSaveAllCountries()).thenReturn(Arrays.asList(korea, usa));
+        when(nagerDateClient.getPublicHolidaysIfChanged(any(Integer.class), any(String.class),
+                any(ResponseValidators.class))).thenAnswer(invocation -> {
+                    if (invocation.getArgument(0).equals(2024)
+                            && invocation.getArgument(1).equals("US")) {
+                        throw new RuntimeException("외부 API 호출 실패");
+                    }
+                    return HolidayFetchResult
+                            .modified(Collections.singletonList(testHolidayResponse), VALIDATORS);
+                });
+        when(holidayDataService.upsertHolidaysInBatch(anyList())).thenAnswer(invocation -> {
+            final List<FetchedHolidays> batch = invocation.getArgument(0);
+            return batch.stream()
+                    .map(fetched -> new HolidayUpsertResult(fetched.rowCount(), 0, 0, 0))
+                    .toList();
+        });
+
+        // when
+        final HolidayLoadReport report = concurrentHolidayLoader.loadAllHolidays(execution);
+
+        // then
+        assertThat(report.totalLoaded()).isEqualTo(3);
+        assertThat(report.failedPairs()).isEqualTo(1);
+        assertThat(report.results()).filteredOn(result -> !result.success())
+                .extracting(PairLoadResult::countryCode, PairLoadResult::year,
+                        PairLoadResult::errorMessage)
+                .containsExactly(tuple("US", 2024, "외부 API 호출 실패"));
+    }
+
+    @Test
+    @DisplayName("동시 적재 성공 - 일시적 조회 실패는 재시도 큐를 거쳐 복구")
+    void loadAllHolidays_Success_RetryRecovered() {
+        // given
+        when(countryService.fetchAndSaveAllCountries()).thenReturn(Arrays.asList(korea, usa));
+        when(nagerDateClient.getPublicHolidaysIfChanged(any(Integer.class), any(String.class),
+                any(ResponseValidators.class))).thenReturn(HolidayFetchResult
+                        .modified(Collections.singletonList(testHolidayResponse), VALIDATORS));
+        when(nagerDateClient.getPublicHolidaysIfChanged(eq(2024), eq("US"),
+                any(ResponseValidators.class))).thenThrow(new RestClientException("일시 장애"))
+                        .thenReturn(HolidayFetchResult.modified(
+                                Collections.singletonList(testHolidayResponse), VALIDATORS));
+        when(holidayDataService.upsertHolidaysInBatch(anyList())).thenAnswer(invocation -> {
+            final List<FetchedHolidays> batch = invocation.getArgument(0);
+            return batch.stream()
+                    .map(fetched -> new HolidayUpsertResult(fetched.rowCount(), 0, 0, 0))
+                    .toList();
+        });
+
+        // when
+        final HolidayLoadReport report = concurrentHolidayLoader.loadAllHolidays(execution);
+
+        // then
+        assertThat(report.succeededPairs()).isEqualTo(4);
+        assertThat(report.failedPairs()).isZero();
+        assertThat(retryCount("scheduled")).isEqualTo(1.0);
+        assertThat(retryCount("recovered")).isEqualTo(1.0);
+        verify(nagerDateClient, times(2)).getPublicHolidaysIfChanged(eq(2024), eq("US"),
+                any(ResponseValidators.class));
+    }
+
+    @Test
+    @DisplayName("동시 적재 부분 실패 - 재시도 횟수를 모두 소진한 쌍만 실패 처리")
+    void loadAllHolidays_PartialFailure_RetryExhausted() {
+        // given
+        when(countryService.fetchAndSaveAllCountries()).thenReturn(Arrays.asList(korea));
+        when(nagerDateClient.getPublicHolidaysIfChanged(any(Integer.class), any(String.class),
+                any(ResponseValidators.class))).thenReturn(
+                        HolidayFetchResult.modified(Collections.emptyList(), VALIDATORS));
+        when(nagerDateClient.getPublicHolidaysIfChanged(eq(2023), eq("KR"),
+                any(ResponseValidators.class))).thenThrow(new RestClientException("연결 실패"));
+
+        // when
+        final HolidayLoadReport report = concurrentHolidayLoader.loadAllHolidays(execution);
+
+        // then
+        assertThat(report.results()).hasSize(2);
+        assertThat(report.failedPairs()).isEqualTo(1);
+        assertThat(retryCount("scheduled")).isEqualTo(2.0);
+        assertThat(retryCount("exhausted")).isEqualTo(1.0);
+        verify(nagerDateClient, times(3)).getPublicHolidaysIfChanged(eq(2023), eq("KR"),
+                any(ResponseValidators.class));
+    }
+
+    @Test
+    @DisplayName("동시 적재 부분 실패 - 외부 API 사용 불가는 재시도 없이 공휴일 없음과 구분해 집계")
+    void loadAllHolidays_PartialFailure_UpstreamUnavailable() {
+        // given
+        when(countryService.fetchAndSaveAllCountries()).thenReturn(Arrays.asList(korea));
+        when(nagerDateClient.getPublicHolidaysIfChanged(any(Integer.class), any(String.class),
+                any(ResponseValidators.class))).thenReturn(
+                        HolidayFetchResult.modified(Collections.emptyList(), VALIDATORS));
+        when(nagerDateClient.getPublicHolidaysIfChanged(eq(2023), eq("KR"),
+                any(ResponseValidators.class))).thenThrow(
+                        new ExternalApiUnavailableException("Nager.Date API", "회로 차단"));
+
+        // when
+        final HolidayLoadReport report = concurrentHolidayLoader.loadAllHolidays(execution);
+
+        // then
+        assertThat(report.succeededPairs()).isEqualTo(1);
+        assertThat(report.failedPairs()).isEqualTo(1);
+        assertThat(report.unavailablePairs()).isEqualTo(1);
+        assertThat(report.results()).filteredOn(PairLoadResult::upstreamUnavailable)
+                .extracting(PairLoadResult::countryCode, PairLoadResult::year)
+                .containsExactly(tuple("KR", 2023));
+        assertThat(retryCount("scheduled")).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 적재 부분 실패 - 배치 저장 실패 시 배치에 포함된 쌍 모두 실패 처리")
+    void loadAllHolidays_PartialFailure_Write() {
+        // given
+        when(countryService.fetchAndSaveAllCountries()).thenReturn(Arrays.asList(korea, usa));
+        when(nagerDateClient.getPublicHolidaysIfChanged(any(Integer.class), any(String.class),
+                any(ResponseValidators.class))).thenReturn(HolidayFetchResult
+                        .modified(Collections.singletonList(testHolidayResponse), VALIDATORS));
+        when(holidayDataService.upsertHolidaysInBatch(anyList()))
+                .thenThrow(new RuntimeException("DB 저장 실패"));
+
+        // when
+        final HolidayLoadReport report = concurrentHolidayLoader.loadAllHolidays(execution);
+
+        // then
+        assertThat(report.results()).hasSize(4);
+        assertThat(report.failedPairs()).isEqualTo(4);
+        assertThat(report.totalLoaded()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 적재 부분 실패 - Writer가 예기치 않게 중단되어도 대기 중인 쌍을 실패 처리하고 종료")
+    void loadAllHolidays_PartialFailure_WriterStopped() {
+        // given
+        ReflectionTestUtils.setField(concurrentHolidayLoader, "writerQueueCapacity", 1);
+        ReflectionTestUtils.setField(concurrentHolidayLoader, "maxParallelism", 4);
+        when(countryService.fetchAndSaveAllCountries()).thenReturn(Arrays.asList(korea, usa));
+        when(nagerDateClient.getPublicHolidaysIfChanged(any(Integer.class), any(String.class),
+                any(ResponseValidators.class))).thenReturn(HolidayFetchResult
+                        .modified(Collections.singletonList(testHolidayResponse), VALIDATORS));
+        when(holidayDataService.upsertHolidaysInBatch(anyList()))
+                .thenThrow(new AssertionError("Writer 중단"));
+
+        // when
+        final HolidayLoadReport report = concurrentHolidayLoader.loadAllHolidays(execution);
+
+        // then
+        assertThat(report.results()).hasSize(4);
+        assertThat(report.failedPairs()).isEqualTo(4);
+        assertThat(report.results()).extracting(PairLoadResult::errorMessage)
+                .containsOnly(ErrorMessage.LOAD_WRITER_STOPPED.getMessage());
+        verify(checkpointService, never()).markCompleted(any(), any());
+    }
+
+    @Test
+    @DisplayName("동시 적재 성공 - 빈 응답은 Writer로 보내지 않음")
+    void loadAllHolidays_Success_EmptyResponses() {
+        // given
+        when(countryService.fetchAndSaveAllCountries()).thenReturn(Arrays.asList(korea, usa));
+        when(nagerDateClient.getPublicHolidaysIfChanged(any(Integer.class), any(String.class),
+                any(ResponseValidators.class))).thenReturn(
+                        HolidayFetchResult.modified(Collections.emptyList(), VALIDATORS));
+
+        // when
+        final HolidayLoadReport report = concurrentHolidayLoader.loadAllHolidays(execution);
+
+        // then
+        assertThat(report.results()).hasSize(4);
+        assertThat(report.totalLoaded()).isZero();
+        verify(holidayDataService, never()).upsertHolidaysInBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("동시 적재 성공 - 변경 없는 (국가, 연도) 쌍은 Writer로 보내지 않음")
+    void loadAllHolidays_Success_NotModified() {
+        // given
+        final HolidayFetchFingerprint fingerprint = HolidayFetchFingerprint.builder()
+                .countryCode("KR").year(2023).etag("\"v1\"").contentHash("hash")
+                .holidayCount(15).fetchedAt(LocalDateTime.now()).build();
+        when(countryService.fetchAndSaveAllCountries()).thenReturn(Arrays.asList(korea));
+        when(fingerprintService.findAllByPairKey()).thenReturn(Map.of("KR:2023", fingerprint,
+                "KR:2024", fingerprint));
+        when(nagerDateClient.getPublicHolidaysIfChanged(any(Integer.class), any(String.class),
+                any(ResponseValidators.class)))
+                        .thenReturn(HolidayFetchResult.notModified(VALIDATORS));
+
+        // when
+        final HolidayLoadReport report = concurrentHolidayLoader.loadAllHolidays(execution);
+
+        // then
+        assertThat(report.results()).hasSize(2);
+        assertThat(report.changes()).isEqualTo(HolidayUpsertResult.unchanged(30));
+        verify(nagerDateClient, times(2)).getPublicHolidaysIfChanged(any(Integer.class),
+                eq("KR"), eq(VALIDATORS));
+        verify(holidayDataService, never()).upsertHolidaysInBatch(anyList());
+        verify(fingerprintService).confirm("KR", 2023, VALIDATORS);
+        verify(fingerprintService).confirm("KR", 2024, VALIDATORS);
+    }
+
+    private double retryCount(final String outcome) {
+        return meterRegistry.counter(HolidayFetchRetryScheduler.RETRY_METRIC_NAME,
+                HolidayFetchRetryScheduler.OUTCOME_TAG, outcome).count();
+    }
+}
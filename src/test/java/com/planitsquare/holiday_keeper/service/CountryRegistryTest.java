@@ -0,0 +1,135 @@
+package com.planitsquare.holiday_keeper.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.planitsquare.holiday_keeper.domain.entity.Country;
+import com.planitsquare.holiday_keeper.domain.repository.CountryRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CountryRegistry 테스트")
+class CountryRegistryTest {
+
+    @Mock
+    private CountryRepository countryRepository;
+
+    @InjectMocks
+    private CountryRegistry countryRegistry;
+
+    private Country korea;
+    private Country usa;
+
+    @BeforeEach
+    void setUp() {
+        korea = createCountry(1L, "KR", "South Korea");
+        usa = createCountry(2L, "US", "United States");
+    }
+
+    @Test
+    @DisplayName("국가 조회 - 첫 조회에서 스냅샷을 한 번 만들고 이후에는 DB를 조회하지 않음")
+    void find_Success_LoadsSnapshotOnce() {
+        // given
+        when(countryRepository.findAll()).thenReturn(List.of(usa, korea));
+
+        // when
+        final Optional<Country> first = countryRegistry.find("KR");
+        final boolean exists = countryRegistry.contains("US");
+        final List<String> countryCodes = countryRegistry.findAllCountryCodes();
+
+        // then
+        assertThat(first).contains(korea);
+        assertThat(exists).isTrue();
+        assertThat(countryCodes).containsExactly("KR", "US");
+        verify(countryRepository, times(1)).findAll();
+        verify(countryRepository, never()).findByCountryCode("KR");
+    }
+
+    @Test
+    @DisplayName("국가 조회 - 스냅샷에 없는 국가는 DB를 확인하고 있으면 스냅샷을 갱신")
+    void find_Success_ReloadsOnMissWhenCountryExists() {
+        // given
+        final Country japan = createCountry(3L, "JP", "Japan");
+        when(countryRepository.findAll()).thenReturn(List.of(korea), List.of(korea, japan));
+        when(countryRepository.findByCountryCode("JP")).thenReturn(Optional.of(japan));
+
+        // when
+        final Optional<Country> found = countryRegistry.find("JP");
+
+        // then
+        assertThat(found).contains(japan);
+        assertThat(countryRegistry.findAllCountryCodes()).containsExactly("JP", "KR");
+        verify(countryRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("국가 조회 - DB에도 없는 국가는 비어 있고 스냅샷을 다시 만들지 않음")
+    void find_Empty_UnknownCountry() {
+        // given
+        when(countryRepository.findAll()).thenReturn(List.of(korea));
+        when(countryRepository.findByCountryCode("XX")).thenReturn(Optional.empty());
+
+        // when & then
+        assertThat(countryRegistry.contains("XX")).isFalse();
+        verify(countryRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("스냅샷 갱신 - 트랜잭션 안에서는 커밋된 뒤에 새 스냅샷으로 교체")
+    void reloadAfterCommit_Success_SwapsAfterCommit() {
+        // given
+        when(countryRepository.findAll()).thenReturn(List.of(korea), List.of(korea, usa));
+        assertThat(countryRegistry.findAll()).containsExactly(korea);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            countryRegistry.reloadAfterCommit();
+            final List<Country> beforeCommit = countryRegistry.findAll();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+
+            // then
+            assertThat(beforeCommit).containsExactly(korea);
+            assertThat(countryRegistry.findAll()).containsExactly(korea, usa);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷 갱신 - 트랜잭션 밖에서는 즉시 교체하고 반환 목록은 변경할 수 없음")
+    void reloadAfterCommit_Success_ImmediateOutsideTransaction() {
+        // given
+        when(countryRepository.findAll()).thenReturn(List.of(korea, usa));
+
+        // when
+        countryRegistry.reloadAfterCommit();
+
+        // then
+        final List<Country> countries = countryRegistry.findAll();
+        assertThat(countries).containsExactly(korea, usa);
+        assertThatThrownBy(() -> countries.add(korea))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private Country createCountry(final Long id, final String countryCode, final String name) {
+        final Country country = Country.builder().countryCode(countryCode).name(name).build();
+        ReflectionTestUtils.setField(country, "id", id);
+        return country;
+    }
+}
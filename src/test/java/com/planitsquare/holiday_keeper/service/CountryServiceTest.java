@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import java.util.Arrays;
@@ -16,12 +17,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClientException;
 import com.planitsquare.holiday_keeper.domain.entity.Country;
 import com.planitsquare.holiday_keeper.domain.repository.CountryRepository;
 import com.planitsquare.holiday_keeper.exception.CountryNotFoundException;
+import com.planitsquare.holiday_keeper.exception.ExternalApiUnavailableException;
 import com.planitsquare.holiday_keeper.external.client.NagerDateClient;
 import com.planitsquare.holiday_keeper.external.dto.NagerCountryResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("CountryService 테스트")
@@ -33,6 +39,13 @@ class CountryServiceTest {
     @Mock
     private CountryRepository countryRepository;
 
+    @Mock
+    private CountryRegistry countryRegistry;
+
+    @Spy
+    private HolidayFetchRetryScheduler retryScheduler =
+            new HolidayFetchRetryScheduler(new SimpleMeterRegistry());
+
     @InjectMocks
     private CountryService countryService;
 
@@ -44,6 +57,43 @@ class CountryServiceTest {
         testCountryResponse = new NagerCountryResponse("KR", "South Korea");
         testCountry = Country.builder().countryCode("KR").name("South Korea").build();
         org.springframework.test.util.ReflectionTestUtils.setField(testCountry, "id", 1L);
+        ReflectionTestUtils.setField(retryScheduler, "maxAttempts", 3);
+        ReflectionTestUtils.setField(retryScheduler, "initialDelayMs", 10L);
+        ReflectionTestUtils.setField(retryScheduler, "multiplier", 2.0);
+        ReflectionTestUtils.setField(retryScheduler, "maxDelayMs", 100L);
+    }
+
+    @Test
+    @DisplayName("모든 국가 조회 및 저장 성공 - 일시적 조회 실패는 재시도 스케줄러로 복구")
+    void fetchAndSaveAllCountries_Success_RetryRecovered() {
+        // given
+        when(nagerDateClient.getAvailableCountries())
+                .thenThrow(new RestClientException("일시 장애"))
+                .thenReturn(Collections.singletonList(testCountryResponse));
+        when(countryRepository.findAllByCountryCodeIn(any(List.class)))
+                .thenReturn(Collections.singletonList(testCountry));
+
+        // when
+        final List<Country> result = countryService.fetchAndSaveAllCountries();
+
+        // then
+        assertThat(result).extracting(Country::getCountryCode).containsExactly("KR");
+        verify(nagerDateClient, times(2)).getAvailableCountries();
+    }
+
+    @Test
+    @DisplayName("모든 국가 조회 실패 - 재시도를 모두 소진하면 외부 API 사용 불가로 변환")
+    void fetchAndSaveAllCountries_Fail_RetryExhausted() {
+        // given
+        when(nagerDateClient.getAvailableCountries())
+                .thenThrow(new RestClientException("연결 실패"));
+
+        // when & then
+        assertThatThrownBy(() -> countryService.fetchAndSaveAllCountries())
+                .isInstanceOf(ExternalApiUnavailableException.class)
+                .hasMessageContaining("연결 실패");
+        verify(nagerDateClient, times(3)).getAvailableCountries();
+        verify(countryRepository, never()).saveAll(any(List.class));
     }
 
     @Test
@@ -70,6 +120,7 @@ class CountryServiceTest {
         verify(nagerDateClient).getAvailableCountries();
         verify(countryRepository).findAllByCountryCodeIn(any(List.class));
         verify(countryRepository).saveAll(any(List.class));
+        verify(countryRegistry).reloadAfterCommit();
     }
 
     @Test
@@ -98,7 +149,7 @@ class CountryServiceTest {
     @DisplayName("국가 코드로 조회 성공")
     void findByCountryCode_Success() {
         // given
-        when(countryRepository.findByCountryCode("KR")).thenReturn(Optional.of(testCountry));
+        when(countryRegistry.find("KR")).thenReturn(Optional.of(testCountry));
 
         // when
         final Country result = countryService.findByCountryCode("KR");
@@ -107,46 +158,46 @@ class CountryServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getCountryCode()).isEqualTo("KR");
         assertThat(result.getName()).isEqualTo("South Korea");
-        verify(countryRepository).findByCountryCode("KR");
+        verify(countryRepository, never()).findByCountryCode("KR");
     }
 
     @Test
     @DisplayName("국가 코드로 조회 실패 - 국가 없음")
     void findByCountryCode_Fail_NotFound() {
         // given
-        when(countryRepository.findByCountryCode("XX")).thenReturn(Optional.empty());
+        when(countryRegistry.find("XX")).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> countryService.findByCountryCode("XX"))
                 .isInstanceOf(CountryNotFoundException.class)
                 .hasMessageContaining("국가 코드 'XX'를 찾을 수 없습니다");
-        verify(countryRepository).findByCountryCode("XX");
+        verify(countryRegistry).find("XX");
     }
 
     @Test
     @DisplayName("국가 존재 여부 검증 성공")
     void validateCountryExists_Success() {
         // given
-        when(countryRepository.existsByCountryCode("KR")).thenReturn(true);
+        when(countryRegistry.contains("KR")).thenReturn(true);
 
         // when & then
         countryService.validateCountryExists("KR");
 
         // then
-        verify(countryRepository).existsByCountryCode("KR");
+        verify(countryRepository, never()).existsByCountryCode("KR");
     }
 
     @Test
     @DisplayName("국가 존재 여부 검증 실패 - 국가 없음")
     void validateCountryExists_Fail_NotFound() {
         // given
-        when(countryRepository.existsByCountryCode("XX")).thenReturn(false);
+        when(countryRegistry.contains("XX")).thenReturn(false);
 
         // when & then
         assertThatThrownBy(() -> countryService.validateCountryExists("XX"))
                 .isInstanceOf(CountryNotFoundException.class)
                 .hasMessageContaining("국가 코드 'XX'를 찾을 수 없습니다");
-        verify(countryRepository).existsByCountryCode("XX");
+        verify(countryRegistry).contains("XX");
     }
 
     @Test
@@ -158,7 +209,7 @@ class CountryServiceTest {
         org.springframework.test.util.ReflectionTestUtils.setField(country1, "id", 1L);
         org.springframework.test.util.ReflectionTestUtils.setField(country2, "id", 2L);
         final List<Country> countries = Arrays.asList(country1, country2);
-        when(countryRepository.findAll()).thenReturn(countries);
+        when(countryRegistry.findAll()).thenReturn(countries);
 
         // when
         final List<Country> result = countryService.findAll();
@@ -166,6 +217,6 @@ class CountryServiceTest {
         // then
         assertThat(result).hasSize(2);
         assertThat(result).containsExactly(country1, country2);
-        verify(countryRepository).findAll();
+        verify(countryRepository, never()).findAll();
     }
 }
@@ -0,0 +1,202 @@
+package com.planitsquare.holiday_keeper.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.planitsquare.holiday_keeper.constants.HolidayLoadMode;
+import com.planitsquare.holiday_keeper.domain.entity.HolidayFetchFingerprint;
+import com.planitsquare.holiday_keeper.domain.repository.HolidayFetchFingerprintRepository;
+import com.planitsquare.holiday_keeper.domain.repository.HolidayRepository;
+import com.planitsquare.holiday_keeper.external.dto.ResponseValidators;
+import com.planitsquare.holiday_keeper.service.dto.CountryYear;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HolidayCoverage 테스트")
+class HolidayCoverageTest {
+
+    private static final int CURRENT_YEAR = LocalDate.now().getYear();
+
+    @Mock
+    private HolidayRepository holidayRepository;
+
+    @Mock
+    private HolidayFetchFingerprintService fingerprintService;
+
+    @Mock
+    private HolidayFetchFingerprintRepository fingerprintRepository;
+
+    @InjectMocks
+    private HolidayCoverage coverage;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(coverage, "staleAfterHours", 24L);
+    }
+
+    @Test
+    @DisplayName("빈 구간 조회 - 종료 연도를 넓히면 새로 추가된 연도의 쌍만 반환")
+    void findGaps_Success_OnlyNewYearsAfterWideningRange() {
+        // given
+        when(holidayRepository.findLoadedPairs())
+                .thenReturn(pairs(List.of("KR", "US"), 1960, 1965));
+
+        // when
+        final List<CountryYear> gaps = coverage.findGaps(pairs(List.of("KR", "US"), 1960, 1970));
+
+        // then
+        assertThat(gaps).hasSize(10).allMatch(pair -> pair.year() > 1965);
+        assertThat(coverage.countCoveredPairs()).isEqualTo(12);
+        verify(holidayRepository, times(1)).findLoadedPairs();
+        verify(fingerprintService, never()).findAllByPairKey();
+    }
+
+    @Test
+    @DisplayName("빈 구간 조회 - 올해 이후 연도는 마지막 조회가 오래되었으면 다시 적재")
+    void findGaps_Success_RecentYearsRefetchedWhenStale() {
+        // given
+        final CountryYear fresh = new CountryYear("KR", CURRENT_YEAR);
+        final CountryYear stale = new CountryYear("US", CURRENT_YEAR);
+        final CountryYear past = new CountryYear("US", CURRENT_YEAR - 1);
+        when(holidayRepository.findLoadedPairs()).thenReturn(List.of(fresh, stale, past));
+        when(fingerprintService.findAllByPairKey()).thenReturn(Map.of(
+                "KR:" + CURRENT_YEAR, fingerprint(fresh, LocalDateTime.now().minusHours(1)),
+                "US:" + CURRENT_YEAR, fingerprint(stale, LocalDateTime.now().minusDays(3))));
+
+        // when
+        final List<CountryYear> gaps = coverage.findGaps(List.of(fresh, stale, past));
+
+        // then
+        assertThat(gaps).containsExactly(stale);
+    }
+
+    @Test
+    @DisplayName("빈 구간 조회 - 변경 없음으로 확인된 올해 쌍은 확인 시각이 갱신되어 다시 적재하지 않음")
+    void findGaps_Success_UnchangedRecentPairNotReplanned() {
+        // given
+        final CountryYear unchanged = new CountryYear("KR", CURRENT_YEAR);
+        final HolidayFetchFingerprint stored =
+                fingerprint(unchanged, LocalDateTime.now().minusDays(3));
+        final HolidayFetchFingerprintService realFingerprintService =
+                new HolidayFetchFingerprintService(fingerprintRepository);
+        final HolidayCoverage realCoverage =
+                new HolidayCoverage(holidayRepository, realFingerprintService);
+        ReflectionTestUtils.setField(realCoverage, "staleAfterHours", 24L);
+        when(holidayRepository.findLoadedPairs()).thenReturn(List.of(unchanged));
+        when(fingerprintRepository.findByCountryCodeAndYear("KR", CURRENT_YEAR))
+                .thenReturn(Optional.of(stored));
+        when(fingerprintRepository.findAll()).thenReturn(List.of(stored));
+
+        // when
+        realFingerprintService.confirm("KR", CURRENT_YEAR,
+                new ResponseValidators("\"v2\"", null, "hash"));
+        final List<CountryYear> gaps = realCoverage.findGaps(List.of(unchanged));
+
+        // then
+        assertThat(gaps).isEmpty();
+        assertThat(stored.getEtag()).isEqualTo("\"v2\"");
+    }
+
+    @Test
+    @DisplayName("적재 현황 갱신 - 트랜잭션 안에서는 커밋된 뒤에 반영")
+    void markLoadedAfterCommit_Success_AppliedAfterCommit() {
+        // given
+        final CountryYear pair = new CountryYear("JP", 1990);
+        when(holidayRepository.findLoadedPairs()).thenReturn(List.of());
+        assertThat(coverage.isCovered(pair)).isFalse();
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            coverage.markLoadedAfterCommit("JP", 1990);
+            final boolean beforeCommit = coverage.isCovered(pair);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+
+            // then
+            assertThat(beforeCommit).isFalse();
+            assertThat(coverage.isCovered(pair)).isTrue();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("적재 현황 갱신 - 삭제한 쌍은 다시 빈 구간이 됨")
+    void markRemovedAfterCommit_Success() {
+        // given
+        final CountryYear pair = new CountryYear("KR", 1990);
+        when(holidayRepository.findLoadedPairs()).thenReturn(List.of(pair));
+        assertThat(coverage.isCovered(pair)).isTrue();
+
+        // when
+        coverage.markRemovedAfterCommit("KR", 1990);
+
+        // then
+        assertThat(coverage.findGaps(List.of(pair))).containsExactly(pair);
+        assertThat(coverage.countCoveredPairs()).isZero();
+    }
+
+    @Test
+    @DisplayName("초기화 - 조회 도중 커밋된 변경이 있으면 조회 결과를 버리고 다시 조회")
+    void findGaps_Success_ReloadsWhenMutatedDuringLoad() {
+        // given
+        final CountryYear pair = new CountryYear("KR", 1990);
+        when(holidayRepository.findLoadedPairs()).thenAnswer(invocation -> {
+            coverage.markRemovedAfterCommit("KR", 1990);
+            return List.of(pair);
+        }).thenReturn(List.of());
+
+        // when
+        final List<CountryYear> gaps = coverage.findGaps(List.of(pair));
+
+        // then
+        assertThat(gaps).containsExactly(pair);
+        verify(holidayRepository, times(2)).findLoadedPairs();
+    }
+
+    @Test
+    @DisplayName("적재할 쌍 선택 - 전체 모드는 적재 현황을 조회하지 않고 모든 쌍을 반환")
+    void pairsToLoad_Success_FullModeReturnsAllPairs() {
+        // given
+        final List<CountryYear> pairs = pairs(List.of("KR"), 2020, 2025);
+
+        // when
+        final List<CountryYear> result = coverage.pairsToLoad(pairs, HolidayLoadMode.FULL);
+
+        // then
+        assertThat(result).isSameAs(pairs);
+        verify(holidayRepository, never()).findLoadedPairs();
+    }
+
+    private List<CountryYear> pairs(final List<String> countryCodes, final int startYear,
+            final int endYear) {
+        return countryCodes.stream()
+                .flatMap(code -> IntStream.rangeClosed(startYear, endYear)
+                        .mapToObj(year -> new CountryYear(code, year)))
+                .toList();
+    }
+
+    private HolidayFetchFingerprint fingerprint(final CountryYear pair,
+            final LocalDateTime fetchedAt) {
+        return HolidayFetchFingerprint.builder().countryCode(pair.countryCode()).year(pair.year())
+                .contentHash("hash").holidayCount(15).fetchedAt(fetchedAt).build();
+    }
+}
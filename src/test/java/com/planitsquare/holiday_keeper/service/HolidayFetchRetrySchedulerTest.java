@@ -0,0 +1,161 @@
+package com.planitsquare.holiday_keeper.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClientException;
+import com.planitsquare.holiday_keeper.service.dto.CountryYear;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("HolidayFetchRetryScheduler 테스트")
+class HolidayFetchRetrySchedulerTest {
+
+    private static final CountryYear KR_2024 = new CountryYear("KR", 2024);
+    private static final CountryYear US_2024 = new CountryYear("US", 2024);
+    private static final CountryYear JP_2024 = new CountryYear("JP", 2024);
+
+    private SimpleMeterRegistry meterRegistry;
+    private HolidayFetchRetryScheduler retryScheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retryScheduler = new HolidayFetchRetryScheduler(meterRegistry);
+        ReflectionTestUtils.setField(retryScheduler, "maxAttempts", 3);
+        ReflectionTestUtils.setField(retryScheduler, "initialDelayMs", 10L);
+        ReflectionTestUtils.setField(retryScheduler, "multiplier", 2.0);
+        ReflectionTestUtils.setField(retryScheduler, "maxDelayMs", 15L);
+    }
+
+    @Test
+    @DisplayName("재시도 지연 계산 - 지수 증가 후 최대 지연으로 제한")
+    void nextRetryDelay_ExponentialWithCap() {
+        // given
+        final RestClientException failure = new RestClientException("연결 실패");
+
+        // when & then
+        assertThat(retryScheduler.nextRetryDelay(KR_2024, 1, failure))
+                .contains(Duration.ofMillis(10));
+        assertThat(retryScheduler.nextRetryDelay(KR_2024, 2, failure))
+                .contains(Duration.ofMillis(15));
+        assertThat(retryScheduler.nextRetryDelay(KR_2024, 3, failure)).isEmpty();
+        assertThat(retryCount(HolidayFetchRetryScheduler.OUTCOME_SCHEDULED)).isEqualTo(2.0);
+        assertThat(retryCount(HolidayFetchRetryScheduler.OUTCOME_EXHAUSTED)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("재시도 지연 계산 - 외부 API 오류가 아니면 재시도하지 않음")
+    void nextRetryDelay_NotRetryable() {
+        // when & then
+        assertThat(retryScheduler.nextRetryDelay(KR_2024, 1, new IllegalStateException("버그")))
+                .isEmpty();
+        assertThat(retryCount(HolidayFetchRetryScheduler.OUTCOME_SCHEDULED)).isZero();
+    }
+
+    @Test
+    @DisplayName("전체 실행 성공 - 실패한 쌍은 나머지 쌍을 먼저 처리한 뒤 재시도")
+    void runAll_Success_RetryDeferred() {
+        // given
+        final List<CountryYear> calls = new ArrayList<>();
+        final boolean[] failedOnce = {false};
+
+        // when
+        final List<String> results = retryScheduler.runAll(List.of(KR_2024, US_2024, JP_2024),
+                pair -> {
+                    calls.add(pair);
+                    if (pair.equals(KR_2024) && !failedOnce[0]) {
+                        failedOnce[0] = true;
+                        throw new RestClientException("일시 장애");
+                    }
+                    return pair.countryCode();
+                }, (pair, e) -> "FAILED");
+
+        // then
+        assertThat(calls).containsExactly(KR_2024, US_2024, JP_2024, KR_2024);
+        assertThat(results).containsExactly("US", "JP", "KR");
+        assertThat(retryCount(HolidayFetchRetryScheduler.OUTCOME_RECOVERED)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("전체 실행 부분 실패 - 최대 횟수 소진 시 실패 처리 결과로 대체")
+    void runAll_PartialFailure_Exhausted() {
+        // given
+        final List<CountryYear> calls = new ArrayList<>();
+
+        // when
+        final List<String> results = retryScheduler.runAll(List.of(KR_2024, US_2024), pair -> {
+            calls.add(pair);
+            if (pair.equals(KR_2024)) {
+                throw new RestClientException("연결 실패");
+            }
+            return pair.countryCode();
+        }, (pair, e) -> "FAILED:" + e.getMessage());
+
+        // then
+        assertThat(calls).filteredOn(KR_2024::equals).hasSize(3);
+        assertThat(results).containsExactly("US", "FAILED:연결 실패");
+    }
+
+    @Test
+    @DisplayName("단일 호출 성공 - 일시적 외부 API 오류는 지연 후 재시도하여 복구")
+    void run_Success_RetryRecovered() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+
+        // when
+        final String result = retryScheduler.run("국가 목록 조회", () -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new RestClientException("일시 장애");
+            }
+            return "KR";
+        });
+
+        // then
+        assertThat(result).isEqualTo("KR");
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(retryCount(HolidayFetchRetryScheduler.OUTCOME_SCHEDULED)).isEqualTo(1.0);
+        assertThat(retryCount(HolidayFetchRetryScheduler.OUTCOME_RECOVERED)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("단일 호출 실패 - 최대 횟수를 소진하면 마지막 예외를 전파")
+    void run_Fail_Exhausted() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> retryScheduler.run("국가 목록 조회", () -> {
+            calls.incrementAndGet();
+            throw new RestClientException("연결 실패");
+        })).isInstanceOf(RestClientException.class).hasMessage("연결 실패");
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(retryCount(HolidayFetchRetryScheduler.OUTCOME_EXHAUSTED)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("단일 호출 실패 - 외부 API 오류가 아니면 재시도하지 않음")
+    void run_Fail_NotRetryable() {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> retryScheduler.run("국가 목록 조회", () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("버그");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(retryCount(HolidayFetchRetryScheduler.OUTCOME_SCHEDULED)).isZero();
+    }
+
+    private double retryCount(final String outcome) {
+        return meterRegistry.counter(HolidayFetchRetryScheduler.RETRY_METRIC_NAME,
+                HolidayFetchRetryScheduler.OUTCOME_TAG, outcome).count();
+    }
+}
@@ -0,0 +1,284 @@
+package com.planitsquare.holiday_keeper.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import com.planitsquare.holiday_keeper.constants.HolidayLoadMode;
+import com.planitsquare.holiday_keeper.domain.entity.HolidayLoadCheckpoint;
+import com.planitsquare.holiday_keeper.domain.entity.HolidayLoadJob;
+import com.planitsquare.holiday_keeper.domain.repository.HolidayLoadCheckpointRepository;
+import com.planitsquare.holiday_keeper.domain.repository.HolidayLoadJobRepository;
+import com.planitsquare.holiday_keeper.exception.HolidayLoadJobNotFoundException;
+import com.planitsquare.holiday_keeper.service.dto.CountryYear;
+import com.planitsquare.holiday_keeper.service.dto.HolidayLoadPlan;
+import com.planitsquare.holiday_keeper.service.dto.HolidayLoadProgress;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HolidayLoadCheckpointService 테스트")
+class HolidayLoadCheckpointServiceTest {
+
+    @Mock
+    private HolidayLoadJobRepository jobRepository;
+
+    @Mock
+    private HolidayLoadCheckpointRepository checkpointRepository;
+
+    @InjectMocks
+    private HolidayLoadCheckpointService checkpointService;
+
+    private List<CountryYear> pairs;
+
+    @BeforeEach
+    void setUp() {
+        pairs = List.of(new CountryYear("KR", 2024), new CountryYear("KR", 2025),
+                new CountryYear("US", 2024), new CountryYear("US", 2025));
+    }
+
+    @Test
+    @DisplayName("적재 작업 열기 - 진행 중인 작업이 없으면 새 작업 생성")
+    void open_Success_NewJob() {
+        // given
+        when(jobRepository.findLatestInProgress(HolidayLoadMode.FULL, 2024, 2025))
+                .thenReturn(Optional.empty());
+        when(jobRepository.save(any(HolidayLoadJob.class))).thenAnswer(invocation -> {
+            final HolidayLoadJob job = invocation.getArgument(0);
+            ReflectionTestUtils.setField(job, "id", 1L);
+            return job;
+        });
+
+        // when
+        final Long jobId = checkpointService.open(HolidayLoadMode.FULL, 2024, 2025);
+
+        // then
+        assertThat(jobId).isEqualTo(1L);
+        verify(jobRepository).save(argThat(job -> job.getStartYear() == 2024
+                && job.getMode() == HolidayLoadMode.FULL
+                && job.getStatus() == HolidayLoadJob.Status.IN_PROGRESS));
+    }
+
+    @Test
+    @DisplayName("적재 작업 열기 - 빈 구간 적재는 중단된 전체 적재 작업을 이어받지 않고 자기 모드의 작업만 이어받음")
+    void open_Success_ResumesOnlySameMode() {
+        // given
+        when(jobRepository.findLatestInProgress(HolidayLoadMode.FILL_GAPS, 2024, 2025))
+                .thenReturn(Optional.empty());
+        when(jobRepository.save(any(HolidayLoadJob.class))).thenAnswer(invocation -> {
+            final HolidayLoadJob job = invocation.getArgument(0);
+            ReflectionTestUtils.setField(job, "id", 8L);
+            return job;
+        });
+
+        // when
+        final Long jobId = checkpointService.open(HolidayLoadMode.FILL_GAPS, 2024, 2025);
+
+        // then
+        assertThat(jobId).isEqualTo(8L);
+        verify(jobRepository).save(argThat(job -> job.getMode() == HolidayLoadMode.FILL_GAPS));
+        verify(jobRepository, never()).findLatestInProgress(HolidayLoadMode.FULL, 2024, 2025);
+    }
+
+    @Test
+    @DisplayName("적재 작업 열기 - 같은 연도 범위의 중단된 작업이 있으면 그 작업을 이어받음")
+    void open_Success_ResumeUnfinishedJob() {
+        // given
+        final HolidayLoadJob job = createJob(7L, LocalDateTime.now().minusMinutes(10));
+        when(jobRepository.findLatestInProgress(HolidayLoadMode.FULL, 2024, 2025))
+                .thenReturn(Optional.of(job));
+
+        // when
+        final Long jobId = checkpointService.open(HolidayLoadMode.FULL, 2024, 2025);
+
+        // then
+        assertThat(jobId).isEqualTo(7L);
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("중단된 작업 조회 - 실행 도중 중단되어 진행 중으로 남은 작업의 모드를 반환")
+    void findInterruptedMode_Success() {
+        // given
+        final HolidayLoadJob job = createJob(7L, LocalDateTime.now().minusHours(1));
+        when(jobRepository.findLatestInProgress(2024, 2025)).thenReturn(Optional.of(job));
+
+        // when & then
+        assertThat(checkpointService.findInterruptedMode(2024, 2025))
+                .contains(HolidayLoadMode.FULL);
+    }
+
+    @Test
+    @DisplayName("적재 계획 - 새 작업은 모든 쌍을 적재")
+    void plan_Success_NewJob() {
+        // given
+        final HolidayLoadJob job = createJob(1L, LocalDateTime.now());
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(checkpointRepository.findByJobId(1L)).thenReturn(List.of());
+
+        // when
+        final HolidayLoadPlan plan = checkpointService.plan(1L, pairs);
+
+        // then
+        assertThat(plan.pendingPairs()).isEqualTo(pairs);
+        assertThat(plan.completedPairs()).isZero();
+        assertThat(job.getTotalPairs()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("적재 계획 - 중단된 작업은 체크포인트된 쌍을 제외하고 남은 쌍만 반환")
+    void plan_Success_ResumeSkipsCheckpointedPairs() {
+        // given
+        final HolidayLoadJob job = createJob(7L, LocalDateTime.now().minusMinutes(10));
+        when(jobRepository.findById(7L)).thenReturn(Optional.of(job));
+        when(checkpointRepository.findByJobId(7L)).thenReturn(
+                List.of(createCheckpoint(7L, "KR", 2024), createCheckpoint(7L, "US", 2024)));
+
+        // when
+        final HolidayLoadPlan plan = checkpointService.plan(7L, pairs);
+
+        // then
+        assertThat(plan.jobId()).isEqualTo(7L);
+        assertThat(plan.pendingPairs()).containsExactly(new CountryYear("KR", 2025),
+                new CountryYear("US", 2025));
+        assertThat(plan.completedPairs()).isEqualTo(2);
+        assertThat(job.getCompletedPairsAtResume()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("적재 계획 실패 - 작업 ID 없음")
+    void plan_Fail_JobNotFound() {
+        // given
+        when(jobRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> checkpointService.plan(99L, pairs))
+                .isInstanceOf(HolidayLoadJobNotFoundException.class).hasMessageContaining("99");
+    }
+
+    @Test
+    @DisplayName("적재 작업 종료 - 모든 쌍이 체크포인트되면 완료 처리")
+    void finish_Success_Completed() {
+        // given
+        final HolidayLoadJob job = createJob(1L, LocalDateTime.now());
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(checkpointRepository.countCompletedSince(1L, job.getResumedAt())).thenReturn(4L);
+
+        // when
+        checkpointService.finish(1L);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(HolidayLoadJob.Status.COMPLETED);
+        assertThat(job.getCompletedPairs()).isEqualTo(4);
+        assertThat(job.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("적재 작업 종료 - 실패한 쌍이 남아도 미완료로 닫아 다음 실행은 새 작업으로 시작")
+    void finish_Success_Incomplete() {
+        // given
+        final HolidayLoadJob job = createJob(1L, LocalDateTime.now());
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(checkpointRepository.countCompletedSince(1L, job.getResumedAt())).thenReturn(3L);
+
+        // when
+        checkpointService.finish(1L);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(HolidayLoadJob.Status.INCOMPLETE);
+        assertThat(job.getCompletedPairs()).isEqualTo(3);
+        assertThat(job.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("적재 작업 종료 - 계획 밖의 이전 체크포인트는 세지 않고 이번 계획의 쌍만 완료로 계산")
+    void finish_Success_CountsOnlyPlannedPairs() {
+        // given
+        final HolidayLoadJob job = createJob(7L, LocalDateTime.now().minusMinutes(10));
+        when(jobRepository.findById(7L)).thenReturn(Optional.of(job));
+        when(checkpointRepository.findByJobId(7L)).thenReturn(
+                List.of(createCheckpoint(7L, "KR", 2024), createCheckpoint(7L, "JP", 2020),
+                        createCheckpoint(7L, "JP", 2021), createCheckpoint(7L, "JP", 2022)));
+        checkpointService.plan(7L, List.of(new CountryYear("KR", 2024),
+                new CountryYear("KR", 2025), new CountryYear("US", 2025)));
+        when(checkpointRepository.countCompletedSince(7L, job.getResumedAt())).thenReturn(1L);
+
+        // when
+        checkpointService.finish(7L);
+
+        // then
+        assertThat(job.getTotalPairs()).isEqualTo(3);
+        assertThat(job.getCompletedPairs()).isEqualTo(2);
+        assertThat(job.getStatus()).isEqualTo(HolidayLoadJob.Status.INCOMPLETE);
+    }
+
+    @Test
+    @DisplayName("진행 상황 조회 - 재개 이후 처리 속도로 남은 시간 추정")
+    void getProgress_Success_EstimatesRemainingTime() {
+        // given
+        final HolidayLoadJob job = createJob(1L, LocalDateTime.now().minusSeconds(20));
+        when(jobRepository.findLatest()).thenReturn(Optional.of(job));
+        when(checkpointRepository.countCompletedSince(1L, job.getResumedAt())).thenReturn(2L);
+
+        // when
+        final HolidayLoadProgress progress = checkpointService.getProgress();
+
+        // then
+        assertThat(progress.completedPairs()).isEqualTo(2);
+        assertThat(progress.remainingPairs()).isEqualTo(2);
+        assertThat(progress.progressPercent()).isEqualTo(50.0);
+        assertThat(progress.estimatedRemainingSeconds()).isBetween(19L, 20L);
+    }
+
+    @Test
+    @DisplayName("진행 상황 조회 - 재개 이후 완료된 쌍이 없으면 남은 시간을 추정하지 않음")
+    void getProgress_Success_NoEstimateWithoutProgress() {
+        // given
+        final HolidayLoadJob job = createJob(1L, LocalDateTime.now().minusSeconds(20));
+        when(jobRepository.findLatest()).thenReturn(Optional.of(job));
+        when(checkpointRepository.countCompletedSince(1L, job.getResumedAt())).thenReturn(0L);
+
+        // when
+        final HolidayLoadProgress progress = checkpointService.getProgress();
+
+        // then
+        assertThat(progress.estimatedRemainingSeconds()).isNull();
+        assertThat(progress.estimatedCompletionAt(LocalDateTime.now())).isNull();
+    }
+
+    @Test
+    @DisplayName("진행 상황 조회 실패 - 적재 작업 이력 없음")
+    void getProgress_Fail_NoJob() {
+        // given
+        when(jobRepository.findLatest()).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> checkpointService.getProgress())
+                .isInstanceOf(HolidayLoadJobNotFoundException.class);
+    }
+
+    private HolidayLoadJob createJob(final Long id, final LocalDateTime startedAt) {
+        final HolidayLoadJob job = HolidayLoadJob.builder().mode(HolidayLoadMode.FULL)
+                .startYear(2024).endYear(2025).totalPairs(4).startedAt(startedAt).build();
+        ReflectionTestUtils.setField(job, "id", id);
+        return job;
+    }
+
+    private HolidayLoadCheckpoint createCheckpoint(final Long jobId, final String countryCode,
+            final Integer year) {
+        return HolidayLoadCheckpoint.builder().jobId(jobId).countryCode(countryCode).year(year)
+                .completedAt(LocalDateTime.now()).build();
+    }
+}
@@ -0,0 +1,206 @@
+package com.planitsquare.holiday_keeper.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import com.planitsquare.holiday_keeper.constants.HolidayLoadMode;
+import com.planitsquare.holiday_keeper.domain.entity.HolidayLoadJob;
+import com.planitsquare.holiday_keeper.service.dto.HolidayLoadLaunch;
+import com.planitsquare.holiday_keeper.service.dto.HolidayLoadReport;
+import com.planitsquare.holiday_keeper.service.dto.HolidayUpsertResult;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HolidayLoadLauncher 테스트")
+class HolidayLoadLauncherTest {
+
+    @Mock
+    private ConcurrentHolidayLoader concurrentHolidayLoader;
+
+    @Mock
+    private SequentialHolidayLoader sequentialHolidayLoader;
+
+    @Mock
+    private HolidayLoadCheckpointService checkpointService;
+
+    @InjectMocks
+    private HolidayLoadLauncher loadLauncher;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(loadLauncher, "startYear", 2020);
+        ReflectionTestUtils.setField(loadLauncher, "endYear", 2025);
+    }
+
+    @Test
+    @DisplayName("적재 시작 - 작업 ID를 즉시 반환하고 백그라운드에서 순차 적재 실행")
+    void launch_Success_SequentialMode() throws InterruptedException {
+        // given
+        when(checkpointService.open(HolidayLoadMode.FULL, 2020, 2025)).thenReturn(1L);
+        when(sequentialHolidayLoader.loadAllHolidays(any(HolidayLoadExecution.class)))
+                .thenReturn(HolidayUpsertResult.empty());
+        when(checkpointService.getStatus(1L)).thenReturn(HolidayLoadJob.Status.COMPLETED);
+
+        // when
+        final HolidayLoadLaunch launch = loadLauncher.launch(HolidayLoadMode.FULL);
+
+        // then
+        assertThat(launch).isEqualTo(new HolidayLoadLaunch(1L, false));
+        final HolidayLoadExecution execution = awaitFinished(1L);
+        assertThat(execution.getStatus()).isEqualTo(HolidayLoadExecution.Status.COMPLETED);
+        assertThat(execution.getMode()).isEqualTo(HolidayLoadMode.FULL);
+        assertThat(execution.getFinishedAt()).isNotNull();
+        verify(concurrentHolidayLoader, never()).loadAllHolidays(any());
+    }
+
+    @Test
+    @DisplayName("적재 시작 - 동시 적재 모드면 동시 적재기로 실행")
+    void launch_Success_ConcurrentMode() throws InterruptedException {
+        // given
+        ReflectionTestUtils.setField(loadLauncher, "concurrentLoadEnabled", true);
+        when(checkpointService.open(HolidayLoadMode.FULL, 2020, 2025)).thenReturn(1L);
+        when(concurrentHolidayLoader.loadAllHolidays(any(HolidayLoadExecution.class)))
+                .thenReturn(HolidayLoadReport.of(List.of(), 0L));
+        when(checkpointService.getStatus(1L)).thenReturn(HolidayLoadJob.Status.COMPLETED);
+
+        // when
+        loadLauncher.launch(HolidayLoadMode.FULL);
+
+        // then
+        assertThat(awaitFinished(1L).getStatus())
+                .isEqualTo(HolidayLoadExecution.Status.COMPLETED);
+        verify(sequentialHolidayLoader, never()).loadAllHolidays(any());
+    }
+
+    @Test
+    @DisplayName("적재 시작 - 실행 중인 작업이 있으면 새로 실행하지 않고 그 작업에 합류")
+    void launch_Success_CoalescesOntoRunningJob() throws InterruptedException {
+        // given
+        final CountDownLatch release = new CountDownLatch(1);
+        when(checkpointService.open(HolidayLoadMode.FULL, 2020, 2025)).thenReturn(1L, 2L);
+        when(sequentialHolidayLoader.loadAllHolidays(any(HolidayLoadExecution.class)))
+                .thenAnswer(invocation -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return HolidayUpsertResult.empty();
+                });
+        when(checkpointService.getStatus(any())).thenReturn(HolidayLoadJob.Status.COMPLETED);
+
+        // when
+        final HolidayLoadLaunch first = loadLauncher.launch(HolidayLoadMode.FULL);
+        final HolidayLoadLaunch second = loadLauncher.launch(HolidayLoadMode.FULL);
+        release.countDown();
+        awaitFinished(1L);
+        final HolidayLoadLaunch third = loadLauncher.launch(HolidayLoadMode.FULL);
+
+        // then
+        assertThat(first).isEqualTo(new HolidayLoadLaunch(1L, false));
+        assertThat(second).isEqualTo(new HolidayLoadLaunch(1L, true));
+        assertThat(third).isEqualTo(new HolidayLoadLaunch(2L, false));
+        awaitFinished(2L);
+        verify(checkpointService, times(2)).open(HolidayLoadMode.FULL, 2020, 2025);
+        verify(sequentialHolidayLoader, times(2)).loadAllHolidays(any());
+    }
+
+    @Test
+    @DisplayName("적재 종료 - 실패한 쌍이 남아 작업이 미완료로 닫히면 실행 상태도 미완료")
+    void launch_Incomplete_FollowsPersistedJobStatus() throws InterruptedException {
+        // given
+        when(checkpointService.open(HolidayLoadMode.FULL, 2020, 2025)).thenReturn(1L);
+        when(sequentialHolidayLoader.loadAllHolidays(any(HolidayLoadExecution.class)))
+                .thenReturn(HolidayUpsertResult.empty());
+        when(checkpointService.getStatus(1L)).thenReturn(HolidayLoadJob.Status.INCOMPLETE);
+
+        // when
+        loadLauncher.launch(HolidayLoadMode.FULL);
+
+        // then
+        final HolidayLoadExecution execution = awaitFinished(1L);
+        assertThat(execution.getStatus()).isEqualTo(HolidayLoadExecution.Status.INCOMPLETE);
+        assertThat(execution.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("적재 실패 - 적재기 예외는 작업 상태와 실패 내역에 기록")
+    void launch_Fail_RecordsFailure() throws InterruptedException {
+        // given
+        when(checkpointService.open(HolidayLoadMode.FULL, 2020, 2025)).thenReturn(1L);
+        when(sequentialHolidayLoader.loadAllHolidays(any(HolidayLoadExecution.class)))
+                .thenThrow(new RuntimeException("국가 목록 조회 실패"));
+
+        // when
+        loadLauncher.launch(HolidayLoadMode.FULL);
+
+        // then
+        final HolidayLoadExecution execution = awaitFinished(1L);
+        assertThat(execution.getStatus()).isEqualTo(HolidayLoadExecution.Status.FAILED);
+        assertThat(execution.getErrors()).containsExactly("국가 목록 조회 실패");
+    }
+
+    @Test
+    @DisplayName("기동 시 재개 - 중단된 작업이 있으면 그 작업의 모드로 적재 실행")
+    void resumeInterruptedLoad_Success_LaunchesInterruptedMode() throws InterruptedException {
+        // given
+        ReflectionTestUtils.setField(loadLauncher, "resumeOnStartup", true);
+        when(checkpointService.findInterruptedMode(2020, 2025))
+                .thenReturn(Optional.of(HolidayLoadMode.FILL_GAPS));
+        when(checkpointService.open(HolidayLoadMode.FILL_GAPS, 2020, 2025)).thenReturn(5L);
+        when(sequentialHolidayLoader.loadAllHolidays(any(HolidayLoadExecution.class)))
+                .thenReturn(HolidayUpsertResult.empty());
+        when(checkpointService.getStatus(5L)).thenReturn(HolidayLoadJob.Status.COMPLETED);
+
+        // when
+        loadLauncher.resumeInterruptedLoad();
+
+        // then
+        final HolidayLoadExecution execution = awaitFinished(5L);
+        assertThat(execution.getMode()).isEqualTo(HolidayLoadMode.FILL_GAPS);
+        assertThat(execution.getStatus()).isEqualTo(HolidayLoadExecution.Status.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("기동 시 재개 - 설정이 꺼져 있거나 중단된 작업이 없으면 실행하지 않음")
+    void resumeInterruptedLoad_Skip_DisabledOrNothingInterrupted() {
+        // given
+        when(checkpointService.findInterruptedMode(2020, 2025)).thenReturn(Optional.empty());
+
+        // when
+        loadLauncher.resumeInterruptedLoad();
+        ReflectionTestUtils.setField(loadLauncher, "resumeOnStartup", true);
+        loadLauncher.resumeInterruptedLoad();
+
+        // then
+        verify(checkpointService, times(1)).findInterruptedMode(2020, 2025);
+        verify(checkpointService, never()).open(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("작업 조회 - 실행한 적 없는 작업 ID는 비어 있음")
+    void find_Empty_UnknownJob() {
+        // when & then
+        assertThat(loadLauncher.find(99L)).isEmpty();
+    }
+
+    private HolidayLoadExecution awaitFinished(final Long jobId) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        HolidayLoadExecution execution = loadLauncher.find(jobId).orElseThrow();
+        while (execution.isRunning() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            execution = loadLauncher.find(jobId).orElseThrow();
+        }
+        return execution;
+    }
+}
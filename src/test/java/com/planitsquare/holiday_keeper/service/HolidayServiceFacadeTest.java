@@ -3,29 +3,46 @@ package com.planitsquare.holiday_keeper.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.web.client.RestClientException;
 import com.planitsquare.holiday_keeper.api.dto.request.HolidaySearchRequest;
+import com.planitsquare.holiday_keeper.api.dto.response.HolidayLoadJobResponse;
+import com.planitsquare.holiday_keeper.api.dto.response.HolidayLoadProgressResponse;
 import com.planitsquare.holiday_keeper.api.dto.response.HolidayResponse;
 import com.planitsquare.holiday_keeper.api.dto.response.PageResponse;
+import com.planitsquare.holiday_keeper.constants.HolidayLoadMode;
 import com.planitsquare.holiday_keeper.domain.entity.Country;
+import com.planitsquare.holiday_keeper.domain.entity.HolidayLoadJob;
 import com.planitsquare.holiday_keeper.domain.entity.PublicHoliday;
 import com.planitsquare.holiday_keeper.domain.repository.HolidayRepository;
+import com.planitsquare.holiday_keeper.service.dto.HolidayLoadLaunch;
+import com.planitsquare.holiday_keeper.service.dto.HolidayLoadProgress;
+import com.planitsquare.holiday_keeper.service.dto.HolidaySearchCursor;
+import com.planitsquare.holiday_keeper.service.dto.HolidayUpsertResult;
+import com.planitsquare.holiday_keeper.service.dto.PairLoadResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("HolidayService 테스트")
@@ -40,6 +57,16 @@ class HolidayServiceFacadeTest {
     @Mock
     private CountryService countryService;
 
+    @Mock
+    private HolidayLoadLauncher loadLauncher;
+
+    @Mock
+    private HolidayLoadCheckpointService checkpointService;
+
+    @Spy
+    private HolidayFetchRetryScheduler retryScheduler =
+            new HolidayFetchRetryScheduler(new SimpleMeterRegistry());
+
     @InjectMocks
     private HolidayService holidayService;
 
@@ -48,6 +75,14 @@ class HolidayServiceFacadeTest {
 
     @BeforeEach
     void setUp() {
+        org.springframework.test.util.ReflectionTestUtils.setField(retryScheduler, "maxAttempts",
+                3);
+        org.springframework.test.util.ReflectionTestUtils.setField(retryScheduler,
+                "initialDelayMs", 10L);
+        org.springframework.test.util.ReflectionTestUtils.setField(retryScheduler, "multiplier",
+                2.0);
+        org.springframework.test.util.ReflectionTestUtils.setField(retryScheduler, "maxDelayMs",
+                100L);
         testCountry = Country.builder().countryCode("KR").name("South Korea").build();
         org.springframework.test.util.ReflectionTestUtils.setField(testCountry, "id", 1L);
         testHoliday = PublicHoliday.builder().country(testCountry).year(2024).countryCode("KR")
@@ -57,16 +92,61 @@ class HolidayServiceFacadeTest {
     }
 
     @Test
-    @DisplayName("전체 공휴일 적재 성공")
-    void loadAllHolidays_Success() {
+    @DisplayName("전체 공휴일 적재 시작 - 백그라운드 실행기에 위임")
+    void startLoad_Success() {
+        // given
+        when(loadLauncher.launch(HolidayLoadMode.FILL_GAPS))
+                .thenReturn(new HolidayLoadLaunch(1L, false));
+
+        // when
+        final HolidayLoadLaunch result = holidayService.startLoad(HolidayLoadMode.FILL_GAPS);
+
+        // then
+        assertThat(result.jobId()).isEqualTo(1L);
+        assertThat(result.coalesced()).isFalse();
+        verify(loadLauncher).launch(HolidayLoadMode.FILL_GAPS);
+    }
+
+    @Test
+    @DisplayName("적재 작업 조회 성공 - 실행 중인 작업은 처리 건수와 실패 내역 포함")
+    void getLoadJob_Success_TrackedExecution() {
         // given
-        when(holidayDataService.loadAllHolidays()).thenReturn(100);
+        final HolidayLoadExecution execution = new HolidayLoadExecution(1L, LocalDateTime.now());
+        execution.record(PairLoadResult.success("KR", 2024, new HolidayUpsertResult(15, 0, 0, 0),
+                10L));
+        execution.record(PairLoadResult.failure("US", 2024, "연결 실패", 10L));
+        when(loadLauncher.find(1L)).thenReturn(Optional.of(execution));
 
         // when
-        holidayService.loadAllHolidays();
+        final HolidayLoadJobResponse result = holidayService.getLoadJob(1L);
 
         // then
-        verify(holidayDataService).loadAllHolidays();
+        assertThat(result.status()).isEqualTo("RUNNING");
+        assertThat(result.completedPairs()).isEqualTo(1);
+        assertThat(result.failedPairs()).isEqualTo(1);
+        assertThat(result.loadedHolidays()).isEqualTo(15L);
+        assertThat(result.errors()).containsExactly("2024년 US 적재 실패: 연결 실패");
+        verify(checkpointService, never()).getProgress(any(Long.class));
+    }
+
+    @Test
+    @DisplayName("적재 작업 조회 성공 - 메모리에 없는 작업은 체크포인트 기록으로 응답")
+    void getLoadJob_Success_FallbackToCheckpoints() {
+        // given
+        final HolidayLoadJob job = HolidayLoadJob.builder().mode(HolidayLoadMode.FULL)
+                .startYear(2020).endYear(2025).totalPairs(10).startedAt(LocalDateTime.now())
+                .build();
+        when(loadLauncher.find(3L)).thenReturn(Optional.empty());
+        when(checkpointService.getProgress(3L))
+                .thenReturn(HolidayLoadProgress.of(job, 4, LocalDateTime.now()));
+
+        // when
+        final HolidayLoadJobResponse result = holidayService.getLoadJob(3L);
+
+        // then
+        assertThat(result.status()).isEqualTo("IN_PROGRESS");
+        assertThat(result.completedPairs()).isEqualTo(4);
+        assertThat(result.errors()).isEmpty();
     }
 
     @Test
@@ -74,16 +154,63 @@ class HolidayServiceFacadeTest {
     void refreshHolidays_Success() {
         // given
         when(countryService.findByCountryCode("KR")).thenReturn(testCountry);
-        when(holidayDataService.loadHolidaysForYearAndCountry(2024, "KR", testCountry))
-                .thenReturn(10);
+        when(holidayDataService.refreshHolidaysForYearAndCountry(2024, "KR", testCountry))
+                .thenReturn(new HolidayUpsertResult(2, 1, 0, 7));
 
         // when
-        final Integer result = holidayService.refreshHolidays(2024, "KR");
+        final HolidayUpsertResult result = holidayService.refreshHolidays(2024, "KR");
 
         // then
-        assertThat(result).isEqualTo(10);
+        assertThat(result.totalCount()).isEqualTo(10);
         verify(countryService).findByCountryCode("KR");
-        verify(holidayDataService).loadHolidaysForYearAndCountry(2024, "KR", testCountry);
+        verify(holidayDataService).refreshHolidaysForYearAndCountry(2024, "KR", testCountry);
+    }
+
+    @Test
+    @DisplayName("공휴일 재동기화 성공 - 일시적 API 실패는 지연 후 재시도")
+    void refreshHolidays_Success_RetriesTransientFailure() {
+        // given
+        when(countryService.findByCountryCode("KR")).thenReturn(testCountry);
+        when(holidayDataService.refreshHolidaysForYearAndCountry(2024, "KR", testCountry))
+                .thenThrow(new RestClientException("일시적 오류"))
+                .thenReturn(new HolidayUpsertResult(2, 1, 0, 7));
+
+        // when
+        final HolidayUpsertResult result = holidayService.refreshHolidays(2024, "KR");
+
+        // then
+        assertThat(result.totalCount()).isEqualTo(10);
+        verify(holidayDataService, times(2)).refreshHolidaysForYearAndCountry(2024, "KR",
+                testCountry);
+    }
+
+    @Test
+    @DisplayName("공휴일 재동기화 실패 - 재시도 횟수를 모두 쓰면 마지막 예외 전파")
+    void refreshHolidays_Fail_RetriesExhausted() {
+        // given
+        when(countryService.findByCountryCode("KR")).thenReturn(testCountry);
+        when(holidayDataService.refreshHolidaysForYearAndCountry(2024, "KR", testCountry))
+                .thenThrow(new RestClientException("일시적 오류"));
+
+        // when & then
+        assertThatThrownBy(() -> holidayService.refreshHolidays(2024, "KR"))
+                .isInstanceOf(RestClientException.class);
+        verify(holidayDataService, times(3)).refreshHolidaysForYearAndCountry(2024, "KR",
+                testCountry);
+    }
+
+    @Test
+    @DisplayName("공휴일 단건 재동기화 - 재시도 없이 한 번만 시도")
+    void refreshHolidaysOnce_Fail_DoesNotRetry() {
+        // given
+        when(countryService.findByCountryCode("KR")).thenReturn(testCountry);
+        when(holidayDataService.refreshHolidaysForYearAndCountry(2024, "KR", testCountry))
+                .thenThrow(new RestClientException("일시적 오류"));
+
+        // when & then
+        assertThatThrownBy(() -> holidayService.refreshHolidaysOnce(2024, "KR"))
+                .isInstanceOf(RestClientException.class);
+        verify(holidayDataService).refreshHolidaysForYearAndCountry(2024, "KR", testCountry);
     }
 
     @Test
@@ -98,7 +225,7 @@ class HolidayServiceFacadeTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("국가 코드 'XX'를 찾을 수 없습니다");
         verify(countryService).findByCountryCode("XX");
-        verify(holidayDataService, never()).loadHolidaysForYearAndCountry(any(), any(), any());
+        verify(holidayDataService, never()).refreshHolidaysForYearAndCountry(any(), any(), any());
     }
 
     @Test
@@ -119,10 +246,10 @@ class HolidayServiceFacadeTest {
     void searchHolidays_Success() {
         // given
         final HolidaySearchRequest request =
-                new HolidaySearchRequest("KR", 2024, null, null, null, 0, 20);
+                new HolidaySearchRequest("KR", 2024, null, null, null, null, 0, 20, null, null);
         final Pageable pageable = PageRequest.of(0, 20);
-        final Page<PublicHoliday> holidayPage =
-                new PageImpl<>(Collections.singletonList(testHoliday), pageable, 1L);
+        final Page<HolidayResponse> holidayPage = new PageImpl<>(
+                Collections.singletonList(HolidayResponse.from(testHoliday)), pageable, 1L);
 
         when(holidayRepository.search(any(HolidaySearchRequest.class), any(Pageable.class)))
                 .thenReturn(holidayPage);
@@ -144,9 +271,10 @@ class HolidayServiceFacadeTest {
     void searchHolidays_Success_EmptyResult() {
         // given
         final HolidaySearchRequest request =
-                new HolidaySearchRequest("XX", 2024, null, null, null, 0, 20);
+                new HolidaySearchRequest("XX", 2024, null, null, null, null, 0, 20, null, null);
         final Pageable pageable = PageRequest.of(0, 20);
-        final Page<PublicHoliday> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0L);
+        final Page<HolidayResponse> emptyPage =
+                new PageImpl<>(Collections.emptyList(), pageable, 0L);
 
         when(holidayRepository.search(any(HolidaySearchRequest.class), any(Pageable.class)))
                 .thenReturn(emptyPage);
@@ -160,4 +288,121 @@ class HolidayServiceFacadeTest {
         assertThat(result.totalElements()).isEqualTo(0L);
         verify(holidayRepository).search(any(HolidaySearchRequest.class), any(Pageable.class));
     }
+
+    @Test
+    @DisplayName("공휴일 검색 성공 - 다음 페이지가 있으면 마지막 행으로 만든 커서를 함께 반환")
+    void searchHolidays_Success_NextCursorForOffsetPage() {
+        // given
+        final HolidaySearchRequest request =
+                new HolidaySearchRequest("KR", 2024, null, null, null, null, 0, 1, null, null);
+        final Page<HolidayResponse> holidayPage = new PageImpl<>(
+                Collections.singletonList(HolidayResponse.from(testHoliday)), PageRequest.of(0, 1),
+                3L);
+        when(holidayRepository.search(any(HolidaySearchRequest.class), any(Pageable.class)))
+                .thenReturn(holidayPage);
+
+        // when
+        final PageResponse<HolidayResponse> result = holidayService.searchHolidays(request);
+
+        // then
+        assertThat(result.last()).isFalse();
+        assertThat(HolidaySearchCursor.decode(result.nextCursor()))
+                .isEqualTo(new HolidaySearchCursor(testHoliday.getDate(), 1L));
+    }
+
+    @Test
+    @DisplayName("공휴일 검색 성공 - 전체 개수를 요청하지 않으면 COUNT 없이 다음 페이지 여부만 반환")
+    void searchHolidays_Success_WithoutTotal() {
+        // given
+        final HolidaySearchRequest request =
+                new HolidaySearchRequest("KR", 2024, null, null, null, null, 1, 1, null, false);
+        when(holidayRepository.searchWithoutTotal(any(HolidaySearchRequest.class),
+                eq(PageRequest.of(1, 1)))).thenReturn(new SliceImpl<>(
+                        Collections.singletonList(HolidayResponse.from(testHoliday)),
+                        PageRequest.of(1, 1), true));
+
+        // when
+        final PageResponse<HolidayResponse> result = holidayService.searchHolidays(request);
+
+        // then
+        assertThat(result.page()).isEqualTo(1);
+        assertThat(result.totalElements()).isNull();
+        assertThat(result.totalPages()).isNull();
+        assertThat(result.first()).isFalse();
+        assertThat(result.last()).isFalse();
+        assertThat(result.nextCursor()).isNotNull();
+        verify(holidayRepository, never()).search(any(), any());
+    }
+
+    @Test
+    @DisplayName("공휴일 검색 성공 - 커서가 있으면 COUNT 없이 커서 이후 행을 조회")
+    void searchHolidays_Success_Cursor() {
+        // given
+        final HolidaySearchCursor cursor =
+                new HolidaySearchCursor(java.time.LocalDate.of(2023, 12, 25), 7L);
+        final HolidaySearchRequest request = new HolidaySearchRequest("KR", null, null, null,
+                null, null, null, 1, cursor.encode(), null);
+        when(holidayRepository.searchAfter(any(HolidaySearchRequest.class), eq(cursor), eq(1)))
+                .thenReturn(new SliceImpl<>(
+                        Collections.singletonList(HolidayResponse.from(testHoliday)),
+                        PageRequest.ofSize(1), false));
+
+        // when
+        final PageResponse<HolidayResponse> result = holidayService.searchHolidays(request);
+
+        // then
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.totalElements()).isNull();
+        assertThat(result.page()).isNull();
+        assertThat(result.last()).isTrue();
+        assertThat(result.nextCursor()).isNull();
+        verify(holidayRepository, never()).search(any(), any());
+    }
+
+    @Test
+    @DisplayName("공휴일 검색 실패 - 해석할 수 없는 커서")
+    void searchHolidays_Fail_InvalidCursor() {
+        // given
+        final HolidaySearchRequest request = new HolidaySearchRequest(null, null, null, null,
+                null, null, null, null, "not-a-cursor", null);
+
+        // when & then
+        assertThatThrownBy(() -> holidayService.searchHolidays(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not-a-cursor");
+        verify(holidayRepository, never()).searchAfter(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("공휴일 검색 실패 - 알 수 없는 공휴일 타입")
+    void searchHolidays_Fail_UnknownType() {
+        // given
+        final HolidaySearchRequest request = new HolidaySearchRequest(null, null, null, null,
+                "Public,Pub", null, null, null, null, null);
+
+        // when & then
+        assertThatThrownBy(() -> holidayService.searchHolidays(request))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Pub");
+        verify(holidayRepository, never()).search(any(), any());
+    }
+
+    @Test
+    @DisplayName("적재 진행 상황 조회 성공")
+    void getLoadProgress_Success() {
+        // given
+        final HolidayLoadJob job = HolidayLoadJob.builder().mode(HolidayLoadMode.FULL)
+                .startYear(2020).endYear(2025).totalPairs(10)
+                .startedAt(LocalDateTime.now().minusSeconds(40)).build();
+        when(checkpointService.getProgress())
+                .thenReturn(HolidayLoadProgress.of(job, 4, LocalDateTime.now()));
+
+        // when
+        final HolidayLoadProgressResponse result = holidayService.getLoadProgress();
+
+        // then
+        assertThat(result.totalPairs()).isEqualTo(10);
+        assertThat(result.completedPairs()).isEqualTo(4);
+        assertThat(result.remainingPairs()).isEqualTo(6);
+        assertThat(result.estimatedRemainingSeconds()).isBetween(59L, 60L);
+    }
 }
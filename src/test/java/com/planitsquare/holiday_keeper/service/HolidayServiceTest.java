@@ -3,16 +3,19 @@ package com.planitsquare.holiday_keeper.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,10 +23,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import com.planitsquare.holiday_keeper.constants.HolidayType;
 import com.planitsquare.holiday_keeper.domain.entity.Country;
+import com.planitsquare.holiday_keeper.domain.entity.HolidayFetchFingerprint;
 import com.planitsquare.holiday_keeper.domain.repository.HolidayRepository;
 import com.planitsquare.holiday_keeper.external.client.NagerDateClient;
+import com.planitsquare.holiday_keeper.external.dto.HolidayFetchResult;
 import com.planitsquare.holiday_keeper.external.dto.NagerHolidayResponse;
+import com.planitsquare.holiday_keeper.external.dto.ResponseValidators;
+import com.planitsquare.holiday_keeper.service.dto.FetchedHolidays;
+import com.planitsquare.holiday_keeper.service.dto.HolidayUpsertResult;
+import com.planitsquare.holiday_keeper.service.dto.StoredHoliday;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("HolidayDataService 테스트")
@@ -38,6 +49,15 @@ class HolidayDataServiceTest {
     @Mock
     private HolidayRepository holidayRepository;
 
+    @Mock
+    private HolidayFetchFingerprintService fingerprintService;
+
+    @Mock
+    private HolidayCoverage coverage;
+
+    private static final ResponseValidators VALIDATORS =
+            new ResponseValidators("\"v1\"", null, "hash");
+
     @InjectMocks
     private HolidayDataService holidayDataService;
 
@@ -47,34 +67,224 @@ class HolidayDataServiceTest {
     @BeforeEach
     void setUp() {
         testCountry = Country.builder().countryCode("KR").name("South Korea").build();
+        ReflectionTestUtils.setField(holidayDataService, "clearEveryPairs", 2);
 
         testHolidayResponse = new NagerHolidayResponse(LocalDate.of(2024, 1, 1), "New Year's Day",
                 "신정", "KR", true, false, null, 1949, Arrays.asList("Public"));
-
-        org.springframework.test.util.ReflectionTestUtils.setField(holidayDataService, "startYear",
-                2020);
-        org.springframework.test.util.ReflectionTestUtils.setField(holidayDataService, "endYear",
-                2025);
     }
 
     @Test
     @DisplayName("특정 연도/국가 공휴일 적재 성공")
     void loadHolidaysForYearAndCountry_Success() {
         // given
-        when(nagerDateClient.getPublicHolidays(2024, "KR"))
-                .thenReturn(Collections.singletonList(testHolidayResponse));
-        when(holidayRepository.findByCountryCodeAndYear("KR", 2024))
+        when(nagerDateClient.getPublicHolidaysIfChanged(2024, "KR", ResponseValidators.none()))
+                .thenReturn(HolidayFetchResult.modified(
+                        Collections.singletonList(testHolidayResponse), VALIDATORS));
+
+        // when
+        final HolidayUpsertResult result =
+                holidayDataService.loadHolidaysForYearAndCountry(2024, "KR", testCountry);
+
+        // then
+        assertThat(result).isEqualTo(new HolidayUpsertResult(1, 0, 0, 0));
+        verify(holidayRepository).findStoredHolidays("KR", 2024);
+        verify(holidayRepository).upsertAll(argThat(holidays -> holidays.size() == 1));
+        verify(holidayRepository, never()).deleteByCountryCodeAndYearAndIdIn(any(), any(),
+                any());
+        verify(fingerprintService).record("KR", 2024, VALIDATORS, 1);
+        verify(coverage).markLoadedAfterCommit("KR", 2024);
+    }
+
+    @Test
+    @DisplayName("특정 연도/국가 공휴일 재동기화 - 디스크 캐시를 거치지 않는 최신 응답으로 적재")
+    void refreshHolidaysForYearAndCountry_Success_FetchesLatest() {
+        // given
+        when(nagerDateClient.getLatestPublicHolidaysIfChanged(2024, "KR",
+                ResponseValidators.none())).thenReturn(HolidayFetchResult.modified(
+                        Collections.singletonList(testHolidayResponse), VALIDATORS));
+
+        // when
+        final HolidayUpsertResult result =
+                holidayDataService.refreshHolidaysForYearAndCountry(2024, "KR", testCountry);
+
+        // then
+        assertThat(result).isEqualTo(new HolidayUpsertResult(1, 0, 0, 0));
+        verify(nagerDateClient, never()).getPublicHolidaysIfChanged(any(), any(), any());
+        verify(fingerprintService).record("KR", 2024, VALIDATORS, 1);
+    }
+
+    @Test
+    @DisplayName("특정 연도/국가 공휴일 적재 성공 - 응답이 이전과 같으면 비교·저장 생략")
+    void loadHolidaysForYearAndCountry_Success_NotModified() {
+        // given
+        final HolidayFetchFingerprint fingerprint = HolidayFetchFingerprint.builder()
+                .countryCode("KR").year(2024).etag("\"v1\"").contentHash("hash")
+                .holidayCount(15).fetchedAt(LocalDateTime.now()).build();
+        when(fingerprintService.find("KR", 2024)).thenReturn(Optional.of(fingerprint));
+        when(nagerDateClient.getPublicHolidaysIfChanged(2024, "KR", VALIDATORS))
+                .thenReturn(HolidayFetchResult.notModified(VALIDATORS));
+
+        // when
+        final HolidayUpsertResult result =
+                holidayDataService.loadHolidaysForYearAndCountry(2024, "KR", testCountry);
+
+        // then
+        assertThat(result).isEqualTo(HolidayUpsertResult.unchanged(15));
+        verify(holidayRepository, never()).findStoredHolidays(any(), any());
+        verify(holidayRepository, never()).upsertAll(any(List.class));
+        verify(fingerprintService, never()).record(any(), any(), any(), any());
+        verify(fingerprintService).confirm("KR", 2024, VALIDATORS);
+    }
+
+    @Test
+    @DisplayName("특정 연도/국가 공휴일 적재 성공 - 내용은 같고 ETag만 바뀌면 새 검증값으로 지문 갱신")
+    void loadHolidaysForYearAndCountry_Success_NotModifiedWithRotatedEtag() {
+        // given
+        final ResponseValidators rotated = new ResponseValidators("\"v2\"", null, "hash");
+        final HolidayFetchFingerprint fingerprint = HolidayFetchFingerprint.builder()
+                .countryCode("KR").year(2024).etag("\"v1\"").contentHash("hash")
+                .holidayCount(15).fetchedAt(LocalDateTime.now().minusDays(3)).build();
+        when(fingerprintService.find("KR", 2024)).thenReturn(Optional.of(fingerprint));
+        when(nagerDateClient.getPublicHolidaysIfChanged(2024, "KR", VALIDATORS))
+                .thenReturn(HolidayFetchResult.notModified(rotated));
+
+        // when
+        final HolidayUpsertResult result =
+                holidayDataService.loadHolidaysForYearAndCountry(2024, "KR", testCountry);
+
+        // then
+        assertThat(result).isEqualTo(HolidayUpsertResult.unchanged(15));
+        verify(fingerprintService).confirm("KR", 2024, rotated);
+        verify(fingerprintService, never()).record(any(), any(), any(), any());
+        verify(holidayRepository, never()).upsertAll(any(List.class));
+    }
+
+    @Test
+    @DisplayName("특정 연도/국가 공휴일 적재 성공 - 변경 없는 공휴일은 쓰지 않음")
+    void loadHolidaysForYearAndCountry_Success_Unchanged() {
+        // given
+        when(nagerDateClient.getPublicHolidaysIfChanged(2024, "KR", ResponseValidators.none()))
+                .thenReturn(HolidayFetchResult.modified(
+                        Collections.singletonList(testHolidayResponse), VALIDATORS));
+        when(holidayRepository.findStoredHolidays("KR", 2024))
+                .thenReturn(Collections.singletonList(
+                        createStoredHoliday(1L, LocalDate.of(2024, 1, 1), "신정")));
+
+        // when
+        final HolidayUpsertResult result =
+                holidayDataService.loadHolidaysForYearAndCountry(2024, "KR", testCountry);
+
+        // then
+        assertThat(result).isEqualTo(new HolidayUpsertResult(0, 0, 0, 1));
+        assertThat(result.hasChanges()).isFalse();
+        verify(holidayRepository, never()).upsertAll(any(List.class));
+        verify(holidayRepository, never()).deleteByCountryCodeAndYearAndIdIn(any(), any(),
+                any());
+    }
+
+    @Test
+    @DisplayName("특정 연도/국가 공휴일 적재 성공 - 수정/삭제된 공휴일만 반영")
+    void loadHolidaysForYearAndCountry_Success_UpdatedAndDeleted() {
+        // given
+        when(nagerDateClient.getPublicHolidaysIfChanged(2024, "KR", ResponseValidators.none()))
+                .thenReturn(HolidayFetchResult.modified(
+                        Collections.singletonList(testHolidayResponse), VALIDATORS));
+        when(holidayRepository.findStoredHolidays("KR", 2024)).thenReturn(Arrays.asList(
+                new StoredHoliday(1L, LocalDate.of(2024, 1, 1), "신정", "New Year",
+                        HolidayType.toBitmask("Public"), true, false, "1949"),
+                createStoredHoliday(2L, LocalDate.of(2024, 12, 31), "Removed Holiday")));
+
+        // when
+        final HolidayUpsertResult result =
+                holidayDataService.loadHolidaysForYearAndCountry(2024, "KR", testCountry);
+
+        // then
+        assertThat(result).isEqualTo(new HolidayUpsertResult(0, 1, 1, 0));
+        verify(holidayRepository).upsertAll(argThat(holidays -> holidays.size() == 1
+                && holidays.getFirst().getName().equals("신정")));
+        verify(holidayRepository).deleteByCountryCodeAndYearAndIdIn("KR", 2024, List.of(2L));
+    }
+
+    @Test
+    @DisplayName("특정 연도/국가 공휴일 적재 성공 - 같은 날짜의 다른 공휴일은 모두 저장하고 기존 행도 유지")
+    void loadHolidaysForYearAndCountry_Success_SameDateDifferentNames() {
+        // given
+        final NagerHolidayResponse sameDateHoliday = new NagerHolidayResponse(
+                LocalDate.of(2024, 1, 1), "Regional Day", "지역 기념일", "KR", true, false, null,
+                1949, Arrays.asList("Public"));
+        final NagerHolidayResponse duplicatedHoliday = new NagerHolidayResponse(
+                LocalDate.of(2024, 1, 1), "Regional Day", "지역 기념일", "KR", true, false, null,
+                1949, Arrays.asList("Public"));
+        when(nagerDateClient.getPublicHolidaysIfChanged(2024, "KR", ResponseValidators.none()))
+                .thenReturn(HolidayFetchResult.modified(Arrays.asList(testHolidayResponse,
+                        sameDateHoliday, duplicatedHoliday), VALIDATORS));
+        when(holidayRepository.findStoredHolidays("KR", 2024)).thenReturn(
+                Collections.singletonList(createStoredHoliday(1L, LocalDate.of(2024, 1, 1), "신정")));
+
+        // when
+        final HolidayUpsertResult result =
+                holidayDataService.loadHolidaysForYearAndCountry(2024, "KR", testCountry);
+
+        // then
+        assertThat(result).isEqualTo(new HolidayUpsertResult(1, 0, 0, 1));
+        verify(holidayRepository).upsertAll(argThat(holidays -> holidays.size() == 1
+                && holidays.getFirst().getName().equals("지역 기념일")));
+        verify(holidayRepository, never()).deleteByCountryCodeAndYearAndIdIn(any(), any(),
+                any());
+    }
+
+    @Test
+    @DisplayName("여러 국가 공휴일 배치 저장 성공 - MERGE 배치 한 번으로 저장")
+    void upsertHolidaysInBatch_Success() {
+        // given
+        final Country usCountry = Country.builder().countryCode("US").name("United States").build();
+        final List<FetchedHolidays> batch = Arrays.asList(
+                new FetchedHolidays(testCountry, 2024,
+                        Collections.singletonList(testHolidayResponse), VALIDATORS,
+                        System.nanoTime()),
+                new FetchedHolidays(usCountry, 2024,
+                        Collections.singletonList(testHolidayResponse), VALIDATORS,
+                        System.nanoTime()));
+
+        when(holidayRepository.findStoredHolidays("KR", 2024))
+                .thenReturn(Collections.emptyList());
+        when(holidayRepository.findStoredHolidays("US", 2024))
+                .thenReturn(Collections.singletonList(
+                        createStoredHoliday(1L, LocalDate.of(2024, 1, 1), "신정")));
+
+        // when
+        final List<HolidayUpsertResult> results = holidayDataService.upsertHolidaysInBatch(batch);
+
+        // then
+        assertThat(results).containsExactly(new HolidayUpsertResult(1, 0, 0, 0),
+                new HolidayUpsertResult(0, 0, 0, 1));
+        verify(holidayRepository).upsertAll(argThat(holidays -> holidays.size() == 1));
+        verify(holidayRepository, never()).deleteByCountryCodeAndYearAndIdIn(any(), any(),
+                any());
+        verify(coverage).markLoadedAfterCommit("KR", 2024);
+        verify(coverage).markLoadedAfterCommit("US", 2024);
+    }
+
+    @Test
+    @DisplayName("여러 국가 공휴일 배치 저장 - 지정한 쌍 수마다 영속성 컨텍스트를 비움")
+    void upsertHolidaysInBatch_Success_ClearsPersistenceContextPerChunk() {
+        // given
+        final List<FetchedHolidays> batch = List.of("KR", "US", "JP", "CN", "GB").stream()
+                .map(code -> new FetchedHolidays(
+                        Country.builder().countryCode(code).name(code).build(), 2024,
+                        Collections.singletonList(testHolidayResponse), VALIDATORS,
+                        System.nanoTime()))
+                .toList();
+        when(holidayRepository.findStoredHolidays(any(), any()))
                 .thenReturn(Collections.emptyList());
-        when(holidayRepository.saveAll(any(List.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
 
         // when
-        final int count = holidayDataService.loadHolidaysForYearAndCountry(2024, "KR", testCountry);
+        final List<HolidayUpsertResult> results = holidayDataService.upsertHolidaysInBatch(batch);
 
         // then
-        assertThat(count).isEqualTo(1);
-        verify(holidayRepository).findByCountryCodeAndYear("KR", 2024);
-        verify(holidayRepository).saveAll(any(List.class));
+        assertThat(results).hasSize(5).allMatch(result -> result.inserted() == 1);
+        verify(holidayRepository, times(3)).upsertAll(any());
+        verify(holidayRepository, times(3)).flushAndClear();
     }
 
     @Test
@@ -89,6 +299,8 @@ class HolidayDataServiceTest {
         // then
         verify(countryService).validateCountryExists("KR");
         verify(holidayRepository).deleteByCountryCodeAndYear("KR", 2024);
+        verify(fingerprintService).delete("KR", 2024);
+        verify(coverage).markRemovedAfterCommit("KR", 2024);
     }
 
     @Test
@@ -104,59 +316,42 @@ class HolidayDataServiceTest {
                 .hasMessageContaining("국가 코드 'XX'를 찾을 수 없습니다");
     }
 
-    @Test
-    @DisplayName("전체 공휴일 적재 성공")
-    void loadAllHolidays_Success() {
-        // given
-        final Country country1 = Country.builder().countryCode("KR").name("South Korea").build();
-        final Country country2 = Country.builder().countryCode("US").name("United States").build();
-        org.springframework.test.util.ReflectionTestUtils.setField(country1, "id", 1L);
-        org.springframework.test.util.ReflectionTestUtils.setField(country2, "id", 2L);
-        final List<Country> countries = Arrays.asList(country1, country2);
-
-        when(countryService.fetchAndSaveAllCountries()).thenReturn(countries);
-        when(nagerDateClient.getPublicHolidays(any(Integer.class), any(String.class)))
-                .thenReturn(Collections.singletonList(testHolidayResponse));
-        when(holidayRepository.saveAll(any(List.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-
-        // when
-        final Integer result = holidayDataService.loadAllHolidays();
-
-        // then
-        assertThat(result).isGreaterThan(0);
-        verify(countryService).fetchAndSaveAllCountries();
-        verify(holidayRepository, atLeastOnce()).saveAll(any(List.class));
-    }
-
     @Test
     @DisplayName("특정 연도/국가 공휴일 적재 성공 - 빈 리스트 반환")
     void loadHolidaysForYearAndCountry_Success_EmptyList() {
         // given
-        when(nagerDateClient.getPublicHolidays(2024, "KR")).thenReturn(Collections.emptyList());
+        when(nagerDateClient.getPublicHolidaysIfChanged(2024, "KR", ResponseValidators.none()))
+                .thenReturn(HolidayFetchResult.modified(Collections.emptyList(), VALIDATORS));
 
         // when
-        final int count = holidayDataService.loadHolidaysForYearAndCountry(2024, "KR", testCountry);
+        final HolidayUpsertResult result =
+                holidayDataService.loadHolidaysForYearAndCountry(2024, "KR", testCountry);
 
         // then
-        assertThat(count).isZero();
-        verify(nagerDateClient).getPublicHolidays(2024, "KR");
+        assertThat(result.totalCount()).isZero();
+        verify(nagerDateClient).getPublicHolidaysIfChanged(2024, "KR", ResponseValidators.none());
         verify(holidayRepository, never()).deleteByCountryCodeAndYear(any(), any());
-        verify(holidayRepository, never()).saveAll(any(List.class));
+        verify(holidayRepository, never()).upsertAll(any(List.class));
     }
 
     @Test
     @DisplayName("특정 연도/국가 공휴일 적재 실패 - 외부 API 예외")
     void loadHolidaysForYearAndCountry_Fail_ExternalApiException() {
         // given
-        when(nagerDateClient.getPublicHolidays(2024, "KR"))
+        when(nagerDateClient.getPublicHolidaysIfChanged(2024, "KR", ResponseValidators.none()))
                 .thenThrow(new RuntimeException("외부 API 호출 실패"));
 
         // when & then
         assertThatThrownBy(
                 () -> holidayDataService.loadHolidaysForYearAndCountry(2024, "KR", testCountry))
                         .isInstanceOf(RuntimeException.class).hasMessageContaining("외부 API 호출 실패");
-        verify(nagerDateClient).getPublicHolidays(2024, "KR");
+        verify(nagerDateClient).getPublicHolidaysIfChanged(2024, "KR", ResponseValidators.none());
         verify(holidayRepository, never()).deleteByCountryCodeAndYear(any(), any());
     }
+
+    private StoredHoliday createStoredHoliday(final Long id, final LocalDate date,
+            final String name) {
+        return new StoredHoliday(id, date, name, "New Year's Day", HolidayType.toBitmask("Public"),
+                true, false, "1949");
+    }
 }
@@ -0,0 +1,229 @@
+package com.planitsquare.holiday_keeper.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import com.planitsquare.holiday_keeper.domain.entity.HolidaySyncLease;
+import com.planitsquare.holiday_keeper.domain.repository.HolidaySyncLeaseRepository;
+import com.planitsquare.holiday_keeper.service.dto.SyncShard;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HolidaySyncLeaseService 테스트")
+class HolidaySyncLeaseServiceTest {
+
+    private static final String RUN_KEY = "2024-2025@2025-01-02";
+
+    @Mock
+    private HolidaySyncLeaseRepository leaseRepository;
+
+    @InjectMocks
+    private HolidaySyncLeaseService leaseService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(leaseService, "shardCount", 3);
+        ReflectionTestUtils.setField(leaseService, "leaseDurationMs", 60_000L);
+    }
+
+    @Test
+    @DisplayName("실행 키 - 연도 범위와 실행 날짜로 구성")
+    void runKey_Success() {
+        // when & then
+        assertThat(HolidaySyncLeaseService.runKey(2024, 2025, LocalDate.of(2025, 1, 2)))
+                .isEqualTo(RUN_KEY);
+    }
+
+    @Test
+    @DisplayName("실행 준비 - 샤드가 없으면 설정한 개수만큼 생성")
+    void prepare_Success_CreatesShards() {
+        // given
+        when(leaseRepository.findByRunKey(RUN_KEY)).thenReturn(List.of());
+
+        // when
+        leaseService.prepare(RUN_KEY);
+
+        // then
+        verify(leaseRepository).saveAllAndFlush(argThat(leases -> leases.size() == 3
+                && leases.get(2).getShardIndex() == 2 && leases.get(0).getShardCount() == 3));
+    }
+
+    @Test
+    @DisplayName("실행 준비 - 이미 샤드가 있으면 생성하지 않음")
+    void prepare_Success_AlreadyPrepared() {
+        // given
+        when(leaseRepository.findByRunKey(RUN_KEY)).thenReturn(List.of(createLease(1L, 0)));
+
+        // when
+        leaseService.prepare(RUN_KEY);
+
+        // then
+        verify(leaseRepository, never()).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    @DisplayName("실행 준비 - 다른 인스턴스가 먼저 생성해 유니크 제약에 걸려도 실패하지 않음")
+    void prepare_Success_ConcurrentlyPrepared() {
+        // given
+        when(leaseRepository.findByRunKey(RUN_KEY)).thenReturn(List.of());
+        when(leaseRepository.saveAllAndFlush(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate shard"));
+
+        // when
+        leaseService.prepare(RUN_KEY);
+
+        // then
+        verify(leaseRepository).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    @DisplayName("임대 획득 - 완료된 샤드는 건너뛰고, 점유 중인 샤드는 DB 시각 기준 조건부 갱신에서 거절")
+    void claimNext_Success_SkipsCompletedAndLeasedShards() {
+        // given
+        final HolidaySyncLease completed = createLease(1L, 0);
+        ReflectionTestUtils.setField(completed, "completedAt", LocalDateTime.now());
+        final HolidaySyncLease leased = createLease(2L, 1);
+        lease(leased, "replica-a", LocalDateTime.now().plusMinutes(5));
+        final HolidaySyncLease free = createLease(3L, 2);
+        when(leaseRepository.findByRunKey(RUN_KEY)).thenReturn(List.of(completed, leased, free));
+        when(leaseRepository.claim(2L, leaseService.getOwner(), 60_000L)).thenReturn(false);
+        when(leaseRepository.claim(3L, leaseService.getOwner(), 60_000L)).thenReturn(true);
+
+        // when
+        final Optional<SyncShard> shard = leaseService.claimNext(RUN_KEY);
+
+        // then
+        assertThat(shard).contains(new SyncShard(3L, RUN_KEY, 2, 3, null));
+        verify(leaseRepository, never()).claim(eq(1L), any(), any());
+    }
+
+    @Test
+    @DisplayName("임대 획득 - 만료된 임대는 인수하고 이전 소유자를 기록")
+    void claimNext_Success_TakesOverExpiredLease() {
+        // given
+        final HolidaySyncLease expired = createLease(1L, 0);
+        lease(expired, "replica-a", LocalDateTime.now().minusSeconds(1));
+        when(leaseRepository.findByRunKey(RUN_KEY)).thenReturn(List.of(expired));
+        when(leaseRepository.claim(1L, leaseService.getOwner(), 60_000L)).thenReturn(true);
+
+        // when
+        final Optional<SyncShard> shard = leaseService.claimNext(RUN_KEY);
+
+        // then
+        assertThat(shard).hasValueSatisfying(claimed -> {
+            assertThat(claimed.isTakeover()).isTrue();
+            assertThat(claimed.previousOwner()).isEqualTo("replica-a");
+        });
+    }
+
+    @Test
+    @DisplayName("임대 획득 - 다른 인스턴스와 경합에서 지거나 잠금 충돌이 나면 다음 샤드를 시도")
+    void claimNext_Success_LosesRaceThenClaimsNext() {
+        // given
+        when(leaseRepository.findByRunKey(RUN_KEY)).thenReturn(
+                List.of(createLease(1L, 0), createLease(2L, 1), createLease(3L, 2)));
+        when(leaseRepository.claim(eq(1L), any(), any())).thenReturn(false);
+        when(leaseRepository.claim(eq(2L), any(), any()))
+                .thenThrow(new CannotAcquireLockException("lock timeout"));
+        when(leaseRepository.claim(eq(3L), any(), any())).thenReturn(true);
+
+        // when
+        final Optional<SyncShard> shard = leaseService.claimNext(RUN_KEY);
+
+        // then
+        assertThat(shard).map(SyncShard::shardIndex).contains(2);
+    }
+
+    @Test
+    @DisplayName("임대 획득 - 획득할 수 있는 샤드가 없으면 비어 있음")
+    void claimNext_Empty_NoClaimableShard() {
+        // given
+        final HolidaySyncLease leased = createLease(1L, 0);
+        lease(leased, "replica-a", LocalDateTime.now().plusMinutes(5));
+        when(leaseRepository.findByRunKey(RUN_KEY)).thenReturn(List.of(leased));
+        when(leaseRepository.claim(1L, leaseService.getOwner(), 60_000L)).thenReturn(false);
+
+        // when & then
+        assertThat(leaseService.claimNext(RUN_KEY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실행 완료 여부 - 모든 샤드가 완료되어야 완료")
+    void isFinished_Success() {
+        // given
+        final HolidaySyncLease completed = createLease(1L, 0);
+        ReflectionTestUtils.setField(completed, "completedAt", LocalDateTime.now());
+        when(leaseRepository.findByRunKey(RUN_KEY)).thenReturn(List.of(completed),
+                List.of(completed, createLease(2L, 1)), List.of());
+
+        // when & then
+        assertThat(leaseService.isFinished(RUN_KEY)).isTrue();
+        assertThat(leaseService.isFinished(RUN_KEY)).isFalse();
+        assertThat(leaseService.isFinished(RUN_KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("샤드 완료 - 자신이 점유한 임대만 완료 처리")
+    void complete_Success() {
+        // given
+        final SyncShard shard = new SyncShard(1L, RUN_KEY, 0, 3, null);
+        when(leaseRepository.complete(1L, leaseService.getOwner())).thenReturn(true);
+
+        // when & then
+        assertThat(leaseService.complete(shard)).isTrue();
+    }
+
+    @Test
+    @DisplayName("임대 연장 - 자신이 점유한 임대의 만료 시각을 임대 기간만큼 연장")
+    void renew_Success() {
+        // given
+        final SyncShard shard = new SyncShard(1L, RUN_KEY, 0, 3, null);
+        when(leaseRepository.renew(1L, leaseService.getOwner(), 60_000L)).thenReturn(true);
+
+        // when & then
+        assertThat(leaseService.renew(shard)).isTrue();
+    }
+
+    @Test
+    @DisplayName("임대 연장 실패 - 잠금 충돌이 나면 연장하지 못한 것으로 처리")
+    void renew_Fail_LockConflict() {
+        // given
+        final SyncShard shard = new SyncShard(1L, RUN_KEY, 0, 3, null);
+        when(leaseRepository.renew(1L, leaseService.getOwner(), 60_000L))
+                .thenThrow(new CannotAcquireLockException("lock timeout"));
+
+        // when & then
+        assertThat(leaseService.renew(shard)).isFalse();
+    }
+
+    private HolidaySyncLease createLease(final Long id, final Integer shardIndex) {
+        final HolidaySyncLease lease = HolidaySyncLease.builder().runKey(RUN_KEY)
+                .shardIndex(shardIndex).shardCount(3).build();
+        ReflectionTestUtils.setField(lease, "id", id);
+        return lease;
+    }
+
+    private void lease(final HolidaySyncLease lease, final String owner,
+            final LocalDateTime expiresAt) {
+        ReflectionTestUtils.setField(lease, "owner", owner);
+        ReflectionTestUtils.setField(lease, "leaseExpiresAt", expiresAt);
+    }
+}
@@ -0,0 +1,222 @@
+package com.planitsquare.holiday_keeper.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClientException;
+import com.planitsquare.holiday_keeper.constants.HolidayLoadMode;
+import com.planitsquare.holiday_keeper.domain.entity.Country;
+import com.planitsquare.holiday_keeper.service.dto.CountryYear;
+import com.planitsquare.holiday_keeper.service.dto.HolidayLoadPlan;
+import com.planitsquare.holiday_keeper.service.dto.HolidayUpsertResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SequentialHolidayLoader 테스트")
+class SequentialHolidayLoaderTest {
+
+    @Mock
+    private HolidayDataService holidayDataService;
+
+    @Mock
+    private CountryService countryService;
+
+    @Mock
+    private HolidayLoadCheckpointService checkpointService;
+
+    @Mock
+    private HolidayCoverage coverage;
+
+    @Spy
+    private HolidayFetchRetryScheduler retryScheduler =
+            new HolidayFetchRetryScheduler(new SimpleMeterRegistry());
+
+    @InjectMocks
+    private SequentialHolidayLoader sequentialHolidayLoader;
+
+    private Country korea;
+    private Country usa;
+    private HolidayLoadExecution execution;
+
+    @BeforeEach
+    void setUp() {
+        korea = Country.builder().countryCode("KR").name("South Korea").build();
+        usa = Country.builder().countryCode("US").name("United States").build();
+        execution = new HolidayLoadExecution(1L, LocalDateTime.now());
+
+        ReflectionTestUtils.setField(sequentialHolidayLoader, "startYear", 2023);
+        ReflectionTestUtils.setField(sequentialHolidayLoader, "endYear", 2024);
+        ReflectionTestUtils.setField(retryScheduler, "maxAttempts", 3);
+        ReflectionTestUtils.setField(retryScheduler, "initialDelayMs", 10L);
+        ReflectionTestUtils.setField(retryScheduler, "multiplier", 2.0);
+        ReflectionTestUtils.setField(retryScheduler, "maxDelayMs", 100L);
+
+        when(countryService.fetchAndSaveAllCountries()).thenReturn(Arrays.asList(korea, usa));
+        when(coverage.pairsToLoad(anyList(), any(HolidayLoadMode.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("전체 공휴일 적재 성공 - 쌍마다 적재 후 체크포인트 기록")
+    void loadAllHolidays_Success() {
+        // given
+        when(checkpointService.plan(eq(1L), anyList())).thenAnswer(invocation -> {
+            final List<CountryYear> pairs = invocation.getArgument(1);
+            return new HolidayLoadPlan(1L, pairs, pairs.size());
+        });
+        when(holidayDataService.loadHolidaysForYearAndCountry(anyInt(), anyString(),
+                any(Country.class))).thenReturn(new HolidayUpsertResult(3, 0, 0, 0));
+
+        // when
+        final HolidayUpsertResult result = sequentialHolidayLoader.loadAllHolidays(execution);
+
+        // then
+        assertThat(result.inserted()).isEqualTo(12);
+        verify(holidayDataService, times(4)).loadHolidaysForYearAndCountry(anyInt(),
+                anyString(), any(Country.class));
+        verify(checkpointService).markCompleted(1L, new CountryYear("KR", 2023));
+        verify(checkpointService).markCompleted(1L, new CountryYear("US", 2024));
+        verify(checkpointService).finish(1L);
+        assertThat(execution.getTotalPairs()).isEqualTo(4);
+        assertThat(execution.getCompletedPairs()).isEqualTo(4);
+        assertThat(execution.getLoadedHolidays()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("빈 구간 적재 - 적재 현황이 고른 쌍만 계획하고 적재")
+    void loadAllHolidays_Success_FillGapsLoadsOnlySelectedPairs() {
+        // given
+        execution = new HolidayLoadExecution(1L, HolidayLoadMode.FILL_GAPS, LocalDateTime.now());
+        when(checkpointService.plan(eq(1L), anyList()))
+                .thenReturn(new HolidayLoadPlan(1L, List.of(new CountryYear("US", 2024)), 1));
+        when(holidayDataService.loadHolidaysForYearAndCountry(2024, "US", usa))
+                .thenReturn(new HolidayUpsertResult(2, 0, 0, 0));
+
+        // when
+        final HolidayUpsertResult result = sequentialHolidayLoader.loadAllHolidays(execution);
+
+        // then
+        assertThat(result.inserted()).isEqualTo(2);
+        verify(coverage).pairsToLoad(List.of(new CountryYear("KR", 2023),
+                new CountryYear("KR", 2024), new CountryYear("US", 2023),
+                new CountryYear("US", 2024)), HolidayLoadMode.FILL_GAPS);
+        verify(holidayDataService, times(1)).loadHolidaysForYearAndCountry(anyInt(),
+                anyString(), any(Country.class));
+        assertThat(execution.getTotalPairs()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전체 공휴일 적재 재개 - 체크포인트된 쌍은 다시 적재하지 않음")
+    void loadAllHolidays_Success_ResumeSkipsCheckpointedPairs() {
+        // given
+        execution = new HolidayLoadExecution(7L, LocalDateTime.now());
+        when(checkpointService.plan(eq(7L), anyList()))
+                .thenReturn(new HolidayLoadPlan(7L, List.of(new CountryYear("US", 2024)), 4));
+        when(holidayDataService.loadHolidaysForYearAndCountry(2024, "US", usa))
+                .thenReturn(new HolidayUpsertResult(2, 0, 0, 0));
+
+        // when
+        final HolidayUpsertResult result = sequentialHolidayLoader.loadAllHolidays(execution);
+
+        // then
+        assertThat(result.inserted()).isEqualTo(2);
+        verify(holidayDataService).loadHolidaysForYearAndCountry(2024, "US", usa);
+        verify(holidayDataService, never()).loadHolidaysForYearAndCountry(eq(2023), anyString(),
+                any(Country.class));
+        verify(checkpointService).markCompleted(7L, new CountryYear("US", 2024));
+        verify(checkpointService).finish(7L);
+        assertThat(execution.getCompletedPairs()).isEqualTo(4);
+        assertThat(execution.getSucceededPairs()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전체 공휴일 적재 - 조회 실패한 쌍은 다른 쌍을 처리한 뒤 재시도")
+    void loadAllHolidays_Success_RetryAfterOtherPairs() {
+        // given
+        when(checkpointService.plan(eq(1L), anyList())).thenReturn(
+                new HolidayLoadPlan(1L,
+                        List.of(new CountryYear("KR", 2024), new CountryYear("US", 2024)), 2));
+        when(holidayDataService.loadHolidaysForYearAndCountry(2024, "KR", korea))
+                .thenThrow(new RestClientException("일시 장애"))
+                .thenReturn(new HolidayUpsertResult(1, 0, 0, 0));
+        when(holidayDataService.loadHolidaysForYearAndCountry(2024, "US", usa))
+                .thenReturn(new HolidayUpsertResult(1, 0, 0, 0));
+
+        // when
+        final HolidayUpsertResult result = sequentialHolidayLoader.loadAllHolidays(execution);
+
+        // then
+        assertThat(result.inserted()).isEqualTo(2);
+        final InOrder inOrder = inOrder(holidayDataService);
+        inOrder.verify(holidayDataService).loadHolidaysForYearAndCountry(2024, "KR", korea);
+        inOrder.verify(holidayDataService).loadHolidaysForYearAndCountry(2024, "US", usa);
+        inOrder.verify(holidayDataService).loadHolidaysForYearAndCountry(2024, "KR", korea);
+        verify(checkpointService).markCompleted(1L, new CountryYear("KR", 2024));
+    }
+
+    @Test
+    @DisplayName("전체 공휴일 적재 부분 실패 - 실패한 쌍은 체크포인트하지 않아 다음 실행에서 재개")
+    void loadAllHolidays_PartialFailure_NotCheckpointed() {
+        // given
+        when(checkpointService.plan(eq(1L), anyList())).thenReturn(
+                new HolidayLoadPlan(1L,
+                        List.of(new CountryYear("KR", 2024), new CountryYear("US", 2024)), 2));
+        when(holidayDataService.loadHolidaysForYearAndCountry(2024, "KR", korea))
+                .thenThrow(new RuntimeException("외부 API 호출 실패"));
+        when(holidayDataService.loadHolidaysForYearAndCountry(2024, "US", usa))
+                .thenReturn(new HolidayUpsertResult(1, 0, 0, 0));
+
+        // when
+        final HolidayUpsertResult result = sequentialHolidayLoader.loadAllHolidays(execution);
+
+        // then
+        assertThat(result.inserted()).isEqualTo(1);
+        verify(checkpointService, never()).markCompleted(1L, new CountryYear("KR", 2024));
+        verify(checkpointService).markCompleted(1L, new CountryYear("US", 2024));
+        verify(checkpointService).finish(1L);
+        assertThat(execution.getFailedPairs()).isEqualTo(1);
+        assertThat(execution.getErrors()).containsExactly("2024년 KR 적재 실패: 외부 API 호출 실패");
+    }
+
+    @Test
+    @DisplayName("전체 공휴일 적재 - 체크포인트 기록 실패는 적재 결과에 영향을 주지 않음")
+    void loadAllHolidays_Success_CheckpointFailureIgnored() {
+        // given
+        when(checkpointService.plan(eq(1L), anyList())).thenReturn(
+                new HolidayLoadPlan(1L, List.of(new CountryYear("KR", 2024)), 1));
+        when(holidayDataService.loadHolidaysForYearAndCountry(2024, "KR", korea))
+                .thenReturn(new HolidayUpsertResult(1, 0, 0, 0));
+        doThrow(new IllegalStateException("DB 오류")).when(checkpointService).markCompleted(1L,
+                new CountryYear("KR", 2024));
+
+        // when
+        final HolidayUpsertResult result = sequentialHolidayLoader.loadAllHolidays(execution);
+
+        // then
+        assertThat(result.inserted()).isEqualTo(1);
+        verify(holidayDataService, times(1)).loadHolidaysForYearAndCountry(2024, "KR", korea);
+        verify(checkpointService).finish(1L);
+    }
+}